@@ -0,0 +1,256 @@
+package seedu.address.model.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.JobsApply;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.PastJob;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Race;
+import seedu.address.model.person.School;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares computing every analytics breakdown of a list of persons in a single pass against the previous
+ * {@code Analytics}, which scanned the list once per breakdown and kept its counts in boxed collections.
+ * Run with {@code gradlew jmh}; the gc profiler reports the allocation rate of each approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalyticsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int numberOfPersons;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(numberOfPersons);
+        String[] genders = {"Female", "Male", "Others"};
+        String[] races = {"Chinese", "Malay", "Indian", "Others"};
+        String[] schools = {"NUS", "NTU", "SMU", "SUTD", "SIT"};
+        String[] majors = {"CS", "CE", "IS", "Maths", "Physics", "Business"};
+        String[] jobs = {"Software-Engineer", "Data-Scientist", "Tester", "Product-Manager"};
+        String[] pastJobs = {"Intern", "Teacher", "Lawyer", "Barista", "Tutor", "Pilot", "SDE"};
+        for (int i = 0; i < numberOfPersons; i++) {
+            Set<JobsApply> jobsApply = new HashSet<>();
+            jobsApply.add(new JobsApply(jobs[i % jobs.length]));
+            jobsApply.add(new JobsApply(jobs[(i / 3) % jobs.length]));
+            Set<KnownProgLang> knownProgLangs = new HashSet<>();
+            knownProgLangs.add(new KnownProgLang("Java"));
+            Set<PastJob> pastJobSet = new HashSet<>();
+            pastJobSet.add(new PastJob(pastJobs[i % pastJobs.length]));
+            String interviewScores = i % 4 == 0 ? InterviewScores.NO_RECORD
+                : String.format("%d,%d,%d,%d,%d", i % 11, (i / 2) % 11, (i / 3) % 11, (i / 5) % 11, (i / 7) % 11);
+            persons.add(new Person(new Name("Person " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("person" + i + "@example.com"), new Nric(String.format("S%07dA", i)),
+                    new Gender(genders[i % genders.length]), new Race(races[(i / 2) % races.length]),
+                    new Address("Blk " + i + " Jurong West Ave 6"), new School(schools[i % schools.length]),
+                    new Major(majors[(i / 5) % majors.length]), new Grade(String.format("%d.%02d", i % 5, i % 100)),
+                    knownProgLangs, pastJobSet, jobsApply, new InterviewScores(interviewScores), new HashSet<Tag>()));
+        }
+    }
+
+    /**
+     * Computes every breakdown the way {@code Analytics} did before it was given a single pass engine.
+     */
+    @Benchmark
+    public void legacyAnalytics(Blackhole blackhole) {
+        LegacyAnalytics legacy = new LegacyAnalytics(persons);
+        blackhole.consume(legacy.meanGrade());
+        blackhole.consume(legacy.meanInterviewScores());
+        blackhole.consume(legacy.genderBreakdown());
+        blackhole.consume(legacy.raceBreakdown());
+        blackhole.consume(legacy.jobApplicationBreakdown());
+        blackhole.consume(legacy.majorBreakdown());
+        blackhole.consume(legacy.schoolBreakdown());
+        blackhole.consume(legacy.pastJobBreakdown());
+    }
+
+    /**
+     * Computes every breakdown with the single pass engine.
+     */
+    @Benchmark
+    public AnalyticsResult singlePassAnalytics() {
+        return AnalyticsAggregator.analyze(persons);
+    }
+
+    /**
+     * The breakdowns of the previous {@code Analytics}, one scan of the persons each.
+     */
+    private static class LegacyAnalytics {
+        private final List<Person> personList;
+        private final int numPeople;
+
+        LegacyAnalytics(List<Person> personList) {
+            this.personList = personList;
+            this.numPeople = personList.size();
+        }
+
+        /**
+         * Returns the mean grade, summing boxed floats parsed from each grade.
+         */
+        Float meanGrade() {
+            Float sumGrade = 0F;
+            for (int i = 0; i < numPeople; i++) {
+                sumGrade += Float.valueOf(personList.get(i).getGrade().value);
+            }
+            return sumGrade / numPeople;
+        }
+
+        /**
+         * Returns the mean score of each question, splitting each person's scores.
+         */
+        ArrayList<Float> meanInterviewScores() {
+            ArrayList<Float> averageScores = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                averageScores.add(0F);
+            }
+            int interviewed = numPeople;
+            for (int i = 0; i < numPeople; i++) {
+                Person curr = personList.get(i);
+                if (curr.getInterviewScores().value.equals("No Record")) {
+                    interviewed--;
+                } else {
+                    String[] personScores = curr.getInterviewScores().value.split(",");
+                    for (int j = 0; j < 5; j++) {
+                        averageScores.set(j, averageScores.get(j) + Integer.valueOf(personScores[j]));
+                    }
+                }
+            }
+            for (int i = 0; i < 5; i++) {
+                averageScores.set(i, averageScores.get(i) / interviewed);
+            }
+            return averageScores;
+        }
+
+        /**
+         * Returns the number of persons of each gender.
+         */
+        ArrayList<Integer> genderBreakdown() {
+            ArrayList<Integer> genderCount = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                genderCount.add(0);
+            }
+            for (int i = 0; i < numPeople; i++) {
+                String currGender = personList.get(i).getGender().value;
+                if (currGender.equals("Female")) {
+                    genderCount.set(0, genderCount.get(0) + 1);
+                } else if (currGender.equals("Male")) {
+                    genderCount.set(1, genderCount.get(1) + 1);
+                } else {
+                    genderCount.set(2, genderCount.get(2) + 1);
+                }
+            }
+            return genderCount;
+        }
+
+        /**
+         * Returns the number of persons of each race.
+         */
+        ArrayList<Integer> raceBreakdown() {
+            ArrayList<Integer> raceCount = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                raceCount.add(0);
+            }
+            for (int i = 0; i < numPeople; i++) {
+                String currRace = personList.get(i).getRace().value;
+                if (currRace.equals("Chinese")) {
+                    raceCount.set(0, raceCount.get(0) + 1);
+                } else if (currRace.equals("Malay")) {
+                    raceCount.set(1, raceCount.get(1) + 1);
+                } else if (currRace.equals("Indian")) {
+                    raceCount.set(2, raceCount.get(2) + 1);
+                } else {
+                    raceCount.set(3, raceCount.get(3) + 1);
+                }
+            }
+            return raceCount;
+        }
+
+        /**
+         * Returns the number of applicants for each job.
+         */
+        HashMap<String, Integer> jobApplicationBreakdown() {
+            HashMap<String, Integer> counter = new HashMap<>();
+            for (int i = 0; i < numPeople; i++) {
+                for (JobsApply job : personList.get(i).getJobsApply()) {
+                    count(counter, job.value);
+                }
+            }
+            return counter;
+        }
+
+        /**
+         * Returns the number of persons studying each major.
+         */
+        HashMap<String, Integer> majorBreakdown() {
+            HashMap<String, Integer> counter = new HashMap<>();
+            for (int i = 0; i < numPeople; i++) {
+                count(counter, personList.get(i).getMajor().value);
+            }
+            return counter;
+        }
+
+        /**
+         * Returns the number of persons studying in each school.
+         */
+        HashMap<String, Integer> schoolBreakdown() {
+            HashMap<String, Integer> counter = new HashMap<>();
+            for (int i = 0; i < numPeople; i++) {
+                count(counter, personList.get(i).getSchool().value);
+            }
+            return counter;
+        }
+
+        /**
+         * Returns the number of persons for each past job.
+         */
+        HashMap<String, Integer> pastJobBreakdown() {
+            HashMap<String, Integer> counter = new HashMap<>();
+            for (int i = 0; i < numPeople; i++) {
+                for (PastJob job : personList.get(i).getPastJobs()) {
+                    count(counter, job.value);
+                }
+            }
+            return counter;
+        }
+
+        /**
+         * Adds one to the count of {@code key} with a get-then-put.
+         */
+        private static void count(HashMap<String, Integer> counter, String key) {
+            if (!counter.containsKey(key)) {
+                counter.put(key, 1);
+            } else {
+                counter.put(key, counter.get(key) + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model.interviews;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Race;
+import seedu.address.model.person.School;
+
+/**
+ * Compares generating an interview schedule on epoch days against the previous {@code Interviews}, which moved
+ * between days on cloned {@code Calendar}s and scanned every block out date for each day it tried.
+ * Every other day of the period the schedule spans is blocked out. Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InterviewsBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.of(2019, 1, 1);
+
+    @Param({"1000", "50000"})
+    private int numberOfPersons;
+
+    private List<Person> persons;
+    private List<LocalDate> blockOutDates;
+    private List<Calendar> blockOutCalendars;
+
+    @Setup
+    public void setUp() {
+        Person person = new Person(new Name("Alice Pauline"), new Phone("94351253"), new Email("alice@example.com"),
+            new Nric("S9123456A"), new Gender("Female"), new Race("Chinese"), new Address("123, Jurong West Ave 6"),
+            new School("NUS"), new Major("CS"), new Grade("4.5"), new HashSet<>(), new HashSet<>(), new HashSet<>(),
+            new InterviewScores(InterviewScores.NO_RECORD), new HashSet<>());
+        persons = Collections.nCopies(numberOfPersons, person);
+        blockOutDates = new ArrayList<>();
+        blockOutCalendars = new ArrayList<>();
+        for (int i = 1; i <= numberOfPersons; i += 2) {
+            LocalDate date = TODAY.plusDays(i);
+            blockOutDates.add(date);
+            blockOutCalendars.add(new GregorianCalendar(date.getYear(), date.getMonthValue() - 1,
+                date.getDayOfMonth()));
+        }
+    }
+
+    /**
+     * Generates the schedule on epoch days.
+     */
+    @Benchmark
+    public Interviews epochDayInterviews() {
+        Interviews interviews = new Interviews();
+        interviews.setBlockOutDates(blockOutDates);
+        interviews.generate(persons, TODAY);
+        return interviews;
+    }
+
+    /**
+     * Generates the schedule the way {@code Interviews} did before it was rebuilt on epoch days.
+     */
+    @Benchmark
+    public HashMap<Calendar, List<Person>> legacyInterviews() {
+        HashMap<Calendar, List<Person>> interviewsHashMap = new HashMap<>();
+        Calendar calendar = nextAvailableDay(new GregorianCalendar(TODAY.getYear(), TODAY.getMonthValue() - 1,
+            TODAY.getDayOfMonth()));
+        interviewsHashMap.put(calendar, new ArrayList<>());
+        for (Person person : persons) {
+            List<Person> personList = interviewsHashMap.get(calendar);
+            if (personList.size() < 2) {
+                personList.add(person);
+            } else {
+                calendar = nextAvailableDay(calendar);
+                interviewsHashMap.put(calendar, new ArrayList<>());
+                interviewsHashMap.get(calendar).add(person);
+            }
+        }
+        return interviewsHashMap;
+    }
+
+    /**
+     * Returns a clone of {@code calendar} moved to the next weekday that is not blocked out.
+     */
+    private Calendar nextAvailableDay(Calendar calendar) {
+        Calendar result = (Calendar) calendar.clone();
+        result.add(Calendar.DATE, 1);
+        while ((result.get(Calendar.DAY_OF_WEEK) == Calendar.SATURDAY)
+                || (result.get(Calendar.DAY_OF_WEEK) == Calendar.SUNDAY)
+                || (containsDate(blockOutCalendars, result))) {
+            result.add(Calendar.DATE, 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if {@code calendarList} contains the date of {@code date}, checking each in turn.
+     */
+    private static boolean containsDate(List<Calendar> calendarList, Calendar date) {
+        int year = date.get(Calendar.YEAR);
+        int month = date.get(Calendar.MONTH);
+        int day = date.get(Calendar.DATE);
+        for (Calendar calendar : calendarList) {
+            if (calendar.get(Calendar.YEAR) == year
+                    && calendar.get(Calendar.MONTH) == month
+                    && calendar.get(Calendar.DATE) == day) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
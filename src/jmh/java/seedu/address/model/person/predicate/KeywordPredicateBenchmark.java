@@ -0,0 +1,114 @@
+package seedu.address.model.person.predicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Grade;
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.JobsApply;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.PastJob;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Race;
+import seedu.address.model.person.School;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares filtering a list of persons with the keyword predicates against the previous approach of
+ * re-splitting and lower-casing every field for every keyword.
+ * Run with {@code gradlew jmh}; the gc profiler reports the allocation rate of each approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordPredicateBenchmark {
+
+    private static final List<String> NAME_KEYWORDS = Arrays.asList("alice", "Meier", "KURZ");
+    private static final List<String> JOB_KEYWORDS = Arrays.asList("Data-Scientist", "Tester");
+
+    @Param({"1000", "10000"})
+    private int numberOfPersons;
+
+    private List<Person> persons;
+    private NameContainsKeywordsPredicate namePredicate;
+    private JobsApplyContainsKeywordsPredicate jobsApplyPredicate;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(numberOfPersons);
+        String[] firstNames = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George"};
+        String[] lastNames = {"Pauline", "Meier", "Kurz", "Best", "Tan", "Lim", "Wong"};
+        String[] jobs = {"Software-Engineer", "Data-Scientist", "Tester", "Product-Manager"};
+        for (int i = 0; i < numberOfPersons; i++) {
+            Set<JobsApply> jobsApply = new HashSet<>();
+            jobsApply.add(new JobsApply(jobs[i % jobs.length]));
+            Set<KnownProgLang> knownProgLangs = new HashSet<>();
+            knownProgLangs.add(new KnownProgLang("Java"));
+            Set<PastJob> pastJobs = new HashSet<>();
+            pastJobs.add(new PastJob("Intern"));
+            persons.add(new Person(
+                    new Name(firstNames[i % firstNames.length] + " " + lastNames[(i / 7) % lastNames.length]),
+                    new Phone(String.valueOf(80000000 + i)), new Email("person" + i + "@example.com"),
+                    new Nric(String.format("S%07dA", i)), new Gender("Female"), new Race("Chinese"),
+                    new Address("Blk " + i + " Jurong West Ave 6"), new School("NUS"), new Major("CS"),
+                    new Grade("3.50"), knownProgLangs, pastJobs, jobsApply, new InterviewScores("1,2,3,4,5"),
+                    new HashSet<Tag>()));
+        }
+        namePredicate = new NameContainsKeywordsPredicate(NAME_KEYWORDS);
+        jobsApplyPredicate = new JobsApplyContainsKeywordsPredicate(JOB_KEYWORDS);
+    }
+
+    /**
+     * Matches each person the way the predicates did before the search words were cached on {@code Person}.
+     */
+    @Benchmark
+    public int legacyKeywordScan() {
+        int matches = 0;
+        for (Person person : persons) {
+            boolean nameMatches = NAME_KEYWORDS.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+            boolean jobMatches = JOB_KEYWORDS.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(
+                            StringUtil.getSetString(person.getJobsApply()), keyword));
+            if (nameMatches && jobMatches) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches each person with the keyword predicates.
+     */
+    @Benchmark
+    public int cachedWordPredicates() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (namePredicate.test(person) && jobsApplyPredicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
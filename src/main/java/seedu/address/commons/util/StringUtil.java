@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 import seedu.address.model.person.JobsApply;
@@ -60,17 +62,226 @@ public class StringUtil {
         requireNonNull(word);
         float value = Float.parseFloat(word);
 
+        float[] range = parseRange(sentence);
+        Boolean isValueSmallerThanUpper = value <= range[1];
+        Boolean isValueBiggerThanLower = value >= range[0];
+        return isValueSmallerThanUpper && isValueBiggerThanLower;
+    }
+
+    /**
+     * Parses a range in the form of "lower-upper" into a two element array of {lower, upper}.
+     * <br>examples:<pre>
+     *       parseRange("1.5-2.0") == {1.5, 2.0}
+     *       parseRange(" 3 - 1 ") == {3.0, 1.0}
+     *       </pre>
+     *
+     * @param sentence cannot be null, cannot be empty, must contain exactly one '-'
+     */
+    public static float[] parseRange(String sentence) {
+        requireNonNull(sentence);
+
         String preppedSentence = sentence.trim();
         checkArgument(!preppedSentence.isEmpty(), "Range parameter cannot be empty");
 
-        int rangeParaSize = preppedSentence.split("-").length;
-        checkArgument(rangeParaSize == 2, "Range parameter format wrong");
         String[] values = preppedSentence.split("-");
-        String preppedUpperBound = values[1].trim();
-        String preppedLowerBound = values[0].trim();
-        Boolean isValueSmallerThanUpper = value <= Float.parseFloat(preppedUpperBound);
-        Boolean isValueBiggerThanLower = value >= Float.parseFloat(preppedLowerBound);
-        return isValueSmallerThanUpper && isValueBiggerThanLower;
+        checkArgument(values.length == 2, "Range parameter format wrong");
+        float lowerBound = Float.parseFloat(values[0].trim());
+        float upperBound = Float.parseFloat(values[1].trim());
+        return new float[] {lowerBound, upperBound};
+    }
+
+    /**
+     * Parses every range in {@code sentences}, see {@link #parseRange(String)}.
+     *
+     * @param sentences cannot be null
+     */
+    public static float[][] parseRanges(List<String> sentences) {
+        requireNonNull(sentences);
+        float[][] ranges = new float[sentences.size()][];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = parseRange(sentences.get(i));
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns true if {@code value} lies within any of the {@code ranges} parsed by {@link #parseRanges(List)}.
+     * Bounds are inclusive.
+     */
+    public static boolean valueInAnyRange(float[][] ranges, float value) {
+        for (float[] range : ranges) {
+            if (value >= range[0] && value <= range[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of {@code sentence} in lower case.
+     * Leading, trailing and repeated whitespaces do not produce empty words.
+     * <br>examples:<pre>
+     *       toLowerCaseWords("  ABc   def ") == {"abc", "def"}
+     *       toLowerCaseWords("   ") == {}
+     *       </pre>
+     *
+     * @param sentence cannot be null
+     */
+    public static String[] toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+        String preppedSentence = sentence.trim();
+        if (preppedSentence.isEmpty()) {
+            return new String[0];
+        }
+        return preppedSentence.toLowerCase(Locale.ROOT).split("\\s+");
+    }
+
+    /**
+     * Returns the trimmed, lower-cased version of each keyword in {@code keywords},
+     * or null if {@code keywords} is null.
+     */
+    public static String[] toLowerCaseKeywords(List<String> keywords) {
+        if (keywords == null) {
+            return null;
+        }
+        String[] lowerCaseKeywords = new String[keywords.size()];
+        for (int i = 0; i < lowerCaseKeywords.length; i++) {
+            lowerCaseKeywords[i] = keywords.get(i).trim().toLowerCase(Locale.ROOT);
+        }
+        return lowerCaseKeywords;
+    }
+
+    /**
+     * Returns true if any of {@code lowerCaseKeywords} is one of {@code lowerCaseWords}.
+     * Both arrays must already be in lower case, e.g. from {@link #toLowerCaseWords(String)} and
+     * {@link #toLowerCaseKeywords(List)}, so that matching does not allocate.
+     */
+    public static boolean containsAnyWord(String[] lowerCaseWords, String[] lowerCaseKeywords) {
+        for (String keyword : lowerCaseKeywords) {
+            for (String word : lowerCaseWords) {
+                if (word.equals(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code substring} anywhere, ignoring case.
+     * Unlike {@code containsWordIgnoreCase}, a partial word match is enough.
+     * <br>examples:<pre>
+     *       containsIgnoreCase("ABc def", "bc D") == true
+     *       containsIgnoreCase("ABc def", "") == true
+     *       containsIgnoreCase("ABc def", "abd") == false
+     *       </pre>
+     */
+    public static boolean containsIgnoreCase(String text, String substring) {
+        requireNonNull(text);
+        requireNonNull(substring);
+        int lastStart = text.length() - substring.length();
+        for (int start = 0; start <= lastStart; start++) {
+            if (text.regionMatches(true, start, substring, 0, substring.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a phonetic key of {@code word}, so that differently spelt words that sound alike share a key.
+     * Modelled on Metaphone, tuned for romanized names: vowels after the first letter are dropped,
+     * similar sounding consonants share a code and a trailing "ng" is treated as "n".
+     * Returns an empty string if {@code word} has no letters.
+     * <br>examples:<pre>
+     *       toPhoneticKey("Tan") == toPhoneticKey("Tang") == "TN"
+     *       toPhoneticKey("Ming") == toPhoneticKey("Meng") == "MN"
+     *       toPhoneticKey("Philip") == toPhoneticKey("Filip") == "FLP"
+     *       </pre>
+     */
+    public static String toPhoneticKey(String word) {
+        requireNonNull(word);
+        StringBuilder letters = new StringBuilder(word.length());
+        for (char c : word.toUpperCase(Locale.ROOT).toCharArray()) {
+            if (c >= 'A' && c <= 'Z') {
+                letters.append(c);
+            }
+        }
+        int length = letters.length();
+        if (length == 0) {
+            return "";
+        }
+        if (length > 2 && letters.charAt(length - 2) == 'N' && letters.charAt(length - 1) == 'G') {
+            length--;
+            letters.setLength(length);
+        }
+
+        StringBuilder key = new StringBuilder(length);
+        char previousCode = 0;
+        for (int i = 0; i < length; i++) {
+            char current = letters.charAt(i);
+            char next = i + 1 < length ? letters.charAt(i + 1) : 0;
+            char code;
+            if (next == 'H' && (current == 'C' || current == 'S')) {
+                code = 'X';
+                i++;
+            } else if (next == 'H' && (current == 'P' || current == 'T' || current == 'Z')) {
+                code = toPhoneticCode(current == 'P' ? 'F' : current);
+                i++;
+            } else {
+                code = toPhoneticCode(current);
+            }
+
+            if (key.length() == 0 && code == 0) {
+                // keep a leading vowel or semi-vowel, so that "Ang", "Wang" and "Yang" differ
+                code = isVowel(current) ? 'A' : current;
+            }
+            if (code != 0 && code != previousCode) {
+                key.append(code);
+            }
+            previousCode = code;
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the code shared by consonants that sound alike, or 0 for vowels and letters that are mostly silent.
+     */
+    private static char toPhoneticCode(char letter) {
+        switch (letter) {
+        case 'B':
+        case 'P':
+            return 'P';
+        case 'F':
+        case 'V':
+            return 'F';
+        case 'C':
+        case 'G':
+        case 'K':
+        case 'Q':
+            return 'K';
+        case 'D':
+        case 'T':
+            return 'T';
+        case 'J':
+        case 'Z':
+            return 'J';
+        case 'S':
+            return 'S';
+        case 'X':
+            return 'X';
+        case 'L':
+        case 'M':
+        case 'N':
+        case 'R':
+            return letter;
+        default:
+            return 0;
+        }
+    }
+
+    private static boolean isVowel(char letter) {
+        return "AEIOU".indexOf(letter) >= 0;
     }
 
     /**
@@ -0,0 +1,126 @@
+package seedu.address.commons.util;
+
+/**
+ * Keeps the {@code k} largest of a stream of values, each offered with the index of the item it belongs to.
+ *
+ * The values kept are held in a bounded min-heap of primitives, with the smallest of them at the root, so each value
+ * costs O(log k) and the stream is never sorted as a whole. Of equal values, the one with the lower index ranks above.
+ */
+public class TopKHeap {
+
+    private final double[] values;
+    private final int[] indexes;
+    private int size;
+
+    /**
+     * Constructs a heap that keeps at most {@code k} values.
+     */
+    public TopKHeap(int k) {
+        assert k >= 0;
+        values = new double[k];
+        indexes = new int[k];
+    }
+
+    /**
+     * Offers {@code value} of the item at {@code index}, keeping it if it ranks among the {@code k} largest so far.
+     */
+    public void offer(double value, int index) {
+        if (size < values.length) {
+            values[size] = value;
+            indexes[size] = index;
+            siftUp(size);
+            size++;
+        } else if (size > 0 && isSmaller(values[0], indexes[0], value, index)) {
+            values[0] = value;
+            indexes[0] = index;
+            siftDown(size);
+        }
+    }
+
+    /**
+     * Returns the number of values kept.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts the values kept, largest first, so that {@link #getValue(int)} and {@link #getIndex(int)} give them in
+     * rank order. No more values should be offered afterwards.
+     */
+    public void sortDescending() {
+        // popping the root repeatedly into the end of the heap leaves the values from largest to smallest
+        for (int heapSize = size - 1; heapSize > 0; heapSize--) {
+            swap(0, heapSize);
+            siftDown(heapSize);
+        }
+    }
+
+    /**
+     * Returns the value at {@code position}, the {@code position + 1}-th largest once sorted.
+     */
+    public double getValue(int position) {
+        return values[position];
+    }
+
+    /**
+     * Returns the index of the item of the value at {@code position}.
+     */
+    public int getIndex(int position) {
+        return indexes[position];
+    }
+
+    /**
+     * Returns true if {@code value} at {@code index} ranks below the other value.
+     */
+    private static boolean isSmaller(double value, int index, double otherValue, int otherIndex) {
+        return value < otherValue || (value == otherValue && index > otherIndex);
+    }
+
+    /**
+     * Moves the value at {@code position} towards the root until its parent ranks below it.
+     */
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!isSmaller(values[position], indexes[position], values[parent], indexes[parent])) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    /**
+     * Moves the value at the root towards the leaves of the first {@code heapSize} values until both its children
+     * rank above it.
+     */
+    private void siftDown(int heapSize) {
+        int position = 0;
+        while (true) {
+            int smallest = position;
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < heapSize; child++) {
+                if (isSmaller(values[child], indexes[child], values[smallest], indexes[smallest])) {
+                    smallest = child;
+                }
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    /**
+     * Swaps the values at {@code first} and {@code second}.
+     */
+    private void swap(int first, int second) {
+        double value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+        int index = indexes[first];
+        indexes[first] = indexes[second];
+        indexes[second] = index;
+    }
+}
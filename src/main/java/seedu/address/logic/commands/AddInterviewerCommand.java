@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KNOWNPROGLANG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.interviews.Interviewer;
+
+/**
+ * Adds an interviewer to the roster of interviewers, replacing the interviewer with the same name if there is one.
+ */
+public class AddInterviewerCommand extends Command {
+
+    public static final String COMMAND_WORD = "addInterviewer";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds an interviewer who can interview candidates knowing only the given programming languages, "
+            + "or replaces the interviewer with the same name.\n"
+            + "Parameters: "
+            + PREFIX_NAME + "NAME "
+            + "[" + PREFIX_KNOWNPROGLANG + "KNOWN PROGRAMMING LANGUAGE]... "
+            + PREFIX_CAPACITY + "INTERVIEWS A DAY\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "Jane Tan "
+            + PREFIX_KNOWNPROGLANG + "Java "
+            + PREFIX_KNOWNPROGLANG + "Python "
+            + PREFIX_CAPACITY + "4";
+    public static final String MESSAGE_SUCCESS = "Interviewer added: %1$s";
+    public static final String MESSAGE_REPLACED = "Interviewer replaced: %1$s";
+
+    private final Interviewer toAdd;
+
+    /**
+     * Creates an AddInterviewerCommand to add the specified {@code Interviewer}
+     */
+    public AddInterviewerCommand(Interviewer interviewer) {
+        requireNonNull(interviewer);
+        toAdd = interviewer;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        boolean isReplaced = model.hasInterviewer(toAdd.getName());
+        model.addInterviewer(toAdd);
+        model.commitAddressBook();
+        return new CommandResult(String.format(isReplaced ? MESSAGE_REPLACED : MESSAGE_SUCCESS, toAdd));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AddInterviewerCommand // instanceof handles nulls
+            && toAdd.equals(((AddInterviewerCommand) other).toAdd));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOBNAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Person;
+
+/**
+ * Adds interviews for the persons without one, leaving the interviews already generated where they are.
+ */
+public class AppendInterviewsCommand extends Command {
+
+    public static final String COMMAND_WORD = "appendInterviews";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds interviews in the next free slots for every person without one, or for the persons without "
+            + "one for the job in the interview lists of the given jobs or of every job. "
+            + "Interviews already generated are not moved.\n"
+            + "Parameters: [" + PREFIX_JOBNAME + "JOB NAME]... or " + GenerateInterviewsCommand.EVERY_JOB_KEYWORD
+            + "\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_JOBNAME + "Software Engineer\n"
+            + "Example: " + COMMAND_WORD + " " + GenerateInterviewsCommand.EVERY_JOB_KEYWORD;
+    public static final String MESSAGE_SUCCESS = "Interviews appended";
+
+    private final List<JobName> jobNames;
+
+    /**
+     * Creates an AppendInterviewsCommand to add interviews for every person without one.
+     */
+    public AppendInterviewsCommand() {
+        this.jobNames = null;
+    }
+
+    /**
+     * Creates an AppendInterviewsCommand to add interviews for the interview lists of the jobs {@code jobNames}, or
+     * of every job if it is empty.
+     */
+    public AppendInterviewsCommand(List<JobName> jobNames) {
+        requireNonNull(jobNames);
+        this.jobNames = new ArrayList<>(jobNames);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        GenerateInterviewsCommand.requireJobsExist(model, jobNames);
+        List<Person> unmatched = jobNames == null ? model.appendInterviews() : model.appendInterviews(jobNames);
+        model.commitAddressBook();
+        return new CommandResult(MESSAGE_SUCCESS + GenerateInterviewsCommand.getUnmatchedMessage(unmatched));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AppendInterviewsCommand // instanceof handles nulls
+            && Objects.equals(jobNames, ((AppendInterviewsCommand) other).jobNames));
+    }
+}
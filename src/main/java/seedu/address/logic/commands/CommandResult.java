@@ -2,9 +2,15 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 
-import seedu.address.model.analytics.Analytics;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.analytics.HiringFunnel;
+import seedu.address.model.analytics.PivotTable;
+import seedu.address.model.interviews.InterviewSlot;
 import seedu.address.model.job.JobListName;
 import seedu.address.model.job.JobName;
 import seedu.address.model.person.predicate.UniqueFilterList;
@@ -20,11 +26,17 @@ public class CommandResult {
      * Analytics information should be shown to user
      */
 
-    private Analytics analytics;
+    private AnalyticsResult analytics;
+
+    private HiringFunnel funnel;
+
+    private int maxCategories;
+
+    private PivotTable pivot;
 
     private JobName job;
 
-    private String interviews;
+    private NavigableMap<LocalDate, List<InterviewSlot>> interviews;
 
     private boolean filter = false;
 
@@ -61,14 +73,21 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
-    public CommandResult(String feedbackToUser, Analytics results) {
+    public CommandResult(String feedbackToUser, AnalyticsResult results, HiringFunnel funnel, int maxCategories) {
         this(feedbackToUser, false, false);
         if (isSuccessfulAnalytics()) {
             analytics = results;
+            this.funnel = funnel;
+            this.maxCategories = maxCategories;
         }
 
     }
 
+    public CommandResult(String feedbackToUser, PivotTable pivot) {
+        this(feedbackToUser, false, false);
+        this.pivot = requireNonNull(pivot);
+    }
+
     public CommandResult(String feedbackToUser, JobListName name, UniqueFilterList list) {
         this(feedbackToUser, false, false);
         filter = true;
@@ -84,7 +103,7 @@ public class CommandResult {
 
     }
 
-    public CommandResult(String feedbackToUser, String results) {
+    public CommandResult(String feedbackToUser, NavigableMap<LocalDate, List<InterviewSlot>> results) {
         this(feedbackToUser, false, false);
         if (isSuccessfulInterviews()) {
             interviews = results;
@@ -107,6 +126,10 @@ public class CommandResult {
         return feedbackToUser.equals(GenerateAnalyticsCommand.MESSAGE_SUCCESS);
     }
 
+    public boolean isSuccessfulPivot() {
+        return pivot != null;
+    }
+
     public boolean isSuccessfulInterviews() {
         return feedbackToUser.equals(ShowInterviewsCommand.COMMAND_SUCCESS);
     }
@@ -124,10 +147,25 @@ public class CommandResult {
     }
 
     //remember to handle null later
-    public Analytics getAnalytics() {
+    public AnalyticsResult getAnalytics() {
         return analytics;
     }
 
+    public HiringFunnel getFunnel() {
+        return funnel;
+    }
+
+    /**
+     * Returns the number of most common categories to chart separately in each breakdown of the analytics.
+     */
+    public int getMaxCategories() {
+        return maxCategories;
+    }
+
+    public PivotTable getPivot() {
+        return pivot;
+    }
+
     public JobListName getJobListName() {
         return listName;
     }
@@ -140,7 +178,10 @@ public class CommandResult {
         return job;
     }
 
-    public String getInterviews() {
+    /**
+     * Returns the interviews of each interview day to show, in date order.
+     */
+    public NavigableMap<LocalDate, List<InterviewSlot>> getInterviews() {
         return interviews;
     }
 
@@ -0,0 +1,24 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Moves interviews into the free slots left before them, such as those of deleted persons.
+ */
+public class CompactInterviewsCommand extends Command {
+
+    public static final String COMMAND_WORD = "compactInterviews";
+    public static final String MESSAGE_SUCCESS = "%1$d interview(s) moved earlier";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        int moves = model.compactInterviews();
+        model.commitAddressBook();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, moves));
+    }
+
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+
+/**
+ * Removes an interviewer from the roster of interviewers.
+ */
+public class DeleteInterviewerCommand extends Command {
+
+    public static final String COMMAND_WORD = "deleteInterviewer";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Removes the interviewer with the given name.\n"
+            + "Parameters: " + PREFIX_NAME + "NAME\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "Jane Tan";
+    public static final String MESSAGE_SUCCESS = "Interviewer deleted: %1$s";
+    public static final String MESSAGE_MISSING_INTERVIEWER = "This interviewer does not exist";
+
+    private final Name name;
+
+    public DeleteInterviewerCommand(Name name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasInterviewer(name)) {
+            throw new CommandException(MESSAGE_MISSING_INTERVIEWER);
+        }
+        model.deleteInterviewer(name);
+        model.commitAddressBook();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof DeleteInterviewerCommand // instanceof handles nulls
+            && name.equals(((DeleteInterviewerCommand) other).name));
+    }
+}
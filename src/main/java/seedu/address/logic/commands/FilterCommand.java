@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_JOBSAPPLY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_KNOWNPROGLANG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCHMODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PASTJOB;
@@ -17,6 +18,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
 import static seedu.address.model.job.JobListName.EMPTY;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -25,11 +27,14 @@ import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.job.JobListName;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 import seedu.address.model.person.exceptions.DuplicateFilterException;
 import seedu.address.model.person.predicate.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicate.FieldContainsSubstringsPredicate;
 import seedu.address.model.person.predicate.GenderContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.GradeContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.InterviewScoreContainsKeywordsPredicate;
@@ -37,6 +42,7 @@ import seedu.address.model.person.predicate.JobsApplyContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.KnownProgLangContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.MajorContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicate.NameSoundsLikeKeywordsPredicate;
 import seedu.address.model.person.predicate.NricContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.PastJobContainsKeywordsPredicate;
 import seedu.address.model.person.predicate.PhoneContainsKeywordsPredicate;
@@ -56,6 +62,7 @@ public class FilterCommand extends Command {
     public static final String COMMAND_ALIAS = "f";
     public static final String MESSAGE_USAGE_PARAMETERS =
         "[" + PREFIX_FILTERNAME + "FILTERNAME] "
+            + "[" + PREFIX_MATCHMODE + "word|substring|phonetic] "
             + "[" + PREFIX_NAME + "NAME KEYWORD] "
             + "[" + PREFIX_PHONE + "PHONE KEYWORD] "
             + "[" + PREFIX_EMAIL + "EMAIL KEYWORD] "
@@ -112,7 +119,12 @@ public class FilterCommand extends Command {
             + "For example: 1.2-1.3; 1.3-1.4";
     public static final String MESSAGE_REDUNDANT_FILTERNAME = "Filter name has already been used." + "\n"
         + "Filter Command need a unique name";
-    private final Predicate<Person> predicate;
+    public static final String MESSAGE_INVALID_MATCH_MODE =
+        "Match mode should be one of \"word\", \"substring\" or \"phonetic\"." + "\n"
+            + "In substring mode, name, phone, email and address keywords "
+            + "can match any part of the field, e.g. " + PREFIX_EMAIL + "@gmail" + "\n"
+            + "In phonetic mode, name keywords match names that sound alike, e.g. " + PREFIX_NAME + "Tan Ming "
+            + "matches Tang Wei Meng";
     private final PredicatePersonDescriptor predicatePersonDescriptor;
     private final JobListName listName;
     private final String commandName;
@@ -128,7 +140,6 @@ public class FilterCommand extends Command {
         requireNonNull(listName);
         requireNonNull(predicatePersonDescriptor);
         this.predicatePersonDescriptor = new PredicatePersonDescriptor(predicatePersonDescriptor);
-        this.predicate = this.predicatePersonDescriptor.toPredicate();
         this.listName = listName;
         this.commandName = commandName;
     }
@@ -140,6 +151,7 @@ public class FilterCommand extends Command {
         boolean isAllJobScreen = model.getIsAllJobScreen();
         boolean hasListName = listName != EMPTY;
         checkException(isAllJobScreen, hasListName);
+        Predicate<Person> predicate = predicatePersonDescriptor.toPredicate(model.getAddressBook());
         try {
             model.addPredicate(commandName, predicate, listName);
         } catch (DuplicateFilterException ex) {
@@ -185,6 +197,18 @@ public class FilterCommand extends Command {
         return predicatePersonDescriptor.equals(e.predicatePersonDescriptor);
     }
 
+    /**
+     * How the text keywords of a filter are matched against a person's fields.
+     */
+    public enum MatchMode {
+        /** Keywords must equal a whole word of the field. */
+        WORD,
+        /** Name, phone, email and address keywords can match any part of the field. */
+        SUBSTRING,
+        /** Name keywords match name words that sound alike. */
+        PHONETIC
+    }
+
     /**
      * Stores the details to edit the person with. Each non-empty field value will replace the
      * corresponding field value of the person.
@@ -208,6 +232,7 @@ public class FilterCommand extends Command {
         private Set<String> jobsApply;
         private Set<String> knownProgLangs;
         private Set<String> pastJobs;
+        private MatchMode matchMode = MatchMode.WORD;
 
         public PredicatePersonDescriptor() {
         }
@@ -235,40 +260,56 @@ public class FilterCommand extends Command {
             setKnownProgLangs(toCopy.knownProgLangs);
             setPastJobs(toCopy.pastJobs);
             setJobsApply(toCopy.jobsApply);
+            setMatchMode(toCopy.matchMode);
         }
 
         /**
-         * Translate and returns a Predicate object for name
+         * Translate and returns a Predicate object for name, using the indexes of {@code addressBook} if needed
          */
-        private Predicate<Person> nameToPredicate() {
+        private Predicate<Person> nameToPredicate(ReadOnlyAddressBook addressBook) {
             Predicate<Person> predicator = new PredicateManager();
             if (this.getName().isPresent()) {
-                predicator = predicator.and(new NameContainsKeywordsPredicate(
-                    new ArrayList<>(this.getName().get())));
+                List<String> keywords = new ArrayList<>(this.getName().get());
+                switch (matchMode) {
+                case SUBSTRING:
+                    predicator = predicator.and(new FieldContainsSubstringsPredicate(SearchField.NAME, keywords,
+                        addressBook.getTrigramIndex()));
+                    break;
+                case PHONETIC:
+                    predicator = predicator.and(new NameSoundsLikeKeywordsPredicate(keywords,
+                        addressBook.getPhoneticIndex()));
+                    break;
+                default:
+                    predicator = predicator.and(new NameContainsKeywordsPredicate(keywords));
+                }
             }
             return predicator;
         }
 
         /**
-         * Translate and returns a Predicate object for phone
+         * Translate and returns a Predicate object for phone, matching substrings in {@code addressBook} if needed
          */
-        private Predicate<Person> phoneToPredicate() {
+        private Predicate<Person> phoneToPredicate(ReadOnlyAddressBook addressBook) {
             Predicate<Person> predicator = new PredicateManager();
             if (this.getPhone().isPresent()) {
-                predicator = predicator.and(new PhoneContainsKeywordsPredicate(
-                    new ArrayList<>(this.getPhone().get())));
+                List<String> keywords = new ArrayList<>(this.getPhone().get());
+                predicator = predicator.and(matchMode == MatchMode.SUBSTRING
+                    ? new FieldContainsSubstringsPredicate(SearchField.PHONE, keywords, addressBook.getTrigramIndex())
+                    : new PhoneContainsKeywordsPredicate(keywords));
             }
             return predicator;
         }
 
         /**
-         * Translate and returns a Predicate object for email
+         * Translate and returns a Predicate object for email, matching substrings in {@code addressBook} if needed
          */
-        private Predicate<Person> emailToPredicate() {
+        private Predicate<Person> emailToPredicate(ReadOnlyAddressBook addressBook) {
             Predicate<Person> predicator = new PredicateManager();
             if (this.getEmail().isPresent()) {
-                predicator = predicator.and(new EmailContainsKeywordsPredicate(
-                    new ArrayList<>(this.getEmail().get())));
+                List<String> keywords = new ArrayList<>(this.getEmail().get());
+                predicator = predicator.and(matchMode == MatchMode.SUBSTRING
+                    ? new FieldContainsSubstringsPredicate(SearchField.EMAIL, keywords, addressBook.getTrigramIndex())
+                    : new EmailContainsKeywordsPredicate(keywords));
             }
             return predicator;
         }
@@ -286,13 +327,15 @@ public class FilterCommand extends Command {
         }
 
         /**
-         * Translate and returns a Predicate object for address
+         * Translate and returns a Predicate object for address, matching substrings in {@code addressBook} if needed
          */
-        private Predicate<Person> addressToPredicate() {
+        private Predicate<Person> addressToPredicate(ReadOnlyAddressBook addressBook) {
             Predicate<Person> predicator = new PredicateManager();
             if (this.getAddress().isPresent()) {
-                predicator = predicator.and(new AddressContainsKeywordsPredicate(
-                    new ArrayList<>(this.getAddress().get())));
+                List<String> keywords = new ArrayList<>(this.getAddress().get());
+                predicator = predicator.and(matchMode == MatchMode.SUBSTRING
+                    ? new FieldContainsSubstringsPredicate(SearchField.ADDRESS, keywords, addressBook.getTrigramIndex())
+                    : new AddressContainsKeywordsPredicate(keywords));
             }
             return predicator;
         }
@@ -455,11 +498,13 @@ public class FilterCommand extends Command {
 
         /**
          * Translate and returns a Predicate object for search command
+         *
+         * @param addressBook the address book whose indexes are used in substring and phonetic match modes
          */
-        public Predicate<Person> toPredicate() {
+        public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
             Predicate<Person> predicator = new PredicateManager();
-            predicator = predicator.and(nameToPredicate().and(phoneToPredicate()
-                .and(emailToPredicate().and(raceToPredicate().and(addressToPredicate()
+            predicator = predicator.and(nameToPredicate(addressBook).and(phoneToPredicate(addressBook)
+                .and(emailToPredicate(addressBook).and(raceToPredicate().and(addressToPredicate(addressBook)
                     .and(majorToPredicate().and(genderToPredicate().and(schoolToPredicate()
                         .and(gradeToPredicate().and(interviewQ1ToPredicate().and(interviewQ2ToPredicate()
                             .and(interviewQ3ToPredicate().and(interviewQ4ToPredicate().and(interviewQ5ToPredicate()
@@ -612,6 +657,14 @@ public class FilterCommand extends Command {
             return Optional.ofNullable(jobsApply);
         }
 
+        public void setMatchMode(MatchMode matchMode) {
+            this.matchMode = matchMode;
+        }
+
+        public MatchMode getMatchMode() {
+            return matchMode;
+        }
+
 
         @Override
         public boolean equals(Object other) {
@@ -645,7 +698,8 @@ public class FilterCommand extends Command {
                 && getMajor().equals(e.getMajor())
                 && getKnownProgLangs().equals(e.getKnownProgLangs())
                 && getPastJobs().equals(e.getPastJobs())
-                && getJobsApply().equals(e.getJobsApply());
+                && getJobsApply().equals(e.getJobsApply())
+                && matchMode == e.matchMode;
         }
     }
 }
@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.person.Nric;
+
+/**
+ * Finds the interviews of a person.
+ */
+public class FindInterviewCommand extends Command {
+
+    public static final String COMMAND_WORD = "findInterview";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows when and where the person with the given NRIC is interviewed, for each of their jobs.\n"
+            + "Parameters: " + PREFIX_NRIC + "NRIC\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NRIC + "S9123456A";
+    public static final String MESSAGE_SUCCESS = "Interview of %1$s is on %2$s %3$s-%4$s in room %5$d";
+    public static final String MESSAGE_INTERVIEWER = " with %1$s";
+    public static final String MESSAGE_JOB = " for %1$s";
+
+    private final Nric nric;
+
+    public FindInterviewCommand(Nric nric) {
+        requireNonNull(nric);
+        this.nric = nric;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<InterviewSlot> interviews = model.getInterviews().getInterviewsOf(nric);
+        if (interviews.isEmpty()) {
+            throw new CommandException(RescheduleInterviewCommand.MESSAGE_NO_INTERVIEW);
+        }
+        StringBuilder result = new StringBuilder();
+        for (InterviewSlot interview : interviews) {
+            if (result.length() > 0) {
+                result.append("\n");
+            }
+            result.append(String.format(MESSAGE_SUCCESS, interview.getPerson().getName(), interview.getDate(),
+                interview.getStart(), interview.getEnd(), interview.getRoom()));
+            interview.getInterviewer().ifPresent(name -> result.append(String.format(MESSAGE_INTERVIEWER, name)));
+            interview.getJob().ifPresent(job -> result.append(String.format(MESSAGE_JOB, job)));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof FindInterviewCommand // instanceof handles nulls
+            && nric.equals(((FindInterviewCommand) other).nric));
+    }
+}
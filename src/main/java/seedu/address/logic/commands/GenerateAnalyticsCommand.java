@@ -1,45 +1,97 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PIVOTCOLUMN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PIVOTMEASURE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PIVOTROW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOPK;
 import static seedu.address.model.job.JobListName.APPLICANT;
 import static seedu.address.model.job.JobListName.INTERVIEW;
 import static seedu.address.model.job.JobListName.KIV;
 import static seedu.address.model.job.JobListName.SHORTLIST;
 import static seedu.address.model.job.JobListName.STUB;
 
+import java.util.Objects;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.analytics.Analytics;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.analytics.FunnelReport;
+import seedu.address.model.analytics.HiringFunnel;
+import seedu.address.model.analytics.PivotQuery;
+import seedu.address.model.job.Job;
 import seedu.address.model.job.JobListName;
 
 /**
- * Generates analytics report based on selected list of persons
+ * Generates analytics report based on selected list of persons, or a pivot table of them if a pivot query is given
  */
 public class GenerateAnalyticsCommand extends Command {
 
     public static final String COMMAND_WORD = "analytics";
+    public static final int DEFAULT_MAX_CATEGORIES = 10;
     public static final String MESSAGE_SUCCESS = "Analytics generated!";
+    public static final String MESSAGE_PIVOT_SUCCESS = "Pivot table of %1$s generated!";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-        + ": Generates analytics of desired list. "
-        + "Parameters: list name (If no list name provided, analytics of all applicants will be shown)"
+        + ": Generates analytics and the hiring funnel of desired list. "
+        + "Parameters: [list name] [" + PREFIX_TOPK + "K] "
+        + "(If no list name provided, analytics of all applicants will be shown)"
+        + "\n" + "Charts of schools, majors, past jobs and jobs applied show the K most common of them and group the "
+        + "rest as Other. K defaults to " + DEFAULT_MAX_CATEGORIES
         + "\n" + "Possible lists are: applicant, kiv, interview, shortlist"
-        + "\n" + "Example: " + COMMAND_WORD + " " + "kiv";
+        + "\n" + "Use \"" + GenerateAnalyticsReportCommand.ALL_JOBS_KEYWORD + "\" instead to write a report of every "
+        + "list of every job to " + GenerateAnalyticsReportCommand.REPORT_FILE_NAME
+        + "\n" + "Add " + PREFIX_PIVOTROW + "FIELD [" + PREFIX_PIVOTCOLUMN + "FIELD] [" + PREFIX_PIVOTMEASURE
+        + "MEASURE] to show a pivot table of the list instead, "
+        + "with rows and columns of the values of each field and the measure of the persons in each cell"
+        + "\n" + "Possible fields are: gender, race, school, major, prog_lang, past_job, job_applied"
+        + "\n" + "Possible measures are: count (default), grade, score"
+        + "\n" + "Example: " + COMMAND_WORD + " " + "kiv"
+        + "\n" + "Example: " + COMMAND_WORD + " " + PREFIX_PIVOTROW + "school " + PREFIX_PIVOTCOLUMN + "major "
+        + PREFIX_PIVOTMEASURE + "grade";
 
     private final JobListName listName;
+    private final PivotQuery pivotQuery;
+    private final int maxCategories;
 
     public GenerateAnalyticsCommand(JobListName listName) {
+        this(listName, DEFAULT_MAX_CATEGORIES);
+    }
+
+    /**
+     * @param listName      which list to generate analytics of, {@code STUB} for the displayed persons
+     * @param maxCategories the number of most common categories to chart separately in each breakdown
+     */
+    public GenerateAnalyticsCommand(JobListName listName, int maxCategories) {
         requireNonNull(listName);
+        assert maxCategories > 0;
         this.listName = listName;
+        this.pivotQuery = null;
+        this.maxCategories = maxCategories;
     }
 
     public GenerateAnalyticsCommand() {
-        this.listName = STUB;
+        this(STUB);
+    }
+
+    /**
+     * @param listName   which list to generate analytics of, {@code STUB} for the displayed persons
+     * @param pivotQuery the pivot table to generate, or null to generate the analytics charts
+     */
+    public GenerateAnalyticsCommand(JobListName listName, PivotQuery pivotQuery) {
+        requireNonNull(listName);
+        this.listName = listName;
+        this.pivotQuery = pivotQuery;
+        this.maxCategories = DEFAULT_MAX_CATEGORIES;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        Analytics analytics;
+        if (pivotQuery != null) {
+            return new CommandResult(String.format(MESSAGE_PIVOT_SUCCESS, pivotQuery),
+                pivotQuery.aggregate(model.getJobsList(listName)));
+        }
+        AnalyticsResult analytics;
         switch (listName) {
 
         case APPLICANT:
@@ -60,7 +112,27 @@ public class GenerateAnalyticsCommand extends Command {
         default:
             analytics = model.generateAnalytics();
         }
-        return new CommandResult(MESSAGE_SUCCESS, analytics);
+        return new CommandResult(MESSAGE_SUCCESS, analytics, generateFunnel(model), maxCategories);
+    }
+
+    /**
+     * Returns the funnel of all jobs if no list is given, or else the funnel of the active job.
+     */
+    private HiringFunnel generateFunnel(Model model) {
+        if (listName == STUB) {
+            return FunnelReport.of(model.getAddressBook().getJobList()).getGlobalFunnel();
+        }
+        Job activeJob = model.getActiveJob();
+        return activeJob == null ? HiringFunnel.EMPTY : HiringFunnel.of(activeJob);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof GenerateAnalyticsCommand // instanceof handles nulls
+            && listName == ((GenerateAnalyticsCommand) other).listName
+            && maxCategories == ((GenerateAnalyticsCommand) other).maxCategories
+            && Objects.equals(pivotQuery, ((GenerateAnalyticsCommand) other).pivotQuery)); // state check
     }
 
 }
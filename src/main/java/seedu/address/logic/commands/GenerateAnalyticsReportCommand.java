@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.analytics.AnalyticsReport;
+import seedu.address.model.job.Job;
+
+/**
+ * Writes a report of the analytics of every list of every job to a file next to the address book file.
+ * The report is computed and written in the background, so the command returns before the file is written.
+ */
+public class GenerateAnalyticsReportCommand extends Command {
+
+    public static final String ALL_JOBS_KEYWORD = "all";
+    public static final String REPORT_FILE_NAME = "analyticsReport.txt";
+
+    public static final String MESSAGE_SUCCESS = "Writing analytics report of %1$d jobs to %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(GenerateAnalyticsReportCommand.class);
+
+    private CompletableFuture<Path> reportWriting;
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Path reportFile = model.getAddressBookFilePath().resolveSibling(REPORT_FILE_NAME);
+        List<Job> jobs = model.getAddressBook().getJobList();
+        // the lists are copied here on the calling thread, so the pool never reads them while they change
+        RecursiveTask<AnalyticsReport> reportTask = AnalyticsReport.newTask(jobs);
+        reportWriting = CompletableFuture.supplyAsync(() -> writeReport(reportTask.invoke(), reportFile),
+            ForkJoinPool.commonPool());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, jobs.size(), reportFile));
+    }
+
+    /**
+     * Writes {@code report} to {@code reportFile}, replacing any earlier report.
+     *
+     * @throws UncheckedIOException if the report could not be written.
+     */
+    private static Path writeReport(AnalyticsReport report, Path reportFile) {
+        try {
+            FileUtil.createIfMissing(reportFile);
+            FileUtil.writeToFile(reportFile, report.toReportText());
+        } catch (IOException ioe) {
+            logger.warning("Failed to write analytics report to " + reportFile + ": " + ioe);
+            throw new UncheckedIOException(ioe);
+        }
+        logger.info("Wrote analytics report to " + reportFile);
+        return reportFile;
+    }
+
+    /**
+     * Returns the writing of the report started by the last execution of this command, or null if it has not
+     * been executed.
+     */
+    CompletableFuture<Path> getReportWriting() {
+        return reportWriting;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof GenerateAnalyticsReportCommand;
+    }
+}
@@ -1,30 +1,135 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOBNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORTBY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.interviews.InterviewOrder;
 import seedu.address.model.interviews.exceptions.InterviewsPresentException;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Person;
 
 /**
- * Generates an interview date list from existing persons in the addressbook.
+ * Generates an interview date list from existing persons in the addressbook, or from the persons in the interview
+ * lists of some or all jobs.
  */
 public class GenerateInterviewsCommand extends Command {
 
     public static final String COMMAND_WORD = "generateInterviews";
+    public static final String EVERY_JOB_KEYWORD = "jobs";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Generates interviews for every person, or for the persons in the interview lists of the given jobs "
+            + "or of every job. A person in the lists of several jobs gets an interview for each, at times that "
+            + "do not overlap. When there are interviewers, each person is interviewed by one who knows all of "
+            + "their programming languages. Persons are booked in the order they are listed, or with "
+            + PREFIX_SORTBY + "score the best scoring by grade and interview scores first, under the rank weights "
+            + "of their job.\n"
+            + "Parameters: [" + PREFIX_JOBNAME + "JOB NAME]... or " + EVERY_JOB_KEYWORD
+            + " [" + PREFIX_SORTBY + "listed|score]\n"
+            + "Example: " + COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_JOBNAME + "Software Engineer "
+            + PREFIX_JOBNAME + "Data Analyst\n"
+            + "Example: " + COMMAND_WORD + " " + EVERY_JOB_KEYWORD + " " + PREFIX_SORTBY + "score";
     public static final String MESSAGE_SUCCESS = "Interviews generated";
     public static final String MESSAGE_PRESENT = "Interviews already present";
+    public static final String MESSAGE_MISSING_JOB = "This job does not exist";
+    public static final String MESSAGE_UNMATCHED =
+        "Not booked, as no interviewer can interview them or they are unavailable for too long: %1$s";
+
+    private final List<JobName> jobNames;
+    private final InterviewOrder order;
+
+    /**
+     * Creates a GenerateInterviewsCommand to generate interviews for every person, in the order they are listed.
+     */
+    public GenerateInterviewsCommand() {
+        this(InterviewOrder.LISTED);
+    }
+
+    /**
+     * Creates a GenerateInterviewsCommand to generate interviews for every person, booking them in {@code order}.
+     */
+    public GenerateInterviewsCommand(InterviewOrder order) {
+        requireNonNull(order);
+        this.jobNames = null;
+        this.order = order;
+    }
+
+    /**
+     * Creates a GenerateInterviewsCommand to generate interviews for the interview lists of the jobs
+     * {@code jobNames}, or of every job if it is empty, in the order they are listed.
+     */
+    public GenerateInterviewsCommand(List<JobName> jobNames) {
+        this(jobNames, InterviewOrder.LISTED);
+    }
+
+    /**
+     * Creates a GenerateInterviewsCommand to generate interviews for the interview lists of the jobs
+     * {@code jobNames}, or of every job if it is empty, booking the persons of each job in {@code order}.
+     */
+    public GenerateInterviewsCommand(List<JobName> jobNames, InterviewOrder order) {
+        requireAllNonNull(jobNames, order);
+        this.jobNames = new ArrayList<>(jobNames);
+        this.order = order;
+    }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
+        requireJobsExist(model, jobNames);
+        List<Person> unmatched;
         try {
-            model.generateInterviews();
+            unmatched = jobNames == null
+                ? model.generateInterviews(order)
+                : model.generateInterviews(jobNames, order);
             model.commitAddressBook();
         } catch (InterviewsPresentException e) {
             throw new CommandException(MESSAGE_PRESENT);
         }
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(MESSAGE_SUCCESS + getUnmatchedMessage(unmatched));
+    }
+
+    /**
+     * Throws a {@code CommandException} if any of {@code jobNames}, which may be null, is not in {@code model}.
+     */
+    static void requireJobsExist(Model model, List<JobName> jobNames) throws CommandException {
+        if (jobNames == null) {
+            return;
+        }
+        for (JobName jobName : jobNames) {
+            if (!model.hasJob(new Job(jobName))) {
+                throw new CommandException(MESSAGE_MISSING_JOB);
+            }
+        }
+    }
+
+    /**
+     * Returns a line naming the persons in {@code unmatched}, or an empty string if there are none.
+     */
+    static String getUnmatchedMessage(List<Person> unmatched) {
+        if (unmatched.isEmpty()) {
+            return "";
+        }
+        String names = unmatched.stream().map(person -> person.getName().toString())
+            .collect(Collectors.joining(", "));
+        return "\n" + String.format(MESSAGE_UNMATCHED, names);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof GenerateInterviewsCommand // instanceof handles nulls
+            && Objects.equals(jobNames, ((GenerateInterviewsCommand) other).jobNames)
+            && order == ((GenerateInterviewsCommand) other).order);
     }
 }
@@ -0,0 +1,216 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ1;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ5;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KNOWNPROGLANG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOPK;
+import static seedu.address.model.job.JobListName.EMPTY;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.job.CandidateRanker;
+import seedu.address.model.job.CandidateRanker.RankedPerson;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobListName;
+import seedu.address.model.job.RankWeights;
+
+/**
+ * Ranks the persons in the displayed list by a weighted score of their grade, interview scores and
+ * known programming languages, and shows the best of them.
+ */
+public class RankCommand extends Command {
+
+    public static final String COMMAND_WORD = "rank";
+    public static final String COMMAND_ALIAS = "rk";
+    public static final int DEFAULT_TOP_K = 10;
+
+    public static final String MESSAGE_USAGE_PARAMETERS =
+        "[" + PREFIX_TOPK + "K] "
+            + "[" + PREFIX_GRADE + "GRADE WEIGHT] "
+            + "[" + PREFIX_INTERVIEWSCORESQ1 + "Q1 WEIGHT]...[" + PREFIX_INTERVIEWSCORESQ5 + "Q5 WEIGHT] "
+            + "[" + PREFIX_KNOWNPROGLANG + "LANGUAGE=WEIGHT]...\n"
+            + "K is the number of candidates to show and defaults to " + DEFAULT_TOP_K + ". "
+            + "Weights not given default to 1 for grade and interview scores. "
+            + "Programming languages given replace the ones saved for the job.\n";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Ranks the persons in the displayed list by the weighted sum of their grade, interview scores and "
+        + "known programming languages, and shows the best K of them.\n"
+        + "In All Jobs page, parameters: " + MESSAGE_USAGE_PARAMETERS
+        + "In Display Job page, parameters: LISTNAME " + MESSAGE_USAGE_PARAMETERS
+        + "Weights given in Display Job page are saved for the job.\n"
+        + "Example: " + COMMAND_WORD + " " + PREFIX_TOPK + "5 " + PREFIX_GRADE + "2 "
+        + PREFIX_INTERVIEWSCORESQ1 + "0.5 " + PREFIX_KNOWNPROGLANG + "Java=3 " + PREFIX_KNOWNPROGLANG + "C=1\n"
+        + "The alias \"" + COMMAND_ALIAS + "\" can be used instead.";
+
+    public static final String MESSAGE_SUCCESS = "Top %1$d of %2$d candidates (%3$s):";
+    public static final String MESSAGE_RANKED_PERSON = "\n%1$d. %2$s (%3$s): %4$.2f";
+    public static final String MESSAGE_LACK_LISTNAME =
+        "Rank Command in Display Job page need indicate job list\n%1$s";
+    public static final String MESSAGE_REDUNDANT_LISTNAME =
+        "Rank Command in All Jobs page no need indicate job list\n%1$s";
+
+    private final JobListName listName;
+    private final int topK;
+    private final RankWeightsDescriptor rankWeightsDescriptor;
+
+    /**
+     * @param listName              which job list to rank the persons of
+     * @param topK                  number of candidates to show
+     * @param rankWeightsDescriptor weights to rank the persons with
+     */
+    public RankCommand(JobListName listName, int topK, RankWeightsDescriptor rankWeightsDescriptor) {
+        requireNonNull(listName);
+        requireNonNull(rankWeightsDescriptor);
+        assert topK > 0;
+        this.listName = listName;
+        this.topK = topK;
+        this.rankWeightsDescriptor = new RankWeightsDescriptor(rankWeightsDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        boolean isAllJobScreen = model.getIsAllJobScreen();
+        boolean hasListName = listName != EMPTY;
+        if (!isAllJobScreen && !hasListName) {
+            throw new CommandException(String.format(MESSAGE_LACK_LISTNAME, MESSAGE_USAGE));
+        } else if (isAllJobScreen && hasListName) {
+            throw new CommandException(String.format(MESSAGE_REDUNDANT_LISTNAME, MESSAGE_USAGE));
+        }
+
+        RankWeights weights;
+        if (isAllJobScreen) {
+            weights = rankWeightsDescriptor.applyTo(RankWeights.DEFAULT);
+        } else {
+            Job job = model.getActiveJob();
+            weights = rankWeightsDescriptor.applyTo(job.getRankWeights());
+            if (!weights.equals(job.getRankWeights())) {
+                model.setRankWeights(job.getName(), weights);
+                model.commitAddressBook();
+            }
+        }
+
+        List<RankedPerson> ranked = CandidateRanker.rankTopK(model.getJobsList(listName), weights, topK);
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, ranked.size(),
+            model.getJobsList(listName).size(), weights));
+        for (int i = 0; i < ranked.size(); i++) {
+            RankedPerson rankedPerson = ranked.get(i);
+            builder.append(String.format(MESSAGE_RANKED_PERSON, i + 1, rankedPerson.getPerson().getName(),
+                rankedPerson.getPerson().getNric(), rankedPerson.getScore()));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RankCommand)) {
+            return false;
+        }
+
+        // state check
+        RankCommand e = (RankCommand) other;
+        return listName.equals(e.listName)
+            && topK == e.topK
+            && rankWeightsDescriptor.equals(e.rankWeightsDescriptor);
+    }
+
+    /**
+     * Stores the weights to rank the persons with. Weights that are not set are taken from the base weights.
+     */
+    public static class RankWeightsDescriptor {
+        private Float gradeWeight;
+        private Float[] interviewWeights = new Float[RankWeights.NUMBER_OF_QUESTIONS];
+        private Map<String, Float> progLangWeights;
+
+        public RankWeightsDescriptor() {
+        }
+
+        /**
+         * Copy constructor.
+         */
+        public RankWeightsDescriptor(RankWeightsDescriptor toCopy) {
+            setGradeWeight(toCopy.gradeWeight);
+            interviewWeights = toCopy.interviewWeights.clone();
+            setProgLangWeights(toCopy.progLangWeights);
+        }
+
+        public void setGradeWeight(Float gradeWeight) {
+            this.gradeWeight = gradeWeight;
+        }
+
+        public Optional<Float> getGradeWeight() {
+            return Optional.ofNullable(gradeWeight);
+        }
+
+        /**
+         * Sets the weight of interview question {@code questionNum}, counting from 1.
+         */
+        public void setInterviewWeight(int questionNum, Float interviewWeight) {
+            interviewWeights[questionNum - 1] = interviewWeight;
+        }
+
+        public Optional<Float> getInterviewWeight(int questionNum) {
+            return Optional.ofNullable(interviewWeights[questionNum - 1]);
+        }
+
+        /**
+         * Sets {@code progLangWeights} to this object's {@code progLangWeights}.
+         * A defensive copy of {@code progLangWeights} is used internally.
+         */
+        public void setProgLangWeights(Map<String, Float> progLangWeights) {
+            this.progLangWeights = (progLangWeights != null) ? new HashMap<>(progLangWeights) : null;
+        }
+
+        public Optional<Map<String, Float>> getProgLangWeights() {
+            return Optional.ofNullable(progLangWeights);
+        }
+
+        /**
+         * Returns {@code base} with the weights set in this descriptor replacing its own.
+         */
+        public RankWeights applyTo(RankWeights base) {
+            requireNonNull(base);
+            float[] weights = new float[RankWeights.NUMBER_OF_QUESTIONS];
+            for (int questionNum = 1; questionNum <= RankWeights.NUMBER_OF_QUESTIONS; questionNum++) {
+                weights[questionNum - 1] = getInterviewWeight(questionNum).orElse(base.getInterviewWeight(questionNum));
+            }
+            return new RankWeights(getGradeWeight().orElse(base.getGradeWeight()), weights,
+                getProgLangWeights().orElse(base.getProgLangWeights()));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // short circuit if same object
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof RankWeightsDescriptor)) {
+                return false;
+            }
+
+            // state check
+            RankWeightsDescriptor e = (RankWeightsDescriptor) other;
+            return getGradeWeight().equals(e.getGradeWeight())
+                && Arrays.equals(interviewWeights, e.interviewWeights)
+                && getProgLangWeights().equals(e.getProgLangWeights());
+        }
+    }
+}
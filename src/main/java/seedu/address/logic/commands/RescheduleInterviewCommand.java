@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.person.Nric;
+
+/**
+ * Moves the interviews of a person into the earliest free slots they are available for, on or after a given date.
+ */
+public class RescheduleInterviewCommand extends Command {
+
+    public static final String COMMAND_WORD = "rescheduleInterview";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves the interviews of the person with the given NRIC into the earliest free slots they are "
+            + "available for, on or after the given date if there is one.\n"
+            + "Parameters: [DD/MM/YYYY] " + PREFIX_NRIC + "NRIC\n"
+            + "Example: " + COMMAND_WORD + " 08/04/2019 " + PREFIX_NRIC + "S9123456A";
+    public static final String MESSAGE_SUCCESS = "Interview of %1$s is now on %2$s %3$s-%4$s";
+    public static final String MESSAGE_NO_INTERVIEW = "This person has no interview";
+
+    private final Nric nric;
+    private final LocalDate from;
+
+    /**
+     * Creates a RescheduleInterviewCommand to move the interview of the person with {@code nric} into the earliest
+     * free slot.
+     */
+    public RescheduleInterviewCommand(Nric nric) {
+        this(nric, LocalDate.MIN);
+    }
+
+    /**
+     * Creates a RescheduleInterviewCommand to move the interview of the person with {@code nric} into the earliest
+     * free slot on or after {@code from}.
+     */
+    public RescheduleInterviewCommand(Nric nric, LocalDate from) {
+        requireAllNonNull(nric, from);
+        this.nric = nric;
+        this.from = from;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<InterviewSlot> interviews = model.rescheduleInterview(nric, from);
+        if (interviews.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_INTERVIEW);
+        }
+        model.commitAddressBook();
+        StringBuilder result = new StringBuilder();
+        for (InterviewSlot interview : interviews) {
+            if (result.length() > 0) {
+                result.append("\n");
+            }
+            result.append(String.format(MESSAGE_SUCCESS, interview.getPerson().getName(), interview.getDate(),
+                interview.getStart(), interview.getEnd()));
+            interview.getJob().ifPresent(job -> result.append(String.format(FindInterviewCommand.MESSAGE_JOB, job)));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof RescheduleInterviewCommand // instanceof handles nulls
+            && nric.equals(((RescheduleInterviewCommand) other).nric)
+            && from.equals(((RescheduleInterviewCommand) other).from));
+    }
+}
@@ -1,37 +1,74 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.person.Nric;
 
 /**
- * Sets the block out dates for user.
+ * Sets the block out dates for user, or the times a candidate is unavailable for an interview.
  */
 public class SetBlockOutDatesCommand extends Command {
 
     public static final String COMMAND_WORD = "setBlockOutDates";
     public static final String MESSAGE_SUCCESS = "Block Out Dates set:\n";
+    public static final String MESSAGE_UNAVAILABILITY_SUCCESS = "Unavailable times of %1$s set";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sets block out dates.\n"
-            + "Parameters: dd/mm/yyyy - dd/mm/yyyy or dd/mm/yyyy"
-            + "Example: " + COMMAND_WORD + " 01/04/2019 - 04/04/2019, 06/04/2019\n";
+            + ": Sets block out dates, or the times a candidate is unavailable if an NRIC is given.\n"
+            + "For block out dates, parameters: dd/mm/yyyy - dd/mm/yyyy or dd/mm/yyyy, separated by commas\n"
+            + "For a candidate, parameters: dd/mm/yyyy - dd/mm/yyyy or dd/mm/yyyy or dd/mm/yyyy HH:MM-HH:MM, "
+            + "separated by commas, then " + PREFIX_NRIC + "NRIC\n"
+            + "Example: " + COMMAND_WORD + " 01/04/2019 - 04/04/2019, 06/04/2019\n"
+            + "Example: " + COMMAND_WORD + " 08/04/2019 09:00-12:00, 09/04/2019 " + PREFIX_NRIC + "S9123456A\n";
 
-    private final List<Calendar> blockOutDates;
+    private final List<LocalDate> blockOutDates;
+    private final Nric nric;
+    private final IntervalSet unavailability;
 
-    public SetBlockOutDatesCommand(List<Calendar> blockOutDates) {
+    public SetBlockOutDatesCommand(List<LocalDate> blockOutDates) {
+        requireNonNull(blockOutDates);
         this.blockOutDates = blockOutDates;
+        this.nric = null;
+        this.unavailability = null;
+    }
+
+    /**
+     * Creates a command that marks the person with {@code nric} unavailable at {@code unavailability}.
+     */
+    public SetBlockOutDatesCommand(Nric nric, IntervalSet unavailability) {
+        requireAllNonNull(nric, unavailability);
+        this.blockOutDates = null;
+        this.nric = nric;
+        this.unavailability = new IntervalSet(unavailability);
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
+        if (nric != null) {
+            model.addUnavailability(nric, unavailability);
+            model.commitAddressBook();
+            return new CommandResult(String.format(MESSAGE_UNAVAILABILITY_SUCCESS, nric));
+        }
         model.setBlockOutDates(blockOutDates);
         model.commitAddressBook();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof SetBlockOutDatesCommand // instanceof handles nulls
+            && Objects.equals(blockOutDates, ((SetBlockOutDatesCommand) other).blockOutDates)
+            && Objects.equals(nric, ((SetBlockOutDatesCommand) other).nric)
+            && Objects.equals(unavailability, ((SetBlockOutDatesCommand) other).unavailability)); // state check
+    }
 }
@@ -1,34 +1,179 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYEND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYSTART;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SLOTLENGTH;
+
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.interviews.SlotSettings;
 
 /**
- * Sets the maximum number of interviews that can be held in a day.
+ * Sets the maximum number of interviews that can be held in a day, and the time slots they are held in.
  */
 public class SetMaxInterviewsADayCommand extends Command {
 
     public static final String COMMAND_WORD = "setMaxInterviewsADay";
     public static final String MESSAGE_SUCCESS = "Maximum number of interviews per day set";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sets the maximum number of interviews a day.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1\n";
+            + ": Sets the maximum number of interviews a day, and optionally the time slots they are held in.\n"
+            + "Parameters: INDEX (must be a positive integer) "
+            + "[" + PREFIX_DAYSTART + "DAY START (HH:MM)] "
+            + "[" + PREFIX_DAYEND + "DAY END (HH:MM)] "
+            + "[" + PREFIX_SLOTLENGTH + "SLOT LENGTH (minutes)] "
+            + "[" + PREFIX_ROOMS + "ROOMS]\n"
+            + "Slot settings not given are left unchanged.\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " 8 " + PREFIX_DAYSTART + "09:00 " + PREFIX_DAYEND + "13:00 "
+            + PREFIX_SLOTLENGTH + "30 " + PREFIX_ROOMS + "2\n";
 
     private final int maxInterviewsADay;
+    private final SlotSettingsDescriptor slotSettingsDescriptor;
 
     public SetMaxInterviewsADayCommand(int maxInterviewsADay) {
+        this(maxInterviewsADay, new SlotSettingsDescriptor());
+    }
+
+    /**
+     * @param maxInterviewsADay      maximum number of interviews a day
+     * @param slotSettingsDescriptor slot settings to change
+     */
+    public SetMaxInterviewsADayCommand(int maxInterviewsADay, SlotSettingsDescriptor slotSettingsDescriptor) {
+        requireNonNull(slotSettingsDescriptor);
         this.maxInterviewsADay = maxInterviewsADay;
+        this.slotSettingsDescriptor = new SlotSettingsDescriptor(slotSettingsDescriptor);
     }
 
     @Override
-    public CommandResult execute(Model model, CommandHistory history) {
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
+        SlotSettings slotSettings = model.getInterviews().getSlotSettings();
+        if (slotSettingsDescriptor.isAnyFieldSet()) {
+            if (!slotSettingsDescriptor.isValidWith(slotSettings)) {
+                throw new CommandException(SlotSettings.MESSAGE_CONSTRAINTS);
+            }
+            slotSettings = slotSettingsDescriptor.applyTo(slotSettings);
+            model.setSlotSettings(slotSettings);
+        }
         model.setMaxInterviewsADay(maxInterviewsADay);
         model.commitAddressBook();
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(MESSAGE_SUCCESS + "\n" + slotSettings);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof SetMaxInterviewsADayCommand // instanceof handles nulls
+            && maxInterviewsADay == ((SetMaxInterviewsADayCommand) other).maxInterviewsADay
+            && slotSettingsDescriptor.equals(((SetMaxInterviewsADayCommand) other).slotSettingsDescriptor));
     }
 
+    /**
+     * Stores the slot settings to change. Settings that are not set are taken from the current settings.
+     */
+    public static class SlotSettingsDescriptor {
+        private LocalTime dayStart;
+        private LocalTime dayEnd;
+        private Integer slotMinutes;
+        private Integer rooms;
+
+        public SlotSettingsDescriptor() {
+        }
+
+        /**
+         * Copy constructor.
+         */
+        public SlotSettingsDescriptor(SlotSettingsDescriptor toCopy) {
+            setDayStart(toCopy.dayStart);
+            setDayEnd(toCopy.dayEnd);
+            setSlotMinutes(toCopy.slotMinutes);
+            setRooms(toCopy.rooms);
+        }
+
+        /**
+         * Returns true if at least one setting is changed.
+         */
+        public boolean isAnyFieldSet() {
+            return dayStart != null || dayEnd != null || slotMinutes != null || rooms != null;
+        }
+
+        public void setDayStart(LocalTime dayStart) {
+            this.dayStart = dayStart;
+        }
+
+        public Optional<LocalTime> getDayStart() {
+            return Optional.ofNullable(dayStart);
+        }
+
+        public void setDayEnd(LocalTime dayEnd) {
+            this.dayEnd = dayEnd;
+        }
+
+        public Optional<LocalTime> getDayEnd() {
+            return Optional.ofNullable(dayEnd);
+        }
+
+        public void setSlotMinutes(Integer slotMinutes) {
+            this.slotMinutes = slotMinutes;
+        }
+
+        public Optional<Integer> getSlotMinutes() {
+            return Optional.ofNullable(slotMinutes);
+        }
+
+        public void setRooms(Integer rooms) {
+            this.rooms = rooms;
+        }
+
+        public Optional<Integer> getRooms() {
+            return Optional.ofNullable(rooms);
+        }
+
+        /**
+         * Returns true if the settings of this descriptor, with the rest taken from {@code base}, are valid.
+         */
+        public boolean isValidWith(SlotSettings base) {
+            requireNonNull(base);
+            return SlotSettings.isValidSlotSettings(getDayStart().orElse(base.getDayStart()),
+                getDayEnd().orElse(base.getDayEnd()), getSlotMinutes().orElse(base.getSlotMinutes()),
+                getRooms().orElse(base.getRooms()));
+        }
+
+        /**
+         * Returns {@code base} with the settings set in this descriptor replacing its own.
+         * The resulting settings must be valid, as checked by {@link #isValidWith(SlotSettings)}.
+         */
+        public SlotSettings applyTo(SlotSettings base) {
+            requireNonNull(base);
+            return new SlotSettings(getDayStart().orElse(base.getDayStart()), getDayEnd().orElse(base.getDayEnd()),
+                getSlotMinutes().orElse(base.getSlotMinutes()), getRooms().orElse(base.getRooms()));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // short circuit if same object
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SlotSettingsDescriptor)) {
+                return false;
+            }
+
+            // state check
+            SlotSettingsDescriptor e = (SlotSettingsDescriptor) other;
+            return Objects.equals(dayStart, e.dayStart)
+                && Objects.equals(dayEnd, e.dayEnd)
+                && Objects.equals(slotMinutes, e.slotMinutes)
+                && Objects.equals(rooms, e.rooms);
+        }
+    }
 }
@@ -2,8 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
+import seedu.address.model.interviews.InterviewSlot;
 
 /**
  * Shows an interview date list from existing persons in the addressbook.
@@ -17,7 +22,7 @@ public class ShowInterviewsCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        String result = model.getInterviews().toString();
+        NavigableMap<LocalDate, List<InterviewSlot>> result = model.getInterviews().copySchedule();
         if (result.isEmpty()) {
             return new CommandResult(MESSAGE_INTERVIEWS_NOT_PRESENT);
         }
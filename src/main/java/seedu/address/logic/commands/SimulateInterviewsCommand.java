@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.interviews.InterviewScenario;
+import seedu.address.model.interviews.InterviewSimulator;
+import seedu.address.model.interviews.SimulationResult;
+
+/**
+ * Compares when the interviews of every person would be done under different interview settings, without changing
+ * the settings or the schedule.
+ */
+public class SimulateInterviewsCommand extends Command {
+
+    public static final String COMMAND_WORD = "simulateInterviews";
+    public static final String SCENARIO_SEPARATOR = ";";
+    public static final String MESSAGE_SUCCESS = "Simulated %1$d scenario(s) for %2$d person(s):";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Schedules the interviews of every person under each scenario given, without changing the settings "
+            + "or the interviews, and shows when each would be done and how full the interview days would be.\n"
+            + "Parameters: MAX_INTERVIEWS_A_DAY [BLOCK OUT DATES] " + SCENARIO_SEPARATOR
+            + " MAX_INTERVIEWS_A_DAY [BLOCK OUT DATES] " + SCENARIO_SEPARATOR + " ...\n"
+            + "Block out dates are added to the dates already blocked out, in the format of "
+            + SetBlockOutDatesCommand.COMMAND_WORD + ". With interviewers, the maximum is shared by all of them.\n"
+            + "Example: " + COMMAND_WORD + " 2" + SCENARIO_SEPARATOR + " 4" + SCENARIO_SEPARATOR
+            + " 2 08/04/2019 - 12/04/2019" + SCENARIO_SEPARATOR + " 4 08/04/2019 - 12/04/2019\n";
+
+    private final List<InterviewScenario> scenarios;
+
+    /**
+     * Creates a command that simulates each of {@code scenarios}, reporting them in the order given.
+     */
+    public SimulateInterviewsCommand(List<InterviewScenario> scenarios) {
+        requireNonNull(scenarios);
+        this.scenarios = new ArrayList<>(scenarios);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        int persons = model.getAddressBook().getPersonList().size();
+        List<SimulationResult> results = InterviewSimulator.simulate(model.getInterviews(),
+            model.getAddressBook().getPersonList(), scenarios);
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, results.size(), persons));
+        for (int i = 0; i < results.size(); i++) {
+            message.append("\n").append(i + 1).append(". ").append(results.get(i));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof SimulateInterviewsCommand // instanceof handles nulls
+            && scenarios.equals(((SimulateInterviewsCommand) other).scenarios));
+    }
+}
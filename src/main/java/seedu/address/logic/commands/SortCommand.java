@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORTBY;
+import static seedu.address.model.job.JobListName.EMPTY;
+
+import java.util.Objects;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.job.JobListName;
+import seedu.address.model.person.PersonComparator;
+
+/**
+ * Sorts the persons in the displayed list by one or more fields.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+    public static final String COMMAND_ALIAS = "so";
+
+    public static final String MESSAGE_USAGE_PARAMETERS =
+        "[" + PREFIX_SORTBY + "FIELD [asc|desc]]...\n"
+            + "FIELD is one of name, grade, score or school, and later fields break ties of earlier ones. "
+            + "Fields are sorted in ascending order unless desc is given. "
+            + "Without any field, the list goes back to the order the persons were added in.\n";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Sorts the persons in the displayed list.\n"
+        + "In All Jobs page, parameters: " + MESSAGE_USAGE_PARAMETERS
+        + "In Display Job page, parameters: LISTNAME " + MESSAGE_USAGE_PARAMETERS
+        + "Example: " + COMMAND_WORD + " " + PREFIX_SORTBY + "grade desc " + PREFIX_SORTBY + "name\n"
+        + "The alias \"" + COMMAND_ALIAS + "\" can be used instead.";
+
+    public static final String MESSAGE_SUCCESS = "Sorted by %1$s";
+    public static final String MESSAGE_UNSORTED_SUCCESS = "Sorted in the order the persons were added";
+    public static final String MESSAGE_LACK_LISTNAME =
+        "Sort Command in Display Job page need indicate job list\n%1$s";
+    public static final String MESSAGE_REDUNDANT_LISTNAME =
+        "Sort Command in All Jobs page no need indicate job list\n%1$s";
+
+    private final JobListName listName;
+    private final PersonComparator comparator;
+
+    /**
+     * @param listName   which job list to sort
+     * @param comparator how to sort the list, or null to restore the order the persons were added in
+     */
+    public SortCommand(JobListName listName, PersonComparator comparator) {
+        requireNonNull(listName);
+        this.listName = listName;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        boolean isAllJobScreen = model.getIsAllJobScreen();
+        boolean hasListName = listName != EMPTY;
+        if (!isAllJobScreen && !hasListName) {
+            throw new CommandException(String.format(MESSAGE_LACK_LISTNAME, MESSAGE_USAGE));
+        } else if (isAllJobScreen && hasListName) {
+            throw new CommandException(String.format(MESSAGE_REDUNDANT_LISTNAME, MESSAGE_USAGE));
+        }
+
+        model.sortPersonList(listName, comparator);
+        return new CommandResult(comparator == null
+            ? MESSAGE_UNSORTED_SUCCESS
+            : String.format(MESSAGE_SUCCESS, comparator));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof SortCommand // instanceof handles nulls
+            && listName.equals(((SortCommand) other).listName)
+            && Objects.equals(comparator, ((SortCommand) other).comparator)); // state check
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CAPACITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KNOWNPROGLANG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.AddInterviewerCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interviews.Interviewer;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new AddInterviewerCommand object
+ */
+public class AddInterviewerCommandParser implements Parser<AddInterviewerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddInterviewerCommand
+     * and returns an AddInterviewerCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AddInterviewerCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_KNOWNPROGLANG, PREFIX_CAPACITY);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_CAPACITY)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddInterviewerCommand.MESSAGE_USAGE));
+        }
+
+        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
+        Set<KnownProgLang> skills = ParserUtil.parseKnownProgLangs(argMultimap.getAllValues(PREFIX_KNOWNPROGLANG));
+        int dailyCapacity = ParserUtil.parseDailyCapacity(argMultimap.getValue(PREFIX_CAPACITY).get());
+
+        return new AddInterviewerCommand(new Interviewer(name, skills, dailyCapacity));
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
@@ -8,19 +8,24 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddInterviewerCommand;
 import seedu.address.logic.commands.AddListToJobCommand;
+import seedu.address.logic.commands.AppendInterviewsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearFilterCommand;
 import seedu.address.logic.commands.ClearInterviewsCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CompactInterviewsCommand;
 import seedu.address.logic.commands.CreateJobCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteFilterCommand;
+import seedu.address.logic.commands.DeleteInterviewerCommand;
 import seedu.address.logic.commands.DeleteJobCommand;
 import seedu.address.logic.commands.DisplayJobCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindInterviewCommand;
 import seedu.address.logic.commands.GenerateAnalyticsCommand;
 import seedu.address.logic.commands.GenerateInterviewsCommand;
 import seedu.address.logic.commands.HelpCommand;
@@ -28,11 +33,15 @@ import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ImportResumesCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MovePeopleCommand;
+import seedu.address.logic.commands.RankCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveFromListCommand;
+import seedu.address.logic.commands.RescheduleInterviewCommand;
 import seedu.address.logic.commands.SetBlockOutDatesCommand;
 import seedu.address.logic.commands.SetMaxInterviewsADayCommand;
 import seedu.address.logic.commands.ShowInterviewsCommand;
+import seedu.address.logic.commands.SimulateInterviewsCommand;
+import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -184,7 +193,25 @@ public class AddressBookParser {
             return new RedoCommand();
 
         case GenerateInterviewsCommand.COMMAND_WORD:
-            return new GenerateInterviewsCommand();
+            return new GenerateInterviewsCommandParser().parse(arguments);
+
+        case AppendInterviewsCommand.COMMAND_WORD:
+            return new AppendInterviewsCommandParser().parse(arguments);
+
+        case CompactInterviewsCommand.COMMAND_WORD:
+            return new CompactInterviewsCommand();
+
+        case FindInterviewCommand.COMMAND_WORD:
+            return new FindInterviewCommandParser().parse(arguments);
+
+        case RescheduleInterviewCommand.COMMAND_WORD:
+            return new RescheduleInterviewCommandParser().parse(arguments);
+
+        case AddInterviewerCommand.COMMAND_WORD:
+            return new AddInterviewerCommandParser().parse(arguments);
+
+        case DeleteInterviewerCommand.COMMAND_WORD:
+            return new DeleteInterviewerCommandParser().parse(arguments);
 
         case ShowInterviewsCommand.COMMAND_WORD:
             return new ShowInterviewsCommand();
@@ -192,6 +219,9 @@ public class AddressBookParser {
         case SetMaxInterviewsADayCommand.COMMAND_WORD:
             return new SetMaxInterviewsADayCommandParser().parse(arguments);
 
+        case SimulateInterviewsCommand.COMMAND_WORD:
+            return new SimulateInterviewsCommandParser().parse(arguments);
+
         case ClearInterviewsCommand.COMMAND_WORD:
             return new ClearInterviewsCommand();
 
@@ -231,6 +261,18 @@ public class AddressBookParser {
         case RemoveFromListCommand.COMMAND_ALIAS:
             return new RemoveFromListCommandParser().parse(arguments);
 
+        case RankCommand.COMMAND_WORD:
+            return new RankCommandParser().parse(arguments);
+
+        case RankCommand.COMMAND_ALIAS:
+            return new RankCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case SortCommand.COMMAND_ALIAS:
+            return new SortCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
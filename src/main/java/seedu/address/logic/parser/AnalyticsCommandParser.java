@@ -1,37 +1,117 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PIVOTCOLUMN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PIVOTMEASURE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PIVOTROW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOPK;
 
+import java.util.Locale;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.GenerateAnalyticsCommand;
+import seedu.address.logic.commands.GenerateAnalyticsReportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.analytics.PivotField;
+import seedu.address.model.analytics.PivotMeasure;
+import seedu.address.model.analytics.PivotQuery;
 import seedu.address.model.job.JobListName;
 
 /**
- * Parses input arguments and creates a new SearchCommand object
+ * Parses input arguments and creates a new GenerateAnalyticsCommand or GenerateAnalyticsReportCommand object
  */
-public class AnalyticsCommandParser implements Parser<GenerateAnalyticsCommand> {
+public class AnalyticsCommandParser implements Parser<Command> {
+
+    public static final String MESSAGE_INVALID_PIVOT_FIELD =
+        "Pivot fields should be one of gender, race, school, major, prog_lang, past_job or job_applied, "
+            + "e.g. " + PREFIX_PIVOTROW + "school";
+    public static final String MESSAGE_INVALID_PIVOT_MEASURE =
+        "Pivot measures should be one of count, grade or score, e.g. " + PREFIX_PIVOTMEASURE + "grade";
+    public static final String MESSAGE_INVALID_MAX_CATEGORIES = "K should be a positive integer.";
 
     /**
      * Parses the given {@code String} of arguments in the context of the GenerateAnalyticsCommand
-     * and returns an GenerateAnalyticsCommand object for execution.
+     * and returns an GenerateAnalyticsCommand object for execution, or a GenerateAnalyticsReportCommand object if
+     * the report of all jobs is asked for.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public GenerateAnalyticsCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args);
+                ArgumentTokenizer.tokenize(args, PREFIX_PIVOTROW, PREFIX_PIVOTCOLUMN, PREFIX_PIVOTMEASURE, PREFIX_TOPK);
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             return new GenerateAnalyticsCommand();
-        } else {
-            JobListName listName;
+        } else if (trimmedArgs.equals(GenerateAnalyticsReportCommand.ALL_JOBS_KEYWORD)) {
+            return new GenerateAnalyticsReportCommand();
+        }
+
+        boolean isPivot = argMultimap.getValue(PREFIX_PIVOTROW).isPresent();
+        boolean hasPivotOptions = argMultimap.getValue(PREFIX_PIVOTCOLUMN).isPresent()
+            || argMultimap.getValue(PREFIX_PIVOTMEASURE).isPresent();
+        if (isPivot ? argMultimap.getValue(PREFIX_TOPK).isPresent() : hasPivotOptions) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    GenerateAnalyticsCommand.MESSAGE_USAGE));
+        }
+
+        JobListName listName = JobListName.STUB;
+        if (!argMultimap.getPreamble().isEmpty()) {
             try {
                 listName = ParserUtil.parseJobListName(argMultimap.getPreamble());
             } catch (ParseException pe) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                         GenerateAnalyticsCommand.MESSAGE_USAGE), pe);
             }
-            return new GenerateAnalyticsCommand(listName);
+        }
+        if (!isPivot) {
+            return new GenerateAnalyticsCommand(listName, parseMaxCategories(argMultimap));
+        }
+
+        PivotField rowField = parsePivotField(argMultimap.getValue(PREFIX_PIVOTROW).get());
+        PivotField columnField = null;
+        if (argMultimap.getValue(PREFIX_PIVOTCOLUMN).isPresent()) {
+            columnField = parsePivotField(argMultimap.getValue(PREFIX_PIVOTCOLUMN).get());
+        }
+        PivotMeasure measure = PivotMeasure.COUNT;
+        if (argMultimap.getValue(PREFIX_PIVOTMEASURE).isPresent()) {
+            try {
+                measure = PivotMeasure.valueOf(
+                    argMultimap.getValue(PREFIX_PIVOTMEASURE).get().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException iae) {
+                throw new ParseException(MESSAGE_INVALID_PIVOT_MEASURE, iae);
+            }
+        }
+        return new GenerateAnalyticsCommand(listName, new PivotQuery(rowField, columnField, measure));
+    }
+
+    /**
+     * Parses the number of most common categories to chart given in {@code argMultimap}, or the default if none is
+     * given.
+     *
+     * @throws ParseException if the number given is not a positive integer
+     */
+    private static int parseMaxCategories(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getValue(PREFIX_TOPK).isPresent()) {
+            return GenerateAnalyticsCommand.DEFAULT_MAX_CATEGORIES;
+        }
+        String maxCategories = argMultimap.getValue(PREFIX_TOPK).get();
+        if (!StringUtil.isNonZeroUnsignedInteger(maxCategories)) {
+            throw new ParseException(MESSAGE_INVALID_MAX_CATEGORIES);
+        }
+        return Integer.parseInt(maxCategories);
+    }
+
+    /**
+     * Parses {@code field} into a {@code PivotField}.
+     *
+     * @throws ParseException if {@code field} is not the name of a pivot field
+     */
+    private static PivotField parsePivotField(String field) throws ParseException {
+        try {
+            return PivotField.valueOf(field.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException(MESSAGE_INVALID_PIVOT_FIELD, iae);
         }
     }
 }
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOBNAME;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.commands.AppendInterviewsCommand;
+import seedu.address.logic.commands.GenerateInterviewsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AppendInterviewsCommand object
+ */
+public class AppendInterviewsCommandParser implements Parser<AppendInterviewsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AppendInterviewsCommand
+     * and returns an AppendInterviewsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AppendInterviewsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_JOBNAME);
+
+        List<String> jobNames = argMultimap.getAllValues(PREFIX_JOBNAME);
+        String preamble = argMultimap.getPreamble();
+        if (preamble.equals(GenerateInterviewsCommand.EVERY_JOB_KEYWORD) && jobNames.isEmpty()) {
+            return new AppendInterviewsCommand(Collections.emptyList());
+        }
+        if (!preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AppendInterviewsCommand.MESSAGE_USAGE));
+        }
+
+        if (jobNames.isEmpty()) {
+            return new AppendInterviewsCommand();
+        }
+        return new AppendInterviewsCommand(ParserUtil.parseJobNames(jobNames));
+    }
+
+}
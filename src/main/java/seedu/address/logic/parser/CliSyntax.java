@@ -29,5 +29,16 @@ public class CliSyntax {
     public static final Prefix PREFIX_JOBNAME = new Prefix("jn/");
     public static final Prefix PREFIX_FILTERNAME = new Prefix("fn/");
     public static final Prefix PREFIX_LISTNUMBER = new Prefix("ln/");
+    public static final Prefix PREFIX_MATCHMODE = new Prefix("mode/");
+    public static final Prefix PREFIX_TOPK = new Prefix("k/");
+    public static final Prefix PREFIX_SORTBY = new Prefix("by/");
+    public static final Prefix PREFIX_PIVOTROW = new Prefix("row/");
+    public static final Prefix PREFIX_PIVOTCOLUMN = new Prefix("col/");
+    public static final Prefix PREFIX_PIVOTMEASURE = new Prefix("val/");
+    public static final Prefix PREFIX_DAYSTART = new Prefix("start/");
+    public static final Prefix PREFIX_DAYEND = new Prefix("end/");
+    public static final Prefix PREFIX_SLOTLENGTH = new Prefix("len/");
+    public static final Prefix PREFIX_ROOMS = new Prefix("rooms/");
+    public static final Prefix PREFIX_CAPACITY = new Prefix("cap/");
 
 }
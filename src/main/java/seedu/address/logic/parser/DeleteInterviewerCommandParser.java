@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import seedu.address.logic.commands.DeleteInterviewerCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteInterviewerCommand object
+ */
+public class DeleteInterviewerCommandParser implements Parser<DeleteInterviewerCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteInterviewerCommand
+     * and returns an DeleteInterviewerCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteInterviewerCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+
+        if (!argMultimap.getValue(PREFIX_NAME).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    DeleteInterviewerCommand.MESSAGE_USAGE));
+        }
+
+        return new DeleteInterviewerCommand(ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get()));
+    }
+
+}
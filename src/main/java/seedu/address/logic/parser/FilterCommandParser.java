@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.commands.FilterCommand.MESSAGE_INVALID_MATCH_MODE;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_INVALID_RANGE;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_LACK_FILTERNAME;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_USAGE_ALLJOB_SCREEN;
@@ -18,6 +19,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ5;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_JOBSAPPLY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_KNOWNPROGLANG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCHMODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PASTJOB;
@@ -30,8 +32,10 @@ import static seedu.address.logic.parser.ParserUtil.isValidValueRange;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 
 import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FilterCommand.MatchMode;
 import seedu.address.logic.commands.FilterCommand.PredicatePersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.job.JobListName;
@@ -54,7 +58,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                 PREFIX_SCHOOL, PREFIX_MAJOR, PREFIX_PASTJOB, PREFIX_TAG, PREFIX_GENDER, PREFIX_GRADE,
                 PREFIX_NRIC, PREFIX_JOBSAPPLY, PREFIX_KNOWNPROGLANG, PREFIX_INTERVIEWSCORESQ1,
                 PREFIX_INTERVIEWSCORESQ2, PREFIX_INTERVIEWSCORESQ3, PREFIX_INTERVIEWSCORESQ4,
-                PREFIX_INTERVIEWSCORESQ5, PREFIX_FILTERNAME);
+                PREFIX_INTERVIEWSCORESQ5, PREFIX_FILTERNAME, PREFIX_MATCHMODE);
         JobListName listName;
         String commandName;
         String preambleString = argMultimap.getPreamble();
@@ -72,6 +76,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException(String.format(MESSAGE_LACK_FILTERNAME,
                 MESSAGE_USAGE_ALLJOB_SCREEN + MESSAGE_USAGE_JOB_DETAIL_SCREEN));
         }
+        parseMatchMode(predicatePersonDescriptor, argMultimap);
         parseEmail(predicatePersonDescriptor, argMultimap);
         parseAddress(predicatePersonDescriptor, argMultimap);
         parseGender(predicatePersonDescriptor, argMultimap);
@@ -94,6 +99,28 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         return new FilterCommand(commandName, listName, predicatePersonDescriptor);
     }
 
+    /**
+     * parse the match mode to the Predicate Descriptor if it exists, keyword matching is by whole word by default
+     *
+     * @param predicatePersonDescriptor the predicate descriptor
+     * @param argMultimap               the argMultimap contains value for each fields
+     * @throws ParseException if the match mode is not one of word, substring or phonetic
+     */
+    private void parseMatchMode(PredicatePersonDescriptor predicatePersonDescriptor, ArgumentMultimap argMultimap)
+        throws ParseException {
+        requireNonNull(argMultimap);
+        requireNonNull(predicatePersonDescriptor);
+        if (!argMultimap.getValue(PREFIX_MATCHMODE).isPresent()) {
+            return;
+        }
+        String matchMode = argMultimap.getValue(PREFIX_MATCHMODE).get().trim().toUpperCase(Locale.ROOT);
+        try {
+            predicatePersonDescriptor.setMatchMode(MatchMode.valueOf(matchMode));
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException(MESSAGE_INVALID_MATCH_MODE, iae);
+        }
+    }
+
     /**
      * parse Name field to the Predicate Descriptor if field exist
      *
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+
+import seedu.address.logic.commands.FindInterviewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindInterviewCommand object
+ */
+public class FindInterviewCommandParser implements Parser<FindInterviewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindInterviewCommand
+     * and returns an FindInterviewCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindInterviewCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NRIC);
+
+        if (!argMultimap.getValue(PREFIX_NRIC).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    FindInterviewCommand.MESSAGE_USAGE));
+        }
+
+        return new FindInterviewCommand(ParserUtil.parseNric(argMultimap.getValue(PREFIX_NRIC).get()));
+    }
+
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOBNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORTBY;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.GenerateInterviewsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interviews.InterviewOrder;
+
+/**
+ * Parses input arguments and creates a new GenerateInterviewsCommand object
+ */
+public class GenerateInterviewsCommandParser implements Parser<GenerateInterviewsCommand> {
+
+    public static final String MESSAGE_INVALID_ORDER =
+        "Interview orders should be one of listed or score, e.g. " + PREFIX_SORTBY + "score";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GenerateInterviewsCommand
+     * and returns an GenerateInterviewsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GenerateInterviewsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_JOBNAME, PREFIX_SORTBY);
+
+        InterviewOrder order = InterviewOrder.LISTED;
+        if (argMultimap.getValue(PREFIX_SORTBY).isPresent()) {
+            order = parseOrder(argMultimap.getValue(PREFIX_SORTBY).get());
+        }
+        List<String> jobNames = argMultimap.getAllValues(PREFIX_JOBNAME);
+        String preamble = argMultimap.getPreamble();
+        if (preamble.equals(GenerateInterviewsCommand.EVERY_JOB_KEYWORD) && jobNames.isEmpty()) {
+            return new GenerateInterviewsCommand(Collections.emptyList(), order);
+        }
+        if (!preamble.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    GenerateInterviewsCommand.MESSAGE_USAGE));
+        }
+
+        if (jobNames.isEmpty()) {
+            return new GenerateInterviewsCommand(order);
+        }
+        return new GenerateInterviewsCommand(ParserUtil.parseJobNames(jobNames), order);
+    }
+
+    /**
+     * Parses {@code order} into an {@code InterviewOrder}, ignoring case and leading and trailing whitespace.
+     *
+     * @throws ParseException if {@code order} is not an interview order
+     */
+    private static InterviewOrder parseOrder(String order) throws ParseException {
+        try {
+            return InterviewOrder.valueOf(order.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException(MESSAGE_INVALID_ORDER, iae);
+        }
+    }
+
+}
@@ -1,10 +1,6 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.interviews.Interviews.HOUR;
-import static seedu.address.model.interviews.Interviews.MILLISECOND;
-import static seedu.address.model.interviews.Interviews.MINUTE;
-import static seedu.address.model.interviews.Interviews.SECOND;
 import static seedu.address.model.job.JobListName.APPLICANT_NAME;
 import static seedu.address.model.job.JobListName.APPLICANT_PREFIX;
 import static seedu.address.model.job.JobListName.INTERVIEW_NAME;
@@ -14,11 +10,11 @@ import static seedu.address.model.job.JobListName.KIV_PREFIX;
 import static seedu.address.model.job.JobListName.SHORTLIST_NAME;
 import static seedu.address.model.job.JobListName.SHORTLIST_PREFIX;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collection;
-import java.util.GregorianCalendar;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -26,8 +22,11 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.interviews.Interviewer;
 import seedu.address.model.job.JobListName;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.RankWeights;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Gender;
@@ -54,6 +53,12 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_MAX_INTERVIEWS_A_DAY =
             "Maximum number of interviews a day is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_DATE = "Not a valid date.";
+    public static final String MESSAGE_INVALID_TIME = "Times should be in the form HH:MM, e.g. 09:30";
+    public static final String MESSAGE_INVALID_SLOT_LENGTH = "Slot length is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_ROOMS = "Number of rooms is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_UNAVAILABILITY =
+            "Unavailable times should be dates, date ranges or a date followed by a time range, e.g. "
+            + "01/04/2019, 03/04/2019 - 05/04/2019, 08/04/2019 09:00-12:00";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -383,6 +388,21 @@ public class ParserUtil {
         return new JobName(trimmedName);
     }
 
+    /**
+     * Parses {@code Collection<String> names} into a {@code List<JobName>}, keeping their order and dropping repeats.
+     */
+    public static List<JobName> parseJobNames(Collection<String> names) throws ParseException {
+        requireNonNull(names);
+        final List<JobName> jobNames = new ArrayList<>();
+        for (String name : names) {
+            JobName jobName = parseJobName(name);
+            if (!jobNames.contains(jobName)) {
+                jobNames.add(jobName);
+            }
+        }
+        return jobNames;
+    }
+
     /**
      * Parses a {@code String name} into a {@code int}.
      * Leading and trailing whitespaces will be trimmed.
@@ -399,38 +419,45 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code String name} into a {@code List<Calendar>}.
+     * Parses a {@code String weight} into a {@code float}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code weight} is not a finite number.
+     */
+    public static float parseWeight(String weight) throws ParseException {
+        requireNonNull(weight);
+        String trimmedWeight = weight.trim();
+        if (!trimmedWeight.matches("-?\\d+(\\.\\d+)?")) {
+            throw new ParseException(RankWeights.MESSAGE_CONSTRAINTS);
+        }
+        float value = Float.parseFloat(trimmedWeight);
+        if (!RankWeights.isValidWeight(value)) {
+            throw new ParseException(RankWeights.MESSAGE_CONSTRAINTS);
+        }
+        return value;
+    }
+
+    /**
+     * Parses a {@code String blockOutDates} into a {@code List<LocalDate>}.
      * Leading and trailing whitespaces will be trimmed.
      *
      * @throws ParseException if the given {@code blockOutDates} is invalid.
      */
-    public static List<Calendar> parseBlockOutDates(String blockOutDates) throws ParseException {
+    public static List<LocalDate> parseBlockOutDates(String blockOutDates) throws ParseException {
         requireNonNull(blockOutDates);
-        List<Calendar> result = new ArrayList<>();
+        List<LocalDate> result = new ArrayList<>();
         String trimmedBlockOutDates = blockOutDates.trim();
         String[] stringArray = trimmedBlockOutDates.split(",");
-        for (String date : stringArray) {
-
-            int day = Integer.parseInt(date.substring(0, 2));
-            int month = Integer.parseInt(date.substring(3, 5));
-            int year = Integer.parseInt(date.substring(6, 10));
-            Calendar currentCalendar = new GregorianCalendar(year, month - 1, day, HOUR, MINUTE, SECOND);
-            currentCalendar.set(Calendar.MILLISECOND, MILLISECOND);
-
+        for (String untrimmedDate : stringArray) {
+            String date = untrimmedDate.trim();
             if (isValidDateRange(date)) {
-                int endDay = Integer.parseInt(date.substring(13, 15));
-                int endMonth = Integer.parseInt(date.substring(16, 18));
-                int endYear = Integer.parseInt(date.substring(19, 23));
-                Calendar endCalendar = new GregorianCalendar(endYear, endMonth - 1, endDay, HOUR, MINUTE, SECOND);
-                endCalendar.set(Calendar.MILLISECOND, MILLISECOND);
-                while (currentCalendar.compareTo(endCalendar) < 0) {
-                    result.add(currentCalendar);
-                    currentCalendar = (Calendar) currentCalendar.clone();
-                    currentCalendar.add(Calendar.DATE, 1);
+                LocalDate endDate = toLocalDate(date.substring(13, 23));
+                for (LocalDate current = toLocalDate(date.substring(0, 10)); !current.isAfter(endDate);
+                     current = current.plusDays(1)) {
+                    result.add(current);
                 }
-                result.add(endCalendar);
             } else if (isValidDate(date)) {
-                result.add(currentCalendar);
+                result.add(toLocalDate(date));
             } else {
                 throw new ParseException(MESSAGE_INVALID_DATE);
             }
@@ -438,6 +465,128 @@ public class ParserUtil {
         return result;
     }
 
+    /**
+     * Parses a {@code String date} in the form DD/MM/YYYY into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!isValidDate(trimmedDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+        return toLocalDate(trimmedDate);
+    }
+
+    /**
+     * Parses a {@code String time} in the form HH:MM into a {@code LocalTime}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code time} is invalid.
+     */
+    public static LocalTime parseTime(String time) throws ParseException {
+        requireNonNull(time);
+        String trimmedTime = time.trim();
+        if (!trimmedTime.matches("\\d\\d:\\d\\d")) {
+            throw new ParseException(MESSAGE_INVALID_TIME);
+        }
+        int hour = Integer.parseInt(trimmedTime.substring(0, 2));
+        int minute = Integer.parseInt(trimmedTime.substring(3, 5));
+        if (hour > 23 || minute > 59) {
+            throw new ParseException(MESSAGE_INVALID_TIME);
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Parses a {@code String slotLength} in minutes into an {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code slotLength} is not a non-zero unsigned integer.
+     */
+    public static int parseSlotLength(String slotLength) throws ParseException {
+        requireNonNull(slotLength);
+        String trimmedSlotLength = slotLength.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedSlotLength)) {
+            throw new ParseException(MESSAGE_INVALID_SLOT_LENGTH);
+        }
+        return Integer.parseInt(trimmedSlotLength);
+    }
+
+    /**
+     * Parses a {@code String rooms} into an {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code rooms} is not a non-zero unsigned integer.
+     */
+    public static int parseRooms(String rooms) throws ParseException {
+        requireNonNull(rooms);
+        String trimmedRooms = rooms.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedRooms)) {
+            throw new ParseException(MESSAGE_INVALID_ROOMS);
+        }
+        return Integer.parseInt(trimmedRooms);
+    }
+
+    /**
+     * Parses a {@code String dailyCapacity} into an {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dailyCapacity} is not a non-zero unsigned integer.
+     */
+    public static int parseDailyCapacity(String dailyCapacity) throws ParseException {
+        requireNonNull(dailyCapacity);
+        String trimmedDailyCapacity = dailyCapacity.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDailyCapacity)) {
+            throw new ParseException(Interviewer.MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedDailyCapacity);
+    }
+
+    /**
+     * Parses a {@code String unavailability} of comma separated dates, date ranges or dates followed by a time range
+     * into an {@code IntervalSet}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code unavailability} is invalid.
+     */
+    public static IntervalSet parseUnavailability(String unavailability) throws ParseException {
+        requireNonNull(unavailability);
+        IntervalSet result = new IntervalSet();
+        for (String untrimmedEntry : unavailability.trim().split(",")) {
+            String entry = untrimmedEntry.trim();
+            if (isValidDateRange(entry)) {
+                result.addDays(toLocalDate(entry.substring(0, 10)), toLocalDate(entry.substring(13, 23)));
+            } else if (isValidDate(entry)) {
+                result.addDays(toLocalDate(entry), toLocalDate(entry));
+            } else if (entry.matches("\\d\\d/\\d\\d/\\d\\d\\d\\d \\d\\d:\\d\\d ?- ?\\d\\d:\\d\\d")
+                    && isValidDate(entry.substring(0, 10))) {
+                LocalDate date = toLocalDate(entry.substring(0, 10));
+                String[] times = entry.substring(11).split("-");
+                LocalTime start = parseTime(times[0]);
+                LocalTime end = parseTime(times[1]);
+                if (!end.isAfter(start)) {
+                    throw new ParseException(MESSAGE_INVALID_UNAVAILABILITY);
+                }
+                result.add(IntervalSet.toEpochMinute(date, start), IntervalSet.toEpochMinute(date, end));
+            } else {
+                throw new ParseException(MESSAGE_INVALID_UNAVAILABILITY);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code LocalDate} of {@code date}, which must be a valid date in the form dd/mm/yyyy.
+     */
+    private static LocalDate toLocalDate(String date) {
+        int day = Integer.parseInt(date.substring(0, 2));
+        int month = Integer.parseInt(date.substring(3, 5));
+        int year = Integer.parseInt(date.substring(6, 10));
+        return LocalDate.of(year, month, day);
+    }
+
     /**
      * Returns a boolean testing for validity of date.
      */
@@ -452,6 +601,11 @@ public class ParserUtil {
 
         ArrayList<Integer> monthsWith30Days = new ArrayList<>(Arrays.asList(4, 6, 9, 11));
 
+        //Month and day check first
+        if (month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+
         //Leap year check
         if (month == 2) {
             if (isLeapYear(year)) {
@@ -461,12 +615,7 @@ public class ParserUtil {
             }
         }
 
-        //Month check first
-        if (month > 12) {
-            return false;
-        }
-
-        if (day < 1 || day > 31) {
+        if (day > 31) {
             return false;
         } else if (monthsWith30Days.contains(month) && day > 30) {
             return false;
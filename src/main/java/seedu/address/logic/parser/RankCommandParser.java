@@ -0,0 +1,89 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ1;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ2;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ3;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ4;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INTERVIEWSCORESQ5;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_KNOWNPROGLANG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOPK;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RankCommand.RankWeightsDescriptor;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.JobListName;
+
+/**
+ * Parses input arguments and creates a new RankCommand object
+ */
+public class RankCommandParser implements Parser<RankCommand> {
+
+    public static final String MESSAGE_INVALID_TOP_K = "K should be a positive integer.";
+    public static final String MESSAGE_INVALID_PROG_LANG_WEIGHT =
+        "Programming language weights should be in the form LANGUAGE=WEIGHT, where LANGUAGE is not blank, "
+            + "e.g. " + PREFIX_KNOWNPROGLANG + "Java=2 or " + PREFIX_KNOWNPROGLANG + "Visual Basic=1";
+
+    private static final Prefix[] INTERVIEW_PREFIXES = {PREFIX_INTERVIEWSCORESQ1, PREFIX_INTERVIEWSCORESQ2,
+        PREFIX_INTERVIEWSCORESQ3, PREFIX_INTERVIEWSCORESQ4, PREFIX_INTERVIEWSCORESQ5};
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RankCommand
+     * and returns an RankCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RankCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(args, PREFIX_TOPK, PREFIX_GRADE, PREFIX_INTERVIEWSCORESQ1,
+                PREFIX_INTERVIEWSCORESQ2, PREFIX_INTERVIEWSCORESQ3, PREFIX_INTERVIEWSCORESQ4,
+                PREFIX_INTERVIEWSCORESQ5, PREFIX_KNOWNPROGLANG);
+
+        JobListName listName;
+        try {
+            listName = ParserUtil.parseJobListName(argMultimap.getPreamble().trim());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(pe.getMessage(), RankCommand.MESSAGE_USAGE), pe);
+        }
+
+        int topK = RankCommand.DEFAULT_TOP_K;
+        if (argMultimap.getValue(PREFIX_TOPK).isPresent()) {
+            String topKString = argMultimap.getValue(PREFIX_TOPK).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(topKString)) {
+                throw new ParseException(MESSAGE_INVALID_TOP_K);
+            }
+            topK = Integer.parseInt(topKString);
+        }
+
+        RankWeightsDescriptor rankWeightsDescriptor = new RankWeightsDescriptor();
+        if (argMultimap.getValue(PREFIX_GRADE).isPresent()) {
+            rankWeightsDescriptor.setGradeWeight(ParserUtil.parseWeight(argMultimap.getValue(PREFIX_GRADE).get()));
+        }
+        for (int questionNum = 1; questionNum <= INTERVIEW_PREFIXES.length; questionNum++) {
+            Prefix prefix = INTERVIEW_PREFIXES[questionNum - 1];
+            if (argMultimap.getValue(prefix).isPresent()) {
+                rankWeightsDescriptor.setInterviewWeight(questionNum,
+                    ParserUtil.parseWeight(argMultimap.getValue(prefix).get()));
+            }
+        }
+        if (!argMultimap.getAllValues(PREFIX_KNOWNPROGLANG).isEmpty()) {
+            Map<String, Float> progLangWeights = new HashMap<>();
+            for (String progLangWeight : argMultimap.getAllValues(PREFIX_KNOWNPROGLANG)) {
+                String[] parts = progLangWeight.split("=");
+                if (parts.length != 2 || parts[0].trim().isEmpty()) {
+                    throw new ParseException(MESSAGE_INVALID_PROG_LANG_WEIGHT);
+                }
+                progLangWeights.put(parts[0].trim(), ParserUtil.parseWeight(parts[1]));
+            }
+            rankWeightsDescriptor.setProgLangWeights(progLangWeights);
+        }
+
+        return new RankCommand(listName, topK, rankWeightsDescriptor);
+    }
+}
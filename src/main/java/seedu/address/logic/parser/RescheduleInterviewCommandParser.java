@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+
+import seedu.address.logic.commands.RescheduleInterviewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Nric;
+
+/**
+ * Parses input arguments and creates a new RescheduleInterviewCommand object
+ */
+public class RescheduleInterviewCommandParser implements Parser<RescheduleInterviewCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RescheduleInterviewCommand
+     * and returns an RescheduleInterviewCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RescheduleInterviewCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NRIC);
+
+        if (!argMultimap.getValue(PREFIX_NRIC).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    RescheduleInterviewCommand.MESSAGE_USAGE));
+        }
+
+        Nric nric = ParserUtil.parseNric(argMultimap.getValue(PREFIX_NRIC).get());
+        if (argMultimap.getPreamble().isEmpty()) {
+            return new RescheduleInterviewCommand(nric);
+        }
+        return new RescheduleInterviewCommand(nric, ParserUtil.parseDate(argMultimap.getPreamble()));
+    }
+
+}
@@ -1,25 +1,34 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.List;
 
 import seedu.address.logic.commands.SetBlockOutDatesCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.person.Nric;
 
 /**
  * Parses input arguments and creates a new SetBlockOutDatesCommand object.
  */
 public class SetBlockOutDatesCommandParser implements Parser<SetBlockOutDatesCommand> {
     /**
-     * Parses the given {@code String} of arguments in the context of the SetMaxInterviewsADayCommand
-     * and returns an SetMaxInterviewsADayCommand object for execution.
+     * Parses the given {@code String} of arguments in the context of the SetBlockOutDatesCommand
+     * and returns an SetBlockOutDatesCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SetBlockOutDatesCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NRIC);
         try {
-            List<Calendar> value = ParserUtil.parseBlockOutDates(args);
+            if (argMultimap.getValue(PREFIX_NRIC).isPresent()) {
+                Nric nric = ParserUtil.parseNric(argMultimap.getValue(PREFIX_NRIC).get());
+                IntervalSet unavailability = ParserUtil.parseUnavailability(argMultimap.getPreamble());
+                return new SetBlockOutDatesCommand(nric, unavailability);
+            }
+            List<LocalDate> value = ParserUtil.parseBlockOutDates(args);
             return new SetBlockOutDatesCommand(value);
         } catch (ParseException pe) {
             throw new ParseException(
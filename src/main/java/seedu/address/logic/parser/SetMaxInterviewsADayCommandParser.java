@@ -1,8 +1,13 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYEND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAYSTART;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOMS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SLOTLENGTH;
 
 import seedu.address.logic.commands.SetMaxInterviewsADayCommand;
+import seedu.address.logic.commands.SetMaxInterviewsADayCommand.SlotSettingsDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -15,13 +20,32 @@ public class SetMaxInterviewsADayCommandParser implements Parser<SetMaxInterview
      * @throws ParseException if the user input does not conform the expected format
      */
     public SetMaxInterviewsADayCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+            ArgumentTokenizer.tokenize(args, PREFIX_DAYSTART, PREFIX_DAYEND, PREFIX_SLOTLENGTH, PREFIX_ROOMS);
+
+        int value;
         try {
-            int value = ParserUtil.parseMaxInterviewsADay(args);
-            return new SetMaxInterviewsADayCommand(value);
+            value = ParserUtil.parseMaxInterviewsADay(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetMaxInterviewsADayCommand.MESSAGE_USAGE), pe);
         }
+
+        SlotSettingsDescriptor slotSettingsDescriptor = new SlotSettingsDescriptor();
+        if (argMultimap.getValue(PREFIX_DAYSTART).isPresent()) {
+            slotSettingsDescriptor.setDayStart(ParserUtil.parseTime(argMultimap.getValue(PREFIX_DAYSTART).get()));
+        }
+        if (argMultimap.getValue(PREFIX_DAYEND).isPresent()) {
+            slotSettingsDescriptor.setDayEnd(ParserUtil.parseTime(argMultimap.getValue(PREFIX_DAYEND).get()));
+        }
+        if (argMultimap.getValue(PREFIX_SLOTLENGTH).isPresent()) {
+            slotSettingsDescriptor.setSlotMinutes(
+                ParserUtil.parseSlotLength(argMultimap.getValue(PREFIX_SLOTLENGTH).get()));
+        }
+        if (argMultimap.getValue(PREFIX_ROOMS).isPresent()) {
+            slotSettingsDescriptor.setRooms(ParserUtil.parseRooms(argMultimap.getValue(PREFIX_ROOMS).get()));
+        }
+        return new SetMaxInterviewsADayCommand(value, slotSettingsDescriptor);
     }
 
 }
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.commands.SimulateInterviewsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.interviews.InterviewScenario;
+
+/**
+ * Parses input arguments and creates a new SimulateInterviewsCommand object
+ */
+public class SimulateInterviewsCommandParser implements Parser<SimulateInterviewsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SimulateInterviewsCommand
+     * and returns an SimulateInterviewsCommand object for execution.
+     * Scenarios are separated by {@link SimulateInterviewsCommand#SCENARIO_SEPARATOR}, and each is a maximum
+     * number of interviews a day optionally followed by block out dates.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SimulateInterviewsCommand parse(String args) throws ParseException {
+        List<InterviewScenario> scenarios = new ArrayList<>();
+        try {
+            for (String scenario : args.split(SimulateInterviewsCommand.SCENARIO_SEPARATOR)) {
+                scenarios.add(parseScenario(scenario));
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateInterviewsCommand.MESSAGE_USAGE), pe);
+        }
+        return new SimulateInterviewsCommand(scenarios);
+    }
+
+    /**
+     * Parses a scenario, a maximum number of interviews a day optionally followed by block out dates.
+     */
+    private static InterviewScenario parseScenario(String scenario) throws ParseException {
+        String[] maxAndDates = scenario.trim().split("\\s+", 2);
+        int maxInterviewsADay = ParserUtil.parseMaxInterviewsADay(maxAndDates[0]);
+        List<LocalDate> blockOutDates = maxAndDates.length > 1
+            ? ParserUtil.parseBlockOutDates(maxAndDates[1])
+            : Collections.emptyList();
+        return new InterviewScenario(maxInterviewsADay, blockOutDates);
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORTBY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.JobListName;
+import seedu.address.model.person.PersonComparator;
+import seedu.address.model.person.SortField;
+
+/**
+ * Parses input arguments and creates a new SortCommand object
+ */
+public class SortCommandParser implements Parser<SortCommand> {
+
+    public static final String MESSAGE_INVALID_SORT_FIELD =
+        "Sort fields should be one of name, grade, score or school, optionally followed by asc or desc, "
+            + "e.g. " + PREFIX_SORTBY + "grade desc";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortCommand
+     * and returns an SortCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SortCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORTBY);
+
+        JobListName listName;
+        try {
+            listName = ParserUtil.parseJobListName(argMultimap.getPreamble().trim());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(pe.getMessage(), SortCommand.MESSAGE_USAGE), pe);
+        }
+
+        List<String> sortFields = argMultimap.getAllValues(PREFIX_SORTBY);
+        if (sortFields.isEmpty()) {
+            return new SortCommand(listName, null);
+        }
+
+        List<SortField> fields = new ArrayList<>();
+        List<Boolean> isDescending = new ArrayList<>();
+        for (String sortField : sortFields) {
+            String[] words = sortField.trim().toUpperCase(Locale.ROOT).split("\\s+");
+            if (words.length > 2 || (words.length == 2 && !words[1].equals("ASC") && !words[1].equals("DESC"))) {
+                throw new ParseException(MESSAGE_INVALID_SORT_FIELD);
+            }
+            try {
+                fields.add(SortField.valueOf(words[0]));
+            } catch (IllegalArgumentException iae) {
+                throw new ParseException(MESSAGE_INVALID_SORT_FIELD, iae);
+            }
+            isDescending.add(words.length == 2 && words[1].equals("DESC"));
+        }
+        return new SortCommand(listName, new PersonComparator(fields, isDescending));
+    }
+}
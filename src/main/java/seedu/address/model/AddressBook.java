@@ -2,19 +2,31 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.interviews.Interviewer;
 import seedu.address.model.interviews.Interviews;
+import seedu.address.model.interviews.SlotSettings;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobListName;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.RankWeights;
 import seedu.address.model.job.UniqueJobList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticIndex;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.UniqueNricMap;
 import seedu.address.model.person.UniquePersonList;
 
@@ -27,6 +39,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniqueNricMap nrics;
     private final UniquePersonList persons;
+    /** Built from the persons on the first substring search only, so copies kept for undo never index them. */
+    private final TrigramIndex trigrams;
+    private boolean isTrigramIndexBuilt;
+    /** Built from the persons on the first sounds-like search only, like {@code trigrams}. */
+    private final PhoneticIndex phoneticNames;
+    private boolean isPhoneticIndexBuilt;
     private final UniqueJobList jobs;
     private final Interviews interviews;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
@@ -41,6 +59,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         nrics = new UniqueNricMap();
+        trigrams = new TrigramIndex();
+        phoneticNames = new PhoneticIndex();
         jobs = new UniqueJobList();
         interviews = new Interviews();
     }
@@ -65,6 +85,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
         this.nrics.setNricMap(persons);
+        if (isTrigramIndexBuilt) {
+            this.trigrams.setPersons(persons);
+        }
+        if (isPhoneticIndexBuilt) {
+            this.phoneticNames.setPersons(persons);
+        }
         indicateModified();
     }
 
@@ -77,8 +103,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         indicateModified();
     }
 
-    public void setBlockOutDates(List<Calendar> blockOutDates) {
+    public void setBlockOutDates(List<LocalDate> blockOutDates) {
         this.interviews.setBlockOutDates(blockOutDates);
+        indicateModified();
     }
 
     /**
@@ -109,6 +136,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addPerson(Person p) {
         persons.add(p);
         nrics.add(p.getNric(), p);
+        if (isTrigramIndexBuilt) {
+            trigrams.add(p);
+        }
+        if (isPhoneticIndexBuilt) {
+            phoneticNames.add(p);
+        }
         indicateModified();
     }
 
@@ -205,6 +238,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         return job.move(person, source, dest);
     }
 
+    /**
+     * Saves {@code rankWeights} as the weights used to rank candidates for the job named {@code jobName}.
+     * The job must exist in the address book.
+     */
+    public void setRankWeights(JobName jobName, RankWeights rankWeights) {
+        requireNonNull(rankWeights);
+        Job job = jobs.getJob(jobName);
+        job.setRankWeights(rankWeights);
+        this.jobs.setJob(job, job);
+        indicateModified();
+    }
+
     /**
      * Returns true if a job with the same identity as {@code job} exists in the address book.
      */
@@ -223,6 +268,13 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         persons.setPerson(target, editedPerson);
         nrics.setPerson(target, editedPerson);
+        if (isTrigramIndexBuilt) {
+            trigrams.setPerson(target, editedPerson);
+        }
+        if (isPhoneticIndexBuilt) {
+            phoneticNames.setPerson(target, editedPerson);
+        }
+        interviews.setPerson(target, editedPerson);
         indicateModified();
     }
 
@@ -244,6 +296,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removePerson(Person key) {
         persons.remove(key);
         nrics.remove(key.getNric());
+        if (isTrigramIndexBuilt) {
+            trigrams.remove(key);
+        }
+        if (isPhoneticIndexBuilt) {
+            phoneticNames.remove(key);
+        }
         jobs.removePerson(key);
         interviews.removePerson(key);
         indicateModified();
@@ -268,22 +326,158 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Generates interviews
+     * Generates interviews, booking persons in {@code order} under the default rank weights
+     * @return the persons no interviewer can interview
      */
-    public void generateInterviews() {
-        interviews.generate(getPersonList());
+    public List<Person> generateInterviews(InterviewOrder order) {
+        List<Person> unmatched = interviews.generate(order.arrange(getPersonList(), RankWeights.DEFAULT));
+        indicateModified();
+        return unmatched;
+    }
+
+    /**
+     * Generates interviews for the persons in the interview list of each job named in {@code jobNames}, or of every
+     * job if it is empty, booking the persons of each job in {@code order} under the rank weights of the job
+     * @return the persons no interviewer can interview
+     */
+    public List<Person> generateInterviews(List<JobName> jobNames, InterviewOrder order) {
+        Map<JobName, List<Person>> interviewLists = getInterviewLists(jobNames);
+        interviewLists.replaceAll((jobName, persons) -> order.arrange(persons, getJob(jobName).getRankWeights()));
+        List<Person> unmatched = interviews.generate(interviewLists);
+        indicateModified();
+        return unmatched;
+    }
+
+    /**
+     * Adds interviews for the persons without one
+     * @return the persons no interviewer can interview
+     */
+    public List<Person> appendInterviews() {
+        List<Person> unmatched = interviews.append(getPersonList());
+        indicateModified();
+        return unmatched;
+    }
+
+    /**
+     * Adds interviews for the persons without one for the job in the interview list of each job named in
+     * {@code jobNames}, or of every job if it is empty
+     * @return the persons no interviewer can interview
+     */
+    public List<Person> appendInterviews(List<JobName> jobNames) {
+        List<Person> unmatched = interviews.append(getInterviewLists(jobNames));
+        indicateModified();
+        return unmatched;
+    }
+
+    /**
+     * Returns the interview list of each job named in {@code jobNames}, or of every job if it is empty, in order.
+     */
+    private Map<JobName, List<Person>> getInterviewLists(List<JobName> jobNames) {
+        Map<JobName, List<Person>> interviewLists = new LinkedHashMap<>();
+        if (jobNames.isEmpty()) {
+            for (Job job : jobs) {
+                interviewLists.put(job.getName(), job.getList(2).asUnmodifiableObservableList());
+            }
+        }
+        for (JobName jobName : jobNames) {
+            interviewLists.put(jobName, getJob(jobName).getList(2).asUnmodifiableObservableList());
+        }
+        return interviewLists;
+    }
+
+    /**
+     * Moves interviews into the free slots before them
+     * @return the number of interviews moved
+     */
+    public int compactInterviews() {
+        int moves = interviews.compact();
+        indicateModified();
+        return moves;
+    }
+
+    /**
+     * Moves the interviews of the person with {@code nric} into the earliest free slots on or after {@code from}
+     * @return the interviews of the person after moving
+     */
+    public List<InterviewSlot> rescheduleInterview(Nric nric, LocalDate from) {
+        List<InterviewSlot> moved = interviews.reschedule(nric, from);
+        indicateModified();
+        return moved;
     }
 
     public Interviews getInterviews() {
         return interviews;
     }
 
+    /**
+     * Returns the trigram index over the persons list, indexing the persons first if it has not been used yet.
+     */
+    @Override
+    public TrigramIndex getTrigramIndex() {
+        if (!isTrigramIndexBuilt) {
+            trigrams.setPersons(getPersonList());
+            isTrigramIndexBuilt = true;
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the phonetic index over the names of the persons list, indexing the persons first if it has not been
+     * used yet.
+     */
+    @Override
+    public PhoneticIndex getPhoneticIndex() {
+        if (!isPhoneticIndexBuilt) {
+            phoneticNames.setPersons(getPersonList());
+            isPhoneticIndexBuilt = true;
+        }
+        return phoneticNames;
+    }
+
     public void setMaxInterviewsADay(int maxInterviewsADay) {
         interviews.setMaxInterviewsADay(maxInterviewsADay);
+        indicateModified();
+    }
+
+    public void setSlotSettings(SlotSettings slotSettings) {
+        interviews.setSlotSettings(slotSettings);
+        indicateModified();
+    }
+
+    /**
+     * Adds {@code times} to the times the person with {@code nric} cannot be interviewed at.
+     */
+    public void addUnavailability(Nric nric, IntervalSet times) {
+        interviews.addUnavailability(nric, times);
+        indicateModified();
     }
 
+    /**
+     * Removes every interview from the schedule.
+     */
     public void clearInterviews() {
         interviews.clear();
+        indicateModified();
+    }
+
+    public boolean hasInterviewer(Name name) {
+        return interviews.getInterviewers().stream().anyMatch(interviewer -> interviewer.getName().equals(name));
+    }
+
+    /**
+     * Adds {@code interviewer} to the roster, replacing the interviewer with the same name if there is one.
+     */
+    public void addInterviewer(Interviewer interviewer) {
+        interviews.addInterviewer(interviewer);
+        indicateModified();
+    }
+
+    /**
+     * Removes the interviewer named {@code name} from the roster.
+     */
+    public void removeInterviewer(Name name) {
+        interviews.removeInterviewer(name);
+        indicateModified();
     }
 
     @Override
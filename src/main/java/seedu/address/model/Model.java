@@ -1,18 +1,27 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.model.analytics.Analytics;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.interviews.Interviewer;
 import seedu.address.model.interviews.Interviews;
+import seedu.address.model.interviews.SlotSettings;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobListName;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.RankWeights;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.predicate.UniqueFilterList;
 
@@ -122,6 +131,12 @@ public interface Model {
      */
     Integer movePerson(Job job, Person person, Integer source, Integer dest);
 
+    /**
+     * Saves {@code rankWeights} as the weights used to rank candidates for the job named {@code jobName}.
+     * The job must exist in the address book.
+     */
+    void setRankWeights(JobName jobName, RankWeights rankWeights);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -139,6 +154,13 @@ public interface Model {
      */
     Job getActiveJob();
 
+    /**
+     * Sorts the person list {@code listName} with {@code comparator}.
+     * A null {@code comparator} restores the order in which the persons were added.
+     * The list stays sorted as persons are added, removed or edited.
+     */
+    void sortPersonList(JobListName listName, Comparator<Person> comparator);
+
     /**
      * Returns an unmodifiable view of the filtered  people list in job
      *
@@ -291,9 +313,43 @@ public interface Model {
     void setSelectedJob(Job job);
 
     /**
-     * Generates an interview list.
+     * Generates an interview list of every person, booking them in the given order.
+     * @return the persons no interviewer can interview
+     */
+    List<Person> generateInterviews(InterviewOrder order);
+
+    /**
+     * Generates interviews for the persons in the interview list of each of the given jobs, or of every job if
+     * {@code jobNames} is empty, booking the persons of each job in the given order under the rank weights of the job.
+     * The jobs must exist in the address book.
+     * @return the persons no interviewer can interview
+     */
+    List<Person> generateInterviews(List<JobName> jobNames, InterviewOrder order);
+
+    /**
+     * Adds interviews for every person without one, in the free slots after today.
+     * @return the persons no interviewer can interview
+     */
+    List<Person> appendInterviews();
+
+    /**
+     * Adds interviews for the persons without one for the job in the interview list of each of the given jobs, or of
+     * every job if {@code jobNames} is empty. The jobs must exist in the address book.
+     * @return the persons no interviewer can interview
+     */
+    List<Person> appendInterviews(List<JobName> jobNames);
+
+    /**
+     * Moves interviews into the free slots before them.
+     * @return the number of interviews moved
+     */
+    int compactInterviews();
+
+    /**
+     * Moves the interviews of the person with {@code nric} into the earliest free slots on or after {@code from}.
+     * @return the interviews after moving, which is empty if the person has no interview
      */
-    void generateInterviews();
+    List<InterviewSlot> rescheduleInterview(Nric nric, LocalDate from);
 
     /**
      * Returns Interviews.
@@ -305,21 +361,50 @@ public interface Model {
      */
     void setMaxInterviewsADay(int maxInterviewsADay);
 
+    /**
+     * Sets the time slots interviews are generated in.
+     */
+    void setSlotSettings(SlotSettings slotSettings);
+
+    /**
+     * Adds {@code times} to the times the person with {@code nric} cannot be interviewed at.
+     */
+    void addUnavailability(Nric nric, IntervalSet times);
+
     /**
      * Clears the generated interviews.
      */
     void clearInterviews();
 
+    /**
+     * Returns true if an interviewer named {@code name} is in the roster of interviewers.
+     */
+    boolean hasInterviewer(Name name);
+
+    /**
+     * Adds the given interviewer to the roster, replacing the interviewer with the same name if there is one.
+     */
+    void addInterviewer(Interviewer interviewer);
+
+    /**
+     * Removes the interviewer named {@code name} from the roster.
+     * The interviewer must be in the roster.
+     */
+    void deleteInterviewer(Name name);
+
     /**
      * Sets Block Out Dates.
      */
-    void setBlockOutDates(List<Calendar> blockOutDates);
+    void setBlockOutDates(List<LocalDate> blockOutDates);
 
     /**
-     * Generates analytics.
+     * Returns the analytics of the displayed persons.
      */
-    Analytics generateAnalytics();
+    AnalyticsResult generateAnalytics();
 
-    Analytics generateAnalytics(JobListName listName);
+    /**
+     * Returns the analytics of the persons in {@code listName} of the active job.
+     */
+    AnalyticsResult generateAnalytics(JobListName listName);
 
 }
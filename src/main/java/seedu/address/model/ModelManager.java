@@ -4,7 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -15,13 +16,23 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.analytics.Analytics;
+import seedu.address.model.analytics.AnalyticsAggregator;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.interviews.Interviewer;
 import seedu.address.model.interviews.Interviews;
+import seedu.address.model.interviews.SlotSettings;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobListName;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.RankWeights;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -48,6 +59,16 @@ public class ModelManager implements Model {
     private FilteredList<Person> activeJobKiv;
     private FilteredList<Person> activeJobInterview;
     private FilteredList<Person> activeJobShortlist;
+    private SortedList<Person> sortedDisplayedPersons;
+    private SortedList<Person> sortedActiveJobAllApplicants;
+    private SortedList<Person> sortedActiveJobKiv;
+    private SortedList<Person> sortedActiveJobInterview;
+    private SortedList<Person> sortedActiveJobShortlist;
+    private AnalyticsAggregator displayedPersonsAggregator;
+    private AnalyticsAggregator activeJobAllApplicantsAggregator;
+    private AnalyticsAggregator activeJobKivAggregator;
+    private AnalyticsAggregator activeJobInterviewAggregator;
+    private AnalyticsAggregator activeJobShortlistAggregator;
     private UniqueFilterList filterListAllPersons;
     private UniqueFilterList filterListJobAllApplicants;
     private UniqueFilterList filterListJobKiv;
@@ -79,6 +100,10 @@ public class ModelManager implements Model {
         activeJobKiv = new FilteredList<>(fakeList.asUnmodifiableObservableList());
         activeJobShortlist = new FilteredList<>(fakeList.asUnmodifiableObservableList());
         activeJobInterview = new FilteredList<>(fakeList.asUnmodifiableObservableList());
+        sortedDisplayedPersons = new SortedList<>(displayedFilteredPersons);
+        sortActiveJobLists();
+        displayedPersonsAggregator = new AnalyticsAggregator(displayedFilteredPersons);
+        aggregateActiveJobLists();
 
         filterListJobAllApplicants = new UniqueFilterList();
         filterListJobKiv = new UniqueFilterList();
@@ -242,6 +267,12 @@ public class ModelManager implements Model {
         return versionedAddressBook.movePerson(job, person, source, dest);
     }
 
+    @Override
+    public void setRankWeights(JobName jobName, RankWeights rankWeights) {
+        requireAllNonNull(jobName, rankWeights);
+        versionedAddressBook.setRankWeights(jobName, rankWeights);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -255,21 +286,57 @@ public class ModelManager implements Model {
     }
 
     public ObservableList<Person> getJobsList(JobListName list) {
+        return getSortedPersonList(list);
+    }
 
-        switch (list) {
+    /**
+     * Returns the sorted view of the person list {@code listName}.
+     */
+    private SortedList<Person> getSortedPersonList(JobListName listName) {
+        switch (listName) {
         case APPLICANT:
-            return activeJobAllApplicants;
+            return sortedActiveJobAllApplicants;
         case KIV:
-            return activeJobKiv;
+            return sortedActiveJobKiv;
         case INTERVIEW:
-            return activeJobInterview;
+            return sortedActiveJobInterview;
         case SHORTLIST:
-            return activeJobShortlist;
+            return sortedActiveJobShortlist;
         default:
-            return displayedFilteredPersons;
+            return sortedDisplayedPersons;
         }
     }
 
+    @Override
+    public void sortPersonList(JobListName listName, Comparator<Person> comparator) {
+        requireNonNull(listName);
+        getSortedPersonList(listName).setComparator(comparator);
+    }
+
+    /**
+     * Layers sorted views over the person lists of the active job, keeping the order each list was sorted in.
+     */
+    private void sortActiveJobLists() {
+        sortedActiveJobAllApplicants = new SortedList<>(activeJobAllApplicants,
+            sortedActiveJobAllApplicants == null ? null : sortedActiveJobAllApplicants.getComparator());
+        sortedActiveJobKiv = new SortedList<>(activeJobKiv,
+            sortedActiveJobKiv == null ? null : sortedActiveJobKiv.getComparator());
+        sortedActiveJobInterview = new SortedList<>(activeJobInterview,
+            sortedActiveJobInterview == null ? null : sortedActiveJobInterview.getComparator());
+        sortedActiveJobShortlist = new SortedList<>(activeJobShortlist,
+            sortedActiveJobShortlist == null ? null : sortedActiveJobShortlist.getComparator());
+    }
+
+    /**
+     * Starts keeping the analytics aggregates of each person list of the active job.
+     */
+    private void aggregateActiveJobLists() {
+        activeJobAllApplicantsAggregator = new AnalyticsAggregator(activeJobAllApplicants);
+        activeJobKivAggregator = new AnalyticsAggregator(activeJobKiv);
+        activeJobInterviewAggregator = new AnalyticsAggregator(activeJobInterview);
+        activeJobShortlistAggregator = new AnalyticsAggregator(activeJobShortlist);
+    }
+
     @Override
     public Job getJob(JobName name) {
         this.activeJob = versionedAddressBook.getJob(name);
@@ -281,6 +348,8 @@ public class ModelManager implements Model {
             new FilteredList<>(activeJob.getList(2).asUnmodifiableObservableList());
         this.activeJobShortlist =
             new FilteredList<>(activeJob.getList(3).asUnmodifiableObservableList());
+        sortActiveJobLists();
+        aggregateActiveJobLists();
         return activeJob;
     }
 
@@ -293,7 +362,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return displayedFilteredPersons;
+        return sortedDisplayedPersons;
     }
 
 
@@ -569,8 +638,37 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void generateInterviews() {
-        versionedAddressBook.generateInterviews();
+    public List<Person> generateInterviews(InterviewOrder order) {
+        requireNonNull(order);
+        return versionedAddressBook.generateInterviews(order);
+    }
+
+    @Override
+    public List<Person> generateInterviews(List<JobName> jobNames, InterviewOrder order) {
+        requireAllNonNull(jobNames, order);
+        return versionedAddressBook.generateInterviews(jobNames, order);
+    }
+
+    @Override
+    public List<Person> appendInterviews() {
+        return versionedAddressBook.appendInterviews();
+    }
+
+    @Override
+    public List<Person> appendInterviews(List<JobName> jobNames) {
+        requireNonNull(jobNames);
+        return versionedAddressBook.appendInterviews(jobNames);
+    }
+
+    @Override
+    public int compactInterviews() {
+        return versionedAddressBook.compactInterviews();
+    }
+
+    @Override
+    public List<InterviewSlot> rescheduleInterview(Nric nric, LocalDate from) {
+        requireAllNonNull(nric, from);
+        return versionedAddressBook.rescheduleInterview(nric, from);
     }
 
     @Override
@@ -583,44 +681,67 @@ public class ModelManager implements Model {
         versionedAddressBook.setMaxInterviewsADay(maxInterviewsADay);
     }
 
+    @Override
+    public void setSlotSettings(SlotSettings slotSettings) {
+        requireNonNull(slotSettings);
+        versionedAddressBook.setSlotSettings(slotSettings);
+    }
+
+    @Override
+    public void addUnavailability(Nric nric, IntervalSet times) {
+        requireAllNonNull(nric, times);
+        versionedAddressBook.addUnavailability(nric, times);
+    }
+
     @Override
     public void clearInterviews() {
         versionedAddressBook.clearInterviews();
     }
 
+    @Override
+    public boolean hasInterviewer(Name name) {
+        requireNonNull(name);
+        return versionedAddressBook.hasInterviewer(name);
+    }
+
+    @Override
+    public void addInterviewer(Interviewer interviewer) {
+        requireNonNull(interviewer);
+        versionedAddressBook.addInterviewer(interviewer);
+    }
+
+    @Override
+    public void deleteInterviewer(Name name) {
+        requireNonNull(name);
+        versionedAddressBook.removeInterviewer(name);
+    }
+
     /**
      * Obtains current viewed list and generate analytics based on it
      */
     @Override
-    public Analytics generateAnalytics() {
-        Analytics analytics = new Analytics(getFilteredPersonList());
-        return analytics;
+    public AnalyticsResult generateAnalytics() {
+        return displayedPersonsAggregator.toResult();
     }
 
     @Override
-    public Analytics generateAnalytics(JobListName listName) {
-        Analytics analytics;
+    public AnalyticsResult generateAnalytics(JobListName listName) {
         switch (listName) {
         case APPLICANT:
-            analytics = new Analytics(activeJobAllApplicants);
-            break;
+            return activeJobAllApplicantsAggregator.toResult();
         case KIV:
-            analytics = new Analytics(activeJobKiv);
-            break;
+            return activeJobKivAggregator.toResult();
         case INTERVIEW:
-            analytics = new Analytics(activeJobInterview);
-            break;
+            return activeJobInterviewAggregator.toResult();
         case SHORTLIST:
-            analytics = new Analytics(activeJobShortlist);
-            break;
+            return activeJobShortlistAggregator.toResult();
         default:
-            analytics = new Analytics(getFilteredPersonList());
+            return displayedPersonsAggregator.toResult();
         }
-        return analytics;
     }
 
     @Override
-    public void setBlockOutDates(List<Calendar> blockOutDates) {
+    public void setBlockOutDates(List<LocalDate> blockOutDates) {
         versionedAddressBook.setBlockOutDates(blockOutDates);
     }
 
@@ -5,6 +5,8 @@ import javafx.collections.ObservableList;
 import seedu.address.model.interviews.Interviews;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticIndex;
+import seedu.address.model.person.TrigramIndex;
 
 /**
  * Unmodifiable view of an address book
@@ -18,4 +20,14 @@ public interface ReadOnlyAddressBook extends Observable {
     ObservableList<Person> getPersonList();
     Interviews getInterviews();
     ObservableList<Job> getJobList();
+
+    /**
+     * Returns the trigram index over the persons list, used for substring searches.
+     */
+    TrigramIndex getTrigramIndex();
+
+    /**
+     * Returns the phonetic index over the names of the persons list, used for sounds-like name searches.
+     */
+    PhoneticIndex getPhoneticIndex();
 }
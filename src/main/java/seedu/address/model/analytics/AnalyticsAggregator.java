@@ -0,0 +1,205 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.JobsApply;
+import seedu.address.model.person.PastJob;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the counts and sums behind an {@code AnalyticsResult} for a list of persons.
+ *
+ * Every breakdown is taken from one scan of the persons: sums and fixed categories are kept in primitive arrays,
+ * text fields are counted through {@code CategoryCounts}, grades and total interview scores are sketched through
+ * {@code DistributionSketch} and the moments of grades and interview scores are kept in {@code ScoreMoments}, so
+ * adding a person does not box any count. Aggregators of different persons can be
+ * merged, such as those of different lists or of parts of one list.
+ * When created over an {@code ObservableList}, the aggregates are updated from each change to the list as persons
+ * are added, edited, deleted or moved, so reading them costs O(categories) instead of a scan of every person.
+ * The last {@code AnalyticsResult} is kept until the aggregates change, so reading them again without a change in
+ * between costs nothing, and a change to one list only discards the result of that list's aggregator.
+ */
+public class AnalyticsAggregator {
+
+    private static final int NUMBER_OF_QUESTIONS = AnalyticsResult.NUMBER_OF_QUESTIONS;
+
+    private int numPeople;
+    private long gradeHundredthsSum;
+    private final int[] genderCounts = new int[AnalyticsResult.GENDER_CATEGORIES.size()];
+    private final int[] raceCounts = new int[AnalyticsResult.RACE_CATEGORIES.size()];
+    private final CategoryCounts jobApplicationCounts = new CategoryCounts();
+    private final CategoryCounts majorCounts = new CategoryCounts();
+    private final CategoryCounts schoolCounts = new CategoryCounts();
+    private final CategoryCounts pastJobCounts = new CategoryCounts();
+    private final DistributionSketch gradeDistribution = new DistributionSketch(0.5f, 10, false);
+    private final DistributionSketch totalScoreDistribution = new DistributionSketch(5, 11, true);
+    private final ScoreMoments scoreMoments = new ScoreMoments();
+    private AnalyticsResult cachedResult;
+
+    /**
+     * Creates an aggregator of no persons.
+     */
+    public AnalyticsAggregator() {
+    }
+
+    /**
+     * Creates an aggregator of the persons in {@code persons} that stays up to date as {@code persons} changes.
+     */
+    public AnalyticsAggregator(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(person -> update(person, 1));
+        persons.addListener(this::onChanged);
+    }
+
+    /**
+     * Returns the analytics of {@code persons}, computed in a single pass over them.
+     */
+    public static AnalyticsResult analyze(Collection<Person> persons) {
+        requireNonNull(persons);
+        AnalyticsAggregator aggregator = new AnalyticsAggregator();
+        for (Person person : persons) {
+            aggregator.update(person, 1);
+        }
+        return aggregator.toResult();
+    }
+
+    /**
+     * Adds {@code person} to the aggregates.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        update(person, 1);
+    }
+
+    /**
+     * Removes {@code person}, which must have been added before, from the aggregates.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        update(person, -1);
+    }
+
+    /**
+     * Adds the aggregates of {@code other}, which must not share any person with this aggregator.
+     */
+    public void merge(AnalyticsAggregator other) {
+        requireNonNull(other);
+        cachedResult = null;
+        numPeople += other.numPeople;
+        gradeHundredthsSum += other.gradeHundredthsSum;
+        for (int i = 0; i < genderCounts.length; i++) {
+            genderCounts[i] += other.genderCounts[i];
+        }
+        for (int i = 0; i < raceCounts.length; i++) {
+            raceCounts[i] += other.raceCounts[i];
+        }
+        jobApplicationCounts.addAll(other.jobApplicationCounts);
+        majorCounts.addAll(other.majorCounts);
+        schoolCounts.addAll(other.schoolCounts);
+        pastJobCounts.addAll(other.pastJobCounts);
+        gradeDistribution.merge(other.gradeDistribution);
+        totalScoreDistribution.merge(other.totalScoreDistribution);
+        scoreMoments.merge(other.scoreMoments);
+    }
+
+    /**
+     * Applies a change of the observed list. Permutations do not change any aggregate.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(person -> update(person, -1));
+            change.getAddedSubList().forEach(person -> update(person, 1));
+        }
+    }
+
+    /**
+     * Adds {@code sign} (1 or -1) times the fields of {@code person} to the aggregates.
+     */
+    private void update(Person person, int sign) {
+        cachedResult = null;
+        numPeople += sign;
+        // grades have two decimal places, so summing them in hundredths keeps the sum exact as persons come and go
+        gradeHundredthsSum += sign * Math.round(person.getGrade().getNumericValue() * 100);
+        gradeDistribution.update(person.getGrade().getNumericValue(), sign);
+
+        InterviewScores interviewScores = person.getInterviewScores();
+        if (interviewScores.hasRecord()) {
+            scoreMoments.update(person, sign);
+            totalScoreDistribution.update(interviewScores.getTotalScore(), sign);
+        }
+
+        genderCounts[getGenderCategory(person.getGender().value)] += sign;
+        raceCounts[getRaceCategory(person.getRace().value)] += sign;
+        for (JobsApply jobApplied : person.getJobsApply()) {
+            jobApplicationCounts.add(jobApplied.value, sign);
+        }
+        majorCounts.add(person.getMajor().value, sign);
+        schoolCounts.add(person.getSchool().value, sign);
+        for (PastJob pastJob : person.getPastJobs()) {
+            pastJobCounts.add(pastJob.value, sign);
+        }
+    }
+
+    /**
+     * Returns the index of {@code gender} in {@link AnalyticsResult#GENDER_CATEGORIES}.
+     */
+    private static int getGenderCategory(String gender) {
+        switch (gender) {
+        case "Female":
+            return 0;
+        case "Male":
+            return 1;
+        default:
+            return 2;
+        }
+    }
+
+    /**
+     * Returns the index of {@code race} in {@link AnalyticsResult#RACE_CATEGORIES}.
+     */
+    private static int getRaceCategory(String race) {
+        switch (race) {
+        case "Chinese":
+            return 0;
+        case "Malay":
+            return 1;
+        case "Indian":
+            return 2;
+        default:
+            return 3;
+        }
+    }
+
+    /**
+     * Returns the current aggregates as an {@code AnalyticsResult}, which does not follow later changes.
+     * The same result is returned until the aggregates change.
+     */
+    public AnalyticsResult toResult() {
+        if (cachedResult == null) {
+            cachedResult = computeResult();
+        }
+        return cachedResult;
+    }
+
+    /**
+     * Returns a new {@code AnalyticsResult} of the current aggregates.
+     */
+    private AnalyticsResult computeResult() {
+        float[] meanInterviewScores = new float[NUMBER_OF_QUESTIONS];
+        for (int i = 0; i < NUMBER_OF_QUESTIONS; i++) {
+            meanInterviewScores[i] = (float) scoreMoments.getMean(i + 1);
+        }
+        float meanGrade = (float) ((double) gradeHundredthsSum / 100 / numPeople);
+        return new AnalyticsResult(numPeople, meanGrade, meanInterviewScores, genderCounts, raceCounts,
+            jobApplicationCounts.toMap(), majorCounts.toMap(), schoolCounts.toMap(), pastJobCounts.toMap(),
+            gradeDistribution.toDistribution(), totalScoreDistribution.toDistribution(), scoreMoments.toStatistics());
+    }
+}
@@ -0,0 +1,229 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * The analytics of each of the four person lists of every job, with the hiring funnel of the jobs.
+ * Guarantees: immutable.
+ */
+public class AnalyticsReport {
+
+    private static final List<String> STAGES = HiringFunnel.STAGES;
+    /** Lists longer than this are split into halves that are aggregated in parallel and then merged. */
+    private static final int SPLIT_THRESHOLD = 2048;
+    private static final String NO_RECORD = "-";
+
+    private final Map<JobName, List<AnalyticsResult>> jobAnalytics;
+    private final FunnelReport funnelReport;
+
+    private AnalyticsReport(Map<JobName, List<AnalyticsResult>> jobAnalytics, FunnelReport funnelReport) {
+        this.jobAnalytics = Collections.unmodifiableMap(jobAnalytics);
+        this.funnelReport = funnelReport;
+    }
+
+    /**
+     * Returns a task that computes the report of {@code jobs} when invoked in a {@code ForkJoinPool}.
+     * The persons and NRICs of each list are copied before returning, so the task reads neither {@code jobs} nor
+     * any view of them and can run on any thread while the lists keep changing.
+     */
+    public static RecursiveTask<AnalyticsReport> newTask(List<Job> jobs) {
+        requireNonNull(jobs);
+        List<JobName> jobNames = new ArrayList<>(jobs.size());
+        List<Person[]> lists = new ArrayList<>(jobs.size() * STAGES.size());
+        Map<JobName, List<Set<Nric>>> stageNrics = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            jobNames.add(job.getName());
+            List<Set<Nric>> nrics = new ArrayList<>(STAGES.size());
+            for (int stage = 0; stage < STAGES.size(); stage++) {
+                lists.add(job.getList(stage).asUnmodifiableObservableList().toArray(new Person[0]));
+                nrics.add(new HashSet<>(job.getPersonsNric(stage)));
+            }
+            stageNrics.put(job.getName(), nrics);
+        }
+        return new ReportTask(jobNames, lists, stageNrics);
+    }
+
+    /**
+     * Returns an immutable map of the analytics of each stage of each job, in the order of
+     * {@link HiringFunnel#STAGES}.
+     */
+    public Map<JobName, List<AnalyticsResult>> getJobAnalytics() {
+        return jobAnalytics;
+    }
+
+    public FunnelReport getFunnelReport() {
+        return funnelReport;
+    }
+
+    /**
+     * Returns the report as text: the stage counts of every job, followed by the grade, interview score,
+     * school and major breakdowns of each stage of each job.
+     */
+    public String toReportText() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Analytics report of ").append(jobAnalytics.size()).append(" jobs\n\n");
+        builder.append(String.format("%-30s", "Job"));
+        STAGES.forEach(stage -> builder.append(String.format("%12s", stage)));
+        builder.append('\n');
+        jobAnalytics.forEach((jobName, stages) -> {
+            builder.append(String.format("%-30s", jobName));
+            stages.forEach(result -> builder.append(String.format("%12d", result.getNumPeople())));
+            builder.append('\n');
+        });
+
+        jobAnalytics.forEach((jobName, stages) -> {
+            builder.append("\n== ").append(jobName).append(" ==\n");
+            for (int stage = 0; stage < STAGES.size(); stage++) {
+                AnalyticsResult result = stages.get(stage);
+                builder.append(STAGES.get(stage)).append(": ").append(result.getNumPeople()).append(" persons\n")
+                    .append("  Mean grade: ").append(format(result.getMeanGrade())).append('\n')
+                    .append("  Mean interview scores:");
+                for (int questionNum = 1; questionNum <= AnalyticsResult.NUMBER_OF_QUESTIONS; questionNum++) {
+                    builder.append(" Q").append(questionNum).append(' ')
+                        .append(format(result.getMeanInterviewScore(questionNum)));
+                }
+                builder.append('\n')
+                    .append("  Grade percentiles: ").append(format(result.getGradeDistribution())).append('\n')
+                    .append("  Total interview score percentiles: ")
+                    .append(format(result.getTotalScoreDistribution())).append('\n')
+                    .append("  Schools: ").append(format(result.getSchoolCounts())).append('\n')
+                    .append("  Majors: ").append(format(result.getMajorCounts())).append('\n');
+            }
+        });
+        builder.append('\n').append(funnelReport.toText());
+        return builder.toString();
+    }
+
+    /**
+     * Returns {@code value} to two decimal places, or {@code NO_RECORD} if it is NaN.
+     */
+    private static String format(float value) {
+        return Float.isNaN(value) ? NO_RECORD : String.format("%.2f", value);
+    }
+
+    /**
+     * Returns the 10th, 50th and 90th percentiles of {@code distribution}, or {@code NO_RECORD} if it has no values.
+     */
+    private static String format(Distribution distribution) {
+        if (Float.isNaN(distribution.getP50())) {
+            return NO_RECORD;
+        }
+        return "p10 " + format(distribution.getP10()) + ", p50 " + format(distribution.getP50())
+            + ", p90 " + format(distribution.getP90());
+    }
+
+    /**
+     * Returns each category in {@code counts} with its count, or {@code NO_RECORD} if there is none.
+     */
+    private static String format(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return NO_RECORD;
+        }
+        StringBuilder builder = new StringBuilder();
+        counts.forEach((category, count) ->
+            builder.append(builder.length() == 0 ? "" : ", ").append(category).append(' ').append(count));
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AnalyticsReport // instanceof handles nulls
+            && jobAnalytics.equals(((AnalyticsReport) other).jobAnalytics)
+            && funnelReport.equals(((AnalyticsReport) other).funnelReport)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * jobAnalytics.hashCode() + funnelReport.hashCode();
+    }
+
+    /**
+     * Aggregates every list at once and collects the results by job, computing the funnel while they run.
+     */
+    private static class ReportTask extends RecursiveTask<AnalyticsReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<JobName> jobNames;
+        private final List<Person[]> lists;
+        private final Map<JobName, List<Set<Nric>>> stageNrics;
+
+        ReportTask(List<JobName> jobNames, List<Person[]> lists, Map<JobName, List<Set<Nric>>> stageNrics) {
+            this.jobNames = jobNames;
+            this.lists = lists;
+            this.stageNrics = stageNrics;
+        }
+
+        @Override
+        protected AnalyticsReport compute() {
+            List<AggregateTask> tasks = new ArrayList<>(lists.size());
+            for (Person[] persons : lists) {
+                tasks.add(new AggregateTask(persons, 0, persons.length));
+            }
+            for (AggregateTask task : tasks) {
+                task.fork();
+            }
+            FunnelReport funnelReport = FunnelReport.of(stageNrics);
+
+            Map<JobName, List<AnalyticsResult>> jobAnalytics = new LinkedHashMap<>();
+            for (int job = 0; job < jobNames.size(); job++) {
+                List<AnalyticsResult> stages = new ArrayList<>(STAGES.size());
+                for (int stage = 0; stage < STAGES.size(); stage++) {
+                    stages.add(tasks.get(job * STAGES.size() + stage).join().toResult());
+                }
+                jobAnalytics.put(jobNames.get(job), Collections.unmodifiableList(stages));
+            }
+            return new AnalyticsReport(jobAnalytics, funnelReport);
+        }
+    }
+
+    /**
+     * Aggregates the persons in {@code persons[from, to)}, splitting long ranges in halves.
+     */
+    private static class AggregateTask extends RecursiveTask<AnalyticsAggregator> {
+        private static final long serialVersionUID = 1L;
+
+        private final Person[] persons;
+        private final int from;
+        private final int to;
+
+        AggregateTask(Person[] persons, int from, int to) {
+            this.persons = persons;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected AnalyticsAggregator compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                AnalyticsAggregator aggregator = new AnalyticsAggregator();
+                for (int i = from; i < to; i++) {
+                    aggregator.add(persons[i]);
+                }
+                return aggregator;
+            }
+            int mid = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(persons, from, mid);
+            left.fork();
+            AnalyticsAggregator right = new AggregateTask(persons, mid, to).compute();
+            // merge into the left half so categories keep the order they are first seen in the list
+            AnalyticsAggregator aggregator = left.join();
+            aggregator.merge(right);
+            return aggregator;
+        }
+    }
+}
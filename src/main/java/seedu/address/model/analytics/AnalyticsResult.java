@@ -0,0 +1,203 @@
+package seedu.address.model.analytics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The analytics of a list of persons: every breakdown, the mean grade and the mean score of each interview question.
+ * Guarantees: immutable.
+ */
+public final class AnalyticsResult {
+
+    public static final int NUMBER_OF_QUESTIONS = 5;
+    public static final List<String> GENDER_CATEGORIES =
+        Collections.unmodifiableList(Arrays.asList("Female", "Male", "Others"));
+    public static final List<String> RACE_CATEGORIES =
+        Collections.unmodifiableList(Arrays.asList("Chinese", "Malay", "Indian", "Others"));
+
+    private final int numPeople;
+    private final float meanGrade;
+    private final float[] meanInterviewScores;
+    private final int[] genderCounts;
+    private final int[] raceCounts;
+    private final Map<String, Integer> jobApplicationCounts;
+    private final Map<String, Integer> majorCounts;
+    private final Map<String, Integer> schoolCounts;
+    private final Map<String, Integer> pastJobCounts;
+    private final Distribution gradeDistribution;
+    private final Distribution totalScoreDistribution;
+    private final ScoreStatistics scoreStatistics;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param meanGrade           NaN if there are no persons
+     * @param meanInterviewScores the mean score of each question, NaN if no person has interview scores
+     * @param genderCounts        the number of persons in each of {@link #GENDER_CATEGORIES}
+     * @param raceCounts          the number of persons in each of {@link #RACE_CATEGORIES}
+     * @param totalScoreDistribution the distribution of the total interview scores among persons with interview
+     *                               scores
+     * @param scoreStatistics        the statistics of the grades and interview scores of persons with interview
+     *                               scores
+     */
+    public AnalyticsResult(int numPeople, float meanGrade, float[] meanInterviewScores, int[] genderCounts,
+                           int[] raceCounts, Map<String, Integer> jobApplicationCounts,
+                           Map<String, Integer> majorCounts, Map<String, Integer> schoolCounts,
+                           Map<String, Integer> pastJobCounts, Distribution gradeDistribution,
+                           Distribution totalScoreDistribution, ScoreStatistics scoreStatistics) {
+        requireAllNonNull(meanInterviewScores, genderCounts, raceCounts, jobApplicationCounts, majorCounts,
+            schoolCounts, pastJobCounts, gradeDistribution, totalScoreDistribution, scoreStatistics);
+        assert meanInterviewScores.length == NUMBER_OF_QUESTIONS;
+        assert genderCounts.length == GENDER_CATEGORIES.size() && raceCounts.length == RACE_CATEGORIES.size();
+        this.numPeople = numPeople;
+        this.meanGrade = meanGrade;
+        this.meanInterviewScores = meanInterviewScores.clone();
+        this.genderCounts = genderCounts.clone();
+        this.raceCounts = raceCounts.clone();
+        this.jobApplicationCounts = Collections.unmodifiableMap(new LinkedHashMap<>(jobApplicationCounts));
+        this.majorCounts = Collections.unmodifiableMap(new LinkedHashMap<>(majorCounts));
+        this.schoolCounts = Collections.unmodifiableMap(new LinkedHashMap<>(schoolCounts));
+        this.pastJobCounts = Collections.unmodifiableMap(new LinkedHashMap<>(pastJobCounts));
+        this.gradeDistribution = gradeDistribution;
+        this.totalScoreDistribution = totalScoreDistribution;
+        this.scoreStatistics = scoreStatistics;
+    }
+
+    public int getNumPeople() {
+        return numPeople;
+    }
+
+    /**
+     * Returns the mean grade, or NaN if there are no persons.
+     */
+    public float getMeanGrade() {
+        return meanGrade;
+    }
+
+    /**
+     * Returns the mean score of interview question {@code questionNum} (1-based) among persons with interview
+     * scores, or NaN if no person has interview scores.
+     */
+    public float getMeanInterviewScore(int questionNum) {
+        return meanInterviewScores[questionNum - 1];
+    }
+
+    /**
+     * Returns the number of persons in each of {@link #GENDER_CATEGORIES}.
+     */
+    public int[] getGenderCounts() {
+        return genderCounts.clone();
+    }
+
+    /**
+     * Returns the number of persons in each of {@link #RACE_CATEGORIES}.
+     */
+    public int[] getRaceCounts() {
+        return raceCounts.clone();
+    }
+
+    /**
+     * Returns an immutable map of the number of applicants for each job. A person is counted once for each job
+     * applied.
+     */
+    public Map<String, Integer> getJobApplicationCounts() {
+        return jobApplicationCounts;
+    }
+
+    /**
+     * Returns an immutable map of the number of persons studying each major.
+     */
+    public Map<String, Integer> getMajorCounts() {
+        return majorCounts;
+    }
+
+    /**
+     * Returns an immutable map of the number of persons studying in each school.
+     */
+    public Map<String, Integer> getSchoolCounts() {
+        return schoolCounts;
+    }
+
+    /**
+     * Returns an immutable map of the number of persons for each past job. A person is counted once for each past
+     * job.
+     */
+    public Map<String, Integer> getPastJobCounts() {
+        return pastJobCounts;
+    }
+
+    /**
+     * Returns the distribution of the grades of all persons.
+     */
+    public Distribution getGradeDistribution() {
+        return gradeDistribution;
+    }
+
+    /**
+     * Returns the distribution of the total interview scores of persons with interview scores.
+     */
+    public Distribution getTotalScoreDistribution() {
+        return totalScoreDistribution;
+    }
+
+    /**
+     * Returns the variances and correlations of the grades and interview scores of persons with interview scores.
+     */
+    public ScoreStatistics getScoreStatistics() {
+        return scoreStatistics;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AnalyticsResult)) {
+            return false;
+        }
+
+        AnalyticsResult otherResult = (AnalyticsResult) other;
+        return numPeople == otherResult.numPeople
+            && Float.compare(meanGrade, otherResult.meanGrade) == 0
+            && Arrays.equals(meanInterviewScores, otherResult.meanInterviewScores)
+            && Arrays.equals(genderCounts, otherResult.genderCounts)
+            && Arrays.equals(raceCounts, otherResult.raceCounts)
+            && jobApplicationCounts.equals(otherResult.jobApplicationCounts)
+            && majorCounts.equals(otherResult.majorCounts)
+            && schoolCounts.equals(otherResult.schoolCounts)
+            && pastJobCounts.equals(otherResult.pastJobCounts)
+            && gradeDistribution.equals(otherResult.gradeDistribution)
+            && totalScoreDistribution.equals(otherResult.totalScoreDistribution)
+            && scoreStatistics.equals(otherResult.scoreStatistics);
+    }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(numPeople, meanGrade, Arrays.hashCode(meanInterviewScores), Arrays.hashCode(genderCounts),
+            Arrays.hashCode(raceCounts), jobApplicationCounts, majorCounts, schoolCounts, pastJobCounts,
+            gradeDistribution, totalScoreDistribution, scoreStatistics);
+    }
+
+    @Override
+    public String toString() {
+        return numPeople + " persons, mean grade " + meanGrade
+            + ", mean interview scores " + Arrays.toString(meanInterviewScores)
+            + ", genders " + Arrays.toString(genderCounts)
+            + ", races " + Arrays.toString(raceCounts)
+            + ", jobs applied " + jobApplicationCounts
+            + ", majors " + majorCounts
+            + ", schools " + schoolCounts
+            + ", past jobs " + pastJobCounts
+            + ", grades " + gradeDistribution
+            + ", total interview scores " + totalScoreDistribution
+            + ", " + scoreStatistics;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts occurrences of the values of a text field, such as schools or past jobs.
+ *
+ * Each distinct value is encoded once as an int code in the order it is first seen, and its count is kept in a
+ * primitive array indexed by that code, so counting a value that has been seen before neither boxes nor allocates.
+ * Codes are never reused, so a value whose count drops back to 0 keeps its code but is left out of {@link #toMap()}.
+ */
+class CategoryCounts {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code delta} to the count of {@code value}.
+     */
+    void add(String value, int delta) {
+        int code = encode(value);
+        counts[code] += delta;
+    }
+
+    /**
+     * Adds the counts of {@code other} to these counts.
+     */
+    void addAll(CategoryCounts other) {
+        for (int code = 0; code < other.size; code++) {
+            add(other.values[code], other.counts[code]);
+        }
+    }
+
+    /**
+     * Returns the code of {@code value}, giving it the next code if it has not been seen before.
+     */
+    int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            counts = Arrays.copyOf(counts, size * 2);
+        }
+        values[size] = value;
+        codes.put(value, size);
+        return size++;
+    }
+
+    /**
+     * Returns the value with the code {@code code}.
+     */
+    String decode(int code) {
+        return values[code];
+    }
+
+    /**
+     * Returns the number of values that have been given a code.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the values with a non-zero count and their counts, in the order the values were first seen.
+     */
+    Map<String, Integer> toMap() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int code = 0; code < size; code++) {
+            if (counts[code] != 0) {
+                map.put(values[code], counts[code]);
+            }
+        }
+        return map;
+    }
+}
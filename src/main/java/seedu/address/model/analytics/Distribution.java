@@ -0,0 +1,106 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * The 10th, 50th and 90th percentiles and the histogram of a set of values.
+ * Percentiles are estimates within the relative accuracy of the sketch they were taken from; histograms are exact.
+ * Guarantees: immutable.
+ */
+public final class Distribution {
+
+    private final float p10;
+    private final float p50;
+    private final float p90;
+    private final float binWidth;
+    private final boolean isLastBinOpen;
+    private final int[] histogram;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param p10           the 10th percentile, NaN if there are no values
+     * @param p50           the median, NaN if there are no values
+     * @param p90           the 90th percentile, NaN if there are no values
+     * @param binWidth      the width of each bin of {@code histogram}, the first starting at 0
+     * @param isLastBinOpen whether the last bin also counts every value above it
+     * @param histogram     the number of values in each bin
+     */
+    public Distribution(float p10, float p50, float p90, float binWidth, boolean isLastBinOpen, int[] histogram) {
+        requireNonNull(histogram);
+        this.p10 = p10;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.binWidth = binWidth;
+        this.isLastBinOpen = isLastBinOpen;
+        this.histogram = histogram.clone();
+    }
+
+    public float getP10() {
+        return p10;
+    }
+
+    public float getP50() {
+        return p50;
+    }
+
+    public float getP90() {
+        return p90;
+    }
+
+    /**
+     * Returns the number of values in each bin of the histogram.
+     */
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Returns the range of values counted in bin {@code bin} of the histogram, e.g. "0.5-1" or "50+".
+     */
+    public String getBinLabel(int bin) {
+        String lower = format(bin * binWidth);
+        if (isLastBinOpen && bin == histogram.length - 1) {
+            return lower + "+";
+        }
+        return lower + "-" + format((bin + 1) * binWidth);
+    }
+
+    /**
+     * Returns {@code value} without a decimal point if it is a whole number.
+     */
+    private static String format(float value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Distribution)) {
+            return false;
+        }
+
+        Distribution otherDistribution = (Distribution) other;
+        return Float.compare(p10, otherDistribution.p10) == 0
+            && Float.compare(p50, otherDistribution.p50) == 0
+            && Float.compare(p90, otherDistribution.p90) == 0
+            && Float.compare(binWidth, otherDistribution.binWidth) == 0
+            && isLastBinOpen == otherDistribution.isLastBinOpen
+            && Arrays.equals(histogram, otherDistribution.histogram);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Float.hashCode(p50) + Arrays.hashCode(histogram);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p10 %.2f, p50 %.2f, p90 %.2f", p10, p50, p90);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.analytics;
+
+/**
+ * Keeps a {@code QuantileSketch} and a histogram with bins of a fixed width of a changing set of non-negative
+ * values, from which a {@code Distribution} can be taken at any time.
+ */
+class DistributionSketch {
+
+    /** Percentiles are within 0.5% of a value of the set. */
+    private static final double RELATIVE_ACCURACY = 0.005;
+
+    private final QuantileSketch quantiles = new QuantileSketch(RELATIVE_ACCURACY);
+    private final float binWidth;
+    private final boolean isLastBinOpen;
+    private final int[] histogram;
+
+    /**
+     * @param isLastBinOpen whether values above the last bin are counted in the last bin
+     */
+    DistributionSketch(float binWidth, int numberOfBins, boolean isLastBinOpen) {
+        this.binWidth = binWidth;
+        this.isLastBinOpen = isLastBinOpen;
+        this.histogram = new int[numberOfBins];
+    }
+
+    /**
+     * Adds {@code sign} (1 or -1) times {@code value} to the set.
+     */
+    void update(float value, int sign) {
+        if (sign > 0) {
+            quantiles.add(value);
+        } else {
+            quantiles.remove(value);
+        }
+        // a value on the upper edge of a closed last bin, like a grade of 5.00, is still counted in it
+        histogram[Math.min(histogram.length - 1, (int) (value / binWidth))] += sign;
+    }
+
+    /**
+     * Adds the values of {@code other}, which must have the same bins, to the set.
+     */
+    void merge(DistributionSketch other) {
+        quantiles.merge(other.quantiles);
+        for (int bin = 0; bin < histogram.length; bin++) {
+            histogram[bin] += other.histogram[bin];
+        }
+    }
+
+    /**
+     * Returns the current distribution of the set.
+     */
+    Distribution toDistribution() {
+        return new Distribution((float) quantiles.getQuantile(0.1), (float) quantiles.getQuantile(0.5),
+            (float) quantiles.getQuantile(0.9), binWidth, isLastBinOpen, histogram);
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Nric;
+
+/**
+ * The hiring funnel of every job and of all jobs together, and the candidates shared between jobs.
+ * Everything is computed from the NRICs at each stage of each job, without going through any person.
+ * Guarantees: immutable.
+ */
+public final class FunnelReport {
+
+    private final Map<JobName, HiringFunnel> jobFunnels;
+    private final HiringFunnel globalFunnel;
+    private final int numCandidates;
+    private final int numCandidatesInManyJobs;
+    private final Map<JobName, Integer> jobIndices = new HashMap<>();
+    private final int[][] sharedCandidateCounts;
+
+    private FunnelReport(Map<JobName, HiringFunnel> jobFunnels, HiringFunnel globalFunnel, int numCandidates,
+                         int numCandidatesInManyJobs, int[][] sharedCandidateCounts) {
+        this.jobFunnels = Collections.unmodifiableMap(jobFunnels);
+        this.globalFunnel = globalFunnel;
+        this.numCandidates = numCandidates;
+        this.numCandidatesInManyJobs = numCandidatesInManyJobs;
+        this.sharedCandidateCounts = sharedCandidateCounts;
+        for (JobName jobName : jobFunnels.keySet()) {
+            jobIndices.put(jobName, jobIndices.size());
+        }
+    }
+
+    /**
+     * Returns the report of {@code jobs}.
+     */
+    public static FunnelReport of(List<Job> jobs) {
+        requireNonNull(jobs);
+        Map<JobName, List<Set<Nric>>> stageNrics = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            stageNrics.put(job.getName(), getStageNrics(job));
+        }
+        return of(stageNrics);
+    }
+
+    /**
+     * Returns the report of the jobs in {@code stageNrics}, each with the NRICs of its candidates at each of
+     * {@link HiringFunnel#STAGES}.
+     */
+    public static FunnelReport of(Map<JobName, List<Set<Nric>>> stageNrics) {
+        requireNonNull(stageNrics);
+        Map<JobName, HiringFunnel> jobFunnels = new LinkedHashMap<>();
+        List<Set<Nric>> globalStages = new ArrayList<>();
+        for (int stage = 0; stage < HiringFunnel.STAGES.size(); stage++) {
+            globalStages.add(new HashSet<>());
+        }
+        List<Set<Nric>> jobCandidates = new ArrayList<>(stageNrics.size());
+        Set<Nric> candidates = new HashSet<>();
+        Set<Nric> candidatesInManyJobs = new HashSet<>();
+
+        stageNrics.forEach((jobName, stages) -> {
+            jobFunnels.put(jobName, HiringFunnel.of(stages));
+            Set<Nric> candidatesOfJob = new HashSet<>();
+            for (int stage = 0; stage < stages.size(); stage++) {
+                globalStages.get(stage).addAll(stages.get(stage));
+                candidatesOfJob.addAll(stages.get(stage));
+            }
+            for (Nric nric : candidatesOfJob) {
+                if (!candidates.add(nric)) {
+                    candidatesInManyJobs.add(nric);
+                }
+            }
+            jobCandidates.add(candidatesOfJob);
+        });
+
+        int[][] sharedCandidateCounts = new int[jobCandidates.size()][jobCandidates.size()];
+        for (int i = 0; i < jobCandidates.size(); i++) {
+            for (int j = i + 1; j < jobCandidates.size(); j++) {
+                sharedCandidateCounts[i][j] = HiringFunnel.intersectionSize(jobCandidates.get(i), jobCandidates.get(j));
+                sharedCandidateCounts[j][i] = sharedCandidateCounts[i][j];
+            }
+        }
+        return new FunnelReport(jobFunnels, HiringFunnel.of(globalStages), candidates.size(),
+            candidatesInManyJobs.size(), sharedCandidateCounts);
+    }
+
+    /**
+     * Returns the NRICs of the candidates of {@code job} at each of {@link HiringFunnel#STAGES}.
+     * The sets are views of the job's own sets.
+     */
+    static List<Set<Nric>> getStageNrics(Job job) {
+        List<Set<Nric>> stages = new ArrayList<>(HiringFunnel.STAGES.size());
+        for (int stage = 0; stage < HiringFunnel.STAGES.size(); stage++) {
+            stages.add(job.getPersonsNric(stage));
+        }
+        return stages;
+    }
+
+    /**
+     * Returns an immutable map of the funnel of each job.
+     */
+    public Map<JobName, HiringFunnel> getJobFunnels() {
+        return jobFunnels;
+    }
+
+    /**
+     * Returns the funnel of all jobs, where a candidate is at a stage if they are at that stage of any job.
+     */
+    public HiringFunnel getGlobalFunnel() {
+        return globalFunnel;
+    }
+
+    /**
+     * Returns the number of distinct candidates of all jobs.
+     */
+    public int getNumCandidates() {
+        return numCandidates;
+    }
+
+    /**
+     * Returns the number of candidates of more than one job.
+     */
+    public int getNumCandidatesInManyJobs() {
+        return numCandidatesInManyJobs;
+    }
+
+    /**
+     * Returns the number of candidates of both {@code first} and {@code second}, which must be jobs in the report.
+     */
+    public int getSharedCandidateCount(JobName first, JobName second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        return sharedCandidateCounts[jobIndices.get(first)][jobIndices.get(second)];
+    }
+
+    /**
+     * Returns the report as text: the funnel of all jobs, the funnel of each job, then the jobs sharing
+     * candidates.
+     */
+    public String toText() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Hiring funnel of all ").append(jobFunnels.size()).append(" jobs\n")
+            .append(globalFunnel.toText())
+            .append("Candidates: ").append(numCandidates)
+            .append(", in more than one job: ").append(numCandidatesInManyJobs).append('\n');
+        jobFunnels.forEach((jobName, funnel) ->
+            builder.append("\n== ").append(jobName).append(" ==\n").append(funnel.toText()));
+
+        List<JobName> jobNames = new ArrayList<>(jobFunnels.keySet());
+        StringBuilder shared = new StringBuilder();
+        for (int i = 0; i < jobNames.size(); i++) {
+            for (int j = i + 1; j < jobNames.size(); j++) {
+                if (sharedCandidateCounts[i][j] > 0) {
+                    shared.append(jobNames.get(i)).append(" & ").append(jobNames.get(j)).append(": ")
+                        .append(sharedCandidateCounts[i][j]).append('\n');
+                }
+            }
+        }
+        if (shared.length() > 0) {
+            builder.append("\nShared candidates\n").append(shared);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FunnelReport)) {
+            return false;
+        }
+
+        FunnelReport otherReport = (FunnelReport) other;
+        return jobFunnels.equals(otherReport.jobFunnels)
+            && globalFunnel.equals(otherReport.globalFunnel)
+            && numCandidates == otherReport.numCandidates
+            && numCandidatesInManyJobs == otherReport.numCandidatesInManyJobs
+            && Arrays.deepEquals(sharedCandidateCounts, otherReport.sharedCandidateCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * jobFunnels.hashCode() + globalFunnel.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
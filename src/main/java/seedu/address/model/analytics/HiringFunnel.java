@@ -0,0 +1,129 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Nric;
+
+/**
+ * The number of candidates at each stage of hiring, from applicant through KIV and interview to shortlist, and
+ * how many candidates of each stage reached the next.
+ * Guarantees: immutable.
+ */
+public final class HiringFunnel {
+
+    public static final List<String> STAGES =
+        Collections.unmodifiableList(Arrays.asList("Applicants", "KIV", "Interview", "Shortlist"));
+    public static final HiringFunnel EMPTY = new HiringFunnel(new int[STAGES.size()], new int[STAGES.size()]);
+
+    private final int[] stageCounts;
+    private final int[] convertedCounts;
+
+    /**
+     * @param stageCounts     the number of candidates at each of {@link #STAGES}
+     * @param convertedCounts the number of candidates at each stage who were also at the stage before it;
+     *                        the first count is unused
+     */
+    private HiringFunnel(int[] stageCounts, int[] convertedCounts) {
+        this.stageCounts = stageCounts;
+        this.convertedCounts = convertedCounts;
+    }
+
+    /**
+     * Returns the funnel of the candidates whose NRICs are in {@code stages}, one set for each of {@link #STAGES}.
+     */
+    public static HiringFunnel of(List<? extends Set<Nric>> stages) {
+        requireNonNull(stages);
+        checkArgument(stages.size() == STAGES.size());
+        int[] stageCounts = new int[STAGES.size()];
+        int[] convertedCounts = new int[STAGES.size()];
+        for (int stage = 0; stage < STAGES.size(); stage++) {
+            stageCounts[stage] = stages.get(stage).size();
+            if (stage > 0) {
+                convertedCounts[stage] = intersectionSize(stages.get(stage - 1), stages.get(stage));
+            }
+        }
+        return new HiringFunnel(stageCounts, convertedCounts);
+    }
+
+    /**
+     * Returns the funnel of the candidates of {@code job}.
+     */
+    public static HiringFunnel of(Job job) {
+        requireNonNull(job);
+        return of(FunnelReport.getStageNrics(job));
+    }
+
+    /**
+     * Returns the number of NRICs in both {@code first} and {@code second}, probing the larger set with each
+     * NRIC of the smaller one.
+     */
+    static int intersectionSize(Set<Nric> first, Set<Nric> second) {
+        Set<Nric> smaller = first.size() <= second.size() ? first : second;
+        Set<Nric> larger = smaller == first ? second : first;
+        int size = 0;
+        for (Nric nric : smaller) {
+            if (larger.contains(nric)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of candidates at {@code stage}, an index of {@link #STAGES}.
+     */
+    public int getStageCount(int stage) {
+        return stageCounts[stage];
+    }
+
+    /**
+     * Returns the fraction of the candidates at the stage before {@code stage} who are also at {@code stage},
+     * or NaN if there is no candidate at the stage before.
+     */
+    public float getConversionRate(int stage) {
+        checkArgument(stage > 0 && stage < STAGES.size());
+        return (float) convertedCounts[stage] / stageCounts[stage - 1];
+    }
+
+    /**
+     * Returns the funnel as lines of text, one for each stage with its count and conversion rate.
+     */
+    public String toText() {
+        StringBuilder builder = new StringBuilder();
+        for (int stage = 0; stage < STAGES.size(); stage++) {
+            builder.append(String.format("%-12s%6d", STAGES.get(stage), stageCounts[stage]));
+            if (stage > 0) {
+                float rate = getConversionRate(stage);
+                builder.append(Float.isNaN(rate) ? "" : String.format("  (%.1f%% of %s)", rate * 100,
+                    STAGES.get(stage - 1)));
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof HiringFunnel // instanceof handles nulls
+            && Arrays.equals(stageCounts, ((HiringFunnel) other).stageCounts)
+            && Arrays.equals(convertedCounts, ((HiringFunnel) other).convertedCounts)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(stageCounts) + Arrays.hashCode(convertedCounts);
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
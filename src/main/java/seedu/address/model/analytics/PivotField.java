@@ -0,0 +1,59 @@
+package seedu.address.model.analytics;
+
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.model.person.JobsApply;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.PastJob;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the fields of a {@code Person} that a pivot table can break persons down by.
+ * Programming languages, past jobs and jobs applied can have many values, or none, for one person.
+ */
+public enum PivotField {
+    GENDER, RACE, SCHOOL, MAJOR, PROG_LANG, PAST_JOB, JOB_APPLIED;
+
+    /**
+     * Adds the values of this field of {@code person} to {@code values}.
+     */
+    void addValues(Person person, List<String> values) {
+        switch (this) {
+        case GENDER:
+            values.add(person.getGender().value);
+            break;
+        case RACE:
+            values.add(person.getRace().value);
+            break;
+        case SCHOOL:
+            values.add(person.getSchool().value);
+            break;
+        case MAJOR:
+            values.add(person.getMajor().value);
+            break;
+        case PROG_LANG:
+            for (KnownProgLang progLang : person.getKnownProgLangs()) {
+                values.add(progLang.value);
+            }
+            break;
+        case PAST_JOB:
+            for (PastJob pastJob : person.getPastJobs()) {
+                values.add(pastJob.value);
+            }
+            break;
+        case JOB_APPLIED:
+            for (JobsApply jobApplied : person.getJobsApply()) {
+                values.add(jobApplied.value);
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown pivot field: " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT).replace('_', ' ');
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.analytics;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Represents what each cell of a pivot table shows of the persons in it: their number, their mean grade or their
+ * mean total interview score. Persons without interview scores are left out of a pivot table of scores.
+ */
+public enum PivotMeasure {
+    COUNT, GRADE, SCORE;
+
+    /**
+     * Returns true if {@code person} is counted in a pivot table of this measure.
+     */
+    boolean appliesTo(Person person) {
+        return this != SCORE || person.getInterviewScores().hasRecord();
+    }
+
+    /**
+     * Returns the value of this measure of {@code person}, which this measure must apply to.
+     */
+    double getValue(Person person) {
+        switch (this) {
+        case COUNT:
+            return 1;
+        case GRADE:
+            return person.getGrade().getNumericValue();
+        case SCORE:
+            return person.getInterviewScores().getTotalScore();
+        default:
+            throw new AssertionError("Unknown pivot measure: " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        switch (this) {
+        case GRADE:
+            return "mean grade";
+        case SCORE:
+            return "mean total interview score";
+        default:
+            return "number of persons";
+        }
+    }
+}
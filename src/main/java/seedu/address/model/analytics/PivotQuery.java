@@ -0,0 +1,223 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Describes a pivot table: the field its rows break persons down by, the field its columns break them down by, if
+ * any, and the measure shown in each cell.
+ *
+ * {@link #aggregate(Collection)} builds the table in one pass over the persons. The values of both fields are
+ * dictionary encoded into int codes through {@code CategoryCounts}, and each pair of codes is aggregated in an open
+ * addressing hash table of primitive arrays, so only the cells that have persons are kept and no cell boxes its count
+ * or sum.
+ * Guarantees: immutable.
+ */
+public final class PivotQuery {
+
+    /** The only column of a pivot table without a column field. */
+    public static final String ALL_COLUMN = "All";
+
+    private final PivotField rowField;
+    private final PivotField columnField;
+    private final PivotMeasure measure;
+
+    /**
+     * @param rowField    the field to break persons down by in rows
+     * @param columnField the field to break persons down by in columns, or null for a single column of all persons
+     * @param measure     the measure shown in each cell
+     */
+    public PivotQuery(PivotField rowField, PivotField columnField, PivotMeasure measure) {
+        requireNonNull(rowField);
+        requireNonNull(measure);
+        this.rowField = rowField;
+        this.columnField = columnField;
+        this.measure = measure;
+    }
+
+    public PivotField getRowField() {
+        return rowField;
+    }
+
+    public Optional<PivotField> getColumnField() {
+        return Optional.ofNullable(columnField);
+    }
+
+    public PivotMeasure getMeasure() {
+        return measure;
+    }
+
+    /**
+     * Returns the pivot table of {@code persons}, computed in a single pass over them.
+     * A person with many values of a field is counted once in each of their rows or columns.
+     */
+    public PivotTable aggregate(Collection<? extends Person> persons) {
+        requireNonNull(persons);
+        CategoryCounts rows = new CategoryCounts();
+        CategoryCounts columns = new CategoryCounts();
+        CellTable cells = new CellTable();
+        List<String> rowValues = new ArrayList<>();
+        List<String> columnValues = new ArrayList<>();
+        for (Person person : persons) {
+            if (!measure.appliesTo(person)) {
+                continue;
+            }
+            double value = measure.getValue(person);
+            rowValues.clear();
+            rowField.addValues(person, rowValues);
+            columnValues.clear();
+            if (columnField == null) {
+                columnValues.add(ALL_COLUMN);
+            } else {
+                columnField.addValues(person, columnValues);
+            }
+            for (String rowValue : rowValues) {
+                int row = rows.encode(rowValue);
+                for (String columnValue : columnValues) {
+                    cells.add(row, columns.encode(columnValue), value);
+                }
+            }
+        }
+        return cells.toTable(rows, columns);
+    }
+
+    /**
+     * Returns a short description of the table, e.g. "mean grade by school and major".
+     */
+    @Override
+    public String toString() {
+        return measure + " by " + rowField + (columnField == null ? "" : " and " + columnField);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PivotQuery)) {
+            return false;
+        }
+
+        PivotQuery otherQuery = (PivotQuery) other;
+        return rowField == otherQuery.rowField
+            && columnField == otherQuery.columnField
+            && measure == otherQuery.measure;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowField, columnField, measure);
+    }
+
+    /**
+     * Maps each pair of row and column codes that has persons to the number of persons and the sum of their values.
+     * Pairs are packed into a {@code long} key and found by linear probing in a table kept at most half full.
+     */
+    private class CellTable {
+
+        private static final int INITIAL_CAPACITY = 64;
+        private static final long EMPTY = -1;
+
+        private long[] keys = newKeys(INITIAL_CAPACITY);
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private double[] sums = new double[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Adds a person with {@code value} to the cell of {@code row} and {@code column}.
+         */
+        void add(int row, int column, double value) {
+            int slot = findSlot(keys, ((long) row << 32) | column);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = ((long) row << 32) | column;
+                size++;
+            }
+            counts[slot]++;
+            sums[slot] += value;
+            if (size * 2 > keys.length) {
+                grow();
+            }
+        }
+
+        /**
+         * Returns the slot of {@code key} in {@code keys}, or the empty slot where it would be added.
+         */
+        private int findSlot(long[] keys, long key) {
+            int mask = keys.length - 1;
+            int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Doubles the capacity of the table, moving every cell to its slot in the larger table.
+         */
+        private void grow() {
+            long[] newKeys = newKeys(keys.length * 2);
+            int[] newCounts = new int[newKeys.length];
+            double[] newSums = new double[newKeys.length];
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY) {
+                    int newSlot = findSlot(newKeys, keys[slot]);
+                    newKeys[newSlot] = keys[slot];
+                    newCounts[newSlot] = counts[slot];
+                    newSums[newSlot] = sums[slot];
+                }
+            }
+            keys = newKeys;
+            counts = newCounts;
+            sums = newSums;
+        }
+
+        /**
+         * Returns an array of {@code capacity} empty slots.
+         */
+        private long[] newKeys(int capacity) {
+            long[] newKeys = new long[capacity];
+            Arrays.fill(newKeys, EMPTY);
+            return newKeys;
+        }
+
+        /**
+         * Returns the table of the cells, with the row and column values decoded through {@code rows} and
+         * {@code columns}.
+         */
+        PivotTable toTable(CategoryCounts rows, CategoryCounts columns) {
+            String[] rowLabels = new String[rows.size()];
+            for (int row = 0; row < rowLabels.length; row++) {
+                rowLabels[row] = rows.decode(row);
+            }
+            String[] columnLabels = new String[columns.size()];
+            for (int column = 0; column < columnLabels.length; column++) {
+                columnLabels[column] = columns.decode(column);
+            }
+            int[] cellRows = new int[size];
+            int[] cellColumns = new int[size];
+            int[] cellCounts = new int[size];
+            double[] cellSums = new double[size];
+            int cell = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY) {
+                    cellRows[cell] = (int) (keys[slot] >>> 32);
+                    cellColumns[cell] = (int) keys[slot];
+                    cellCounts[cell] = counts[slot];
+                    cellSums[cell] = sums[slot];
+                    cell++;
+                }
+            }
+            return new PivotTable(PivotQuery.this, rowLabels, columnLabels, cellRows, cellColumns, cellCounts,
+                cellSums);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.address.model.analytics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A pivot table built by a {@code PivotQuery}, with rows and columns in case-insensitive order of their values.
+ * Each cell holds the number of persons with the values of its row and column, and the measure of the query over
+ * them.
+ *
+ * Only the cells that have persons are kept, sorted by row and then column with each position packed into a
+ * {@code long}, and a cell is found by binary search, so the memory taken follows the cells that have persons
+ * however many rows and columns there are.
+ * Guarantees: immutable.
+ */
+public final class PivotTable {
+
+    private final PivotQuery query;
+    private final List<String> rowLabels;
+    private final List<String> columnLabels;
+    /** Position of each cell that has persons, as its row shifted left 32 bits plus its column, in order. */
+    private final long[] cellKeys;
+    private final int[] counts;
+    private final double[] values;
+
+    /**
+     * Every field must be present and not null. Cell {@code i} is in row {@code cellRows[i]} and column
+     * {@code cellColumns[i]}, and each cell appears once.
+     *
+     * @param rowLabels    the value of each row, in any order
+     * @param columnLabels the value of each column, in any order
+     * @param cellRows     the row of each cell that has persons, indexing {@code rowLabels}
+     * @param cellColumns  the column of each cell that has persons, indexing {@code columnLabels}
+     * @param counts       the number of persons in each cell
+     * @param sums         the sum of the measure of the persons in each cell
+     */
+    PivotTable(PivotQuery query, String[] rowLabels, String[] columnLabels, int[] cellRows, int[] cellColumns,
+               int[] counts, double[] sums) {
+        requireAllNonNull(query, rowLabels, columnLabels, cellRows, cellColumns, counts, sums);
+        this.query = query;
+        int[] rowOrder = sortedOrder(rowLabels);
+        int[] columnOrder = sortedOrder(columnLabels);
+        this.rowLabels = Collections.unmodifiableList(
+            Arrays.stream(rowOrder).mapToObj(row -> rowLabels[row]).collect(Collectors.toList()));
+        this.columnLabels = Collections.unmodifiableList(
+            Arrays.stream(columnOrder).mapToObj(column -> columnLabels[column]).collect(Collectors.toList()));
+
+        int[] rowPositions = invert(rowOrder);
+        int[] columnPositions = invert(columnOrder);
+        long[] keys = new long[counts.length];
+        for (int cell = 0; cell < counts.length; cell++) {
+            keys[cell] = toKey(rowPositions[cellRows[cell]], columnPositions[cellColumns[cell]]);
+        }
+        int[] cellOrder = IntStream.range(0, keys.length).boxed()
+            .sorted(Comparator.comparingLong(cell -> keys[cell]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        this.cellKeys = new long[cellOrder.length];
+        this.counts = new int[cellOrder.length];
+        this.values = new double[cellOrder.length];
+        for (int i = 0; i < cellOrder.length; i++) {
+            int cell = cellOrder[i];
+            cellKeys[i] = keys[cell];
+            this.counts[i] = counts[cell];
+            this.values[i] = query.getMeasure() == PivotMeasure.COUNT ? counts[cell] : sums[cell] / counts[cell];
+        }
+    }
+
+    /**
+     * Returns the indices of {@code labels} in case-insensitive order of the labels.
+     */
+    private static int[] sortedOrder(String[] labels) {
+        return IntStream.range(0, labels.length).boxed()
+            .sorted(Comparator.comparing(index -> labels[index], String.CASE_INSENSITIVE_ORDER))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    /**
+     * Returns the position of each index in {@code order}.
+     */
+    private static int[] invert(int[] order) {
+        int[] positions = new int[order.length];
+        for (int position = 0; position < order.length; position++) {
+            positions[order[position]] = position;
+        }
+        return positions;
+    }
+
+    private static long toKey(int row, int column) {
+        return ((long) row << 32) | column;
+    }
+
+    /**
+     * Returns the index of the cell of {@code row} and {@code column} among the cells kept, or a negative number if
+     * it has no persons.
+     */
+    private int findCell(int row, int column) {
+        return Arrays.binarySearch(cellKeys, toKey(row, column));
+    }
+
+    public PivotQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns an immutable list of the value of each row.
+     */
+    public List<String> getRowLabels() {
+        return rowLabels;
+    }
+
+    /**
+     * Returns an immutable list of the value of each column.
+     */
+    public List<String> getColumnLabels() {
+        return columnLabels;
+    }
+
+    /**
+     * Returns the number of persons in {@code row} and {@code column}.
+     */
+    public int getCount(int row, int column) {
+        int cell = findCell(row, column);
+        return cell < 0 ? 0 : counts[cell];
+    }
+
+    /**
+     * Returns the measure of the persons in {@code row} and {@code column}, or NaN if there are none.
+     */
+    public double getValue(int row, int column) {
+        int cell = findCell(row, column);
+        return cell < 0 ? Double.NaN : values[cell];
+    }
+
+    /**
+     * Returns the number of cells that have persons.
+     */
+    public int getNumberOfCells() {
+        return cellKeys.length;
+    }
+
+    /**
+     * Returns the row of the {@code cell}-th cell that has persons, counting by row and then column.
+     */
+    public int getCellRow(int cell) {
+        return (int) (cellKeys[cell] >>> 32);
+    }
+
+    /**
+     * Returns the column of the {@code cell}-th cell that has persons, counting by row and then column.
+     */
+    public int getCellColumn(int cell) {
+        return (int) cellKeys[cell];
+    }
+
+    /**
+     * Returns the largest measure of any cell, or NaN if there are no persons.
+     */
+    public double getMaxValue() {
+        return Arrays.stream(values).max().orElse(Double.NaN);
+    }
+
+    /**
+     * Returns the table as tab-separated lines of text, with the row values in the first column.
+     */
+    public String toText() {
+        StringBuilder builder = new StringBuilder(query.toString());
+        columnLabels.forEach(label -> builder.append('\t').append(label));
+        int cell = 0;
+        for (int row = 0; row < rowLabels.size(); row++) {
+            builder.append('\n').append(rowLabels.get(row));
+            for (int column = 0; column < columnLabels.size(); column++) {
+                builder.append('\t');
+                // the cells are in the same order as the rows and columns are walked
+                if (cell < cellKeys.length && cellKeys[cell] == toKey(row, column)) {
+                    builder.append(formatCell(cell));
+                    cell++;
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the measure of the cell of {@code row} and {@code column} as text, empty if the cell has no persons.
+     */
+    public String formatValue(int row, int column) {
+        int cell = findCell(row, column);
+        return cell < 0 ? "" : formatCell(cell);
+    }
+
+    /**
+     * Returns the measure of the {@code cell}-th cell that has persons as text.
+     */
+    private String formatCell(int cell) {
+        if (query.getMeasure() == PivotMeasure.COUNT) {
+            return String.valueOf(counts[cell]);
+        }
+        return String.format("%.2f", values[cell]);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PivotTable)) {
+            return false;
+        }
+
+        PivotTable otherTable = (PivotTable) other;
+        return query.equals(otherTable.query)
+            && rowLabels.equals(otherTable.rowLabels)
+            && columnLabels.equals(otherTable.columnLabels)
+            && Arrays.equals(cellKeys, otherTable.cellKeys)
+            && Arrays.equals(counts, otherTable.counts)
+            && Arrays.equals(values, otherTable.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, rowLabels, columnLabels, Arrays.hashCode(cellKeys), Arrays.hashCode(counts));
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
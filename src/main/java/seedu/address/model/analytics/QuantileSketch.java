@@ -0,0 +1,132 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Estimates quantiles of a stream of non-negative values within a relative error, in memory that grows with the
+ * logarithm of the range of the values rather than with their number.
+ *
+ * Each positive value {@code x} is counted in the bucket {@code ceil(log(x) / log(gamma))}, where
+ * {@code gamma = (1 + accuracy) / (1 - accuracy)}, so every value in a bucket is within the relative accuracy of
+ * the bucket's representative value. Because buckets only hold counts, values can also be removed, and two sketches
+ * with the same accuracy are merged by adding their counts.
+ */
+public class QuantileSketch {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private int zeroCount;
+    private int count;
+    /** counts[i] is the count of the bucket with index {@code minIndex + i}. */
+    private int[] counts = new int[0];
+    private int minIndex;
+
+    /**
+     * Creates an empty sketch whose quantiles are within {@code relativeAccuracy}, between 0 and 1 exclusive,
+     * of a value of the stream.
+     */
+    public QuantileSketch(double relativeAccuracy) {
+        checkArgument(relativeAccuracy > 0 && relativeAccuracy < 1);
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    /**
+     * Adds {@code value}, which must be non-negative, to the sketch.
+     */
+    public void add(double value) {
+        update(value, 1);
+    }
+
+    /**
+     * Removes {@code value}, which must have been added before, from the sketch.
+     */
+    public void remove(double value) {
+        update(value, -1);
+    }
+
+    /**
+     * Adds {@code delta} to the count of the bucket of {@code value}.
+     */
+    private void update(double value, int delta) {
+        checkArgument(value >= 0 && !Double.isInfinite(value));
+        count += delta;
+        if (value == 0) {
+            zeroCount += delta;
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / logGamma);
+        ensureIndex(index);
+        counts[index - minIndex] += delta;
+    }
+
+    /**
+     * Grows {@code counts} so that it has a bucket with {@code index}.
+     */
+    private void ensureIndex(int index) {
+        if (counts.length == 0) {
+            counts = new int[INITIAL_CAPACITY];
+            minIndex = index - INITIAL_CAPACITY / 2;
+        }
+        if (index < minIndex) {
+            int newMinIndex = index - counts.length / 2;
+            int[] newCounts = new int[counts.length + (minIndex - newMinIndex)];
+            System.arraycopy(counts, 0, newCounts, minIndex - newMinIndex, counts.length);
+            counts = newCounts;
+            minIndex = newMinIndex;
+        } else if (index >= minIndex + counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(counts.length * 2, index - minIndex + 1));
+        }
+    }
+
+    /**
+     * Adds the counts of {@code other}, which must have the same relative accuracy, to this sketch.
+     */
+    public void merge(QuantileSketch other) {
+        requireNonNull(other);
+        checkArgument(relativeAccuracy == other.relativeAccuracy);
+        count += other.count;
+        zeroCount += other.zeroCount;
+        for (int i = 0; i < other.counts.length; i++) {
+            if (other.counts[i] != 0) {
+                ensureIndex(other.minIndex + i);
+                counts[other.minIndex + i - minIndex] += other.counts[i];
+            }
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns an estimate of the {@code quantile} (between 0 and 1 inclusive) of the values, or NaN if there are
+     * none.
+     */
+    public double getQuantile(double quantile) {
+        checkArgument(quantile >= 0 && quantile <= 1);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (quantile * (count - 1));
+        long seen = zeroCount;
+        if (seen > rank) {
+            return 0;
+        }
+        int i = 0;
+        while (i < counts.length - 1) {
+            seen += counts[i];
+            if (seen > rank) {
+                break;
+            }
+            i++;
+        }
+        // the representative value of a bucket is within the relative accuracy of all values in it
+        return 2 * Math.exp((minIndex + i) * logGamma) / (1 + Math.exp(logGamma));
+    }
+}
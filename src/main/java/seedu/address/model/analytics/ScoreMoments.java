@@ -0,0 +1,185 @@
+package seedu.address.model.analytics;
+
+import java.math.BigInteger;
+
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the sums and sums of products behind a {@code ScoreStatistics} of the persons with interview scores.
+ *
+ * Every variable is an integer: interview scores are whole numbers and grades are kept in hundredths. The sums are
+ * therefore kept exactly, in {@code long}s until one of them would overflow and in {@code BigInteger}s from then on,
+ * so persons can be removed and aggregates merged without any rounding error, and the centered moments are only
+ * taken from them, exactly until the final division, when a {@code ScoreStatistics} is made.
+ */
+class ScoreMoments {
+
+    private static final int NUMBER_OF_VARIABLES = ScoreStatistics.VARIABLES.size();
+
+    private long count;
+    private final ExactSums sums = new ExactSums(NUMBER_OF_VARIABLES);
+    /** Sum {@code i * NUMBER_OF_VARIABLES + j} is the sum of the products of variables i and j, for i <= j. */
+    private final ExactSums productSums = new ExactSums(NUMBER_OF_VARIABLES * NUMBER_OF_VARIABLES);
+    private final long[] values = new long[NUMBER_OF_VARIABLES];
+
+    /**
+     * Adds {@code sign} (1 or -1) times {@code person}, who must have interview scores, to the moments.
+     */
+    void update(Person person, int sign) {
+        InterviewScores interviewScores = person.getInterviewScores();
+        values[ScoreStatistics.GRADE] = Math.round(person.getGrade().getNumericValue() * 100);
+        for (int questionNum = 1; questionNum <= AnalyticsResult.NUMBER_OF_QUESTIONS; questionNum++) {
+            values[questionNum] = interviewScores.getInterviewScoreValue(questionNum);
+        }
+        count += sign;
+        for (int i = 0; i < NUMBER_OF_VARIABLES; i++) {
+            sums.add(i, sign * values[i]);
+            for (int j = i; j < NUMBER_OF_VARIABLES; j++) {
+                // each value has at most 8 digits, so a single product fits in a long
+                productSums.add(i * NUMBER_OF_VARIABLES + j, sign * values[i] * values[j]);
+            }
+        }
+    }
+
+    /**
+     * Adds the moments of {@code other}, which must not share any person with these moments.
+     */
+    void merge(ScoreMoments other) {
+        count += other.count;
+        sums.addAll(other.sums);
+        productSums.addAll(other.productSums);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of {@code variable}, an index of {@link ScoreStatistics#VARIABLES}, or NaN if there are no
+     * persons.
+     */
+    double getMean(int variable) {
+        return sums.toDouble(variable) / count / getScale(variable);
+    }
+
+    /**
+     * Returns the statistics of the current moments, which do not follow later changes.
+     */
+    ScoreStatistics toStatistics() {
+        double[] means = new double[NUMBER_OF_VARIABLES];
+        double[][] comoments = new double[NUMBER_OF_VARIABLES][NUMBER_OF_VARIABLES];
+        for (int i = 0; i < NUMBER_OF_VARIABLES; i++) {
+            means[i] = getMean(i);
+            for (int j = i; j < NUMBER_OF_VARIABLES; j++) {
+                // the sum of (x_i - mean_i)(x_j - mean_j), from exact sums so it does not depend on the order of
+                // the persons
+                double comoment = getCountTimesComoment(i, j) / count;
+                comoments[i][j] = comoment / (getScale(i) * getScale(j));
+                comoments[j][i] = comoments[i][j];
+            }
+        }
+        return new ScoreStatistics(count, means, comoments);
+    }
+
+    /**
+     * Returns {@code count} times the comoment of variables {@code i <= j}, which is
+     * {@code count * productSum - sum_i * sum_j}. It is worked out exactly, in {@code long}s where it fits and in
+     * {@code BigInteger}s otherwise, so that the two large terms cancel without rounding error.
+     */
+    private double getCountTimesComoment(int i, int j) {
+        int product = i * NUMBER_OF_VARIABLES + j;
+        if (!sums.isWide() && !productSums.isWide()) {
+            try {
+                return Math.subtractExact(Math.multiplyExact(count, productSums.getLong(product)),
+                    Math.multiplyExact(sums.getLong(i), sums.getLong(j)));
+            } catch (ArithmeticException overflow) {
+                // worked out in BigIntegers below
+            }
+        }
+        return BigInteger.valueOf(count).multiply(productSums.get(product))
+            .subtract(sums.get(i).multiply(sums.get(j))).doubleValue();
+    }
+
+    /**
+     * Returns the number that {@code variable} is multiplied by to make it an integer.
+     */
+    private static double getScale(int variable) {
+        return variable == ScoreStatistics.GRADE ? 100 : 1;
+    }
+
+    /**
+     * Exact sums kept in {@code long}s until one of them would overflow, and in {@code BigInteger}s from then on.
+     */
+    private static class ExactSums {
+
+        private final long[] longSums;
+        /** The sums once they no longer fit in {@code longSums}, or null until then. */
+        private BigInteger[] wideSums;
+
+        ExactSums(int size) {
+            longSums = new long[size];
+        }
+
+        boolean isWide() {
+            return wideSums != null;
+        }
+
+        /**
+         * Adds {@code value} to the sum at {@code index}.
+         */
+        void add(int index, long value) {
+            if (wideSums == null) {
+                try {
+                    longSums[index] = Math.addExact(longSums[index], value);
+                    return;
+                } catch (ArithmeticException overflow) {
+                    widen();
+                }
+            }
+            wideSums[index] = wideSums[index].add(BigInteger.valueOf(value));
+        }
+
+        /**
+         * Adds each sum of {@code other}, which must have as many sums, to the sum at the same index.
+         */
+        void addAll(ExactSums other) {
+            for (int i = 0; i < longSums.length; i++) {
+                if (other.wideSums == null) {
+                    add(i, other.longSums[i]);
+                } else {
+                    if (wideSums == null) {
+                        widen();
+                    }
+                    wideSums[i] = wideSums[i].add(other.wideSums[i]);
+                }
+            }
+        }
+
+        /**
+         * Returns the sum at {@code index}, which must not be wide.
+         */
+        long getLong(int index) {
+            assert wideSums == null;
+            return longSums[index];
+        }
+
+        BigInteger get(int index) {
+            return wideSums == null ? BigInteger.valueOf(longSums[index]) : wideSums[index];
+        }
+
+        double toDouble(int index) {
+            return wideSums == null ? longSums[index] : wideSums[index].doubleValue();
+        }
+
+        /**
+         * Moves the sums into {@code BigInteger}s, which every later change is made to.
+         */
+        private void widen() {
+            wideSums = new BigInteger[longSums.length];
+            for (int i = 0; i < longSums.length; i++) {
+                wideSums[i] = BigInteger.valueOf(longSums[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model.analytics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The means, variances and correlations of the grades and interview scores of the persons with interview scores.
+ * The variables are the grade at index {@link #GRADE} of {@link #VARIABLES}, followed by the score of each
+ * interview question at the index of its question number.
+ * Guarantees: immutable.
+ */
+public final class ScoreStatistics {
+
+    public static final int GRADE = 0;
+    public static final List<String> VARIABLES;
+
+    static {
+        List<String> variables = new ArrayList<>();
+        variables.add("Grade");
+        for (int questionNum = 1; questionNum <= AnalyticsResult.NUMBER_OF_QUESTIONS; questionNum++) {
+            variables.add("Q" + questionNum);
+        }
+        VARIABLES = Collections.unmodifiableList(variables);
+    }
+
+    private final long numPeople;
+    private final double[] means;
+    private final double[][] comoments;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param numPeople the number of persons with interview scores
+     * @param means     the mean of each of {@link #VARIABLES}
+     * @param comoments the sum over the persons of the product of the deviations from the mean of each pair of
+     *                  {@link #VARIABLES}
+     */
+    ScoreStatistics(long numPeople, double[] means, double[][] comoments) {
+        requireAllNonNull(means, comoments);
+        this.numPeople = numPeople;
+        this.means = means.clone();
+        this.comoments = new double[comoments.length][];
+        for (int i = 0; i < comoments.length; i++) {
+            this.comoments[i] = comoments[i].clone();
+        }
+    }
+
+    public long getNumPeople() {
+        return numPeople;
+    }
+
+    /**
+     * Returns the mean of {@code variable}, an index of {@link #VARIABLES}, or NaN if there are no persons.
+     */
+    public double getMean(int variable) {
+        return means[variable];
+    }
+
+    /**
+     * Returns the sample variance of {@code variable}, an index of {@link #VARIABLES}, or NaN if there are fewer
+     * than two persons.
+     */
+    public double getVariance(int variable) {
+        return numPeople < 2 ? Double.NaN : comoments[variable][variable] / (numPeople - 1);
+    }
+
+    /**
+     * Returns the correlation of {@code first} and {@code second}, indexes of {@link #VARIABLES}, or NaN if either
+     * does not vary.
+     */
+    public double getCorrelation(int first, int second) {
+        return correlation(comoments[first][second], comoments[first][first], comoments[second][second]);
+    }
+
+    /**
+     * Returns the correlation of the grade and the total interview score, or NaN if either does not vary.
+     */
+    public double getGradeTotalScoreCorrelation() {
+        // the total score is the sum of the question scores, so its comoments are sums of theirs
+        double gradeTotalComoment = 0;
+        double totalComoment = 0;
+        for (int i = 1; i < VARIABLES.size(); i++) {
+            gradeTotalComoment += comoments[GRADE][i];
+            for (int j = 1; j < VARIABLES.size(); j++) {
+                totalComoment += comoments[i][j];
+            }
+        }
+        return correlation(gradeTotalComoment, comoments[GRADE][GRADE], totalComoment);
+    }
+
+    /**
+     * Returns the correlation of two variables from their comoment and the comoment of each with itself.
+     */
+    private double correlation(double comoment, double firstComoment, double secondComoment) {
+        if (numPeople < 2 || !(firstComoment > 0) || !(secondComoment > 0)) {
+            return Double.NaN;
+        }
+        // rounding can take a perfect correlation slightly past 1
+        return Math.max(-1, Math.min(1, comoment / Math.sqrt(firstComoment * secondComoment)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ScoreStatistics)) {
+            return false;
+        }
+
+        ScoreStatistics otherStatistics = (ScoreStatistics) other;
+        return numPeople == otherStatistics.numPeople
+            && Arrays.equals(means, otherStatistics.means)
+            && Arrays.deepEquals(comoments, otherStatistics.comoments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numPeople, Arrays.hashCode(means), Arrays.deepHashCode(comoments));
+    }
+
+    @Override
+    public String toString() {
+        return numPeople + " persons with interview scores, grade and total interview score correlation "
+            + String.format("%.2f", getGradeTotalScoreCorrelation());
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.TopKHeap;
+
+/**
+ * Picks the most common categories of a breakdown, such as the schools or past jobs of {@code AnalyticsResult}, and
+ * folds the rest into a single "Other" category, so that a chart of them stays bounded however many categories there
+ * are.
+ *
+ * Keeps the {@code n} largest counts seen so far in a {@link TopKHeap}, so each category costs O(log n) and the
+ * categories are never sorted as a whole.
+ */
+public class TopCategories {
+
+    /** The format of the category that the other categories are folded into, with the number folded. */
+    public static final String OTHER_CATEGORY_FORMAT = "Other (%1$d)";
+
+    private TopCategories() {
+    }
+
+    /**
+     * Returns the {@code n} largest of {@code counts}, largest first, followed by the sum of the rest under
+     * {@link #OTHER_CATEGORY_FORMAT} if there are more than {@code n} categories. Categories with equal counts keep
+     * their order in {@code counts}.
+     */
+    public static Map<String, Integer> of(Map<String, Integer> counts, int n) {
+        requireNonNull(counts);
+        assert n > 0;
+        String[] categories = new String[counts.size()];
+        TopKHeap heap = new TopKHeap(Math.min(n, counts.size()));
+        int total = 0;
+
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            categories[index] = entry.getKey();
+            int count = entry.getValue();
+            total += count;
+            heap.offer(count, index);
+            index++;
+        }
+
+        heap.sortDescending();
+        Map<String, Integer> top = new LinkedHashMap<>();
+        for (int i = 0; i < heap.size(); i++) {
+            int count = (int) heap.getValue(i);
+            top.put(categories[heap.getIndex(i)], count);
+            total -= count;
+        }
+        if (categories.length > heap.size()) {
+            top.put(String.format(OTHER_CATEGORY_FORMAT, categories.length - heap.size()), total);
+        }
+        return top;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model.interviews;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A set of times, kept as disjoint half-open intervals of minutes since 1970-01-01T00:00.
+ * Overlapping and touching intervals are merged as they are added, so checking whether a time range is free
+ * takes O(log n) for n intervals.
+ */
+public class IntervalSet {
+
+    private static final int MINUTES_A_DAY = 24 * 60;
+
+    /** Start of each interval to its end. */
+    private final TreeMap<Long, Long> intervals = new TreeMap<>();
+
+    public IntervalSet() {
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}.
+     */
+    public IntervalSet(IntervalSet toCopy) {
+        intervals.putAll(toCopy.intervals);
+    }
+
+    /**
+     * Returns the minute of {@code time} on {@code date}, counted from 1970-01-01T00:00.
+     */
+    public static long toEpochMinute(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_A_DAY + SlotSettings.getMinuteOfDay(time);
+    }
+
+    /**
+     * Adds the minutes from {@code start} up to, but not including, {@code end}.
+     */
+    public void add(long start, long end) {
+        if (start >= end) {
+            return;
+        }
+        Map.Entry<Long, Long> before = intervals.floorEntry(start);
+        if (before != null && before.getValue() >= start) {
+            start = before.getKey();
+            end = Math.max(end, before.getValue());
+        }
+        Map.Entry<Long, Long> after = intervals.ceilingEntry(start);
+        while (after != null && after.getKey() <= end) {
+            end = Math.max(end, after.getValue());
+            intervals.remove(after.getKey());
+            after = intervals.ceilingEntry(start);
+        }
+        intervals.put(start, end);
+    }
+
+    /**
+     * Adds every day from {@code from} to {@code to}, both inclusive.
+     */
+    public void addDays(LocalDate from, LocalDate to) {
+        add(from.toEpochDay() * MINUTES_A_DAY, (to.toEpochDay() + 1) * MINUTES_A_DAY);
+    }
+
+    /**
+     * Adds every interval of {@code other}.
+     */
+    public void addAll(IntervalSet other) {
+        other.intervals.forEach(this::add);
+    }
+
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+
+    /**
+     * Returns an unmodifiable view of the start of each interval to its end, in time order.
+     */
+    public Map<Long, Long> getIntervals() {
+        return Collections.unmodifiableMap(intervals);
+    }
+
+    /**
+     * Returns true if any minute from {@code start} up to, but not including, {@code end} is in this set.
+     */
+    public boolean overlaps(long start, long end) {
+        Map.Entry<Long, Long> entry = intervals.lowerEntry(end);
+        return entry != null && entry.getValue() > start;
+    }
+
+    /**
+     * Returns the earliest minute at or after {@code start} from which {@code length} minutes are all outside
+     * this set.
+     */
+    public long firstFreeFrom(long start, long length) {
+        long result = start;
+        Map.Entry<Long, Long> entry = intervals.lowerEntry(result + length);
+        while (entry != null && entry.getValue() > result) {
+            result = entry.getValue();
+            entry = intervals.lowerEntry(result + length);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof IntervalSet // instanceof handles nulls
+            && intervals.equals(((IntervalSet) other).intervals)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return intervals.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return intervals.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.interviews;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.job.CandidateRanker;
+import seedu.address.model.job.CandidateRanker.RankedPerson;
+import seedu.address.model.job.RankWeights;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the order persons are booked into interview slots in, which decides who gets the earliest slots: the
+ * order they are listed in, or the best scoring first by their grade and interview scores.
+ */
+public enum InterviewOrder {
+    LISTED, SCORE;
+
+    /**
+     * Returns {@code persons} in the order they are booked in, scoring them with {@code weights} if this order
+     * ranks them. Persons with equal scores keep the order they are listed in.
+     */
+    public List<Person> arrange(List<Person> persons, RankWeights weights) {
+        switch (this) {
+        case LISTED:
+            return persons;
+        case SCORE:
+            if (persons.isEmpty()) {
+                return persons;
+            }
+            // the bounded heap of the ranker holds every person, so popping it gives them all from best to worst
+            List<Person> result = new ArrayList<>(persons.size());
+            for (RankedPerson ranked : CandidateRanker.rankTopK(persons, weights, persons.size())) {
+                result.add(ranked.getPerson());
+            }
+            return result;
+        default:
+            throw new AssertionError("Unknown interview order: " + this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.interviews;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a what-if change to the interview settings: a maximum number of interviews a day, and dates blocked
+ * out in addition to the dates already blocked out. With a roster of interviewers, the maximum is shared by all of
+ * them, each also holding no more than their own daily capacity.
+ * Guarantees: immutable; maximum interviews a day is positive.
+ */
+public class InterviewScenario {
+
+    public static final String MESSAGE_CONSTRAINTS = "Maximum interviews a day should be a non-zero unsigned integer.";
+
+    private final int maxInterviewsADay;
+    private final List<LocalDate> blockOutDates;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param blockOutDates dates to block out in addition to the dates already blocked out
+     */
+    public InterviewScenario(int maxInterviewsADay, List<LocalDate> blockOutDates) {
+        requireNonNull(blockOutDates);
+        checkArgument(maxInterviewsADay > 0, MESSAGE_CONSTRAINTS);
+        this.maxInterviewsADay = maxInterviewsADay;
+        this.blockOutDates = Collections.unmodifiableList(new ArrayList<>(blockOutDates));
+    }
+
+    public int getMaxInterviewsADay() {
+        return maxInterviewsADay;
+    }
+
+    /**
+     * Returns an immutable list of the dates blocked out in addition to the dates already blocked out, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
+     */
+    public List<LocalDate> getBlockOutDates() {
+        return blockOutDates;
+    }
+
+    /**
+     * Changes the settings of {@code interviews} to those of this scenario.
+     */
+    void applyTo(Interviews interviews) {
+        interviews.setMaxInterviewsADay(maxInterviewsADay);
+        interviews.setBlockOutDates(blockOutDates);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof InterviewScenario // instanceof handles nulls
+            && maxInterviewsADay == ((InterviewScenario) other).maxInterviewsADay
+            && blockOutDates.equals(((InterviewScenario) other).blockOutDates));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxInterviewsADay, blockOutDates);
+    }
+
+    @Override
+    public String toString() {
+        if (blockOutDates.isEmpty()) {
+            return maxInterviewsADay + " a day";
+        }
+        return maxInterviewsADay + " a day, " + blockOutDates.size() + " more date(s) blocked out";
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.interviews;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Schedules the interview pool under each of a number of scenarios, to compare when the interviews would be done
+ * and how full the interview days would be before changing the settings.
+ *
+ * The settings and the persons are copied once on the calling thread into a snapshot that nothing changes, and each
+ * scenario then books into an {@code Interviews} of its own on the common pool, so the scenarios run in parallel
+ * and the schedule being simulated is never touched.
+ */
+public class InterviewSimulator {
+
+    /**
+     * Returns the outcome of booking every one of {@code persons} into an empty schedule with the settings of
+     * {@code interviews} changed by each of {@code scenarios}, starting after today, in the order of the scenarios.
+     */
+    public static List<SimulationResult> simulate(Interviews interviews, List<Person> persons,
+                                                  List<InterviewScenario> scenarios) {
+        return simulate(interviews, persons, scenarios, LocalDate.now());
+    }
+
+    /**
+     * Returns the outcome of booking every one of {@code persons} into an empty schedule with the settings of
+     * {@code interviews} changed by each of {@code scenarios}, starting after {@code today}.
+     */
+    static List<SimulationResult> simulate(Interviews interviews, List<Person> persons,
+                                           List<InterviewScenario> scenarios, LocalDate today) {
+        requireAllNonNull(interviews, persons, scenarios, today);
+        Interviews snapshot = new Interviews();
+        snapshot.setInterviews(interviews);
+        snapshot.clear();
+        List<Person> pool = Collections.unmodifiableList(new ArrayList<>(persons));
+
+        List<CompletableFuture<SimulationResult>> runs = new ArrayList<>(scenarios.size());
+        for (InterviewScenario scenario : scenarios) {
+            runs.add(CompletableFuture.supplyAsync(() -> run(snapshot, pool, scenario, today),
+                ForkJoinPool.commonPool()));
+        }
+        List<SimulationResult> results = new ArrayList<>(runs.size());
+        for (CompletableFuture<SimulationResult> run : runs) {
+            results.add(run.join());
+        }
+        return results;
+    }
+
+    /**
+     * Books {@code pool} into a copy of {@code snapshot} changed by {@code scenario}.
+     * Only reads {@code snapshot}, so it can run alongside other scenarios on the same snapshot.
+     */
+    private static SimulationResult run(Interviews snapshot, List<Person> pool, InterviewScenario scenario,
+                                        LocalDate today) {
+        Interviews trial = new Interviews();
+        trial.setInterviews(snapshot);
+        scenario.applyTo(trial);
+        int unmatched = trial.generate(pool, today).size();
+        if (trial.getSchedule().isEmpty()) {
+            return new SimulationResult(scenario, null, 0, unmatched, 0);
+        }
+
+        LocalDate lastInterviewDate = trial.getSchedule().lastKey();
+        int booked = 0;
+        for (List<InterviewSlot> slotList : trial.getSchedule().values()) {
+            booked += slotList.size();
+        }
+        long capacity = (long) trial.countOpenDays(today, lastInterviewDate) * trial.getDailyCapacity();
+        return new SimulationResult(scenario, lastInterviewDate, booked, unmatched, (double) booked / capacity);
+    }
+}
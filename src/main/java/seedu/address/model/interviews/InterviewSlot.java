@@ -0,0 +1,128 @@
+package seedu.address.model.interviews;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the interview of a person in a room at a time slot of a day, optionally held by an interviewer and
+ * optionally for a job.
+ * Guarantees: immutable; details other than the interviewer and the job are present and not null.
+ */
+public class InterviewSlot {
+
+    /** Orders slots by date, then start time, then room. */
+    public static final Comparator<InterviewSlot> CHRONOLOGICAL = Comparator.comparing(InterviewSlot::getDate)
+        .thenComparing(InterviewSlot::getStart).thenComparingInt(InterviewSlot::getRoom);
+
+    private final Person person;
+    private final LocalDate date;
+    private final LocalTime start;
+    private final LocalTime end;
+    private final int room;
+    private final Name interviewer;
+    private final JobName job;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param room the room of the interview, counting from 1
+     */
+    public InterviewSlot(Person person, LocalDate date, LocalTime start, LocalTime end, int room) {
+        this(person, date, start, end, room, null);
+    }
+
+    /**
+     * Every field other than {@code interviewer} must be present and not null.
+     *
+     * @param room        the room of the interview, counting from 1
+     * @param interviewer the name of the interviewer holding the interview, or null if there is none
+     */
+    public InterviewSlot(Person person, LocalDate date, LocalTime start, LocalTime end, int room, Name interviewer) {
+        this(person, date, start, end, room, interviewer, null);
+    }
+
+    /**
+     * Every field other than {@code interviewer} and {@code job} must be present and not null.
+     *
+     * @param room        the room of the interview, counting from 1
+     * @param interviewer the name of the interviewer holding the interview, or null if there is none
+     * @param job         the name of the job the person is interviewed for, or null if there is none
+     */
+    public InterviewSlot(Person person, LocalDate date, LocalTime start, LocalTime end, int room, Name interviewer,
+                         JobName job) {
+        requireAllNonNull(person, date, start, end);
+        this.person = person;
+        this.date = date;
+        this.start = start;
+        this.end = end;
+        this.room = room;
+        this.interviewer = interviewer;
+        this.job = job;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStart() {
+        return start;
+    }
+
+    public LocalTime getEnd() {
+        return end;
+    }
+
+    public int getRoom() {
+        return room;
+    }
+
+    public Optional<Name> getInterviewer() {
+        return Optional.ofNullable(interviewer);
+    }
+
+    public Optional<JobName> getJob() {
+        return Optional.ofNullable(job);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof InterviewSlot)) {
+            return false;
+        }
+        InterviewSlot otherSlot = (InterviewSlot) other;
+        return person.equals(otherSlot.person)
+            && date.equals(otherSlot.date)
+            && start.equals(otherSlot.start)
+            && end.equals(otherSlot.end)
+            && room == otherSlot.room
+            && Objects.equals(interviewer, otherSlot.interviewer)
+            && Objects.equals(job, otherSlot.job);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, date, start, end, room, interviewer, job);
+    }
+
+    @Override
+    public String toString() {
+        return date + " " + start + "-" + end + " Room " + room + ": " + person.getName()
+            + (interviewer == null ? "" : " with " + interviewer) + (job == null ? "" : " for " + job);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.interviews;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents an interviewer, the programming languages they can interview candidates on and the number of
+ * interviews they can hold in a day.
+ * Guarantees: immutable; details are present and not null, daily capacity is positive.
+ */
+public class Interviewer {
+
+    public static final String MESSAGE_CONSTRAINTS = "Daily capacity should be a non-zero unsigned integer.";
+
+    private final Name name;
+    private final Set<KnownProgLang> skills;
+    private final int dailyCapacity;
+    /** Skills in lower case, to match against the known programming languages of candidates ignoring case. */
+    private final Set<String> skillKeys = new HashSet<>();
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Interviewer(Name name, Set<KnownProgLang> skills, int dailyCapacity) {
+        requireAllNonNull(name, skills);
+        checkArgument(dailyCapacity > 0, MESSAGE_CONSTRAINTS);
+        this.name = name;
+        this.skills = Collections.unmodifiableSet(new HashSet<>(skills));
+        this.dailyCapacity = dailyCapacity;
+        for (KnownProgLang skill : skills) {
+            skillKeys.add(toKey(skill));
+        }
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    /**
+     * Returns an immutable skill set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public Set<KnownProgLang> getSkills() {
+        return skills;
+    }
+
+    public int getDailyCapacity() {
+        return dailyCapacity;
+    }
+
+    /**
+     * Returns true if this interviewer knows every programming language {@code person} knows, ignoring case.
+     */
+    public boolean canInterview(Person person) {
+        for (KnownProgLang progLang : person.getKnownProgLangs()) {
+            if (!skillKeys.contains(toKey(progLang))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if both interviewers have the same name.
+     */
+    public boolean isSameInterviewer(Interviewer otherInterviewer) {
+        return otherInterviewer == this
+            || (otherInterviewer != null && otherInterviewer.getName().equals(getName()));
+    }
+
+    private static String toKey(KnownProgLang progLang) {
+        return progLang.value.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Interviewer)) {
+            return false;
+        }
+        Interviewer otherInterviewer = (Interviewer) other;
+        return name.equals(otherInterviewer.name)
+            && skills.equals(otherInterviewer.skills)
+            && dailyCapacity == otherInterviewer.dailyCapacity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, skills, dailyCapacity);
+    }
+
+    @Override
+    public String toString() {
+        Set<String> sortedSkills = new TreeSet<>();
+        skills.forEach(skill -> sortedSkills.add(skill.value));
+        return name + " (" + String.join(", ", sortedSkills) + "), " + dailyCapacity + " a day";
+    }
+}
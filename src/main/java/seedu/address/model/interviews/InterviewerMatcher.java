@@ -0,0 +1,234 @@
+package seedu.address.model.interviews;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Assigns candidates to interviewers who know every programming language the candidate knows, covering as many
+ * candidates as possible in as few days as the interviewers' daily capacities allow.
+ *
+ * Candidates that the same interviewers can interview are interchangeable, so they are grouped into one node of a
+ * flow network running from the source to each group, limited by the number of candidates in it, from each group
+ * to each interviewer who can interview it, and from each interviewer to the sink, limited by their daily capacity
+ * times a number of days. The fewest days for which the maximum flow covers every candidate who has an interviewer
+ * is found by binary search, running Dinic's algorithm on a network whose size depends on the number of groups and
+ * interviewers rather than the number of candidates.
+ */
+class InterviewerMatcher {
+
+    public static final int UNMATCHED = -1;
+
+    private InterviewerMatcher() {
+    }
+
+    /**
+     * Returns the index in {@code interviewers} of the interviewer assigned to each of {@code candidates}, or
+     * {@link #UNMATCHED} for candidates no interviewer can interview.
+     * Candidates in the same group are handed out to its interviewers in the order they are given.
+     */
+    static int[] match(List<Person> candidates, List<Interviewer> interviewers) {
+        Map<BitSet, Integer> groupIndexes = new HashMap<>();
+        int[] groups = new int[candidates.size()];
+        int[] groupSizes = new int[candidates.size()];
+        BitSet[] groupInterviewers = new BitSet[candidates.size()];
+        int coverable = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            BitSet eligible = new BitSet(interviewers.size());
+            for (int j = 0; j < interviewers.size(); j++) {
+                if (interviewers.get(j).canInterview(candidates.get(i))) {
+                    eligible.set(j);
+                }
+            }
+            if (eligible.isEmpty()) {
+                groups[i] = UNMATCHED;
+                continue;
+            }
+            int group = groupIndexes.computeIfAbsent(eligible, key -> groupIndexes.size());
+            groupInterviewers[group] = eligible;
+            groups[i] = group;
+            groupSizes[group]++;
+            coverable++;
+        }
+
+        int[] result = new int[candidates.size()];
+        Arrays.fill(result, UNMATCHED);
+        if (coverable == 0) {
+            return result;
+        }
+
+        int numberOfGroups = groupIndexes.size();
+        long low = 1;
+        long high = coverable;
+        while (low < high) {
+            long days = (low + high) / 2;
+            if (new FlowNetwork(groupSizes, groupInterviewers, numberOfGroups, interviewers, days).maxFlow()
+                    == coverable) {
+                high = days;
+            } else {
+                low = days + 1;
+            }
+        }
+        FlowNetwork network = new FlowNetwork(groupSizes, groupInterviewers, numberOfGroups, interviewers, low);
+        network.maxFlow();
+
+        // hand out the candidates of each group to its interviewers as the flow assigns them
+        long[][] remaining = network.getGroupFlows();
+        int[] nextInterviewer = new int[numberOfGroups];
+        for (int i = 0; i < candidates.size(); i++) {
+            int group = groups[i];
+            if (group == UNMATCHED) {
+                continue;
+            }
+            int interviewer = nextInterviewer[group];
+            while (remaining[group][interviewer] == 0) {
+                interviewer++;
+            }
+            remaining[group][interviewer]--;
+            nextInterviewer[group] = interviewer;
+            result[i] = interviewer;
+        }
+        return result;
+    }
+
+    /**
+     * A flow network from a source through candidate groups and interviewers to a sink, with Dinic's algorithm.
+     */
+    private static class FlowNetwork {
+        private final int numberOfGroups;
+        private final int numberOfInterviewers;
+        private final int source;
+        private final int sink;
+        private final int[] head;
+        private final int[] level;
+        private final int[] nextEdgeToTry;
+        private int[] edgeNext = new int[16];
+        private int[] edgeTo = new int[16];
+        private long[] edgeCapacity = new long[16];
+        private int numberOfEdges;
+
+        FlowNetwork(int[] groupSizes, BitSet[] groupInterviewers, int numberOfGroups, List<Interviewer> interviewers,
+                    long days) {
+            this.numberOfGroups = numberOfGroups;
+            this.numberOfInterviewers = interviewers.size();
+            int numberOfNodes = numberOfGroups + numberOfInterviewers + 2;
+            this.source = numberOfNodes - 2;
+            this.sink = numberOfNodes - 1;
+            this.head = new int[numberOfNodes];
+            this.level = new int[numberOfNodes];
+            this.nextEdgeToTry = new int[numberOfNodes];
+            Arrays.fill(head, -1);
+            for (int group = 0; group < numberOfGroups; group++) {
+                addEdge(source, group, groupSizes[group]);
+                BitSet eligible = groupInterviewers[group];
+                for (int j = eligible.nextSetBit(0); j >= 0; j = eligible.nextSetBit(j + 1)) {
+                    addEdge(group, numberOfGroups + j, groupSizes[group]);
+                }
+            }
+            for (int j = 0; j < numberOfInterviewers; j++) {
+                addEdge(numberOfGroups + j, sink, interviewers.get(j).getDailyCapacity() * days);
+            }
+        }
+
+        /**
+         * Adds an edge from {@code from} to {@code to} and its residual edge, which has the index after it.
+         */
+        private void addEdge(int from, int to, long capacity) {
+            if (numberOfEdges + 2 > edgeTo.length) {
+                edgeNext = Arrays.copyOf(edgeNext, edgeNext.length * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeTo.length * 2);
+                edgeCapacity = Arrays.copyOf(edgeCapacity, edgeCapacity.length * 2);
+            }
+            edgeTo[numberOfEdges] = to;
+            edgeCapacity[numberOfEdges] = capacity;
+            edgeNext[numberOfEdges] = head[from];
+            head[from] = numberOfEdges++;
+            edgeTo[numberOfEdges] = from;
+            edgeCapacity[numberOfEdges] = 0;
+            edgeNext[numberOfEdges] = head[to];
+            head[to] = numberOfEdges++;
+        }
+
+        /**
+         * Sends the maximum flow from the source to the sink and returns its value.
+         */
+        long maxFlow() {
+            long flow = 0;
+            while (buildLevels()) {
+                System.arraycopy(head, 0, nextEdgeToTry, 0, head.length);
+                long pushed = push(source, Long.MAX_VALUE);
+                while (pushed > 0) {
+                    flow += pushed;
+                    pushed = push(source, Long.MAX_VALUE);
+                }
+            }
+            return flow;
+        }
+
+        /**
+         * Labels each node with its distance from the source along edges with capacity left.
+         * Returns true if the sink can be reached.
+         */
+        private boolean buildLevels() {
+            Arrays.fill(level, -1);
+            level[source] = 0;
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(source);
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int edge = head[node]; edge != -1; edge = edgeNext[edge]) {
+                    if (edgeCapacity[edge] > 0 && level[edgeTo[edge]] < 0) {
+                        level[edgeTo[edge]] = level[node] + 1;
+                        queue.add(edgeTo[edge]);
+                    }
+                }
+            }
+            return level[sink] >= 0;
+        }
+
+        /**
+         * Pushes up to {@code limit} flow from {@code node} to the sink along edges to the next level.
+         * The network has four levels, so the recursion is at most three calls deep.
+         */
+        private long push(int node, long limit) {
+            if (node == sink) {
+                return limit;
+            }
+            for (; nextEdgeToTry[node] != -1; nextEdgeToTry[node] = edgeNext[nextEdgeToTry[node]]) {
+                int edge = nextEdgeToTry[node];
+                int to = edgeTo[edge];
+                if (edgeCapacity[edge] > 0 && level[to] == level[node] + 1) {
+                    long pushed = push(to, Math.min(limit, edgeCapacity[edge]));
+                    if (pushed > 0) {
+                        edgeCapacity[edge] -= pushed;
+                        edgeCapacity[edge ^ 1] += pushed;
+                        return pushed;
+                    }
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Returns the flow from each group to each interviewer.
+         */
+        long[][] getGroupFlows() {
+            long[][] flows = new long[numberOfGroups][numberOfInterviewers];
+            for (int group = 0; group < numberOfGroups; group++) {
+                for (int edge = head[group]; edge != -1; edge = edgeNext[edge]) {
+                    int to = edgeTo[edge];
+                    if (to >= numberOfGroups && to < numberOfGroups + numberOfInterviewers) {
+                        // the residual edge back from the interviewer holds the flow sent to it
+                        flows[group][to - numberOfGroups] = edgeCapacity[edge ^ 1];
+                    }
+                }
+            }
+            return flows;
+        }
+    }
+}
@@ -1,160 +1,771 @@
 package seedu.address.model.interviews;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Collection;
-import java.util.GregorianCalendar;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
 
 import seedu.address.model.interviews.exceptions.InterviewsPresentException;
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 
 /**
- * Represents the association class between person and calendar.
+ * Represents the association class between person and interview slot.
+ *
+ * Days are handled as epoch days, the number of days since 1970-01-01, so moving to the next day is an increment.
+ * Block out dates are kept in a bit set indexed by epoch day and weekends are found from the epoch day itself,
+ * so checking whether a day is available takes constant time however many dates are blocked out.
+ * Each interview day is divided into time slots as given by its {@code SlotSettings}, and each person is booked
+ * into the earliest slot with a free room that is outside their unavailable times.
+ * When there is a roster of interviewers, each person is first matched to an interviewer who knows all of their
+ * programming languages. Each interviewer holds at most their daily capacity of interviews a day, one at a time, and
+ * all of them together share the rooms and the maximum interviews a day.
+ * A person can have an interview for each job they are in the interview list of, and their interviews never overlap.
+ *
+ * The schedulers that book the slots are kept between changes to the schedule, so persons can be appended,
+ * rescheduled, removed and moved into gaps while only the days they change are touched. They are built again from
+ * the schedule when a setting they depend on changes or when the schedule is changed on a later day.
  */
 public class Interviews {
 
-    public static final int SECOND = 0;
-    public static final int MINUTE = 0;
-    public static final int HOUR = 0;
-    public static final int MILLISECOND = 0;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
+    /** Number of days from a Monday to 1970-01-01, which is a Thursday. */
+    private static final int EPOCH_DAY_OF_WEEK = 3;
+    private static final int SATURDAY = 5;
+
+    private static final IntervalSet ALWAYS_AVAILABLE = new IntervalSet();
 
     private int maxInterviewsADay = 2;
+    private SlotSettings slotSettings = SlotSettings.DEFAULT;
+
+    /** Interview slots of each interview day, in date order and in time order within each day. */
+    private final TreeMap<LocalDate, List<InterviewSlot>> interviewsMap;
+    /** Bit {@code d} is set if epoch day {@code d} is blocked out. */
+    private final BitSet blockOutDays;
+    /** Times each person cannot be interviewed at. */
+    private final Map<Nric, IntervalSet> unavailability;
+    /** Interviews of each person in the schedule, so they can be found and removed without searching every day. */
+    private final Map<Nric, List<InterviewSlot>> slotsByNric;
+    /** Interviewers to match persons to, in the order they were added. */
+    private final List<Interviewer> interviewers;
 
-    private final HashMap<Calendar, List<Person>> interviewsHashMap;
-    private final ArrayList<Calendar> blockOutDates;
+    /**
+     * Schedulers holding the interviews after {@code schedulersToday}, one for each interviewer if there are any,
+     * or null if they have to be built again. The schedulers of interviewers share the scheduler of the rooms.
+     */
+    private SlotScheduler[] schedulers;
+    private LocalDate schedulersToday;
 
     public Interviews() {
-        this.interviewsHashMap = new HashMap<>();
-        this.blockOutDates = new ArrayList<>();
+        this.interviewsMap = new TreeMap<>();
+        this.blockOutDays = new BitSet();
+        this.unavailability = new HashMap<>();
+        this.slotsByNric = new HashMap<>();
+        this.interviewers = new ArrayList<>();
     }
 
     /**
-     * Helper method for test.
+     * Generates a interviews slot list where there are multiple interviewees in a day, starting after today.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
      */
-    protected Interviews(HashMap<Calendar, List<Person>> interviewsHashMap) {
-        this.interviewsHashMap = interviewsHashMap;
-        this.blockOutDates = new ArrayList<>();
+    public List<Person> generate(List<Person> persons) throws InterviewsPresentException {
+        return generate(persons, LocalDate.now());
     }
 
     /**
-     * Generates a interviews date list where there are multiple interviewees in a day.
+     * Generates a interviews slot list where there are multiple interviewees in a day, starting after {@code today}.
+     * Persons are booked in the order given, each into the earliest slot they are available for.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
      */
-    public void generate(List<Person> persons) throws InterviewsPresentException {
-        if (!interviewsHashMap.isEmpty()) {
+    List<Person> generate(List<Person> persons, LocalDate today) throws InterviewsPresentException {
+        if (!interviewsMap.isEmpty()) {
             throw new InterviewsPresentException();
         }
-        Calendar now = Calendar.getInstance();
-        int year = now.get(Calendar.YEAR);
-        int month = now.get(Calendar.MONTH);
-        int day = now.get(Calendar.DATE);
-        Calendar calendar = new GregorianCalendar(year, month, day);
-        calendar = nextAvailableDay(calendar);
-        interviewsHashMap.put(calendar, new ArrayList<>());
-        for (Person person : persons) {
-            List<Person> personList = interviewsHashMap.get(calendar);
-            if (personList.size() < maxInterviewsADay) {
-                personList.add(person);
+        return append(persons, today);
+    }
+
+    /**
+     * Generates interviews for the persons in the interview list of each job in {@code personsByJob}, starting after
+     * today.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
+     */
+    public List<Person> generate(Map<JobName, List<Person>> personsByJob) throws InterviewsPresentException {
+        return generate(personsByJob, LocalDate.now());
+    }
+
+    /**
+     * Generates interviews for the persons in the interview list of each job in {@code personsByJob}, starting after
+     * {@code today}. A person in the lists of several jobs gets an interview for each, at times that do not overlap.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
+     */
+    List<Person> generate(Map<JobName, List<Person>> personsByJob, LocalDate today)
+            throws InterviewsPresentException {
+        if (!interviewsMap.isEmpty()) {
+            throw new InterviewsPresentException();
+        }
+        return append(personsByJob, today);
+    }
+
+    /**
+     * Books each of {@code persons} who has no interview yet into the earliest free slot after today, leaving the
+     * interviews already in the schedule where they are.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
+     */
+    public List<Person> append(List<Person> persons) {
+        return append(persons, LocalDate.now());
+    }
+
+    /**
+     * Books each of {@code persons} who has no interview yet into the earliest free slot after {@code today}, in
+     * the order given, leaving the interviews already in the schedule where they are.
+     * Persons appended are matched to interviewers among themselves, without moving the persons already matched.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
+     */
+    List<Person> append(List<Person> persons, LocalDate today) {
+        return book(Collections.singletonMap(null, persons), today);
+    }
+
+    /**
+     * Books each person in the interview list of each job in {@code personsByJob} who has no interview for that job
+     * yet into the earliest free slot after today, leaving the interviews already in the schedule where they are.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
+     */
+    public List<Person> append(Map<JobName, List<Person>> personsByJob) {
+        return append(personsByJob, LocalDate.now());
+    }
+
+    /**
+     * Books each person in the interview list of each job in {@code personsByJob} who has no interview for that job
+     * yet into the earliest free slot after {@code today}, leaving the interviews already in the schedule where they
+     * are.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
+     */
+    List<Person> append(Map<JobName, List<Person>> personsByJob, LocalDate today) {
+        return book(personsByJob, today);
+    }
+
+    /**
+     * Books each person in the list of each job in {@code personsByJob}, a null job standing for no job, into the
+     * earliest free slot after {@code today} that they are available for and that does not overlap their other
+     * interviews. Persons already interviewed for the job, or for no job, are skipped.
+     *
+     * Every job books into the same schedulers, so jobs share the rooms and the daily capacity of each day. Jobs take
+     * turns from a priority queue ordered by the start of the last interview each job booked, so the job furthest
+     * behind books next and jobs fill the days together rather than one job taking every early slot. Each turn costs
+     * a logarithm of the number of jobs, so hundreds of jobs add little to booking their persons.
+     * @return the persons no interviewer can interview or who are unavailable for too long, who are not given a slot
+     */
+    private List<Person> book(Map<JobName, List<Person>> personsByJob, LocalDate today) {
+        List<Person> toBook = new ArrayList<>();
+        PriorityQueue<JobQueue> turns = new PriorityQueue<>(Comparator.<JobQueue>comparingLong(queue -> queue.lastStart)
+            .thenComparingInt(queue -> queue.order));
+        for (Map.Entry<JobName, List<Person>> entry : personsByJob.entrySet()) {
+            JobQueue queue = new JobQueue(entry.getKey(), turns.size(), toBook.size());
+            Set<Nric> toBookNrics = new HashSet<>();
+            for (Person person : entry.getValue()) {
+                if (!isInterviewed(person.getNric(), entry.getKey()) && toBookNrics.add(person.getNric())) {
+                    toBook.add(person);
+                }
+            }
+            queue.end = toBook.size();
+            if (queue.next < queue.end) {
+                turns.add(queue);
+            }
+        }
+
+        int[] assignment = interviewers.isEmpty()
+            ? new int[toBook.size()]
+            : InterviewerMatcher.match(toBook, interviewers);
+        SlotScheduler[] currentSchedulers = getSchedulers(today);
+        Set<Nric> unmatchedNrics = new HashSet<>();
+        List<Person> unmatched = new ArrayList<>();
+        while (!turns.isEmpty()) {
+            JobQueue queue = turns.poll();
+            int i = queue.next++;
+            Person person = toBook.get(i);
+            if (assignment[i] == InterviewerMatcher.UNMATCHED) {
+                if (unmatchedNrics.add(person.getNric())) {
+                    unmatched.add(person);
+                }
             } else {
-                calendar = nextAvailableDay(calendar);
-                interviewsHashMap.put(calendar, new ArrayList<>());
-                interviewsHashMap.get(calendar).add(person);
+                InterviewSlot booked = currentSchedulers[assignment[i]].book(person, getBusyTimes(person, null));
+                if (booked == null) {
+                    if (unmatchedNrics.add(person.getNric())) {
+                        unmatched.add(person);
+                    }
+                } else {
+                    InterviewSlot slot = toSlot(booked, assignment[i], queue.job);
+                    addSlot(slot);
+                    queue.lastStart = IntervalSet.toEpochMinute(slot.getDate(), slot.getStart());
+                }
+            }
+            if (queue.next < queue.end) {
+                turns.add(queue);
             }
         }
+        return unmatched;
     }
 
-    public void setBlockOutDates(List<Calendar> availableDates) {
-        for (Calendar dates : availableDates) {
-            this.blockOutDates.add((Calendar) dates.clone());
+    /**
+     * Moves the interviews of the person with {@code nric} into the earliest free slots, on or after {@code from},
+     * that they are available for. These may be the slots they are already in.
+     * @return the interviews of the person after moving, which is empty if the person has no interview
+     */
+    public List<InterviewSlot> reschedule(Nric nric, LocalDate from) {
+        return reschedule(nric, from, LocalDate.now());
+    }
+
+    /**
+     * Moves the interviews of the person with {@code nric} into the earliest free slots after {@code today}, and on
+     * or after {@code from}, that they are available for and that do not overlap each other.
+     * Interviews on or before {@code today}, and interviews that cannot be moved within the booking horizon, are left
+     * where they are.
+     * @return the interviews of the person after moving, which is empty if the person has no interview
+     */
+    List<InterviewSlot> reschedule(Nric nric, LocalDate from, LocalDate today) {
+        SlotScheduler[] currentSchedulers = getSchedulers(today);
+        for (InterviewSlot old : getInterviewsOf(nric)) {
+            int index = getSchedulerIndex(old);
+            if (!old.getDate().isAfter(today) || index < 0) {
+                continue;
+            }
+            SlotScheduler scheduler = currentSchedulers[index];
+            scheduler.release(old.getDate(), old.getStart(), old.getEnd(), old.getRoom());
+            InterviewSlot booked = scheduler.book(old.getPerson(), getBusyTimes(old.getPerson(), old), from);
+            if (booked == null) {
+                scheduler.occupy(old.getDate(), old.getStart(), old.getEnd(), old.getRoom());
+                continue;
+            }
+            removeSlot(old);
+            addSlot(toSlot(booked, index, old.getJob().orElse(null)));
+        }
+        return getInterviewsOf(nric);
+    }
+
+    /**
+     * Moves interviews into the free slots before them, taking the latest interviews first, so that the gaps left by
+     * removed persons are filled without booking everyone again. An interview stays where it is if its person cannot
+     * be interviewed any earlier. Only the days from the earliest gap on are visited.
+     * @return the number of interviews moved
+     */
+    public int compact() {
+        return compact(LocalDate.now());
+    }
+
+    /**
+     * Moves interviews after {@code today} into the free slots before them, taking the latest interviews first.
+     * @return the number of interviews moved
+     * @see #compact()
+     */
+    int compact(LocalDate today) {
+        SlotScheduler[] currentSchedulers = getSchedulers(today);
+        int moves = 0;
+        LocalDate date = interviewsMap.isEmpty() ? null : interviewsMap.lastKey();
+        while (date != null && date.isAfter(today) && !date.isBefore(getFirstOpenDate(currentSchedulers))) {
+            List<InterviewSlot> toVisit = new ArrayList<>(interviewsMap.get(date));
+            Collections.reverse(toVisit);
+            for (InterviewSlot slot : toVisit) {
+                if (moveEarlier(slot, currentSchedulers)) {
+                    moves++;
+                }
+            }
+            date = interviewsMap.lowerKey(date);
         }
+        return moves;
+    }
+
+    /**
+     * Moves {@code slot} into the earliest free slot before it that its person is available for and that does not
+     * overlap their other interviews, if there is one.
+     * Returns true if it was moved.
+     */
+    private boolean moveEarlier(InterviewSlot slot, SlotScheduler[] currentSchedulers) {
+        int index = getSchedulerIndex(slot);
+        if (index < 0) {
+            return false;
+        }
+        SlotScheduler scheduler = currentSchedulers[index];
+        int room = slot.getRoom();
+        scheduler.release(slot.getDate(), slot.getStart(), slot.getEnd(), room);
+        InterviewSlot booked = scheduler.book(slot.getPerson(), getBusyTimes(slot.getPerson(), slot));
+        if (booked == null) {
+            scheduler.occupy(slot.getDate(), slot.getStart(), slot.getEnd(), room);
+            return false;
+        }
+        if (!booked.getDate().atTime(booked.getStart()).isBefore(slot.getDate().atTime(slot.getStart()))) {
+            scheduler.release(booked.getDate(), booked.getStart(), booked.getEnd(), booked.getRoom());
+            scheduler.occupy(slot.getDate(), slot.getStart(), slot.getEnd(), room);
+            return false;
+        }
+        removeSlot(slot);
+        addSlot(toSlot(booked, index, slot.getJob().orElse(null)));
+        return true;
+    }
+
+    /**
+     * Returns the schedulers holding the interviews after {@code today}, building them from the schedule if the
+     * settings they depend on have changed since they were built or they were built for another day.
+     */
+    private SlotScheduler[] getSchedulers(LocalDate today) {
+        if (schedulers != null && today.equals(schedulersToday)) {
+            return schedulers;
+        }
+        if (interviewers.isEmpty()) {
+            schedulers = new SlotScheduler[] {
+                new SlotScheduler(slotSettings, maxInterviewsADay, today.toEpochDay(), this::nextAvailableDay)};
+        } else {
+            SlotScheduler rooms = new SlotScheduler(slotSettings, maxInterviewsADay, today.toEpochDay(),
+                this::nextAvailableDay);
+            SlotSettings oneRoom = new SlotSettings(slotSettings.getDayStart(), slotSettings.getDayEnd(),
+                slotSettings.getSlotMinutes(), 1);
+            schedulers = new SlotScheduler[interviewers.size()];
+            for (int i = 0; i < interviewers.size(); i++) {
+                schedulers[i] = new SlotScheduler(oneRoom, interviewers.get(i).getDailyCapacity(),
+                    today.toEpochDay(), this::nextAvailableDay, rooms);
+            }
+        }
+        schedulersToday = today;
+        for (List<InterviewSlot> slotList : interviewsMap.tailMap(today, false).values()) {
+            for (InterviewSlot slot : slotList) {
+                int index = getSchedulerIndex(slot);
+                if (index >= 0) {
+                    schedulers[index].occupy(slot.getDate(), slot.getStart(), slot.getEnd(), slot.getRoom());
+                }
+            }
+        }
+        return schedulers;
+    }
+
+    /**
+     * Returns the index of the scheduler that holds {@code slot}, or -1 if its interviewer is no longer in the roster.
+     */
+    private int getSchedulerIndex(InterviewSlot slot) {
+        if (interviewers.isEmpty()) {
+            return slot.getInterviewer().isPresent() ? -1 : 0;
+        }
+        if (!slot.getInterviewer().isPresent()) {
+            return -1;
+        }
+        for (int i = 0; i < interviewers.size(); i++) {
+            if (interviewers.get(i).getName().equals(slot.getInterviewer().get())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static LocalDate getFirstOpenDate(SlotScheduler[] currentSchedulers) {
+        LocalDate result = LocalDate.MAX;
+        for (SlotScheduler scheduler : currentSchedulers) {
+            LocalDate date = scheduler.getFirstOpenDate();
+            if (date.isBefore(result)) {
+                result = date;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code booked}, as booked by scheduler {@code index}, for {@code job}. When there is a roster it is held
+     * by the interviewer of that scheduler.
+     */
+    private InterviewSlot toSlot(InterviewSlot booked, int index, JobName job) {
+        if (interviewers.isEmpty()) {
+            return new InterviewSlot(booked.getPerson(), booked.getDate(), booked.getStart(), booked.getEnd(),
+                booked.getRoom(), null, job);
+        }
+        return new InterviewSlot(booked.getPerson(), booked.getDate(), booked.getStart(), booked.getEnd(),
+            booked.getRoom(), interviewers.get(index).getName(), job);
+    }
+
+    /**
+     * Returns true if the person with {@code nric} has an interview for {@code job} or an interview for no job, or
+     * has any interview if {@code job} is null.
+     */
+    private boolean isInterviewed(Nric nric, JobName job) {
+        for (InterviewSlot slot : slotsByNric.getOrDefault(nric, Collections.emptyList())) {
+            if (job == null || !slot.getJob().isPresent() || slot.getJob().get().equals(job)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the times {@code person} cannot be booked at: their unavailable times and their interviews other than
+     * {@code excluded}, which may be null.
+     */
+    private IntervalSet getBusyTimes(Person person, InterviewSlot excluded) {
+        IntervalSet times = unavailability.getOrDefault(person.getNric(), ALWAYS_AVAILABLE);
+        List<InterviewSlot> booked = slotsByNric.getOrDefault(person.getNric(), Collections.emptyList());
+        if (booked.isEmpty() || booked.size() == 1 && booked.get(0).equals(excluded)) {
+            return times;
+        }
+        IntervalSet busy = new IntervalSet(times);
+        for (InterviewSlot slot : booked) {
+            if (!slot.equals(excluded)) {
+                busy.add(IntervalSet.toEpochMinute(slot.getDate(), slot.getStart()),
+                    IntervalSet.toEpochMinute(slot.getDate(), slot.getEnd()));
+            }
+        }
+        return busy;
+    }
+
+    /**
+     * Adds {@code slot} to its day, keeping the day in time order.
+     */
+    private void addSlot(InterviewSlot slot) {
+        List<InterviewSlot> slotList = interviewsMap.computeIfAbsent(slot.getDate(),
+            date -> new ArrayList<>(maxInterviewsADay));
+        int index = Collections.binarySearch(slotList, slot, InterviewSlot.CHRONOLOGICAL);
+        slotList.add(index < 0 ? -index - 1 : index, slot);
+        slotsByNric.computeIfAbsent(slot.getPerson().getNric(), nric -> new ArrayList<>(1)).add(slot);
+    }
+
+    /**
+     * Removes {@code slot} from its day, and the day if it has no interviews left.
+     */
+    private void removeSlot(InterviewSlot slot) {
+        List<InterviewSlot> slotList = interviewsMap.get(slot.getDate());
+        slotList.remove(slot);
+        if (slotList.isEmpty()) {
+            interviewsMap.remove(slot.getDate());
+        }
+        List<InterviewSlot> personSlots = slotsByNric.get(slot.getPerson().getNric());
+        if (personSlots != null && personSlots.remove(slot) && personSlots.isEmpty()) {
+            slotsByNric.remove(slot.getPerson().getNric());
+        }
+    }
+
+    /**
+     * Returns the interviews of the person with {@code nric}, in time order.
+     */
+    public List<InterviewSlot> getInterviewsOf(Nric nric) {
+        List<InterviewSlot> result = new ArrayList<>(slotsByNric.getOrDefault(nric, Collections.emptyList()));
+        result.sort(InterviewSlot.CHRONOLOGICAL);
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable view of the interviews of each interview day, in date order and in time order within
+     * each day.
+     */
+    public NavigableMap<LocalDate, List<InterviewSlot>> getSchedule() {
+        return Collections.unmodifiableNavigableMap(interviewsMap);
+    }
+
+    /**
+     * Returns a copy of the interviews of each interview day, in date order and in time order within each day,
+     * which later changes to the schedule do not affect.
+     */
+    public NavigableMap<LocalDate, List<InterviewSlot>> copySchedule() {
+        TreeMap<LocalDate, List<InterviewSlot>> copy = new TreeMap<>();
+        interviewsMap.forEach((date, slotList) ->
+            copy.put(date, Collections.unmodifiableList(new ArrayList<>(slotList))));
+        return Collections.unmodifiableNavigableMap(copy);
+    }
+
+    /**
+     * Adds {@code slot}, an interview booked before such as one read from storage, to the schedule as it is.
+     */
+    public void addInterview(InterviewSlot slot) {
+        addSlot(slot);
+        schedulers = null;
+    }
+
+    /**
+     * Returns the dates blocked out, in date order.
+     */
+    public List<LocalDate> getBlockOutDates() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int day = blockOutDays.nextSetBit(0); day >= 0; day = blockOutDays.nextSetBit(day + 1)) {
+            dates.add(LocalDate.ofEpochDay(day));
+        }
+        return dates;
+    }
+
+    /**
+     * Blocks out each of {@code blockOutDates}, in addition to the dates already blocked out.
+     */
+    public void setBlockOutDates(List<LocalDate> blockOutDates) {
+        for (LocalDate date : blockOutDates) {
+            long day = date.toEpochDay();
+            if (day >= 0 && day < Integer.MAX_VALUE) {
+                blockOutDays.set((int) day);
+            }
+        }
+        schedulers = null;
+    }
+
+    /**
+     * Adds {@code times} to the times the person with {@code nric} cannot be interviewed at.
+     */
+    public void addUnavailability(Nric nric, IntervalSet times) {
+        unavailability.computeIfAbsent(nric, key -> new IntervalSet()).addAll(times);
+    }
+
+    /**
+     * Returns an unmodifiable view of the times each person cannot be interviewed at.
+     */
+    public Map<Nric, IntervalSet> getUnavailability() {
+        return Collections.unmodifiableMap(unavailability);
+    }
+
+    /**
+     * Adds {@code interviewer} to the roster, replacing the interviewer with the same name if there is one.
+     */
+    public void addInterviewer(Interviewer interviewer) {
+        for (int i = 0; i < interviewers.size(); i++) {
+            if (interviewers.get(i).isSameInterviewer(interviewer)) {
+                interviewers.set(i, interviewer);
+                schedulers = null;
+                return;
+            }
+        }
+        interviewers.add(interviewer);
+        schedulers = null;
+    }
+
+    /**
+     * Removes the interviewer named {@code name} from the roster.
+     * @return true if the interviewer was in the roster, else returns false.
+     */
+    public boolean removeInterviewer(Name name) {
+        schedulers = null;
+        return interviewers.removeIf(interviewer -> interviewer.getName().equals(name));
+    }
+
+    /**
+     * Returns an unmodifiable view of the roster of interviewers.
+     */
+    public List<Interviewer> getInterviewers() {
+        return Collections.unmodifiableList(interviewers);
     }
 
     public void setInterviews(Interviews other) {
         this.maxInterviewsADay = other.maxInterviewsADay;
-        this.interviewsHashMap.clear();
-        other.interviewsHashMap.forEach(((calendar, personList) ->
-                this.interviewsHashMap.put(calendar, new ArrayList<>(personList))));
-        this.blockOutDates.clear();
-        for (Calendar calendar : other.blockOutDates) {
-            this.blockOutDates.add(calendar);
-        }
+        this.slotSettings = other.slotSettings;
+        this.interviewsMap.clear();
+        other.interviewsMap.forEach(((date, slotList) ->
+                this.interviewsMap.put(date, new ArrayList<>(slotList))));
+        this.slotsByNric.clear();
+        other.slotsByNric.forEach((nric, slotList) -> this.slotsByNric.put(nric, new ArrayList<>(slotList)));
+        this.blockOutDays.clear();
+        this.blockOutDays.or(other.blockOutDays);
+        this.unavailability.clear();
+        other.unavailability.forEach((nric, times) -> this.unavailability.put(nric, new IntervalSet(times)));
+        this.interviewers.clear();
+        this.interviewers.addAll(other.interviewers);
+        this.schedulers = null;
     }
 
+    /**
+     * Clears the generated interviews.
+     */
     public void clear() {
-        interviewsHashMap.clear();
+        interviewsMap.clear();
+        slotsByNric.clear();
+        schedulers = null;
+    }
+
+    public int getMaxInterviewsADay() {
+        return maxInterviewsADay;
     }
 
     public void setMaxInterviewsADay(int maxInterviewsADay) {
         this.maxInterviewsADay = maxInterviewsADay;
+        this.schedulers = null;
+    }
+
+    public void setSlotSettings(SlotSettings slotSettings) {
+        this.slotSettings = slotSettings;
+        this.schedulers = null;
+    }
+
+    public SlotSettings getSlotSettings() {
+        return slotSettings;
     }
 
+    /**
+     * Lists each interview day and the time of each interview on it. Rooms are shown when the day uses more than one,
+     * and interviewers and jobs are shown for interviews that have one.
+     */
     @Override
     public String toString() {
-        PriorityQueue<Calendar> calendarPriorityQueue = new PriorityQueue<>(interviewsHashMap.keySet());
-        String result = "";
-        while (!calendarPriorityQueue.isEmpty()) {
-            Calendar currentCalendar = calendarPriorityQueue.poll();
-            List<Person> currentPersonList = interviewsHashMap.get(currentCalendar);
-            result += currentCalendar.get(Calendar.DATE) + "/" + (currentCalendar.get(Calendar.MONTH) + 1)
-                    + "/" + currentCalendar.get(Calendar.YEAR) + ": ";
-            for (Person person : currentPersonList) {
-                result += person.getName() + ", ";
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<LocalDate, List<InterviewSlot>> entry : interviewsMap.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append("\n\n");
             }
-            result = result.substring(0, result.length() - 2);
-            result += "\n\n";
+            appendDay(builder, entry.getKey(), entry.getValue());
         }
-        return result.trim();
+        return builder.toString();
     }
 
     /**
-     * Removes the person from the interviewsHashMap.
-     * @param person to be removed from interviewsHashMap.
+     * Returns the interviews {@code slotList} held on {@code date} as text, the date followed by a line for each
+     * interview, as they are shown in {@link #toString()}.
+     */
+    public static String formatDay(LocalDate date, List<InterviewSlot> slotList) {
+        StringBuilder builder = new StringBuilder();
+        appendDay(builder, date, slotList);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the interviews {@code slotList} held on {@code date} to {@code builder}.
+     */
+    private static void appendDay(StringBuilder builder, LocalDate date, List<InterviewSlot> slotList) {
+        builder.append(DATE_FORMATTER.format(date)).append(":");
+        boolean hasManyRooms = slotList.stream().anyMatch(slot -> slot.getRoom() > 1);
+        for (InterviewSlot slot : slotList) {
+            builder.append("\n").append(slot.getStart()).append("-").append(slot.getEnd());
+            if (hasManyRooms) {
+                builder.append(" Room ").append(slot.getRoom());
+            }
+            builder.append(" ").append(slot.getPerson().getName());
+            slot.getInterviewer().ifPresent(interviewer -> builder.append(" with ").append(interviewer));
+            slot.getJob().ifPresent(job -> builder.append(" for ").append(job));
+        }
+    }
+
+    /**
+     * Removes the person from the interviewsMap, freeing their slots for persons appended or moved later, and
+     * forgets the times they cannot be interviewed at.
+     * @param person to be removed from interviewsMap.
      * @return true if person to be removed is present, else returns false.
      */
     public boolean removePerson(Person person) {
-        Collection<List<Person>> listOfPersonList = interviewsHashMap.values();
-        for (List<Person> personList : listOfPersonList) {
-            if (personList.remove(person)) {
-                return true;
-            }
+        unavailability.remove(person.getNric());
+        List<InterviewSlot> personSlots = getInterviewsOf(person.getNric());
+        for (InterviewSlot slot : personSlots) {
+            removeSlot(slot);
+            releaseSlot(slot);
         }
-        return false;
+        return !personSlots.isEmpty();
     }
 
-    protected HashMap<Calendar, List<Person>> getInterviewsHashMap() {
-        return interviewsHashMap;
+    /**
+     * Replaces {@code target} with {@code editedPerson} in their interviews, if they have any, and moves the times
+     * they cannot be interviewed at to the NRIC of {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        IntervalSet times = unavailability.remove(target.getNric());
+        if (times != null) {
+            unavailability.put(editedPerson.getNric(), times);
+        }
+        for (InterviewSlot slot : getInterviewsOf(target.getNric())) {
+            removeSlot(slot);
+            addSlot(new InterviewSlot(editedPerson, slot.getDate(), slot.getStart(), slot.getEnd(), slot.getRoom(),
+                slot.getInterviewer().orElse(null), slot.getJob().orElse(null)));
+        }
     }
 
     /**
-     * Returns a new instance of the next available day in calendar format.
+     * Frees {@code slot} in the scheduler holding it, if the schedulers are built.
      */
-    private Calendar nextAvailableDay(Calendar calendar) {
-        Calendar result = (Calendar) calendar.clone();
-        result.add(Calendar.DATE, 1);
-        while ((result.get(Calendar.DAY_OF_WEEK) == Calendar.SATURDAY)
-                || (result.get(Calendar.DAY_OF_WEEK) == Calendar.SUNDAY)
-                || (containsDate(blockOutDates, result))) {
-            result.add(Calendar.DATE, 1);
+    private void releaseSlot(InterviewSlot slot) {
+        int index = getSchedulerIndex(slot);
+        if (schedulers != null && index >= 0) {
+            schedulers[index].release(slot.getDate(), slot.getStart(), slot.getEnd(), slot.getRoom());
+        }
+    }
+
+    protected Map<LocalDate, List<InterviewSlot>> getInterviewsMap() {
+        return interviewsMap;
+    }
+
+    /**
+     * Returns true if {@code date} is blocked out.
+     */
+    public boolean isBlockedOut(LocalDate date) {
+        return isBlockedOut(date.toEpochDay());
+    }
+
+    /**
+     * Returns true if epoch day {@code day} is blocked out. Days before 1970 are never blocked out.
+     */
+    private boolean isBlockedOut(long day) {
+        return day >= 0 && day < Integer.MAX_VALUE && blockOutDays.get((int) day);
+    }
+
+    /**
+     * Returns the number of days after {@code today}, up to and including {@code last}, that are neither a weekend
+     * nor blocked out.
+     */
+    int countOpenDays(LocalDate today, LocalDate last) {
+        int openDays = 0;
+        for (long day = nextAvailableDay(today.toEpochDay()); day <= last.toEpochDay(); day = nextAvailableDay(day)) {
+            openDays++;
+        }
+        return openDays;
+    }
+
+    /**
+     * Returns the number of interviews that can be held on an open day, which is no more than every interviewer can
+     * hold between them if there are any.
+     */
+    int getDailyCapacity() {
+        int slotsADay = slotSettings.getSlotsADay();
+        long capacity = Math.min(maxInterviewsADay, (long) slotsADay * slotSettings.getRooms());
+        if (interviewers.isEmpty()) {
+            return (int) capacity;
+        }
+        long interviewersCapacity = 0;
+        for (Interviewer interviewer : interviewers) {
+            interviewersCapacity += Math.min(interviewer.getDailyCapacity(), slotsADay);
+        }
+        return (int) Math.min(capacity, interviewersCapacity);
+    }
+
+    /**
+     * Returns the first epoch day after {@code day} that is neither a weekend nor blocked out.
+     */
+    private long nextAvailableDay(long day) {
+        long result = day + 1;
+        while (isWeekend(result) || isBlockedOut(result)) {
+            result++;
         }
         return result;
     }
 
     /**
-     * Checks if the calendarList contains the date.
+     * Returns true if epoch day {@code day} is a Saturday or a Sunday.
      */
-    protected static boolean containsDate(List<Calendar> calendarList, Calendar date) {
-        int year = date.get(Calendar.YEAR);
-        int month = date.get(Calendar.MONTH);
-        int day = date.get(Calendar.DATE);
-        for (Calendar calendar : calendarList) {
-            if (calendar.get(Calendar.YEAR) == year
-                    && calendar.get(Calendar.MONTH) == month
-                    && calendar.get(Calendar.DATE) == day) {
-                return true;
-            }
+    private static boolean isWeekend(long day) {
+        return Math.floorMod(day + EPOCH_DAY_OF_WEEK, 7) >= SATURDAY;
+    }
+
+    /**
+     * The persons of a job still to be booked, as a range of the persons to book, and the start of the last
+     * interview booked for the job as an epoch minute.
+     */
+    private static class JobQueue {
+        private final JobName job;
+        private final int order;
+        private int next;
+        private int end;
+        private long lastStart = Long.MIN_VALUE;
+
+        JobQueue(JobName job, int order, int next) {
+            this.job = job;
+            this.order = order;
+            this.next = next;
         }
-        return false;
     }
 }
@@ -0,0 +1,98 @@
+package seedu.address.model.interviews;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents the outcome of scheduling the interview pool under an {@code InterviewScenario}: the date of the last
+ * interview, the number of interviews booked and of persons no interviewer can interview, and the share of the
+ * interview capacity used from the first open day to the last interview.
+ * Guarantees: immutable.
+ */
+public class SimulationResult {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d/M/yyyy");
+
+    private final InterviewScenario scenario;
+    private final LocalDate lastInterviewDate;
+    private final int booked;
+    private final int unmatched;
+    private final double utilization;
+
+    /**
+     * Every field other than {@code lastInterviewDate} must be present and not null.
+     *
+     * @param lastInterviewDate date of the last interview, or null if no interview was booked
+     * @param utilization       interviews booked as a fraction of the interviews that could have been held
+     */
+    public SimulationResult(InterviewScenario scenario, LocalDate lastInterviewDate, int booked, int unmatched,
+                            double utilization) {
+        requireNonNull(scenario);
+        this.scenario = scenario;
+        this.lastInterviewDate = lastInterviewDate;
+        this.booked = booked;
+        this.unmatched = unmatched;
+        this.utilization = utilization;
+    }
+
+    public InterviewScenario getScenario() {
+        return scenario;
+    }
+
+    public Optional<LocalDate> getLastInterviewDate() {
+        return Optional.ofNullable(lastInterviewDate);
+    }
+
+    public int getBooked() {
+        return booked;
+    }
+
+    public int getUnmatched() {
+        return unmatched;
+    }
+
+    public double getUtilization() {
+        return utilization;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SimulationResult)) {
+            return false;
+        }
+        SimulationResult otherResult = (SimulationResult) other;
+        return scenario.equals(otherResult.scenario)
+            && Objects.equals(lastInterviewDate, otherResult.lastInterviewDate)
+            && booked == otherResult.booked
+            && unmatched == otherResult.unmatched
+            && Double.compare(utilization, otherResult.utilization) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scenario, lastInterviewDate, booked, unmatched, utilization);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append(scenario).append(": ");
+        if (lastInterviewDate == null) {
+            builder.append("no interviews");
+        } else {
+            builder.append("last interview on ").append(DATE_FORMATTER.format(lastInterviewDate))
+                .append(", ").append(booked).append(" interview(s), ")
+                .append(Math.round(utilization * 100)).append("% of capacity used");
+        }
+        if (unmatched > 0) {
+            builder.append(", ").append(unmatched).append(" not booked");
+        }
+        return builder.toString();
+    }
+}
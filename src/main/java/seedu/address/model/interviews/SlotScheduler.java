@@ -0,0 +1,410 @@
+package seedu.address.model.interviews;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Books persons into the earliest free time slots of the interview days after a given day, and frees booked slots
+ * again so that schedules can be changed without booking everyone again.
+ *
+ * Slots are numbered in time order across days, so slot {@code s} is slot {@code s % slotsADay} of the
+ * {@code s / slotsADay}-th interview day. A bit set marks the open slots, those with a free room on a day below its
+ * capacity, so the earliest open slot is found a word of 64 slots at a time. A day that reaches its capacity has all
+ * its bits cleared, and freeing a slot opens it, or every slot with a free room if its day was full, so booking and
+ * freeing each touch only the day they change. A person's unavailable times are checked against the open slot found
+ * and skipped over in one jump each, so booking does not scan slot by slot.
+ * Interview days are worked out only as far as the slots booked reach. A person whose unavailable times would push
+ * their interview more than {@link #BOOKING_HORIZON_DAYS} days past the last interview day worked out is not booked,
+ * so one person unavailable for years cannot make the scheduler work out every interview day up to then.
+ *
+ * The scheduler of an interviewer has a single room for the interviewer's own daily capacity, and books each
+ * interview into a room of a scheduler it shares with the other interviewers too, so together they never use more
+ * rooms or hold more interviews a day than the shared scheduler allows.
+ *
+ * Interviews already in the schedule book every slot they overlap and count against their day even past its
+ * capacity, so they keep their time however the slot settings or the maximum interviews a day have changed.
+ */
+class SlotScheduler {
+
+    /** Number of days past the last interview day worked out that a booking can be pushed to. */
+    static final int BOOKING_HORIZON_DAYS = 2 * 366;
+
+    private static final int MINUTES_A_DAY = 24 * 60;
+    private static final int INITIAL_DAYS = 16;
+
+    private final SlotSettings settings;
+    private final int slotsADay;
+    private final int dayStartMinute;
+    private final int dayCapacity;
+    private final LongUnaryOperator nextAvailableDay;
+    /**
+     * Scheduler of the rooms and the maximum interviews a day that this scheduler shares with others, on the same
+     * interview days and slots, or null if this scheduler has them to itself.
+     */
+    private final SlotScheduler shared;
+
+    /** Epoch day of each interview day, for the first {@code numberOfDays} days. */
+    private long[] days = new long[INITIAL_DAYS];
+    /** Number of interviews booked on each interview day. */
+    private int[] dayCounts = new int[INITIAL_DAYS];
+    /** Number of rooms booked in each slot. */
+    private int[] slotCounts;
+    /** Bit {@code s} is set if slot {@code s} has a free room and its day is below its capacity. */
+    private final BitSet openSlots = new BitSet();
+    /**
+     * Number of interviews using room {@code r} of slot {@code s}, keyed by {@code s * rooms + r - 1}, for the booked
+     * rooms only, so the memory taken follows the interviews booked however many rooms there are. Interviews booked
+     * under other slot settings can overlap a slot in part, so a room can be used by more than one of them.
+     */
+    private final Map<Long, Integer> roomUses = new HashMap<>();
+    private int numberOfDays;
+
+    /**
+     * @param maxInterviewsADay maximum number of interviews on a day, across all rooms
+     * @param today             epoch day after which interviews can be booked
+     * @param nextAvailableDay  returns the first epoch day after the given epoch day that interviews can be held on
+     */
+    SlotScheduler(SlotSettings settings, int maxInterviewsADay, long today, LongUnaryOperator nextAvailableDay) {
+        this(settings, maxInterviewsADay, today, nextAvailableDay, null);
+    }
+
+    /**
+     * Constructs the scheduler of one interviewer, who has a single room of their own to hold at most
+     * {@code maxInterviewsADay} interviews a day, and who also books a room of {@code shared} for each interview.
+     * {@code shared} must have been constructed with the same {@code today} and {@code nextAvailableDay}, and slot
+     * settings that differ from {@code settings} in their number of rooms only, so that its slots are the same.
+     */
+    SlotScheduler(SlotSettings settings, int maxInterviewsADay, long today, LongUnaryOperator nextAvailableDay,
+                  SlotScheduler shared) {
+        this.settings = settings;
+        this.slotsADay = settings.getSlotsADay();
+        this.dayStartMinute = SlotSettings.getMinuteOfDay(settings.getDayStart());
+        this.dayCapacity = (int) Math.min(maxInterviewsADay, (long) slotsADay * settings.getRooms());
+        this.nextAvailableDay = nextAvailableDay;
+        this.shared = shared;
+        this.slotCounts = new int[INITIAL_DAYS * slotsADay];
+        days[0] = nextAvailableDay.applyAsLong(today);
+        addDay(0);
+    }
+
+    /**
+     * Books {@code person} into the earliest slot with a free room that does not overlap {@code unavailability}.
+     * Returns null, booking nothing, if there is no such slot within the booking horizon.
+     * With a shared scheduler, the slot must also have a free room on a day below its capacity there, and the
+     * interview is held in the room booked in the shared scheduler.
+     */
+    InterviewSlot book(Person person, IntervalSet unavailability) {
+        return book(person, unavailability, 0);
+    }
+
+    /**
+     * Books {@code person} into the earliest slot on or after {@code date} with a free room that does not overlap
+     * {@code unavailability}. Returns null, booking nothing, if there is no such slot within the booking horizon.
+     */
+    InterviewSlot book(Person person, IntervalSet unavailability, LocalDate date) {
+        long minute = date.toEpochDay() * MINUTES_A_DAY;
+        if (isBeyondHorizon(minute)) {
+            return null;
+        }
+        return book(person, unavailability, getFirstSlotFrom(minute, 0));
+    }
+
+    /**
+     * Books {@code person} into the earliest slot at or after {@code fromSlot} with a free room that does not
+     * overlap {@code unavailability}, or returns null if there is no such slot within the booking horizon.
+     */
+    private InterviewSlot book(Person person, IntervalSet unavailability, int fromSlot) {
+        int slot = findOpenWithShared(fromSlot);
+        while (true) {
+            long start = getStartMinute(slot);
+            long freeStart = unavailability.firstFreeFrom(start, settings.getSlotMinutes());
+            if (freeStart == start) {
+                break;
+            }
+            if (isBeyondHorizon(freeStart)) {
+                return null;
+            }
+            slot = findOpenWithShared(getFirstSlotFrom(freeStart, slot / slotsADay));
+        }
+
+        int room;
+        if (shared == null) {
+            room = getFreeRoom(slot);
+            take(slot, room);
+        } else {
+            room = shared.getFreeRoom(slot);
+            shared.take(slot, room);
+            take(slot, 1);
+        }
+        return new InterviewSlot(person, LocalDate.ofEpochDay(days[slot / slotsADay]),
+            settings.getSlotStart(slot % slotsADay), settings.getSlotStart(slot % slotsADay + 1), room);
+    }
+
+    /**
+     * Books room {@code room} of every slot overlapping the time from {@code start} to {@code end} on {@code date},
+     * as an interview already in the schedule, and counts it against the capacity of its day.
+     * The interview need not fit the slots or the capacity of this scheduler, such as one booked before the slot
+     * settings or the maximum interviews a day changed: the slots it overlaps are booked all the same, and a day
+     * over its capacity stays full. Nothing is booked if {@code date} is not an interview day of this scheduler.
+     * With a shared scheduler, {@code room} is the room in the shared scheduler, and the interview takes the single
+     * room of this one.
+     */
+    void occupy(LocalDate date, LocalTime start, LocalTime end, int room) {
+        if (shared != null) {
+            shared.occupy(date, start, end, room);
+            room = 1;
+        }
+        int day = getDay(date);
+        if (day < 0) {
+            return;
+        }
+        if (++dayCounts[day] == dayCapacity) {
+            openSlots.clear(day * slotsADay, (day + 1) * slotsADay);
+        }
+        if (room < 1 || room > settings.getRooms()) {
+            return;
+        }
+        for (int slot = getFirstSlotOverlapping(day, start); slot < getEndSlotOverlapping(day, end); slot++) {
+            useRoom(slot, room);
+        }
+    }
+
+    /**
+     * Frees what {@link #occupy(LocalDate, LocalTime, LocalTime, int)} or a booking of this scheduler booked for the
+     * interview in room {@code room} from {@code start} to {@code end} on {@code date}, if it is booked.
+     */
+    void release(LocalDate date, LocalTime start, LocalTime end, int room) {
+        if (shared != null) {
+            if (releaseOwn(date, start, end, 1)) {
+                shared.release(date, start, end, room);
+            }
+            return;
+        }
+        releaseOwn(date, start, end, room);
+    }
+
+    /**
+     * Frees the interview in room {@code room} of this scheduler from {@code start} to {@code end} on {@code date},
+     * leaving any shared scheduler as it is. Returns true if it was booked.
+     */
+    private boolean releaseOwn(LocalDate date, LocalTime start, LocalTime end, int room) {
+        int day = getDay(date);
+        int firstSlot = day < 0 ? 0 : getFirstSlotOverlapping(day, start);
+        int endSlot = day < 0 ? 0 : getEndSlotOverlapping(day, end);
+        boolean isInGrid = room >= 1 && room <= settings.getRooms();
+        if (day < 0 || dayCounts[day] == 0
+                || isInGrid && firstSlot < endSlot && !roomUses.containsKey(getRoomKey(firstSlot, room))) {
+            return false;
+        }
+        if (dayCounts[day]-- == dayCapacity) {
+            // the day was full, so every slot of it with a free room opens again
+            for (int i = day * slotsADay; i < (day + 1) * slotsADay; i++) {
+                if (slotCounts[i] < settings.getRooms()) {
+                    openSlots.set(i);
+                }
+            }
+        }
+        if (!isInGrid) {
+            return true;
+        }
+        for (int slot = firstSlot; slot < endSlot; slot++) {
+            freeRoom(slot, room);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the day of the earliest slot that has a free room on a day below its capacity, in the shared scheduler
+     * too if there is one.
+     */
+    LocalDate getFirstOpenDate() {
+        return LocalDate.ofEpochDay(days[findOpenWithShared(0) / slotsADay]);
+    }
+
+    /**
+     * Returns the lowest room of {@code slot} that is free.
+     */
+    private int getFreeRoom(int slot) {
+        int room = 1;
+        while (roomUses.containsKey(getRoomKey(slot, room))) {
+            room++;
+        }
+        return room;
+    }
+
+    /**
+     * Books room {@code room} of {@code slot}, which must be free on a day below its capacity.
+     */
+    private void take(int slot, int room) {
+        int day = slot / slotsADay;
+        useRoom(slot, room);
+        if (++dayCounts[day] == dayCapacity) {
+            openSlots.clear(day * slotsADay, (day + 1) * slotsADay);
+        }
+    }
+
+    /**
+     * Adds an interview using room {@code room} of {@code slot}.
+     */
+    private void useRoom(int slot, int room) {
+        if (roomUses.merge(getRoomKey(slot, room), 1, Integer::sum) > 1) {
+            return;
+        }
+        if (++slotCounts[slot] == settings.getRooms()) {
+            openSlots.clear(slot);
+        }
+    }
+
+    /**
+     * Removes an interview using room {@code room} of {@code slot}, opening the slot if the room is then free on a
+     * day below its capacity.
+     */
+    private void freeRoom(int slot, int room) {
+        long key = getRoomKey(slot, room);
+        Integer uses = roomUses.get(key);
+        if (uses == null) {
+            return;
+        }
+        if (uses > 1) {
+            roomUses.put(key, uses - 1);
+            return;
+        }
+        roomUses.remove(key);
+        slotCounts[slot]--;
+        if (dayCounts[slot / slotsADay] < dayCapacity) {
+            openSlots.set(slot);
+        }
+    }
+
+    /**
+     * Returns true if epoch minute {@code minute} is more than {@link #BOOKING_HORIZON_DAYS} days past the last
+     * interview day worked out.
+     */
+    private boolean isBeyondHorizon(long minute) {
+        return Math.floorDiv(minute, MINUTES_A_DAY) > days[numberOfDays - 1] + BOOKING_HORIZON_DAYS;
+    }
+
+    private long getRoomKey(int slot, int room) {
+        return (long) slot * settings.getRooms() + room - 1;
+    }
+
+    /**
+     * Returns the earliest open slot at or after {@code slot}, working out more days if needed.
+     */
+    private int findOpen(int slot) {
+        ensureDay(slot / slotsADay);
+        int result = openSlots.nextSetBit(slot);
+        while (result < 0) {
+            addDay(numberOfDays);
+            result = openSlots.nextSetBit(slot);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the earliest slot at or after {@code slot} that is open both in this scheduler and in the shared
+     * scheduler, if there is one. Both work out the same interview days, so a slot is the same time in both.
+     */
+    private int findOpenWithShared(int slot) {
+        int result = findOpen(slot);
+        if (shared == null) {
+            return result;
+        }
+        int sharedResult = shared.findOpen(result);
+        while (sharedResult != result) {
+            result = findOpen(sharedResult);
+            sharedResult = shared.findOpen(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the interview day of this scheduler that is {@code date}, or -1 if {@code date} is not one.
+     */
+    private int getDay(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < days[0]) {
+            return -1;
+        }
+        while (days[numberOfDays - 1] < epochDay) {
+            addDay(numberOfDays);
+        }
+        return Math.max(-1, Arrays.binarySearch(days, 0, numberOfDays, epochDay));
+    }
+
+    /**
+     * Returns the first slot of interview day {@code day} that ends after {@code start}.
+     */
+    private int getFirstSlotOverlapping(int day, LocalTime start) {
+        int minutesIntoDay = SlotSettings.getMinuteOfDay(start) - dayStartMinute;
+        int slotOfDay = Math.max(0, Math.floorDiv(minutesIntoDay, settings.getSlotMinutes()));
+        return day * slotsADay + Math.min(slotOfDay, slotsADay);
+    }
+
+    /**
+     * Returns the slot after the last slot of interview day {@code day} that starts before {@code end}.
+     */
+    private int getEndSlotOverlapping(int day, LocalTime end) {
+        int minutesIntoDay = SlotSettings.getMinuteOfDay(end) - dayStartMinute;
+        int slotOfDay = Math.max(0, Math.floorDiv(minutesIntoDay + settings.getSlotMinutes() - 1,
+            settings.getSlotMinutes()));
+        return day * slotsADay + Math.min(slotOfDay, slotsADay);
+    }
+
+    /**
+     * Returns the first slot, on interview day {@code fromDay} or later, that starts at or after {@code minute}.
+     */
+    private int getFirstSlotFrom(long minute, int fromDay) {
+        long epochDay = Math.floorDiv(minute, MINUTES_A_DAY);
+        int day = fromDay;
+        ensureDay(day);
+        while (days[day] < epochDay) {
+            day++;
+            ensureDay(day);
+        }
+        if (days[day] > epochDay) {
+            return day * slotsADay;
+        }
+        long minutesIntoDay = Math.floorMod(minute, MINUTES_A_DAY) - dayStartMinute;
+        long slotOfDay = Math.max(0, Math.floorDiv(minutesIntoDay + settings.getSlotMinutes() - 1,
+            settings.getSlotMinutes()));
+        return slotOfDay >= slotsADay ? (day + 1) * slotsADay : (int) (day * slotsADay + slotOfDay);
+    }
+
+    private long getStartMinute(int slot) {
+        return days[slot / slotsADay] * MINUTES_A_DAY + dayStartMinute
+            + (long) (slot % slotsADay) * settings.getSlotMinutes();
+    }
+
+    /**
+     * Works out interview days up to and including interview day {@code day}.
+     */
+    private void ensureDay(int day) {
+        while (numberOfDays <= day) {
+            addDay(numberOfDays);
+        }
+    }
+
+    /**
+     * Works out interview day {@code day}, which must be the day after the last day worked out.
+     */
+    private void addDay(int day) {
+        if (day == days.length) {
+            days = Arrays.copyOf(days, day * 2);
+            dayCounts = Arrays.copyOf(dayCounts, day * 2);
+            slotCounts = Arrays.copyOf(slotCounts, day * 2 * slotsADay);
+        }
+        if (day > 0) {
+            days[day] = nextAvailableDay.applyAsLong(days[day - 1]);
+        }
+        openSlots.set(day * slotsADay, (day + 1) * slotsADay);
+        numberOfDays++;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.interviews;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Represents the time slots interviews are held in on each interview day.
+ * Each day runs from the day start to the day end in back to back slots of the slot length, and as many
+ * interviews as there are rooms can be held in each slot.
+ * Guarantees: immutable; is valid as declared in {@link #isValidSlotSettings(LocalTime, LocalTime, int, int)}
+ */
+public class SlotSettings {
+
+    public static final String MESSAGE_CONSTRAINTS =
+        "The day should end after it starts, slots should be a positive number of minutes no longer than the day "
+            + "and there should be at least one room.";
+
+    public static final SlotSettings DEFAULT = new SlotSettings(LocalTime.of(9, 0), LocalTime.of(17, 0), 60, 1);
+
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final int slotMinutes;
+    private final int rooms;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param slotMinutes length of each slot in minutes
+     * @param rooms       number of interviews that can be held at the same time
+     */
+    public SlotSettings(LocalTime dayStart, LocalTime dayEnd, int slotMinutes, int rooms) {
+        requireNonNull(dayStart);
+        requireNonNull(dayEnd);
+        checkArgument(isValidSlotSettings(dayStart, dayEnd, slotMinutes, rooms), MESSAGE_CONSTRAINTS);
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.slotMinutes = slotMinutes;
+        this.rooms = rooms;
+    }
+
+    /**
+     * Returns true if the given settings fit at least one slot in a day.
+     */
+    public static boolean isValidSlotSettings(LocalTime dayStart, LocalTime dayEnd, int slotMinutes, int rooms) {
+        return dayEnd.isAfter(dayStart) && slotMinutes > 0 && rooms > 0
+            && slotMinutes <= getMinuteOfDay(dayEnd) - getMinuteOfDay(dayStart);
+    }
+
+    public LocalTime getDayStart() {
+        return dayStart;
+    }
+
+    public LocalTime getDayEnd() {
+        return dayEnd;
+    }
+
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    /**
+     * Returns the number of whole slots between the day start and the day end.
+     */
+    public int getSlotsADay() {
+        return (getMinuteOfDay(dayEnd) - getMinuteOfDay(dayStart)) / slotMinutes;
+    }
+
+    /**
+     * Returns the start of slot {@code slot} of a day, counting from 0.
+     */
+    public LocalTime getSlotStart(int slot) {
+        return dayStart.plusMinutes((long) slot * slotMinutes);
+    }
+
+    /**
+     * Returns the number of minutes from midnight to {@code time}, ignoring seconds.
+     */
+    static int getMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SlotSettings)) {
+            return false;
+        }
+        SlotSettings otherSettings = (SlotSettings) other;
+        return dayStart.equals(otherSettings.dayStart)
+            && dayEnd.equals(otherSettings.dayEnd)
+            && slotMinutes == otherSettings.slotMinutes
+            && rooms == otherSettings.rooms;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dayStart, dayEnd, slotMinutes, rooms);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%1$s-%2$s in %3$d minute slots, %4$d room(s)", dayStart, dayEnd, slotMinutes, rooms);
+    }
+}
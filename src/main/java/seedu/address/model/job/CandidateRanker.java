@@ -0,0 +1,75 @@
+package seedu.address.model.job;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.TopKHeap;
+import seedu.address.model.person.Person;
+
+/**
+ * Picks the best scoring candidates of a list of persons.
+ *
+ * Keeps the best {@code k} seen so far in a {@link TopKHeap}, so each candidate costs O(log k) and the list is never
+ * sorted as a whole.
+ */
+public class CandidateRanker {
+
+    private CandidateRanker() {
+    }
+
+    /**
+     * Returns the {@code k} persons of {@code persons} with the highest scores under {@code weights},
+     * best first. Persons with equal scores keep their order in {@code persons}.
+     */
+    public static List<RankedPerson> rankTopK(List<Person> persons, RankWeights weights, int k) {
+        requireAllNonNull(persons, weights);
+        assert k > 0;
+        TopKHeap heap = new TopKHeap(Math.min(k, persons.size()));
+        for (int index = 0; index < persons.size(); index++) {
+            heap.offer(weights.score(persons.get(index)), index);
+        }
+
+        heap.sortDescending();
+        List<RankedPerson> ranked = new ArrayList<>(heap.size());
+        for (int i = 0; i < heap.size(); i++) {
+            ranked.add(new RankedPerson(persons.get(heap.getIndex(i)), (float) heap.getValue(i)));
+        }
+        return ranked;
+    }
+
+    /**
+     * A person together with their score.
+     */
+    public static class RankedPerson {
+        private final Person person;
+        private final float score;
+
+        public RankedPerson(Person person, float score) {
+            this.person = person;
+            this.score = score;
+        }
+
+        public Person getPerson() {
+            return person;
+        }
+
+        public float getScore() {
+            return score;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof RankedPerson // instanceof handles nulls
+                && person.equals(((RankedPerson) other).person)
+                && score == ((RankedPerson) other).score);
+        }
+
+        @Override
+        public int hashCode() {
+            return person.hashCode();
+        }
+    }
+}
@@ -34,6 +34,7 @@ public class Job {
     private ArrayList<UniquePersonList> personsList = new ArrayList<>(NUMBER_OF_LISTS);
     private ArrayList<Set<Nric>> personsNricList = new ArrayList<>(NUMBER_OF_LISTS);
     private ArrayList<UniqueFilterList> predicateList = new ArrayList<>(NUMBER_OF_LISTS);
+    private RankWeights rankWeights = RankWeights.DEFAULT;
 
 
     /**
@@ -63,6 +64,18 @@ public class Job {
         return name;
     }
 
+    public RankWeights getRankWeights() {
+        return rankWeights;
+    }
+
+    /**
+     * Replaces the weights used to rank candidates for this job.
+     */
+    public void setRankWeights(RankWeights rankWeights) {
+        requireNonNull(rankWeights);
+        this.rankWeights = rankWeights;
+    }
+
     /**
      * Adds all persons on displayed filter list to first list of job.
      * Only adds if not already in job.
@@ -114,6 +127,7 @@ public class Job {
             }
         }
         personsList.get(listNumber).remove(toRemove);
+        personsNricList.get(listNumber).remove(toRemove.getNric());
         if (!shouldStillExist) {
             personsInJob.remove(toRemove);
         }
@@ -182,8 +196,8 @@ public class Job {
     }
 
     /**
-     * Returns an immutable known programming language set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns an immutable set of the NRICs of the persons in list {@code listNumber}, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
      */
     public final Set<Nric> getPersonsNric(Integer listNumber) {
         return Collections.unmodifiableSet(personsNricList.get(listNumber));
@@ -0,0 +1,166 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the weights used to score candidates for a job.
+ * A candidate's score is the weighted sum of their grade, their five interview scores and
+ * the weights of the programming languages they know.
+ * Guarantees: immutable; weights are finite numbers.
+ */
+public class RankWeights {
+
+    public static final int NUMBER_OF_QUESTIONS = 5;
+    public static final String MESSAGE_CONSTRAINTS = "Weights should be finite numbers, e.g. 1, 0.5 or -2";
+    public static final String MESSAGE_INTERVIEW_WEIGHTS_CONSTRAINTS =
+        "There should be exactly " + NUMBER_OF_QUESTIONS + " interview question weights";
+
+    public static final RankWeights DEFAULT =
+        new RankWeights(1, new float[] {1, 1, 1, 1, 1}, Collections.emptyMap());
+
+    private final float gradeWeight;
+    private final float[] interviewWeights;
+    private final String[] progLangs;
+    private final float[] progLangWeights;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param progLangWeights weight of each programming language, matched against the whole of each of a person's
+     *     languages ignoring case
+     */
+    public RankWeights(float gradeWeight, float[] interviewWeights, Map<String, Float> progLangWeights) {
+        requireAllNonNull(interviewWeights, progLangWeights);
+        checkArgument(interviewWeights.length == NUMBER_OF_QUESTIONS, MESSAGE_INTERVIEW_WEIGHTS_CONSTRAINTS);
+        checkArgument(isValidWeight(gradeWeight), MESSAGE_CONSTRAINTS);
+        for (float weight : interviewWeights) {
+            checkArgument(isValidWeight(weight), MESSAGE_CONSTRAINTS);
+        }
+
+        Map<String, Float> sortedProgLangWeights = new TreeMap<>();
+        for (Map.Entry<String, Float> entry : progLangWeights.entrySet()) {
+            requireAllNonNull(entry.getKey(), entry.getValue());
+            checkArgument(isValidWeight(entry.getValue()), MESSAGE_CONSTRAINTS);
+            sortedProgLangWeights.put(entry.getKey().toLowerCase(Locale.ROOT), entry.getValue());
+        }
+
+        this.gradeWeight = gradeWeight;
+        this.interviewWeights = interviewWeights.clone();
+        this.progLangs = new String[sortedProgLangWeights.size()];
+        this.progLangWeights = new float[sortedProgLangWeights.size()];
+        int i = 0;
+        for (Map.Entry<String, Float> entry : sortedProgLangWeights.entrySet()) {
+            progLangs[i] = entry.getKey();
+            this.progLangWeights[i] = entry.getValue();
+            i++;
+        }
+    }
+
+    /**
+     * Returns true if {@code weight} is a valid weight.
+     */
+    public static boolean isValidWeight(float weight) {
+        return !Float.isNaN(weight) && !Float.isInfinite(weight);
+    }
+
+    public float getGradeWeight() {
+        return gradeWeight;
+    }
+
+    /**
+     * Returns the weight of interview question {@code questionNum}, counting from 1.
+     */
+    public float getInterviewWeight(int questionNum) {
+        return interviewWeights[questionNum - 1];
+    }
+
+    /**
+     * Returns the lower-cased programming languages and their weights, sorted by language.
+     */
+    public Map<String, Float> getProgLangWeights() {
+        Map<String, Float> weights = new TreeMap<>();
+        for (int i = 0; i < progLangs.length; i++) {
+            weights.put(progLangs[i], progLangWeights[i]);
+        }
+        return weights;
+    }
+
+    /**
+     * Returns the score of {@code person}. Persons without interview scores get nothing for the interview.
+     */
+    public float score(Person person) {
+        requireNonNull(person);
+        float score = gradeWeight * person.getGrade().getNumericValue();
+
+        InterviewScores interviewScores = person.getInterviewScores();
+        if (interviewScores.hasRecord()) {
+            for (int questionNum = 1; questionNum <= NUMBER_OF_QUESTIONS; questionNum++) {
+                score += interviewWeights[questionNum - 1] * interviewScores.getInterviewScoreValue(questionNum);
+            }
+        }
+
+        if (progLangs.length > 0) {
+            for (KnownProgLang progLang : person.getKnownProgLangs()) {
+                // progLangs is sorted, as it was filled from a TreeMap
+                int i = Arrays.binarySearch(progLangs, progLang.getLowerCaseValue());
+                if (i >= 0) {
+                    score += progLangWeights[i];
+                }
+            }
+        }
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RankWeights)) {
+            return false;
+        }
+
+        RankWeights otherWeights = (RankWeights) other;
+        return gradeWeight == otherWeights.gradeWeight
+            && Arrays.equals(interviewWeights, otherWeights.interviewWeights)
+            && Arrays.equals(progLangs, otherWeights.progLangs)
+            && Arrays.equals(progLangWeights, otherWeights.progLangWeights);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Float.hashCode(gradeWeight) + Arrays.hashCode(interviewWeights))
+            + Arrays.hashCode(progLangWeights);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("Grade: ")
+            .append(gradeWeight)
+            .append(" Interview: ");
+        for (int i = 0; i < NUMBER_OF_QUESTIONS; i++) {
+            builder.append(i == 0 ? "" : ",").append(interviewWeights[i]);
+        }
+        for (int i = 0; i < progLangs.length; i++) {
+            builder.append(i == 0 ? " Languages: " : ", ")
+                .append(progLangs[i])
+                .append("=")
+                .append(progLangWeights[i]);
+        }
+        return builder.toString();
+    }
+}
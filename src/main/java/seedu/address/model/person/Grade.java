@@ -16,6 +16,7 @@ public class Grade {
     public static final String VALIDATION_REGEX = "[0-4]" + "." + "\\d{2}";
     public static final String VALIDATION_REGEX_FULL = "5.00";
     public final String value;
+    private final float numericValue;
 
     /**
      * Constructs a {@code Grade}.
@@ -27,6 +28,7 @@ public class Grade {
         requireNonNull(grade);
         checkArgument(isValidGrade(grade), MESSAGE_CONSTRAINTS);
         value = grade;
+        numericValue = Float.parseFloat(grade);
     }
 
     /**
@@ -36,6 +38,13 @@ public class Grade {
         return test.matches(VALIDATION_REGEX) || test.matches(VALIDATION_REGEX_FULL);
     }
 
+    /**
+     * Returns the grade as a number, parsed once on construction.
+     */
+    public float getNumericValue() {
+        return numericValue;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -11,11 +11,16 @@ public class InterviewScores {
 
 
     public static final String MESSAGE_CONSTRAINTS =
-        "Interview Scores should be exactly 5 set of numbers, each number separated by a comma";
-    public static final String VALIDATION_REGEX = "\\d+" + "," + "\\d+" + "," + "\\d+" + "," + "\\d+"
-        + "," + "\\d+";
+        "Interview Scores should be exactly 5 set of numbers of at most 8 digits, each number separated by a comma";
+    /** A score of at most 8 digits, so that each score and the total of all of them fit in an {@code int}. */
+    public static final String SCORE_REGEX = "\\d{1,8}";
+    public static final String VALIDATION_REGEX = SCORE_REGEX + "," + SCORE_REGEX + "," + SCORE_REGEX + ","
+        + SCORE_REGEX + "," + SCORE_REGEX;
     public static final String NO_RECORD = "No Record";
+    private static final int NUMBER_OF_QUESTIONS = 5;
     public final String value;
+    private final int[] scores;
+    private final int totalScore;
 
     /**
      * Constructs a {@code InterviewScores}.
@@ -26,6 +31,27 @@ public class InterviewScores {
         requireNonNull(interviewScores);
         checkArgument(isValidInterviewScores(interviewScores), MESSAGE_CONSTRAINTS);
         value = interviewScores;
+        scores = parseScores(interviewScores);
+        int total = 0;
+        for (int score : scores) {
+            total += score;
+        }
+        totalScore = total;
+    }
+
+    /**
+     * Returns the score of each question, or an empty array if there is no record.
+     */
+    private static int[] parseScores(String interviewScores) {
+        if (interviewScores.equals(NO_RECORD)) {
+            return new int[0];
+        }
+        String[] scoreStrings = interviewScores.split(",");
+        int[] parsedScores = new int[NUMBER_OF_QUESTIONS];
+        for (int i = 0; i < NUMBER_OF_QUESTIONS; i++) {
+            parsedScores[i] = Integer.parseInt(scoreStrings[i].trim());
+        }
+        return parsedScores;
     }
 
     /**
@@ -42,7 +68,7 @@ public class InterviewScores {
     }
 
     public boolean hasRecord() {
-        return !value.matches(NO_RECORD);
+        return scores.length != 0;
     }
 
     public String getInterviewScore(int questionNum) {
@@ -52,6 +78,22 @@ public class InterviewScores {
         return score;
     }
 
+    /**
+     * Returns the score of question {@code questionNum} (1-based) as a number, parsed once on construction.
+     */
+    public int getInterviewScoreValue(int questionNum) {
+        assert (hasRecord());
+        return scores[questionNum - 1];
+    }
+
+    /**
+     * Returns the sum of the scores of all questions, computed once on construction.
+     */
+    public int getTotalScore() {
+        assert (hasRecord());
+        return totalScore;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's Known Programming Languages in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidKnownProgLang(String)}
@@ -18,6 +20,8 @@ public class KnownProgLang {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    /** The value in lower case, worked out once so languages can be matched ignoring case without copying it. */
+    private final String lowerCaseValue;
 
     /**
      * Constructs an {@code KnownProgLang}.
@@ -28,6 +32,7 @@ public class KnownProgLang {
         requireNonNull(progLang);
         checkArgument(isValidKnownProgLang(progLang), MESSAGE_CONSTRAINTS);
         value = progLang;
+        lowerCaseValue = progLang.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -37,6 +42,10 @@ public class KnownProgLang {
         return test.matches(VALIDATION_REGEX);
     }
 
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -2,11 +2,15 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -15,6 +19,14 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    private static final int NUMBER_OF_SEARCH_FIELDS = SearchField.values().length;
+    private static final Collator SORT_COLLATOR = Collator.getInstance(Locale.ENGLISH);
+
+    static {
+        // ignore case but not accents when sorting
+        SORT_COLLATOR.setStrength(Collator.SECONDARY);
+    }
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -34,6 +46,12 @@ public class Person {
     private final Set<JobsApply> jobsApply = new HashSet<>();
     private final Set<Tag> tags = new HashSet<>();
 
+    // Lower-cased words of each searchable field, computed on construction so that threads can share them safely
+    private final String[][] searchWords = new String[NUMBER_OF_SEARCH_FIELDS][];
+
+    // Collation key of each searchable field for sorting, computed on first use
+    private final CollationKey[] sortKeys = new CollationKey[NUMBER_OF_SEARCH_FIELDS];
+
     /**
      * Every field must be present and not null.
      */
@@ -58,6 +76,9 @@ public class Person {
         this.jobsApply.addAll(jobsApply);
         this.interviewScores = interviewScores;
         this.tags.addAll(tags);
+        for (SearchField field : SearchField.values()) {
+            searchWords[field.ordinal()] = StringUtil.toLowerCaseWords(getSearchText(field));
+        }
     }
 
     public Person(Nric nric) {
@@ -155,6 +176,61 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the lower-cased words of the given {@code field}.
+     * The words are computed once on construction, as a person is immutable.
+     */
+    public String[] getSearchWords(SearchField field) {
+        return searchWords[field.ordinal()];
+    }
+
+    /**
+     * Returns the key to sort persons by the given {@code field}, ignoring case.
+     * The key is computed once and cached, so comparing two keys does not need to collate the text again.
+     */
+    public CollationKey getSortKey(SearchField field) {
+        CollationKey key = sortKeys[field.ordinal()];
+        if (key == null) {
+            key = SORT_COLLATOR.getCollationKey(getSearchText(field));
+            sortKeys[field.ordinal()] = key;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the raw text of the given {@code field}.
+     */
+    public String getSearchText(SearchField field) {
+        switch (field) {
+        case NAME:
+            return name.fullName;
+        case PHONE:
+            return phone.value;
+        case EMAIL:
+            return email.value;
+        case NRIC:
+            return nric.value;
+        case GENDER:
+            return gender.value;
+        case RACE:
+            return race.value;
+        case ADDRESS:
+            return address.value;
+        case SCHOOL:
+            return school.value;
+        case MAJOR:
+            return major.value;
+        case KNOWN_PROG_LANG:
+            return StringUtil.getSetString(knownProgLangs);
+        case PAST_JOB:
+            return StringUtil.getSetString(pastjobs);
+        case JOBS_APPLY:
+            return StringUtil.getSetString(jobsApply);
+        default:
+            throw new AssertionError("Unknown search field: " + field);
+        }
+    }
+
     /**
      * Returns true if both persons of the same name have at least one other identity field that is the same.
      * This defines a weaker notion of equality between two persons.
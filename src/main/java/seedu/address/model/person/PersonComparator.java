@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares persons by one or more {@code SortField}s in turn, each in ascending or descending order.
+ * Only the sort keys cached on each {@code Person} are compared, so a comparison never parses or collates text.
+ * Persons without interview scores are placed last when sorting by score, in either order.
+ */
+public class PersonComparator implements Comparator<Person> {
+
+    private final SortField[] fields;
+    private final boolean[] isDescending;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param fields       the fields to compare by, most significant first
+     * @param isDescending whether each field in {@code fields} is compared in descending order
+     */
+    public PersonComparator(List<SortField> fields, List<Boolean> isDescending) {
+        requireAllNonNull(fields, isDescending);
+        checkArgument(!fields.isEmpty() && fields.size() == isDescending.size());
+        this.fields = fields.toArray(new SortField[0]);
+        this.isDescending = new boolean[fields.size()];
+        for (int i = 0; i < this.isDescending.length; i++) {
+            requireAllNonNull(this.fields[i], isDescending.get(i));
+            this.isDescending[i] = isDescending.get(i);
+        }
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        for (int i = 0; i < fields.length; i++) {
+            int result;
+            if (fields[i] == SortField.SCORE
+                && first.getInterviewScores().hasRecord() != second.getInterviewScores().hasRecord()) {
+                result = first.getInterviewScores().hasRecord() ? -1 : 1;
+            } else {
+                result = isDescending[i] ? compare(second, first, fields[i]) : compare(first, second, fields[i]);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compares {@code first} and {@code second} by {@code field} in ascending order.
+     */
+    private static int compare(Person first, Person second, SortField field) {
+        switch (field) {
+        case NAME:
+            return first.getSortKey(SearchField.NAME).compareTo(second.getSortKey(SearchField.NAME));
+        case GRADE:
+            return Float.compare(first.getGrade().getNumericValue(), second.getGrade().getNumericValue());
+        case SCORE:
+            if (!first.getInterviewScores().hasRecord()) {
+                return 0;
+            }
+            return Integer.compare(first.getInterviewScores().getTotalScore(),
+                second.getInterviewScores().getTotalScore());
+        case SCHOOL:
+            return first.getSortKey(SearchField.SCHOOL).compareTo(second.getSortKey(SearchField.SCHOOL));
+        default:
+            throw new AssertionError("Unknown sort field: " + field);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof PersonComparator // instanceof handles nulls
+            && Arrays.equals(fields, ((PersonComparator) other).fields)
+            && Arrays.equals(isDescending, ((PersonComparator) other).isDescending)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(fields) + Arrays.hashCode(isDescending);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            builder.append(i == 0 ? "" : ", ")
+                .append(fields[i].name().toLowerCase(Locale.ROOT))
+                .append(isDescending[i] ? " (descending)" : " (ascending)");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from keys derived from a person's fields to the NRICs of the persons having that key.
+ * Subclasses decide which keys a person has.
+ *
+ * The index remembers the exact {@code Person} instance indexed for each NRIC, so callers can tell whether
+ * a person in a list has been indexed yet, or is a newer version the index has not seen.
+ */
+public abstract class PersonIndex {
+
+    private final Map<String, Set<Nric>> postings = new HashMap<>();
+    private final Map<Nric, Person> indexedPersons = new HashMap<>();
+    private long version;
+
+    /**
+     * Returns the distinct keys of {@code person}.
+     */
+    protected abstract Set<String> getKeys(Person person);
+
+    /**
+     * Returns the NRICs of the indexed persons having {@code key}. The returned set must not be modified.
+     */
+    protected Set<Nric> getPostings(String key) {
+        Set<Nric> nrics = postings.get(key);
+        return nrics == null ? Collections.emptySet() : nrics;
+    }
+
+    /**
+     * Returns true if this exact {@code person}, and not an older or newer version of it, has been indexed.
+     */
+    public boolean contains(Person person) {
+        requireNonNull(person);
+        return indexedPersons.get(person.getNric()) == person;
+    }
+
+    /**
+     * Adds {@code person} to the index, replacing any person with the same NRIC.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Person previous = indexedPersons.put(person.getNric(), person);
+        if (previous != null) {
+            removePostings(previous);
+        }
+        for (String key : getKeys(person)) {
+            postings.computeIfAbsent(key, unused -> new HashSet<>()).add(person.getNric());
+        }
+        version++;
+    }
+
+    /**
+     * Replaces {@code target} in the index with {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        indexedPersons.clear();
+        postings.clear();
+        for (Person person : persons) {
+            add(person);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (!contains(person)) {
+            return;
+        }
+        indexedPersons.remove(person.getNric());
+        removePostings(person);
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the index is modified, so that callers can cache lookups.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Removes the NRIC of {@code person} from the postings of its keys, dropping postings that become empty.
+     */
+    private void removePostings(Person person) {
+        for (String key : getKeys(person)) {
+            Set<Nric> nrics = postings.get(key);
+            if (nrics != null) {
+                nrics.remove(person.getNric());
+                if (nrics.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from the phonetic key of every word of a person's name to the NRICs of the persons having it,
+ * so that names spelt differently but sounding alike can be looked up without scanning every person.
+ *
+ * @see StringUtil#toPhoneticKey(String)
+ */
+public class PhoneticIndex extends PersonIndex {
+
+    @Override
+    protected Set<String> getKeys(Person person) {
+        Set<String> keys = new HashSet<>();
+        for (String word : person.getSearchWords(SearchField.NAME)) {
+            String key = StringUtil.toPhoneticKey(word);
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the NRICs of the indexed persons with a name word that sounds like {@code word}.
+     * The returned set must not be modified.
+     */
+    public Set<Nric> getSoundsLike(String word) {
+        requireNonNull(word);
+        return getPostings(StringUtil.toPhoneticKey(word));
+    }
+}
@@ -0,0 +1,9 @@
+package seedu.address.model.person;
+
+/**
+ * Represents the text fields of a {@code Person} that can be searched by keyword.
+ * Each field has its lower-cased words cached on the {@code Person}, see {@link Person#getSearchWords(SearchField)}.
+ */
+public enum SearchField {
+    NAME, PHONE, EMAIL, NRIC, GENDER, RACE, ADDRESS, SCHOOL, MAJOR, KNOWN_PROG_LANG, PAST_JOB, JOBS_APPLY
+}
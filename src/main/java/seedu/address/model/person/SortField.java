@@ -0,0 +1,8 @@
+package seedu.address.model.person;
+
+/**
+ * Represents the fields of a {@code Person} that person lists can be sorted by.
+ */
+public enum SortField {
+    NAME, GRADE, SCORE, SCHOOL
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An index from every 3-character substring (trigram) of a person's name, phone, email and address
+ * to the NRICs of the persons containing it.
+ *
+ * Any person whose field contains a query of at least 3 characters must contain all of the query's trigrams,
+ * so intersecting their postings gives a small set of candidates, which the caller then verifies.
+ */
+public class TrigramIndex extends PersonIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final SearchField[] INDEXED_FIELDS = {
+        SearchField.NAME, SearchField.PHONE, SearchField.EMAIL, SearchField.ADDRESS
+    };
+
+    /**
+     * Returns true if the index covers the given {@code field}.
+     */
+    public static boolean isIndexed(SearchField field) {
+        for (SearchField indexedField : INDEXED_FIELDS) {
+            if (indexedField == field) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected Set<String> getKeys(Person person) {
+        Set<String> keys = new HashSet<>();
+        for (SearchField field : INDEXED_FIELDS) {
+            for (String gram : toGrams(person.getSearchText(field).toLowerCase(Locale.ROOT))) {
+                keys.add(toKey(field, gram));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the NRICs of the indexed persons whose {@code field} may contain {@code substring}, ignoring case.
+     * Every indexed person that does contain it is in the returned set, but not every person in the set does.
+     * Returns null if the index cannot narrow down the search, i.e. the substring is shorter than a trigram.
+     */
+    public Set<Nric> getCandidates(SearchField field, String substring) {
+        requireAllNonNull(field, substring);
+        assert isIndexed(field);
+        String lowerCaseSubstring = substring.toLowerCase(Locale.ROOT);
+        if (lowerCaseSubstring.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        List<Set<Nric>> matchingPostings = new ArrayList<>();
+        for (String gram : toGrams(lowerCaseSubstring)) {
+            Set<Nric> nrics = getPostings(toKey(field, gram));
+            if (nrics.isEmpty()) {
+                return Collections.emptySet();
+            }
+            matchingPostings.add(nrics);
+        }
+
+        // intersect starting from the rarest trigram to keep the working set small
+        matchingPostings.sort(Comparator.comparingInt(Set::size));
+        Set<Nric> candidates = new HashSet<>(matchingPostings.get(0));
+        for (int i = 1; i < matchingPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(matchingPostings.get(i));
+        }
+        return candidates;
+    }
+
+    private static String toKey(SearchField field, String gram) {
+        return field.name() + '/' + gram;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}.
+     */
+    private static Set<String> toGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + GRAM_LENGTH <= text.length(); start++) {
+            grams.add(text.substring(start, start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -4,21 +4,24 @@ import java.util.List;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
  */
 public class EmailContainsKeywordsPredicate extends PredicateManager {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return (keywords == null) || keywords.stream()
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getEmail().value, keyword));
+        return (keywords == null)
+            || StringUtil.containsAnyWord(person.getSearchWords(SearchField.EMAIL), lowerCaseKeywords);
     }
 
     @Override
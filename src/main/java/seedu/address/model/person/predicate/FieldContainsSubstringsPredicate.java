@@ -0,0 +1,72 @@
+package seedu.address.model.person.predicate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.TrigramIndex;
+
+/**
+ * Tests that a field of a {@code Person} contains any of the substrings given, ignoring case.
+ * The {@code TrigramIndex} narrows each substring down to a few candidates, which are then verified,
+ * so persons outside the candidates are rejected without scanning their field.
+ */
+public class FieldContainsSubstringsPredicate extends PredicateManager {
+    private final SearchField field;
+    private final List<String> substrings;
+    private final TrigramIndex index;
+
+    private final Set<?>[] candidates;
+    private long candidatesVersion = -1;
+
+    public FieldContainsSubstringsPredicate(SearchField field, List<String> substrings, TrigramIndex index) {
+        requireAllNonNull(field, substrings, index);
+        assert TrigramIndex.isIndexed(field);
+        this.field = field;
+        this.substrings = substrings;
+        this.index = index;
+        this.candidates = new Set<?>[substrings.size()];
+    }
+
+    @Override
+    public boolean test(Person person) {
+        refreshCandidates();
+        boolean isIndexed = index.contains(person);
+        for (int i = 0; i < candidates.length; i++) {
+            if (isIndexed && candidates[i] != null && !candidates[i].contains(person.getNric())) {
+                continue;
+            }
+            if (StringUtil.containsIgnoreCase(person.getSearchText(field), substrings.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the candidates of every substring again if the index has changed since they were last looked up.
+     * Persons not in the index yet are always verified, so stale candidates never wrongly reject a person.
+     */
+    private void refreshCandidates() {
+        if (candidatesVersion == index.getVersion()) {
+            return;
+        }
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = index.getCandidates(field, substrings.get(i));
+        }
+        candidatesVersion = index.getVersion();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof FieldContainsSubstringsPredicate // instanceof handles nulls
+            && field == ((FieldContainsSubstringsPredicate) other).field
+            && substrings.equals(((FieldContainsSubstringsPredicate) other).substrings)); // state check
+    }
+
+}
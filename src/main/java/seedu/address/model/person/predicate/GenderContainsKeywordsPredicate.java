@@ -4,21 +4,24 @@ import java.util.List;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Gender} matches any of the keywords given.
  */
 public class GenderContainsKeywordsPredicate extends PredicateManager {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
     public GenderContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return (keywords == null) || keywords.stream()
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getGender().value, keyword));
+        return (keywords == null)
+            || StringUtil.containsAnyWord(person.getSearchWords(SearchField.GENDER), lowerCaseKeywords);
     }
 
     @Override
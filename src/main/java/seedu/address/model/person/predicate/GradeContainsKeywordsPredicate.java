@@ -10,6 +10,7 @@ import seedu.address.model.person.Person;
  */
 public class GradeContainsKeywordsPredicate extends PredicateManager {
     private final List<String> keywords;
+    private float[][] ranges;
 
     public GradeContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
@@ -17,8 +18,17 @@ public class GradeContainsKeywordsPredicate extends PredicateManager {
 
     @Override
     public boolean test(Person person) {
-        return (keywords == null) || keywords.stream()
-            .anyMatch(keyword -> StringUtil.valueInRange(keyword, person.getGrade().value));
+        return (keywords == null) || StringUtil.valueInAnyRange(getRanges(), person.getGrade().getNumericValue());
+    }
+
+    /**
+     * Returns the keyword ranges, parsed on first use.
+     */
+    private float[][] getRanges() {
+        if (ranges == null) {
+            ranges = StringUtil.parseRanges(keywords);
+        }
+        return ranges;
     }
 
     @Override
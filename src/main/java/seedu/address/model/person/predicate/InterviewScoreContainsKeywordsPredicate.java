@@ -3,6 +3,7 @@ package seedu.address.model.person.predicate;
 import java.util.List;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.InterviewScores;
 import seedu.address.model.person.Person;
 
 /**
@@ -11,6 +12,7 @@ import seedu.address.model.person.Person;
 public class InterviewScoreContainsKeywordsPredicate extends PredicateManager {
     private final List<String> keywords;
     private final int questionNum;
+    private float[][] ranges;
 
     public InterviewScoreContainsKeywordsPredicate(int questionNum, List<String> keywords) {
         this.questionNum = questionNum;
@@ -19,8 +21,22 @@ public class InterviewScoreContainsKeywordsPredicate extends PredicateManager {
 
     @Override
     public boolean test(Person person) {
-        return (keywords == null) || keywords.stream()
-            .anyMatch(keyword -> StringUtil.valueInRange(keyword, person.getInterviewScores(questionNum)));
+        if (keywords == null) {
+            return true;
+        }
+        InterviewScores interviewScores = person.getInterviewScores();
+        return interviewScores.hasRecord()
+            && StringUtil.valueInAnyRange(getRanges(), interviewScores.getInterviewScoreValue(questionNum));
+    }
+
+    /**
+     * Returns the keyword ranges, parsed on first use.
+     */
+    private float[][] getRanges() {
+        if (ranges == null) {
+            ranges = StringUtil.parseRanges(keywords);
+        }
+        return ranges;
     }
 
     @Override
@@ -4,23 +4,24 @@ import java.util.List;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Gender} matches any of the keywords given.
  */
 public class JobsApplyContainsKeywordsPredicate extends PredicateManager {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
     public JobsApplyContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCaseKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-
-        return (keywords == null) || keywords.stream()
-            .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(StringUtil.getSetString
-                (person.getJobsApply()), keyword));
+        return (keywords == null)
+            || StringUtil.containsAnyWord(person.getSearchWords(SearchField.JOBS_APPLY), lowerCaseKeywords);
     }
 
     @Override
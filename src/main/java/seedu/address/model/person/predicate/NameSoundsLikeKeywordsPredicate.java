@@ -0,0 +1,72 @@
+package seedu.address.model.person.predicate;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticIndex;
+import seedu.address.model.person.SearchField;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds like any of the keywords given.
+ * Indexed persons are looked up in the {@code PhoneticIndex}, other persons are compared directly.
+ */
+public class NameSoundsLikeKeywordsPredicate extends PredicateManager {
+    private final List<String> keywords;
+    private final Set<String> keywordKeys = new HashSet<>();
+    private final PhoneticIndex index;
+
+    private final Set<Nric> matchingNrics = new HashSet<>();
+    private long matchingNricsVersion = -1;
+
+    public NameSoundsLikeKeywordsPredicate(List<String> keywords, PhoneticIndex index) {
+        requireAllNonNull(keywords, index);
+        this.keywords = keywords;
+        this.index = index;
+        for (String keyword : keywords) {
+            keywordKeys.add(StringUtil.toPhoneticKey(keyword));
+        }
+        keywordKeys.remove("");
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (index.contains(person)) {
+            refreshMatchingNrics();
+            return matchingNrics.contains(person.getNric());
+        }
+        for (String word : person.getSearchWords(SearchField.NAME)) {
+            if (keywordKeys.contains(StringUtil.toPhoneticKey(word))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks up the persons sounding like any keyword again if the index has changed since the last lookup.
+     */
+    private void refreshMatchingNrics() {
+        if (matchingNricsVersion == index.getVersion()) {
+            return;
+        }
+        matchingNrics.clear();
+        for (String keyword : keywords) {
+            matchingNrics.addAll(index.getSoundsLike(keyword));
+        }
+        matchingNricsVersion = index.getVersion();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof NameSoundsLikeKeywordsPredicate // instanceof handles nulls
+            && keywords.equals(((NameSoundsLikeKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -0,0 +1,215 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.interviews.Interviews;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Stores the interviews of a schedule in a file of its own as a journal of day records, one compact JSON line per
+ * interview day. The last record of a day is the one that counts, and a day with no interviews records that every
+ * interview on it was removed.
+ *
+ * Saving appends a record only for each day whose interviews changed since the journal was last read or written,
+ * so booking, moving or removing an interview writes the records of the days it touches instead of the whole
+ * schedule. Once the journal holds more than twice as many records as there are interview days, it is written out
+ * again with a record for each day.
+ *
+ * A last record that cannot be read, such as one cut short by a crash while it was being appended, is skipped and the
+ * journal is written out again on the next save, so the days recorded before it are not lost.
+ */
+class InterviewDayJournal {
+
+    /** Number of records the journal may hold beyond twice the interview days before it is written out again. */
+    private static final int SLACK_RECORDS = 64;
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final Logger logger = LogsCenter.getLogger(InterviewDayJournal.class);
+
+    private final Path filePath;
+    /**
+     * Interviews of each day as last read or written, or null if the journal has not been read or written, or holds
+     * interviews that were left out when it was read.
+     */
+    private Map<LocalDate, List<InterviewSlot>> savedDays;
+    /** Number of records in the journal file. */
+    private int records;
+
+    public InterviewDayJournal(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file the journal of the address book in {@code addressBookFilePath} is kept in, which is next to it.
+     */
+    public static Path getJournalFilePath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + ".interviews");
+    }
+
+    /**
+     * Adds the interviews in the journal to the schedule of {@code interviews}, for the persons in {@code persons}.
+     * A missing journal holds no interviews, and interviews of persons not in {@code persons} are left out.
+     * A last record that is not in the correct format is skipped.
+     *
+     * @throws IOException if the journal cannot be read or a record before the last is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in a record.
+     */
+    public void read(Interviews interviews, List<Person> persons) throws IOException, IllegalValueException {
+        Map<LocalDate, JsonAdaptedInterviewDay> latestDays = new TreeMap<>();
+        int recordsRead = 0;
+        boolean isLastRecordSkipped = false;
+        if (FileUtil.isFileExists(filePath)) {
+            String[] lines = FileUtil.readFromFile(filePath).split(LINE_SEPARATOR);
+            int lastRecord = lines.length - 1;
+            while (lastRecord >= 0 && lines[lastRecord].trim().isEmpty()) {
+                lastRecord--;
+            }
+            for (int i = 0; i <= lastRecord; i++) {
+                if (lines[i].trim().isEmpty()) {
+                    continue;
+                }
+                JsonAdaptedInterviewDay day;
+                try {
+                    day = JsonUtil.fromJsonString(lines[i], JsonAdaptedInterviewDay.class);
+                } catch (IOException ioe) {
+                    if (i < lastRecord) {
+                        throw ioe;
+                    }
+                    logger.warning("Skipping unreadable last record of " + filePath + ": " + ioe.getMessage());
+                    isLastRecordSkipped = true;
+                    break;
+                }
+                latestDays.put(day.getDate(), day);
+                recordsRead++;
+            }
+        }
+
+        Map<Nric, Person> personsByNric = new HashMap<>();
+        for (Person person : persons) {
+            personsByNric.put(person.getNric(), person);
+        }
+        Map<LocalDate, List<InterviewSlot>> readDays = new HashMap<>();
+        boolean isAnyLeftOut = false;
+        for (Map.Entry<LocalDate, JsonAdaptedInterviewDay> entry : latestDays.entrySet()) {
+            List<InterviewSlot> slots = entry.getValue().toModelType(personsByNric);
+            for (InterviewSlot slot : slots) {
+                interviews.addInterview(slot);
+            }
+            if (!slots.isEmpty()) {
+                readDays.put(entry.getKey(), interviews.getSchedule().get(entry.getKey()));
+            }
+            isAnyLeftOut |= slots.size() < entry.getValue().getSlotCount();
+        }
+        // interviews left out for missing persons, or an unreadable last record, are dropped from the file by writing
+        // it out again on the next save
+        savedDays = isAnyLeftOut || isLastRecordSkipped ? null : copyOf(readDays);
+        records = recordsRead;
+    }
+
+    /**
+     * Saves the schedule of {@code interviews}, appending a record for each day that changed since the journal was
+     * last read or written. The whole journal is written if it was not read or written before or is missing, or if
+     * it holds too many records that no longer count.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void save(Interviews interviews) throws IOException {
+        Map<LocalDate, List<InterviewSlot>> schedule = interviews.getSchedule();
+        if (savedDays == null || !FileUtil.isFileExists(filePath)) {
+            rewrite(schedule);
+            return;
+        }
+
+        List<LocalDate> changedDays = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<InterviewSlot>> entry : schedule.entrySet()) {
+            if (!isSameDay(savedDays.get(entry.getKey()), entry.getValue())) {
+                changedDays.add(entry.getKey());
+            }
+        }
+        for (LocalDate date : savedDays.keySet()) {
+            if (!schedule.containsKey(date)) {
+                changedDays.add(date);
+            }
+        }
+        if (changedDays.isEmpty()) {
+            return;
+        }
+        if (records + changedDays.size() > 2 * schedule.size() + SLACK_RECORDS) {
+            rewrite(schedule);
+            return;
+        }
+
+        StringBuilder appended = new StringBuilder();
+        for (LocalDate date : changedDays) {
+            List<InterviewSlot> slots = schedule.getOrDefault(date, new ArrayList<>());
+            appended.append(toRecord(date, slots));
+            if (slots.isEmpty()) {
+                savedDays.remove(date);
+            } else {
+                savedDays.put(date, new ArrayList<>(slots));
+            }
+        }
+        FileUtil.createIfMissing(filePath);
+        FileUtil.appendToFile(filePath, appended.toString());
+        records += changedDays.size();
+    }
+
+    /**
+     * Writes the journal out again with a record for each day of {@code schedule}.
+     */
+    private void rewrite(Map<LocalDate, List<InterviewSlot>> schedule) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<LocalDate, List<InterviewSlot>> entry : schedule.entrySet()) {
+            content.append(toRecord(entry.getKey(), entry.getValue()));
+        }
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, content.toString());
+        savedDays = copyOf(schedule);
+        records = schedule.size();
+    }
+
+    private static String toRecord(LocalDate date, List<InterviewSlot> slots) throws IOException {
+        return JsonUtil.toCompactJsonString(new JsonAdaptedInterviewDay(date, slots)) + LINE_SEPARATOR;
+    }
+
+    /**
+     * Returns true if {@code saved} holds the same interviews as {@code current}, in the same order.
+     * Interviews are immutable and are replaced whenever they change, so they are compared by identity.
+     */
+    private static boolean isSameDay(List<InterviewSlot> saved, List<InterviewSlot> current) {
+        if (saved == null || saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<LocalDate, List<InterviewSlot>> copyOf(Map<LocalDate, List<InterviewSlot>> days) {
+        Map<LocalDate, List<InterviewSlot>> copy = new HashMap<>();
+        days.forEach((date, slots) -> copy.put(date, new ArrayList<>(slots)));
+        return copy;
+    }
+
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of the interviews of one interview day, a record of an {@link InterviewDayJournal}.
+ * A day with no interviews records that every interview on it was removed.
+ */
+class JsonAdaptedInterviewDay {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Interview day's %s field is missing!";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedInterviewDay.class);
+
+    private final String date;
+    private final List<JsonAdaptedInterviewSlot> slots = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedInterviewDay} with the given date and interviews.
+     */
+    @JsonCreator
+    public JsonAdaptedInterviewDay(@JsonProperty("date") String date,
+                                   @JsonProperty("slots") List<JsonAdaptedInterviewSlot> slots) {
+        this.date = date;
+        if (slots != null) {
+            this.slots.addAll(slots);
+        }
+    }
+
+    /**
+     * Converts the interviews {@code source} held on {@code date} into this class for Jackson use.
+     */
+    public JsonAdaptedInterviewDay(LocalDate date, List<InterviewSlot> source) {
+        this.date = date.toString();
+        for (InterviewSlot slot : source) {
+            slots.add(new JsonAdaptedInterviewSlot(slot));
+        }
+    }
+
+    /**
+     * Returns the date of this day.
+     *
+     * @throws IllegalValueException if the date is missing or not a date.
+     */
+    public LocalDate getDate() throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "date"));
+        }
+        return JsonAdaptedInterviews.toDate(date);
+    }
+
+    /**
+     * Returns the number of interviews recorded for this day.
+     */
+    public int getSlotCount() {
+        return slots.size();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted day into the model's {@code InterviewSlot} objects, for the persons in
+     * {@code persons}. Interviews of persons not in {@code persons}, such as persons removed from the address book
+     * file by hand, are left out.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted day.
+     */
+    public List<InterviewSlot> toModelType(Map<Nric, Person> persons) throws IllegalValueException {
+        LocalDate modelDate = getDate();
+        List<InterviewSlot> modelSlots = new ArrayList<>(slots.size());
+        for (JsonAdaptedInterviewSlot slot : slots) {
+            Optional<InterviewSlot> modelSlot = slot.toModelType(modelDate, persons);
+            if (modelSlot.isPresent()) {
+                modelSlots.add(modelSlot.get());
+            } else {
+                logger.warning("Leaving out interview on " + modelDate + ": "
+                    + String.format(JsonAdaptedInterviewSlot.MESSAGE_UNKNOWN_PERSON, slot.getNric()));
+            }
+        }
+        return modelSlots;
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link InterviewSlot}, without its date, which is kept by its
+ * {@link JsonAdaptedInterviewDay}. The person is kept as their NRIC.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedInterviewSlot {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Interview's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Interview is for a person not in the persons list: %s";
+    public static final String MESSAGE_INVALID_SLOT = "Interview should end after it starts, in a positive room.";
+
+    private final String nric;
+    private final String start;
+    private final String end;
+    private final Integer room;
+    private final String interviewer;
+    private final String job;
+
+    /**
+     * Constructs a {@code JsonAdaptedInterviewSlot} with the given interview details.
+     */
+    @JsonCreator
+    public JsonAdaptedInterviewSlot(@JsonProperty("nric") String nric, @JsonProperty("start") String start,
+                                    @JsonProperty("end") String end, @JsonProperty("room") Integer room,
+                                    @JsonProperty("interviewer") String interviewer,
+                                    @JsonProperty("job") String job) {
+        this.nric = nric;
+        this.start = start;
+        this.end = end;
+        this.room = room;
+        this.interviewer = interviewer;
+        this.job = job;
+    }
+
+    /**
+     * Converts a given {@code InterviewSlot} into this class for Jackson use.
+     */
+    public JsonAdaptedInterviewSlot(InterviewSlot source) {
+        nric = source.getPerson().getNric().value;
+        start = source.getStart().toString();
+        end = source.getEnd().toString();
+        room = source.getRoom();
+        interviewer = source.getInterviewer().map(name -> name.fullName).orElse(null);
+        job = source.getJob().map(jobName -> jobName.fullName).orElse(null);
+    }
+
+    /**
+     * Returns the NRIC of the person of this interview, as recorded.
+     */
+    String getNric() {
+        return nric;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted interview into the model's {@code InterviewSlot} object on
+     * {@code date}, for the person in {@code persons} with its NRIC, or returns an empty {@code Optional} if its
+     * person is not in {@code persons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted interview.
+     */
+    public Optional<InterviewSlot> toModelType(LocalDate date, Map<Nric, Person> persons)
+            throws IllegalValueException {
+        if (nric == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Nric.class.getSimpleName()));
+        }
+        if (!Nric.isValidNric(nric)) {
+            throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+        }
+        if (room == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "room"));
+        }
+        final LocalTime modelStart = JsonAdaptedInterviews.toTime(start);
+        final LocalTime modelEnd = JsonAdaptedInterviews.toTime(end);
+        if (!modelEnd.isAfter(modelStart) || room <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SLOT);
+        }
+
+        if (interviewer != null && !Name.isValidName(interviewer)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        final Name modelInterviewer = interviewer == null ? null : new Name(interviewer);
+
+        if (job != null && !JobName.isValidName(job)) {
+            throw new IllegalValueException(JobName.MESSAGE_CONSTRAINTS);
+        }
+        final JobName modelJob = job == null ? null : new JobName(job);
+
+        final Person person = persons.get(new Nric(nric));
+        if (person == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new InterviewSlot(person, date, modelStart, modelEnd, room, modelInterviewer, modelJob));
+    }
+
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.interviews.Interviewer;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+
+/**
+ * Jackson-friendly version of {@link Interviewer}.
+ */
+class JsonAdaptedInterviewer {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Interviewer's %s field is missing!";
+
+    private final String name;
+    private final List<JsonAdaptedKnownProgLang> skills = new ArrayList<>();
+    private final Integer dailyCapacity;
+
+    /**
+     * Constructs a {@code JsonAdaptedInterviewer} with the given interviewer details.
+     */
+    @JsonCreator
+    public JsonAdaptedInterviewer(@JsonProperty("name") String name,
+                                  @JsonProperty("skills") List<JsonAdaptedKnownProgLang> skills,
+                                  @JsonProperty("dailyCapacity") Integer dailyCapacity) {
+        this.name = name;
+        if (skills != null) {
+            this.skills.addAll(skills);
+        }
+        this.dailyCapacity = dailyCapacity;
+    }
+
+    /**
+     * Converts a given {@code Interviewer} into this class for Jackson use.
+     */
+    public JsonAdaptedInterviewer(Interviewer source) {
+        name = source.getName().fullName;
+        skills.addAll(source.getSkills().stream()
+            .sorted(Comparator.comparing(skill -> skill.value))
+            .map(JsonAdaptedKnownProgLang::new)
+            .collect(Collectors.toList()));
+        dailyCapacity = source.getDailyCapacity();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted interviewer object into the model's {@code Interviewer} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted interviewer.
+     */
+    public Interviewer toModelType() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        final Set<KnownProgLang> modelSkills = new HashSet<>();
+        for (JsonAdaptedKnownProgLang skill : skills) {
+            modelSkills.add(skill.toModelType());
+        }
+        if (dailyCapacity == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "dailyCapacity"));
+        }
+        if (dailyCapacity <= 0) {
+            throw new IllegalValueException(Interviewer.MESSAGE_CONSTRAINTS);
+        }
+        return new Interviewer(new Name(name), modelSkills, dailyCapacity);
+    }
+
+}
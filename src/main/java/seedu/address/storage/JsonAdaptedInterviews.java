@@ -0,0 +1,210 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.interviews.Interviewer;
+import seedu.address.model.interviews.Interviews;
+import seedu.address.model.interviews.SlotSettings;
+import seedu.address.model.person.Nric;
+
+/**
+ * Jackson-friendly version of the settings of {@link Interviews}: the number of interviews a day, the slot
+ * settings, the block out dates, the unavailable times of each person and the interviewers.
+ * The interviews in the schedule are not kept here but in an {@link InterviewDayJournal}, so booking an interview
+ * does not rewrite the address book file.
+ */
+class JsonAdaptedInterviews {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Interviews' %s field is missing!";
+    public static final String MESSAGE_MAX_INTERVIEWS_A_DAY_CONSTRAINTS =
+        "Maximum interviews a day should be a non-zero unsigned integer.";
+    public static final String MESSAGE_DATE_CONSTRAINTS = "Dates should be in the format yyyy-MM-dd.";
+    public static final String MESSAGE_TIME_CONSTRAINTS = "Times should be in the format HH:mm.";
+    public static final String MESSAGE_UNAVAILABILITY_CONSTRAINTS =
+        "Unavailable times should be pairs of a start minute and a later end minute.";
+    public static final String MESSAGE_DUPLICATE_INTERVIEWER = "Interviewers list contains duplicate interviewer(s).";
+
+    private final Integer maxInterviewsADay;
+    private final String dayStart;
+    private final String dayEnd;
+    private final Integer slotMinutes;
+    private final Integer rooms;
+    private final List<String> blockOutDates = new ArrayList<>();
+    private final Map<String, List<Long>> unavailability = new TreeMap<>();
+    private final List<JsonAdaptedInterviewer> interviewers = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedInterviews} with the given settings.
+     */
+    @JsonCreator
+    public JsonAdaptedInterviews(@JsonProperty("maxInterviewsADay") Integer maxInterviewsADay,
+                                 @JsonProperty("dayStart") String dayStart,
+                                 @JsonProperty("dayEnd") String dayEnd,
+                                 @JsonProperty("slotMinutes") Integer slotMinutes,
+                                 @JsonProperty("rooms") Integer rooms,
+                                 @JsonProperty("blockOutDates") List<String> blockOutDates,
+                                 @JsonProperty("unavailability") Map<String, List<Long>> unavailability,
+                                 @JsonProperty("interviewers") List<JsonAdaptedInterviewer> interviewers) {
+        this.maxInterviewsADay = maxInterviewsADay;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.slotMinutes = slotMinutes;
+        this.rooms = rooms;
+        if (blockOutDates != null) {
+            this.blockOutDates.addAll(blockOutDates);
+        }
+        if (unavailability != null) {
+            this.unavailability.putAll(unavailability);
+        }
+        if (interviewers != null) {
+            this.interviewers.addAll(interviewers);
+        }
+    }
+
+    /**
+     * Converts the settings of a given {@code Interviews} into this class for Jackson use.
+     */
+    public JsonAdaptedInterviews(Interviews source) {
+        SlotSettings slotSettings = source.getSlotSettings();
+        maxInterviewsADay = source.getMaxInterviewsADay();
+        dayStart = slotSettings.getDayStart().toString();
+        dayEnd = slotSettings.getDayEnd().toString();
+        slotMinutes = slotSettings.getSlotMinutes();
+        rooms = slotSettings.getRooms();
+        for (LocalDate date : source.getBlockOutDates()) {
+            blockOutDates.add(date.toString());
+        }
+        source.getUnavailability().forEach((nric, times) -> {
+            List<Long> bounds = new ArrayList<>();
+            times.getIntervals().forEach((start, end) -> {
+                bounds.add(start);
+                bounds.add(end);
+            });
+            unavailability.put(nric.value, bounds);
+        });
+        for (Interviewer interviewer : source.getInterviewers()) {
+            interviewers.add(new JsonAdaptedInterviewer(interviewer));
+        }
+    }
+
+    /**
+     * Converts these Jackson-friendly adapted settings into the model's {@code Interviews} object, with no
+     * interviews in its schedule.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted settings.
+     */
+    public Interviews toModelType() throws IllegalValueException {
+        Interviews interviews = new Interviews();
+        if (maxInterviewsADay == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "maxInterviewsADay"));
+        }
+        if (maxInterviewsADay <= 0) {
+            throw new IllegalValueException(MESSAGE_MAX_INTERVIEWS_A_DAY_CONSTRAINTS);
+        }
+        interviews.setMaxInterviewsADay(maxInterviewsADay);
+        interviews.setSlotSettings(toSlotSettings());
+
+        List<LocalDate> modelBlockOutDates = new ArrayList<>();
+        for (String date : blockOutDates) {
+            modelBlockOutDates.add(toDate(date));
+        }
+        interviews.setBlockOutDates(modelBlockOutDates);
+
+        for (Map.Entry<String, List<Long>> entry : unavailability.entrySet()) {
+            if (!Nric.isValidNric(entry.getKey())) {
+                throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+            }
+            interviews.addUnavailability(new Nric(entry.getKey()), toIntervalSet(entry.getValue()));
+        }
+
+        for (JsonAdaptedInterviewer jsonAdaptedInterviewer : interviewers) {
+            Interviewer interviewer = jsonAdaptedInterviewer.toModelType();
+            if (interviews.getInterviewers().stream().anyMatch(interviewer::isSameInterviewer)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_INTERVIEWER);
+            }
+            interviews.addInterviewer(interviewer);
+        }
+        return interviews;
+    }
+
+    /**
+     * Converts the adapted slot settings into the model's {@code SlotSettings} object.
+     */
+    private SlotSettings toSlotSettings() throws IllegalValueException {
+        if (dayStart == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "dayStart"));
+        }
+        if (dayEnd == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "dayEnd"));
+        }
+        if (slotMinutes == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "slotMinutes"));
+        }
+        if (rooms == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "rooms"));
+        }
+        LocalTime modelDayStart = toTime(dayStart);
+        LocalTime modelDayEnd = toTime(dayEnd);
+        if (!SlotSettings.isValidSlotSettings(modelDayStart, modelDayEnd, slotMinutes, rooms)) {
+            throw new IllegalValueException(SlotSettings.MESSAGE_CONSTRAINTS);
+        }
+        return new SlotSettings(modelDayStart, modelDayEnd, slotMinutes, rooms);
+    }
+
+    /**
+     * Returns the times of {@code bounds}, the start and end minute of each interval one after the other.
+     */
+    private static IntervalSet toIntervalSet(List<Long> bounds) throws IllegalValueException {
+        if (bounds == null || bounds.size() % 2 != 0 || bounds.contains(null)) {
+            throw new IllegalValueException(MESSAGE_UNAVAILABILITY_CONSTRAINTS);
+        }
+        IntervalSet times = new IntervalSet();
+        for (int i = 0; i < bounds.size(); i += 2) {
+            if (bounds.get(i) >= bounds.get(i + 1)) {
+                throw new IllegalValueException(MESSAGE_UNAVAILABILITY_CONSTRAINTS);
+            }
+            times.add(bounds.get(i), bounds.get(i + 1));
+        }
+        return times;
+    }
+
+    /**
+     * Returns the date {@code date} is in the format of {@link LocalDate#toString()}.
+     */
+    static LocalDate toDate(String date) throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(MESSAGE_DATE_CONSTRAINTS);
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_DATE_CONSTRAINTS, dtpe);
+        }
+    }
+
+    /**
+     * Returns the time {@code time} is in the format of {@link LocalTime#toString()}.
+     */
+    static LocalTime toTime(String time) throws IllegalValueException {
+        if (time == null) {
+            throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS);
+        }
+        try {
+            return LocalTime.parse(time);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS, dtpe);
+        }
+    }
+
+}
@@ -28,6 +28,7 @@ class JsonAdaptedJob {
     private final List<JsonAdaptedJobPersonList> list2 = new ArrayList<>();
     private final List<JsonAdaptedJobPersonList> list3 = new ArrayList<>();
     private final List<JsonAdaptedJobPersonList> list4 = new ArrayList<>();
+    private final JsonAdaptedRankWeights rankWeights;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
@@ -37,9 +38,11 @@ class JsonAdaptedJob {
                           @JsonProperty("list1") List<JsonAdaptedJobPersonList> list1,
                           @JsonProperty("list2") List<JsonAdaptedJobPersonList> list2,
                           @JsonProperty("list3") List<JsonAdaptedJobPersonList> list3,
-                          @JsonProperty("list4") List<JsonAdaptedJobPersonList> list4) {
+                          @JsonProperty("list4") List<JsonAdaptedJobPersonList> list4,
+                          @JsonProperty("rankWeights") JsonAdaptedRankWeights rankWeights) {
 
         this.jobName = jobName;
+        this.rankWeights = rankWeights;
         if (list1 != null) {
             this.list1.addAll(list1);
         }
@@ -59,6 +62,7 @@ class JsonAdaptedJob {
      */
     public JsonAdaptedJob(Job source) {
         jobName = source.getName().fullName;
+        rankWeights = new JsonAdaptedRankWeights(source.getRankWeights());
         list1.addAll(source.getPersonsNric(0).stream()
                 .map(JsonAdaptedJobPersonList::new)
                 .collect(Collectors.toList()));
@@ -168,7 +172,11 @@ class JsonAdaptedJob {
         }
         final JobName modelName = new JobName(jobName);
 
-        return new Job(modelName, personsHash, personsNricList, personsInJob);
+        final Job job = new Job(modelName, personsHash, personsNricList, personsInJob);
+        if (rankWeights != null) {
+            job.setRankWeights(rankWeights.toModelType());
+        }
+        return job;
     }
 
 }
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.job.RankWeights;
+
+/**
+ * Jackson-friendly version of {@link RankWeights}.
+ */
+class JsonAdaptedRankWeights {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Rank weights' %s field is missing!";
+
+    private final Float grade;
+    private final List<Float> interview = new ArrayList<>();
+    private final Map<String, Float> progLangs = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRankWeights} with the given weights.
+     */
+    @JsonCreator
+    public JsonAdaptedRankWeights(@JsonProperty("grade") Float grade,
+                                  @JsonProperty("interview") List<Float> interview,
+                                  @JsonProperty("progLangs") Map<String, Float> progLangs) {
+        this.grade = grade;
+        if (interview != null) {
+            this.interview.addAll(interview);
+        }
+        if (progLangs != null) {
+            this.progLangs.putAll(progLangs);
+        }
+    }
+
+    /**
+     * Converts a given {@code RankWeights} into this class for Jackson use.
+     */
+    public JsonAdaptedRankWeights(RankWeights source) {
+        grade = source.getGradeWeight();
+        for (int questionNum = 1; questionNum <= RankWeights.NUMBER_OF_QUESTIONS; questionNum++) {
+            interview.add(source.getInterviewWeight(questionNum));
+        }
+        progLangs.putAll(source.getProgLangWeights());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted weights object into the model's {@code RankWeights} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted weights.
+     */
+    public RankWeights toModelType() throws IllegalValueException {
+        if (grade == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "grade"));
+        }
+        if (interview.size() != RankWeights.NUMBER_OF_QUESTIONS || interview.contains(null)) {
+            throw new IllegalValueException(RankWeights.MESSAGE_INTERVIEW_WEIGHTS_CONSTRAINTS);
+        }
+        float[] interviewWeights = new float[RankWeights.NUMBER_OF_QUESTIONS];
+        for (int i = 0; i < interviewWeights.length; i++) {
+            interviewWeights[i] = interview.get(i);
+        }
+        if (!RankWeights.isValidWeight(grade)
+            || progLangs.values().stream().anyMatch(weight -> weight == null || !RankWeights.isValidWeight(weight))
+            || !areValidWeights(interviewWeights)) {
+            throw new IllegalValueException(RankWeights.MESSAGE_CONSTRAINTS);
+        }
+        return new RankWeights(grade, interviewWeights, progLangs);
+    }
+
+    /**
+     * Returns true if every weight in {@code weights} is valid.
+     */
+    private static boolean areValidWeights(float[] weights) {
+        for (float weight : weights) {
+            if (!RankWeights.isValidWeight(weight)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
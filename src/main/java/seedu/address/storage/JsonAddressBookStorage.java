@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,16 +14,24 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The interview schedule is kept in an {@link InterviewDayJournal} next to the json file, so a change to a few
+ * interviews only appends the records of the days it touches, and the json file is only written again when the
+ * rest of the address book changed.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    /** Journal of the interview schedule of each address book file read or written. */
+    private final Map<Path, InterviewDayJournal> journals = new HashMap<>();
+    /** Content of each address book file as last read or written. */
+    private final Map<Path, String> savedContents = new HashMap<>();
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -52,10 +62,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            AddressBook addressBook = jsonAddressBook.get().toModelType();
+            getJournal(filePath).read(addressBook.getInterviews(), addressBook.getPersonList());
+            savedContents.put(filePath, JsonUtil.toJsonString(jsonAddressBook.get()));
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from interview journal of " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         }
     }
 
@@ -73,8 +89,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // the journal goes first, so a failed save never leaves it with interviews of persons the file no longer has
+        getJournal(filePath).save(addressBook.getInterviews());
+        String content = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        if (!content.equals(savedContents.get(filePath)) || !FileUtil.isFileExists(filePath)) {
+            FileUtil.createIfMissing(filePath);
+            FileUtil.writeToFile(filePath, content);
+            savedContents.put(filePath, content);
+        }
+    }
+
+    private InterviewDayJournal getJournal(Path filePath) {
+        return journals.computeIfAbsent(filePath,
+            path -> new InterviewDayJournal(InterviewDayJournal.getJournalFilePath(path)));
     }
 
 }
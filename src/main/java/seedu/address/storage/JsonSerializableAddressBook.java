@@ -25,6 +25,7 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedJob> jobs = new ArrayList<>();
+    private JsonAdaptedInterviews interviews;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
@@ -42,10 +43,12 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         jobs.addAll(source.getJobList().stream().map(JsonAdaptedJob::new).collect(Collectors.toList()));
+        interviews = new JsonAdaptedInterviews(source.getInterviews());
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The interview settings are read if present, and the schedule is left empty for the journal to fill.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
@@ -65,6 +68,9 @@ class JsonSerializableAddressBook {
             }
             addressBook.addJob(job);
         }
+        if (interviews != null) {
+            addressBook.getInterviews().setInterviews(interviews.toModelType());
+        }
         return addressBook;
     }
 
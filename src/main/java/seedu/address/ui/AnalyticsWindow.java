@@ -1,23 +1,46 @@
 package seedu.address.ui;
 
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.PieChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
 import javafx.scene.control.TextArea;
+import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.analytics.Analytics;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.analytics.Distribution;
+import seedu.address.model.analytics.HiringFunnel;
+import seedu.address.model.analytics.PivotTable;
+import seedu.address.model.analytics.ScoreStatistics;
+import seedu.address.model.analytics.TopCategories;
 
 /**
- * Controller for a analytics page
+ * Controller for a analytics page. Converts an {@code AnalyticsResult} into the data of its charts and its interview
+ * score statistics, or shows a {@code PivotTable} as a heatmap in place of them.
  */
 public class AnalyticsWindow extends UiPart<Stage> {
 
     private static final Logger logger = LogsCenter.getLogger(AnalyticsWindow.class);
     private static final String FXML = "AnalyticsChart.fxml";
+    private static final String GRID_CELL_STYLE = "-fx-padding: 4 8 4 8; -fx-border-color: #d0d0d0;";
 
+    @FXML
+    private TabPane tabPane;
+    @FXML
+    private ScrollPane scrollPane;
     @FXML
     private BarChart jobApplicationsChart;
     @FXML
@@ -34,6 +57,20 @@ public class AnalyticsWindow extends UiPart<Stage> {
     private BarChart majorChart;
     @FXML
     private BarChart pastJobsChart;
+    @FXML
+    private BarChart funnelChart;
+    @FXML
+    private TextArea funnelText;
+    @FXML
+    private BarChart gradeHistogram;
+    @FXML
+    private BarChart totalScoreHistogram;
+    @FXML
+    private TextArea distributionText;
+    @FXML
+    private TextArea scoreStatisticsText;
+    @FXML
+    private GridPane correlationGrid;
 
 
     /**
@@ -54,6 +91,7 @@ public class AnalyticsWindow extends UiPart<Stage> {
 
     /**
      * Shows the Analytics window.
+     * @param maxCategories the number of most common categories to chart separately in each breakdown
      * @throws IllegalStateException
      * <ul>
      *     <li>
@@ -70,17 +108,228 @@ public class AnalyticsWindow extends UiPart<Stage> {
      *     </li>
      * </ul>
      */
-    public void show(Analytics analytics) {
+    public void show(AnalyticsResult analytics, HiringFunnel funnel, int maxCategories) {
         logger.fine("Showing analytics results.");
         getRoot().show();
-        jobApplicationsChart.setData(analytics.generateJobApplicationData());
-        interviewScoresChart.setData(analytics.generateInterviewScoresData());
-        gradeText.setText("Mean Grade: " + analytics.generateMeanGradeData());
-        genderChart.setData(analytics.generateGenderData());
-        raceChart.setData(analytics.generateRaceData());
-        schoolChart.setData(analytics.generateSchoolData());
-        majorChart.setData(analytics.generateMajorData());
-        pastJobsChart.setData(analytics.generatePastJobData());
+        jobApplicationsChart.setData(toBarChartData(analytics.getJobApplicationCounts(), maxCategories));
+        interviewScoresChart.setData(toInterviewScoresData(analytics));
+        gradeText.setText("Mean Grade: " + formatMeanGrade(analytics.getMeanGrade()));
+        genderChart.setData(toPieChartData(AnalyticsResult.GENDER_CATEGORIES, analytics.getGenderCounts()));
+        raceChart.setData(toPieChartData(AnalyticsResult.RACE_CATEGORIES, analytics.getRaceCounts()));
+        schoolChart.setData(toBarChartData(analytics.getSchoolCounts(), maxCategories));
+        majorChart.setData(toBarChartData(analytics.getMajorCounts(), maxCategories));
+        pastJobsChart.setData(toBarChartData(analytics.getPastJobCounts(), maxCategories));
+        funnelChart.setData(toFunnelData(funnel));
+        funnelText.setText(funnel.toText());
+        gradeHistogram.setData(toHistogramData(analytics.getGradeDistribution()));
+        totalScoreHistogram.setData(toHistogramData(analytics.getTotalScoreDistribution()));
+        distributionText.setText(toDistributionText(analytics));
+        scoreStatisticsText.setText(toScoreStatisticsText(analytics.getScoreStatistics()));
+        fillCorrelationGrid(correlationGrid, analytics.getScoreStatistics());
+    }
+
+    /**
+     * Shows {@code pivot} as a table in the Analytics window, with each cell shaded by its measure.
+     * @throws IllegalStateException as {@link #show(AnalyticsResult, HiringFunnel, int)} does.
+     */
+    public void showPivot(PivotTable pivot) {
+        logger.fine("Showing pivot table of " + pivot.getQuery());
+        getRoot().setTitle("Analytics: " + pivot.getQuery());
+        scrollPane.setContent(toPivotGrid(pivot));
+        Tab pivotTab = tabPane.getTabs().get(0);
+        pivotTab.setText("Pivot Table");
+        tabPane.getTabs().setAll(pivotTab);
+        getRoot().show();
+    }
+
+    /**
+     * Returns a grid of the values of {@code pivot}, with the row and column values as headers.
+     * Only the cells that have persons are drawn, so a sparse table of many rows and columns stays light.
+     */
+    private static GridPane toPivotGrid(PivotTable pivot) {
+        GridPane grid = new GridPane();
+        grid.add(newGridCell(pivot.getQuery().toString(), ""), 0, 0);
+        for (int column = 0; column < pivot.getColumnLabels().size(); column++) {
+            grid.add(newGridCell(pivot.getColumnLabels().get(column), ""), column + 1, 0);
+        }
+        for (int row = 0; row < pivot.getRowLabels().size(); row++) {
+            grid.add(newGridCell(pivot.getRowLabels().get(row), ""), 0, row + 1);
+        }
+        double maxValue = pivot.getMaxValue();
+        for (int cell = 0; cell < pivot.getNumberOfCells(); cell++) {
+            int row = pivot.getCellRow(cell);
+            int column = pivot.getCellColumn(cell);
+            grid.add(newGridCell(pivot.formatValue(row, column),
+                toHeatmapStyle(pivot.getValue(row, column), maxValue)), column + 1, row + 1);
+        }
+        return grid;
+    }
+
+    /**
+     * Fills {@code grid} with the correlation of each pair of {@link ScoreStatistics#VARIABLES}, with each cell
+     * shaded by the strength of the correlation, whether positive or negative.
+     */
+    private static void fillCorrelationGrid(GridPane grid, ScoreStatistics statistics) {
+        List<String> variables = ScoreStatistics.VARIABLES;
+        grid.getChildren().clear();
+        grid.add(newGridCell("Correlation", ""), 0, 0);
+        for (int i = 0; i < variables.size(); i++) {
+            grid.add(newGridCell(variables.get(i), ""), i + 1, 0);
+            grid.add(newGridCell(variables.get(i), ""), 0, i + 1);
+            for (int j = 0; j < variables.size(); j++) {
+                double correlation = statistics.getCorrelation(i, j);
+                grid.add(newGridCell(formatStatistic(correlation), toHeatmapStyle(Math.abs(correlation), 1)),
+                    j + 1, i + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the mean and variance of each of {@link ScoreStatistics#VARIABLES} and the correlation of the grade and
+     * the total interview score in {@code statistics}.
+     */
+    static String toScoreStatisticsText(ScoreStatistics statistics) {
+        StringBuilder builder = new StringBuilder("Persons with Interview Scores: ")
+            .append(statistics.getNumPeople());
+        for (int i = 0; i < ScoreStatistics.VARIABLES.size(); i++) {
+            builder.append('\n').append(ScoreStatistics.VARIABLES.get(i))
+                .append(": Mean ").append(formatStatistic(statistics.getMean(i)))
+                .append(", Variance ").append(formatStatistic(statistics.getVariance(i)));
+        }
+        return builder.append("\nCorrelation of Grade and Total Interview Score: ")
+            .append(formatStatistic(statistics.getGradeTotalScoreCorrelation()))
+            .toString();
+    }
+
+    /**
+     * Returns {@code value} to two decimal places, or "No Record" if it is NaN.
+     */
+    private static String formatStatistic(double value) {
+        return Double.isNaN(value) ? "No Record" : String.format("%.2f", value);
+    }
+
+    /**
+     * Returns a cell of a grid showing {@code text}, with {@code style} added to its style.
+     */
+    private static Label newGridCell(String text, String style) {
+        Label cell = new Label(text);
+        cell.setMaxWidth(Double.MAX_VALUE);
+        cell.setStyle(GRID_CELL_STYLE + style);
+        return cell;
+    }
+
+    /**
+     * Returns the style of a heatmap cell of {@code value}, more opaque the closer it is to {@code maxValue}, or an
+     * empty style if the cell has no value.
+     */
+    static String toHeatmapStyle(double value, double maxValue) {
+        if (Double.isNaN(value) || !(maxValue > 0)) {
+            return "";
+        }
+        return String.format("-fx-background-color: rgba(33, 150, 243, %.2f);", value / maxValue);
+    }
+
+    /**
+     * Returns the mean grade to two decimal places, or "No Record" if there is no mean grade.
+     */
+    static String formatMeanGrade(float meanGrade) {
+        if (Float.isNaN(meanGrade)) {
+            return "No Record";
+        }
+        return new DecimalFormat("#.00").format(meanGrade);
+    }
+
+    /**
+     * Returns bar chart data with one series for each of the {@code maxCategories} largest categories in
+     * {@code counts}, largest first, and one for the rest, so the chart stays small however many categories there
+     * are.
+     */
+    static ObservableList<XYChart.Series<String, Integer>> toBarChartData(Map<String, Integer> counts,
+                                                                          int maxCategories) {
+        ObservableList<XYChart.Series<String, Integer>> data = FXCollections.observableArrayList();
+        for (Map.Entry<String, Integer> count : TopCategories.of(counts, maxCategories).entrySet()) {
+            XYChart.Series<String, Integer> series = new XYChart.Series<>();
+            series.setName(count.getKey());
+            series.getData().add(new XYChart.Data<>("", count.getValue()));
+            data.add(series);
+        }
+        return data;
+    }
+
+    /**
+     * Returns bar chart data with one series for the mean score of each interview question.
+     */
+    static ObservableList<XYChart.Series<String, Float>> toInterviewScoresData(AnalyticsResult analytics) {
+        ObservableList<XYChart.Series<String, Float>> data = FXCollections.observableArrayList();
+        for (int questionNum = 1; questionNum <= AnalyticsResult.NUMBER_OF_QUESTIONS; questionNum++) {
+            XYChart.Series<String, Float> question = new XYChart.Series<>();
+            question.setName("Q" + questionNum);
+            question.getData().add(new XYChart.Data<>("", analytics.getMeanInterviewScore(questionNum)));
+            data.add(question);
+        }
+        return data;
+    }
+
+    /**
+     * Returns bar chart data with a single series of the number of values in each bin of {@code distribution}.
+     */
+    static ObservableList<XYChart.Series<String, Integer>> toHistogramData(Distribution distribution) {
+        XYChart.Series<String, Integer> series = new XYChart.Series<>();
+        series.setName("Persons");
+        int[] histogram = distribution.getHistogram();
+        for (int bin = 0; bin < histogram.length; bin++) {
+            series.getData().add(new XYChart.Data<>(distribution.getBinLabel(bin), histogram[bin]));
+        }
+        return FXCollections.observableArrayList(Collections.singletonList(series));
+    }
+
+    /**
+     * Returns the percentiles of grades and total interview scores, and the number of distinct schools, majors and
+     * past jobs in {@code analytics}.
+     */
+    static String toDistributionText(AnalyticsResult analytics) {
+        return "Grade: " + formatPercentiles(analytics.getGradeDistribution()) + "\n"
+            + "Total Interview Score: " + formatPercentiles(analytics.getTotalScoreDistribution()) + "\n"
+            + "Distinct Schools: " + analytics.getSchoolCounts().size()
+            + ", Majors: " + analytics.getMajorCounts().size()
+            + ", Past Jobs: " + analytics.getPastJobCounts().size();
+    }
+
+    /**
+     * Returns the 10th, 50th and 90th percentiles of {@code distribution} to two decimal places, or "No Record" if
+     * it has no values.
+     */
+    private static String formatPercentiles(Distribution distribution) {
+        if (Float.isNaN(distribution.getP50())) {
+            return "No Record";
+        }
+        return String.format("10th Percentile %.2f, Median %.2f, 90th Percentile %.2f", distribution.getP10(),
+            distribution.getP50(), distribution.getP90());
+    }
+
+    /**
+     * Returns bar chart data with one series for the number of candidates at each stage of {@code funnel}.
+     */
+    static ObservableList<XYChart.Series<String, Integer>> toFunnelData(HiringFunnel funnel) {
+        ObservableList<XYChart.Series<String, Integer>> data = FXCollections.observableArrayList();
+        for (int stage = 0; stage < HiringFunnel.STAGES.size(); stage++) {
+            XYChart.Series<String, Integer> series = new XYChart.Series<>();
+            series.setName(HiringFunnel.STAGES.get(stage));
+            series.getData().add(new XYChart.Data<>("", funnel.getStageCount(stage)));
+            data.add(series);
+        }
+        return data;
+    }
+
+    /**
+     * Returns pie chart data with one slice for each of {@code categories}, sized by the matching {@code counts}.
+     */
+    static ObservableList<PieChart.Data> toPieChartData(List<String> categories, int[] counts) {
+        ObservableList<PieChart.Data> data = FXCollections.observableArrayList();
+        for (int i = 0; i < categories.size(); i++) {
+            data.add(new PieChart.Data(categories.get(i), counts[i]));
+        }
+        return data;
     }
 
     /**
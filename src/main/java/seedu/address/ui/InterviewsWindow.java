@@ -1,14 +1,23 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
-import javafx.scene.control.TextArea;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.interviews.Interviews;
 
 /**
- * Controller for a analytics page
+ * Controller for the interviews page, which lists the interview days of the schedule.
+ * The list only lays out the days scrolled into view, and a day is only formatted when its cell shows it, so a
+ * schedule of many months opens as quickly as one of a few days.
  */
 public class InterviewsWindow extends UiPart<Stage> {
 
@@ -16,7 +25,9 @@ public class InterviewsWindow extends UiPart<Stage> {
     private static final String FXML = "InterviewsWindow.fxml";
 
     @FXML
-    private TextArea interviewsDisplay;
+    private ListView<LocalDate> interviewsDisplay;
+
+    private NavigableMap<LocalDate, List<InterviewSlot>> schedule;
 
     /**
      * Creates a new AnalyticsWindow.
@@ -52,10 +63,12 @@ public class InterviewsWindow extends UiPart<Stage> {
      *     </li>
      * </ul>
      */
-    public void show(String interviews) {
+    public void show(NavigableMap<LocalDate, List<InterviewSlot>> interviews) {
         logger.fine("Showing interviews results.");
+        schedule = interviews;
+        interviewsDisplay.setCellFactory(listView -> new InterviewDayCell());
+        interviewsDisplay.setItems(FXCollections.observableArrayList(interviews.keySet()));
         getRoot().show();
-        interviewsDisplay.setText(interviews);
     }
 
     /**
@@ -78,5 +91,21 @@ public class InterviewsWindow extends UiPart<Stage> {
     public void focus() {
         getRoot().requestFocus();
     }
-}
 
+    /**
+     * Custom {@code ListCell} that displays the interviews of a day of the schedule as text.
+     */
+    class InterviewDayCell extends ListCell<LocalDate> {
+        @Override
+        protected void updateItem(LocalDate date, boolean empty) {
+            super.updateItem(date, empty);
+
+            if (empty || date == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setText(Interviews.formatDay(date, schedule.get(date)));
+            }
+        }
+    }
+}
@@ -321,7 +321,13 @@ public class MainWindow extends UiPart<Stage> {
 
             if (commandResult.isSuccessfulAnalytics()) {
                 AnalyticsWindow analytics = new AnalyticsWindow();
-                analytics.show(commandResult.getAnalytics());
+                analytics.show(commandResult.getAnalytics(), commandResult.getFunnel(),
+                    commandResult.getMaxCategories());
+            }
+
+            if (commandResult.isSuccessfulPivot()) {
+                AnalyticsWindow analytics = new AnalyticsWindow();
+                analytics.showPivot(commandResult.getPivot());
             }
 
             if (commandResult.isSuccessfulFilter()) {
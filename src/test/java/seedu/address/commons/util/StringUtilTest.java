@@ -2,10 +2,14 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.junit.Rule;
@@ -145,6 +149,109 @@ public class StringUtilTest {
 
     }
 
+    @Test
+    public void parseRange_invalidFormat_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Range parameter format wrong");
+        StringUtil.parseRange("1-2-3");
+    }
+
+    @Test
+    public void valueInAnyRange_validInputs_correctResult() {
+        float[][] ranges = StringUtil.parseRanges(Arrays.asList("1.00-2.00", " 4 - 5 "));
+
+        // inside a range, bounds inclusive
+        assertTrue(StringUtil.valueInAnyRange(ranges, 1.5f));
+        assertTrue(StringUtil.valueInAnyRange(ranges, 2.0f));
+        assertTrue(StringUtil.valueInAnyRange(ranges, 4.0f));
+
+        // between or outside the ranges
+        assertFalse(StringUtil.valueInAnyRange(ranges, 3.0f));
+        assertFalse(StringUtil.valueInAnyRange(ranges, 5.5f));
+    }
+
+    //---------------- Tests for toLowerCaseWords and containsAnyWord --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords(""));
+        assertArrayEquals(new String[0], StringUtil.toLowerCaseWords("    "));
+        assertArrayEquals(new String[] {"aaa", "bbb", "ccc@1"}, StringUtil.toLowerCaseWords("  AAA   bBb ccc@1 "));
+    }
+
+    @Test
+    public void containsAnyWord_validInputs_correctResult() {
+        String[] words = StringUtil.toLowerCaseWords("AAA bBb ccc  bbb");
+
+        // no keywords
+        assertFalse(StringUtil.containsAnyWord(words, new String[0]));
+
+        // partial word only
+        assertFalse(StringUtil.containsAnyWord(words, StringUtil.toLowerCaseKeywords(Arrays.asList("bb"))));
+
+        // different upper/lower case letters, leading/trailing spaces
+        assertTrue(StringUtil.containsAnyWord(words, StringUtil.toLowerCaseKeywords(Arrays.asList("Bbb"))));
+        assertTrue(StringUtil.containsAnyWord(words, StringUtil.toLowerCaseKeywords(Arrays.asList("  ccc  "))));
+
+        // only one matching keyword
+        assertTrue(StringUtil.containsAnyWord(words, StringUtil.toLowerCaseKeywords(Arrays.asList("ddd", "aaa"))));
+    }
+
+    //---------------- Tests for containsIgnoreCase --------------------------------------
+
+    @Test
+    public void containsIgnoreCase_nullSubstring_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.containsIgnoreCase("typical sentence", null);
+    }
+
+    @Test
+    public void containsIgnoreCase_validInputs_correctResult() {
+        // empty substring
+        assertTrue(StringUtil.containsIgnoreCase("", ""));
+        assertTrue(StringUtil.containsIgnoreCase("aaa", ""));
+
+        // substring longer than text
+        assertFalse(StringUtil.containsIgnoreCase("aa", "aaa"));
+
+        // partial words, spanning words, different cases
+        assertTrue(StringUtil.containsIgnoreCase("Alice Tan", "TAN"));
+        assertTrue(StringUtil.containsIgnoreCase("alice@GMAIL.com", "@gmail"));
+        assertTrue(StringUtil.containsIgnoreCase("Alice Tan", "e t"));
+
+        // not contained
+        assertFalse(StringUtil.containsIgnoreCase("Alice Tan", "alicet"));
+    }
+
+    //---------------- Tests for toPhoneticKey --------------------------------------
+
+    @Test
+    public void toPhoneticKey_noLetters_returnsEmptyString() {
+        assertEquals("", StringUtil.toPhoneticKey(""));
+        assertEquals("", StringUtil.toPhoneticKey("123 !"));
+    }
+
+    @Test
+    public void toPhoneticKey_soundAlike_sameKey() {
+        // trailing "ng", vowel changes, case
+        assertEquals(StringUtil.toPhoneticKey("Tan"), StringUtil.toPhoneticKey("TANG"));
+        assertEquals(StringUtil.toPhoneticKey("Ming"), StringUtil.toPhoneticKey("meng"));
+        assertEquals(StringUtil.toPhoneticKey("Wei"), StringUtil.toPhoneticKey("Wee"));
+
+        // similar consonants and digraphs
+        assertEquals(StringUtil.toPhoneticKey("Philip"), StringUtil.toPhoneticKey("Filip"));
+        assertEquals(StringUtil.toPhoneticKey("Chan"), StringUtil.toPhoneticKey("Shan"));
+        assertEquals(StringUtil.toPhoneticKey("Zhang"), StringUtil.toPhoneticKey("Jang"));
+        assertEquals(StringUtil.toPhoneticKey("Meier"), StringUtil.toPhoneticKey("Meyer"));
+    }
+
+    @Test
+    public void toPhoneticKey_soundDifferent_differentKey() {
+        assertNotEquals(StringUtil.toPhoneticKey("Tan"), StringUtil.toPhoneticKey("Lim"));
+        assertNotEquals(StringUtil.toPhoneticKey("Ang"), StringUtil.toPhoneticKey("Wang"));
+        assertNotEquals(StringUtil.toPhoneticKey("Ng"), StringUtil.toPhoneticKey("Ang"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,57 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class TopKHeapTest {
+
+    /**
+     * Offers {@code values} in order to a heap keeping {@code k} of them, and returns the indexes kept, largest first.
+     */
+    private static int[] topIndexes(int k, double... values) {
+        TopKHeap heap = new TopKHeap(k);
+        for (int i = 0; i < values.length; i++) {
+            heap.offer(values[i], i);
+        }
+        heap.sortDescending();
+        int[] indexes = new int[heap.size()];
+        for (int i = 0; i < heap.size(); i++) {
+            indexes[i] = heap.getIndex(i);
+        }
+        return indexes;
+    }
+
+    @Test
+    public void offer_moreThanK_keepsLargestFirst() {
+        assertArrayEquals(new int[] {3, 1, 4}, topIndexes(3, 1, 5, 2, 9, 4, 0));
+    }
+
+    @Test
+    public void offer_fewerThanK_keepsAll() {
+        assertArrayEquals(new int[] {1, 0}, topIndexes(5, 1, 2));
+    }
+
+    @Test
+    public void offer_equalValues_lowerIndexRanksAbove() {
+        assertArrayEquals(new int[] {0, 2, 3}, topIndexes(3, 7, 1, 7, 7, 7));
+    }
+
+    @Test
+    public void offer_zeroK_keepsNone() {
+        assertArrayEquals(new int[0], topIndexes(0, 1, 2, 3));
+    }
+
+    @Test
+    public void getValue_sorted_valuesInRankOrder() {
+        TopKHeap heap = new TopKHeap(2);
+        heap.offer(3, 0);
+        heap.offer(8, 1);
+        heap.offer(5, 2);
+        heap.sortDescending();
+        assertEquals(2, heap.size());
+        assertEquals(8, heap.getValue(0), 0);
+        assertEquals(5, heap.getValue(1), 0);
+    }
+}
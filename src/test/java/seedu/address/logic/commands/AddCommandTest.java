@@ -6,9 +6,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -25,11 +26,19 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.analytics.Analytics;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.interviews.InterviewSlot;
+import seedu.address.model.interviews.Interviewer;
 import seedu.address.model.interviews.Interviews;
+import seedu.address.model.interviews.SlotSettings;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobListName;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.RankWeights;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.predicate.UniqueFilterList;
 import seedu.address.testutil.PersonBuilder;
@@ -286,7 +295,32 @@ public class AddCommandTest {
         }
 
         @Override
-        public void generateInterviews() {
+        public List<Person> generateInterviews(InterviewOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> generateInterviews(List<JobName> jobNames, InterviewOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> appendInterviews() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> appendInterviews(List<JobName> jobNames) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int compactInterviews() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<InterviewSlot> rescheduleInterview(Nric nric, LocalDate from) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -300,23 +334,48 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public boolean hasInterviewer(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addInterviewer(Interviewer interviewer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteInterviewer(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setMaxInterviewsADay(int maxInterviewsADay) {
             throw new AssertionError("This method should not be called");
         }
 
         @Override
-        public void setBlockOutDates(List<Calendar> blockOutDates) {
+        public void setSlotSettings(SlotSettings slotSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addUnavailability(Nric nric, IntervalSet times) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setBlockOutDates(List<LocalDate> blockOutDates) {
             throw new AssertionError("This method should not be called");
         }
 
         @Override
-        public Analytics generateAnalytics(JobListName listName) {
+        public AnalyticsResult generateAnalytics(JobListName listName) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public Analytics generateAnalytics() {
+        public AnalyticsResult generateAnalytics() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -351,6 +410,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setRankWeights(JobName jobName, RankWeights rankWeights) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortPersonList(JobListName listName, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteJob(Job job) {
             throw new AssertionError("This method should not be called.");
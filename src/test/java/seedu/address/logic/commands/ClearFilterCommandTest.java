@@ -41,7 +41,7 @@ public class ClearFilterCommandTest {
     public void execute_validFilterNameAllPersons_success() {
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, EMPTY, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         ClearFilterCommand clearFilterCommand = new ClearFilterCommand(EMPTY);
 
@@ -59,7 +59,7 @@ public class ClearFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, APPLICANT, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         ClearFilterCommand clearFilterCommand = new ClearFilterCommand(APPLICANT);
 
@@ -78,7 +78,7 @@ public class ClearFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, INTERVIEW, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         ClearFilterCommand clearFilterCommand = new ClearFilterCommand(INTERVIEW);
 
@@ -97,7 +97,7 @@ public class ClearFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, SHORTLIST, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         ClearFilterCommand clearFilterCommand = new ClearFilterCommand(SHORTLIST);
 
@@ -116,7 +116,7 @@ public class ClearFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, KIV, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         ClearFilterCommand clearFilterCommand = new ClearFilterCommand(KIV);
 
@@ -42,7 +42,7 @@ public class DeleteFilterCommandTest {
     public void execute_validFilterNameAllPersons_success() {
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, EMPTY, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         DeleteFilterCommand deleteFilterCommand = new DeleteFilterCommand(EMPTY, VALID_FILTERNAME);
 
@@ -60,7 +60,7 @@ public class DeleteFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, APPLICANT, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         DeleteFilterCommand deleteFilterCommand = new DeleteFilterCommand(APPLICANT, VALID_FILTERNAME);
 
@@ -79,7 +79,7 @@ public class DeleteFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, INTERVIEW, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         DeleteFilterCommand deleteFilterCommand = new DeleteFilterCommand(INTERVIEW, VALID_FILTERNAME);
 
@@ -98,7 +98,7 @@ public class DeleteFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, SHORTLIST, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         DeleteFilterCommand deleteFilterCommand = new DeleteFilterCommand(SHORTLIST, VALID_FILTERNAME);
 
@@ -117,7 +117,7 @@ public class DeleteFilterCommandTest {
         model.setIsAllJobScreen(false);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand filterCommand = new FilterCommand(VALID_FILTERNAME, KIV, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         commandExecute(filterCommand, model, commandHistory);
         DeleteFilterCommand deleteFilterCommand = new DeleteFilterCommand(KIV, VALID_FILTERNAME);
 
@@ -18,7 +18,9 @@ import static seedu.address.model.job.JobListName.EMPTY;
 import static seedu.address.model.job.JobListName.INTERVIEW;
 import static seedu.address.model.job.JobListName.KIV;
 import static seedu.address.model.job.JobListName.SHORTLIST;
+import static seedu.address.testutil.TypicalObjects.BENSON;
 import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
 import static seedu.address.testutil.TypicalObjects.ELLE;
 import static seedu.address.testutil.TypicalObjects.FIONA;
 import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
@@ -119,7 +121,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand command = new FilterCommand(VALID_FILTERNAME, EMPTY, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         expectedModel.addPredicate(VALID_FILTERNAME, predicator, EMPTY);
         expectedModel.updateFilteredPersonLists(EMPTY);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -132,7 +134,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand command = new FilterCommand(VALID_FILTERNAME, APPLICANT, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         expectedModel.addPredicate(VALID_FILTERNAME, predicator, APPLICANT);
         expectedModel.updateFilteredPersonLists(APPLICANT);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -145,7 +147,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand command = new FilterCommand(VALID_FILTERNAME, KIV, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         expectedModel.addPredicate(VALID_FILTERNAME, predicator, KIV);
         expectedModel.updateFilteredPersonLists(KIV);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -158,7 +160,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand command = new FilterCommand(VALID_FILTERNAME, INTERVIEW, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         expectedModel.addPredicate(VALID_FILTERNAME, predicator, INTERVIEW);
         expectedModel.updateFilteredPersonLists(INTERVIEW);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -171,7 +173,7 @@ public class FilterCommandTest {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor(" ");
         FilterCommand command = new FilterCommand(VALID_FILTERNAME, SHORTLIST, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         expectedModel.addPredicate(VALID_FILTERNAME, predicator, SHORTLIST);
         expectedModel.updateFilteredPersonLists(SHORTLIST);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -184,12 +186,36 @@ public class FilterCommandTest {
         FilterCommand.PredicatePersonDescriptor descriptor =
             preparePredicatePersonDescriptor("Kurz Elle Kunz");
         FilterCommand command = new FilterCommand(VALID_FILTERNAME, EMPTY, descriptor);
-        Predicate<Person> predicator = descriptor.toPredicate();
+        Predicate<Person> predicator = descriptor.toPredicate(model.getAddressBook());
         expectedModel.updateBaseFilteredPersonList(predicator);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_substringMatchMode_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor("EIE");
+        descriptor.setMatchMode(FilterCommand.MatchMode.SUBSTRING);
+        FilterCommand command = new FilterCommand(VALID_FILTERNAME, EMPTY, descriptor);
+        Predicate<Person> predicator = descriptor.toPredicate(expectedModel.getAddressBook());
+        expectedModel.updateBaseFilteredPersonList(predicator);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneticMatchMode_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FilterCommand.PredicatePersonDescriptor descriptor = preparePredicatePersonDescriptor("Maier");
+        descriptor.setMatchMode(FilterCommand.MatchMode.PHONETIC);
+        FilterCommand command = new FilterCommand(VALID_FILTERNAME, EMPTY, descriptor);
+        Predicate<Person> predicator = descriptor.toPredicate(expectedModel.getAddressBook());
+        expectedModel.updateBaseFilteredPersonList(predicator);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
 
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.AMY;
+import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.interviews.InterviewSlot;
+
+public class FindInterviewCommandTest {
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_personWithInterview_showsInterview() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.generateInterviews(InterviewOrder.LISTED);
+        InterviewSlot slot = model.getInterviews().getInterviewsOf(ALICE.getNric()).get(0);
+        String expectedMessage = String.format(FindInterviewCommand.MESSAGE_SUCCESS, ALICE.getName(), slot.getDate(),
+            slot.getStart(), slot.getEnd(), slot.getRoom());
+        assertEquals(expectedMessage,
+            new FindInterviewCommand(ALICE.getNric()).execute(model, commandHistory).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_personWithoutInterview_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.generateInterviews(InterviewOrder.LISTED);
+        assertCommandFailure(new FindInterviewCommand(AMY.getNric()), model, commandHistory,
+            RescheduleInterviewCommand.MESSAGE_NO_INTERVIEW);
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
 
@@ -9,6 +12,11 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.analytics.FunnelReport;
+import seedu.address.model.analytics.HiringFunnel;
+import seedu.address.model.analytics.PivotField;
+import seedu.address.model.analytics.PivotMeasure;
+import seedu.address.model.analytics.PivotQuery;
 import seedu.address.model.job.JobListName;
 
 public class GenerateAnalyticsCommandTest {
@@ -67,4 +75,25 @@ public class GenerateAnalyticsCommandTest {
                 GenerateAnalyticsCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_noList_showsFunnelOfAllJobs() {
+        CommandResult result = new GenerateAnalyticsCommand().execute(model, commandHistory);
+        assertEquals(FunnelReport.of(model.getAddressBook().getJobList()).getGlobalFunnel(), result.getFunnel());
+    }
+
+    @Test
+    public void execute_listWithoutActiveJob_showsEmptyFunnel() {
+        CommandResult result = new GenerateAnalyticsCommand(JobListName.KIV).execute(model, commandHistory);
+        assertEquals(HiringFunnel.EMPTY, result.getFunnel());
+    }
+
+    @Test
+    public void execute_pivot_aggregatesDisplayedPersons() {
+        PivotQuery query = new PivotQuery(PivotField.GENDER, PivotField.RACE, PivotMeasure.COUNT);
+        CommandResult result = new GenerateAnalyticsCommand(JobListName.STUB, query).execute(model, commandHistory);
+        assertEquals(String.format(GenerateAnalyticsCommand.MESSAGE_PIVOT_SUCCESS, query), result.getFeedbackToUser());
+        assertTrue(result.isSuccessfulPivot());
+        assertFalse(result.isSuccessfulAnalytics());
+        assertEquals(query.aggregate(model.getFilteredPersonList()), result.getPivot());
+    }
 }
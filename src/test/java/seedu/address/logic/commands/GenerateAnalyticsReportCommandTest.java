@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class GenerateAnalyticsReportCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_typicalAddressBook_writesReportOfEveryJob() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(testFolder.getRoot().toPath().resolve("addressbook.json"));
+        Path expectedReportFile = testFolder.getRoot().toPath()
+            .resolve(GenerateAnalyticsReportCommand.REPORT_FILE_NAME);
+        int numberOfJobs = model.getAddressBook().getJobList().size();
+        GenerateAnalyticsReportCommand command = new GenerateAnalyticsReportCommand();
+
+        CommandResult result = command.execute(model, commandHistory);
+
+        assertEquals(String.format(GenerateAnalyticsReportCommand.MESSAGE_SUCCESS, numberOfJobs, expectedReportFile),
+            result.getFeedbackToUser());
+        assertEquals(expectedReportFile, command.getReportWriting().get());
+        String report = FileUtil.readFromFile(expectedReportFile);
+        assertTrue(report.startsWith("Analytics report of " + numberOfJobs + " jobs"));
+        model.getAddressBook().getJobList().forEach(job -> assertTrue(report.contains("== " + job.getName() + " ==")));
+    }
+
+    @Test
+    public void equals() {
+        GenerateAnalyticsReportCommand command = new GenerateAnalyticsReportCommand();
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new GenerateAnalyticsReportCommand()));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new GenerateAnalyticsCommand()));
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_LACK_LISTNAME;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_RANKED_PERSON;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_REDUNDANT_LISTNAME;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.RankCommand.MESSAGE_USAGE;
+import static seedu.address.model.job.JobListName.APPLICANT;
+import static seedu.address.model.job.JobListName.EMPTY;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.ELLE;
+import static seedu.address.testutil.TypicalObjects.FIONA;
+import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalObjects.getTypicalPersons;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.RankCommand.RankWeightsDescriptor;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.RankWeights;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.JobBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RankCommand}.
+ */
+public class RankCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        RankWeightsDescriptor gradeDescriptor = new RankWeightsDescriptor();
+        gradeDescriptor.setGradeWeight(2f);
+        RankCommand firstCommand = new RankCommand(EMPTY, 3, gradeDescriptor);
+
+        // same object -> returns true
+        assertEquals(firstCommand, firstCommand);
+
+        // same values -> returns true
+        RankWeightsDescriptor gradeDescriptorCopy = new RankWeightsDescriptor(gradeDescriptor);
+        assertEquals(firstCommand, new RankCommand(EMPTY, 3, gradeDescriptorCopy));
+
+        // different types -> returns false
+        assertNotEquals(firstCommand, 1);
+
+        // different k -> returns false
+        assertNotEquals(firstCommand, new RankCommand(EMPTY, 4, gradeDescriptor));
+
+        // different list -> returns false
+        assertNotEquals(firstCommand, new RankCommand(APPLICANT, 3, gradeDescriptor));
+
+        // different weights -> returns false
+        assertNotEquals(firstCommand, new RankCommand(EMPTY, 3, new RankWeightsDescriptor()));
+    }
+
+    @Test
+    public void execute_redundantListName_failure() {
+        RankCommand command = new RankCommand(APPLICANT, 3, new RankWeightsDescriptor());
+        assertCommandFailure(command, model, commandHistory, String.format(MESSAGE_REDUNDANT_LISTNAME, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void execute_lackListName_failure() {
+        model.setIsAllJobScreen(false);
+        RankCommand command = new RankCommand(EMPTY, 3, new RankWeightsDescriptor());
+        assertCommandFailure(command, model, commandHistory, String.format(MESSAGE_LACK_LISTNAME, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void execute_allJobScreenDefaultWeights_success() {
+        RankCommand command = new RankCommand(EMPTY, 3, new RankWeightsDescriptor());
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 3, getTypicalPersons().size(), RankWeights.DEFAULT)
+            + formatRankedPerson(1, DANIEL, 55f)
+            + formatRankedPerson(2, ELLE, 54.85f)
+            + formatRankedPerson(3, FIONA, 52f);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_jobScreenNewWeights_savedToJob() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getTypicalPersons()) {
+            addressBook.addPerson(person);
+        }
+        addressBook.addJob(new JobBuilder().withName("Analyst").withPersonInList(CARL).withPersonInList(ALICE)
+            .withPersonInList(DANIEL).build());
+        model = new ModelManager(addressBook, new UserPrefs());
+        Job job = model.getJob(new JobBuilder().withName("Analyst").build().getName());
+        model.setIsAllJobScreen(false);
+
+        RankWeightsDescriptor descriptor = new RankWeightsDescriptor();
+        for (int questionNum = 1; questionNum <= RankWeights.NUMBER_OF_QUESTIONS; questionNum++) {
+            descriptor.setInterviewWeight(questionNum, 0f);
+        }
+        RankWeights expectedWeights = new RankWeights(1, new float[] {0, 0, 0, 0, 0}, Collections.emptyMap());
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 2, 3, expectedWeights)
+            + formatRankedPerson(1, DANIEL, 5f)
+            + formatRankedPerson(2, ALICE, 4.54f);
+        assertEquals(expectedMessage,
+            new RankCommand(APPLICANT, 2, descriptor).execute(model, commandHistory).getFeedbackToUser());
+        assertEquals(expectedWeights, job.getRankWeights());
+
+        // saved weights are used when no weights are given
+        assertEquals(expectedMessage,
+            new RankCommand(APPLICANT, 2, new RankWeightsDescriptor()).execute(model, commandHistory)
+                .getFeedbackToUser());
+    }
+
+    private static String formatRankedPerson(int rank, Person person, float score) {
+        return String.format(MESSAGE_RANKED_PERSON, rank, person.getName(), person.getNric(), score);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalTime;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.SetMaxInterviewsADayCommand.SlotSettingsDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.interviews.SlotSettings;
+
+public class SetMaxInterviewsADayCommandTest {
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_slotSettings_keepsSettingsNotGiven() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        expectedModel.commitAddressBook();
+        SlotSettingsDescriptor descriptor = new SlotSettingsDescriptor();
+        descriptor.setDayEnd(LocalTime.of(12, 0));
+        descriptor.setRooms(3);
+        SlotSettings expectedSettings = new SlotSettings(SlotSettings.DEFAULT.getDayStart(), LocalTime.of(12, 0),
+            SlotSettings.DEFAULT.getSlotMinutes(), 3);
+
+        assertCommandSuccess(new SetMaxInterviewsADayCommand(4, descriptor), model, commandHistory,
+            SetMaxInterviewsADayCommand.MESSAGE_SUCCESS + "\n" + expectedSettings, expectedModel);
+        assertEquals(expectedSettings, model.getInterviews().getSlotSettings());
+    }
+
+    @Test
+    public void execute_slotLongerThanDay_failure() {
+        Model model = new ModelManager();
+        SlotSettingsDescriptor descriptor = new SlotSettingsDescriptor();
+        descriptor.setDayStart(LocalTime.of(16, 30));
+        assertCommandFailure(new SetMaxInterviewsADayCommand(2, descriptor), model, commandHistory,
+            SlotSettings.MESSAGE_CONSTRAINTS);
+        assertEquals(SlotSettings.DEFAULT, model.getInterviews().getSlotSettings());
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.interviews.InterviewScenario;
+
+public class SimulateInterviewsCommandTest {
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_scenarios_modelUnchanged() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.generateInterviews(InterviewOrder.LISTED);
+        String interviews = model.getInterviews().toString();
+        SimulateInterviewsCommand command = new SimulateInterviewsCommand(Arrays.asList(
+            new InterviewScenario(1, Collections.emptyList()), new InterviewScenario(4, Collections.emptyList())));
+
+        String feedback = command.execute(model, commandHistory).getFeedbackToUser();
+        int persons = model.getAddressBook().getPersonList().size();
+        assertTrue(feedback.startsWith(String.format(SimulateInterviewsCommand.MESSAGE_SUCCESS, 2, persons)));
+        assertTrue(feedback.contains("\n1. 1 a day: last interview on "));
+        assertTrue(feedback.contains("\n2. 4 a day: last interview on "));
+        assertEquals(interviews, model.getInterviews().toString());
+        assertEquals(2, model.getInterviews().getMaxInterviewsADay());
+    }
+
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_LACK_LISTNAME;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_REDUNDANT_LISTNAME;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_UNSORTED_SUCCESS;
+import static seedu.address.logic.commands.SortCommand.MESSAGE_USAGE;
+import static seedu.address.model.job.JobListName.APPLICANT;
+import static seedu.address.model.job.JobListName.EMPTY;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.ELLE;
+import static seedu.address.testutil.TypicalObjects.FIONA;
+import static seedu.address.testutil.TypicalObjects.GEORGE;
+import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalObjects.getTypicalPersons;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonComparator;
+import seedu.address.model.person.SortField;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SortCommand}.
+ */
+public class SortCommandTest {
+    private static final PersonComparator SCORE_DESCENDING =
+        new PersonComparator(Arrays.asList(SortField.SCORE), Arrays.asList(true));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        SortCommand sortCommand = new SortCommand(EMPTY, SCORE_DESCENDING);
+
+        // same values -> returns true
+        assertEquals(sortCommand, new SortCommand(EMPTY,
+            new PersonComparator(Arrays.asList(SortField.SCORE), Arrays.asList(true))));
+
+        // different values -> returns false
+        assertNotEquals(sortCommand, new SortCommand(APPLICANT, SCORE_DESCENDING));
+        assertNotEquals(sortCommand, new SortCommand(EMPTY, null));
+        assertNotEquals(sortCommand, 1);
+    }
+
+    @Test
+    public void execute_redundantListName_failure() {
+        assertCommandFailure(new SortCommand(APPLICANT, SCORE_DESCENDING), model, commandHistory,
+            String.format(MESSAGE_REDUNDANT_LISTNAME, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void execute_lackListName_failure() {
+        model.setIsAllJobScreen(false);
+        assertCommandFailure(new SortCommand(EMPTY, SCORE_DESCENDING), model, commandHistory,
+            String.format(MESSAGE_LACK_LISTNAME, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void execute_sortThenUnsort_success() {
+        expectedModel.sortPersonList(EMPTY, SCORE_DESCENDING);
+        assertCommandSuccess(new SortCommand(EMPTY, SCORE_DESCENDING), model, commandHistory,
+            String.format(MESSAGE_SUCCESS, SCORE_DESCENDING), expectedModel);
+        // ELLE and DANIEL tie on score and keep their relative order
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA, BENSON, ALICE, GEORGE, CARL),
+            model.getFilteredPersonList());
+
+        expectedModel.sortPersonList(EMPTY, null);
+        assertCommandSuccess(new SortCommand(EMPTY, null), model, commandHistory, MESSAGE_UNSORTED_SUCCESS,
+            expectedModel);
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+}
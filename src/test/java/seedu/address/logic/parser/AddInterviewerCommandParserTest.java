@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.AddInterviewerCommand;
+import seedu.address.model.interviews.Interviewer;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+
+public class AddInterviewerCommandParserTest {
+
+    private AddInterviewerCommandParser parser = new AddInterviewerCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        Interviewer expected = new Interviewer(new Name("Jane Tan"),
+            new HashSet<>(Arrays.asList(new KnownProgLang("Java"), new KnownProgLang("Python"))), 4);
+        assertParseSuccess(parser, " n/Jane Tan kpl/Java kpl/Python cap/4", new AddInterviewerCommand(expected));
+    }
+
+    @Test
+    public void parse_missingCapacity_failure() {
+        assertParseFailure(parser, " n/Jane Tan kpl/Java",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddInterviewerCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidCapacity_failure() {
+        assertParseFailure(parser, " n/Jane Tan kpl/Java cap/0", Interviewer.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -5,12 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_LISTNAME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.GenerateAnalyticsCommand;
+import seedu.address.logic.commands.GenerateAnalyticsReportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.analytics.PivotField;
+import seedu.address.model.analytics.PivotMeasure;
+import seedu.address.model.analytics.PivotQuery;
+import seedu.address.model.job.JobListName;
 
 public class AnalyticsCommandParserTest {
 
@@ -22,6 +28,11 @@ public class AnalyticsCommandParserTest {
                 GenerateAnalyticsCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_allKeyword_returnsGenerateAnalyticsReportCommand() {
+        assertParseSuccess(parser, " all ", new GenerateAnalyticsReportCommand());
+    }
+
     @Test
     public void parse_emptyArgs_returnsGenerateAnalyticsCommand() {
         try {
@@ -32,4 +43,29 @@ public class AnalyticsCommandParserTest {
                     GenerateAnalyticsCommand.MESSAGE_USAGE), pe.getMessage());
         }
     }
+
+    @Test
+    public void parse_pivot_returnsPivotCommand() {
+        assertParseSuccess(parser, " row/school col/major val/grade", new GenerateAnalyticsCommand(JobListName.STUB,
+            new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.GRADE)));
+        assertParseSuccess(parser, " applicant row/prog_lang", new GenerateAnalyticsCommand(JobListName.APPLICANT,
+            new PivotQuery(PivotField.PROG_LANG, null, PivotMeasure.COUNT)));
+    }
+
+    @Test
+    public void parse_invalidPivot_throwsParseException() {
+        assertParseFailure(parser, " row/name", AnalyticsCommandParser.MESSAGE_INVALID_PIVOT_FIELD);
+        assertParseFailure(parser, " row/school val/mean", AnalyticsCommandParser.MESSAGE_INVALID_PIVOT_MEASURE);
+        assertParseFailure(parser, " col/major", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                GenerateAnalyticsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_maxCategories_returnsGenerateAnalyticsCommand() {
+        assertParseSuccess(parser, " kiv k/3", new GenerateAnalyticsCommand(JobListName.KIV, 3));
+        assertParseSuccess(parser, " k/20", new GenerateAnalyticsCommand(JobListName.STUB, 20));
+        assertParseFailure(parser, " k/0", AnalyticsCommandParser.MESSAGE_INVALID_MAX_CATEGORIES);
+        assertParseFailure(parser, " row/school k/3", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                GenerateAnalyticsCommand.MESSAGE_USAGE));
+    }
 }
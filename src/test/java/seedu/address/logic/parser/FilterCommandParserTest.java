@@ -45,10 +45,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PASTJOB_PROFESS
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_RACE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_SCHOOL_AMY;
+import static seedu.address.logic.commands.FilterCommand.MESSAGE_INVALID_MATCH_MODE;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_INVALID_RANGE;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_LACK_FILTERNAME;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_USAGE_ALLJOB_SCREEN;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_USAGE_JOB_DETAIL_SCREEN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCHMODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -127,4 +131,35 @@ public class FilterCommandParserTest {
 
     }
 
+    @Test
+    public void parse_matchMode_returnsFilterCommand() {
+        FilterCommand.PredicatePersonDescriptor descriptor = new FilterCommand.PredicatePersonDescriptor();
+        descriptor.setEmail(new HashSet<>(Arrays.asList("@gmail")));
+        descriptor.setMatchMode(FilterCommand.MatchMode.SUBSTRING);
+        FilterCommand expectedFilterCommand = new FilterCommand(VALID_FILTERNAME, JobListName.EMPTY, descriptor);
+        assertParseSuccess(parser, FILTERNAME_DESC + " " + PREFIX_MATCHMODE + "Substring "
+            + PREFIX_EMAIL + "@gmail", expectedFilterCommand);
+
+        // word mode is the default
+        descriptor.setMatchMode(FilterCommand.MatchMode.WORD);
+        expectedFilterCommand = new FilterCommand(VALID_FILTERNAME, JobListName.EMPTY, descriptor);
+        assertParseSuccess(parser, FILTERNAME_DESC + " " + PREFIX_MATCHMODE + "word "
+            + PREFIX_EMAIL + "@gmail", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_phoneticMatchMode_returnsFilterCommand() {
+        FilterCommand.PredicatePersonDescriptor descriptor = new FilterCommand.PredicatePersonDescriptor();
+        descriptor.setName(new HashSet<>(Arrays.asList("Tang", "Meng")));
+        descriptor.setMatchMode(FilterCommand.MatchMode.PHONETIC);
+        FilterCommand expectedFilterCommand = new FilterCommand(VALID_FILTERNAME, JobListName.EMPTY, descriptor);
+        assertParseSuccess(parser, FILTERNAME_DESC + " " + PREFIX_MATCHMODE + "phonetic "
+            + PREFIX_NAME + "Tang Meng", expectedFilterCommand);
+    }
+
+    @Test
+    public void parse_invalidMatchMode_throwsParseException() {
+        assertParseFailure(parser, FILTERNAME_DESC + " " + PREFIX_MATCHMODE + "fuzzy", MESSAGE_INVALID_MATCH_MODE);
+    }
+
 }
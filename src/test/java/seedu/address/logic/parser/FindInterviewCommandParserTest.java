@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindInterviewCommand;
+import seedu.address.model.person.Nric;
+
+public class FindInterviewCommandParserTest {
+
+    private FindInterviewCommandParser parser = new FindInterviewCommandParser();
+
+    @Test
+    public void parse_nric_returnsCommand() {
+        assertParseSuccess(parser, " nric/S9123456A", new FindInterviewCommand(new Nric("S9123456A")));
+    }
+
+    @Test
+    public void parse_missingNric_failure() {
+        assertParseFailure(parser, " S9123456A",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindInterviewCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.GenerateInterviewsCommand;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.job.JobName;
+
+public class GenerateInterviewsCommandParserTest {
+
+    private GenerateInterviewsCommandParser parser = new GenerateInterviewsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsCommand() {
+        assertParseSuccess(parser, "", new GenerateInterviewsCommand());
+    }
+
+    @Test
+    public void parse_jobName_returnsCommand() {
+        assertParseSuccess(parser, " jn/Teacher",
+            new GenerateInterviewsCommand(Collections.singletonList(new JobName("Teacher"))));
+    }
+
+    @Test
+    public void parse_manyJobNames_returnsCommand() {
+        assertParseSuccess(parser, " jn/Teacher jn/Cook jn/Teacher",
+            new GenerateInterviewsCommand(Arrays.asList(new JobName("Teacher"), new JobName("Cook"))));
+    }
+
+    @Test
+    public void parse_everyJob_returnsCommand() {
+        assertParseSuccess(parser, " jobs", new GenerateInterviewsCommand(Collections.emptyList()));
+        assertParseFailure(parser, " jobs jn/Teacher",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateInterviewsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_order_returnsCommand() {
+        assertParseSuccess(parser, " by/score", new GenerateInterviewsCommand(InterviewOrder.SCORE));
+        assertParseSuccess(parser, " jobs by/Score",
+            new GenerateInterviewsCommand(Collections.emptyList(), InterviewOrder.SCORE));
+        assertParseSuccess(parser, " jn/Teacher by/listed",
+            new GenerateInterviewsCommand(Collections.singletonList(new JobName("Teacher"))));
+    }
+
+    @Test
+    public void parse_invalidOrder_failure() {
+        assertParseFailure(parser, " by/grade", GenerateInterviewsCommandParser.MESSAGE_INVALID_ORDER);
+    }
+
+    @Test
+    public void parse_preamble_failure() {
+        assertParseFailure(parser, " 3",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateInterviewsCommand.MESSAGE_USAGE));
+    }
+}
@@ -10,13 +10,16 @@ import static seedu.address.logic.parser.ParserUtil.isValidDateRange;
 import static seedu.address.logic.parser.ParserUtil.isValidValueRange;
 import static seedu.address.logic.parser.ParserUtil.parseBlockOutDates;
 import static seedu.address.logic.parser.ParserUtil.parseMaxInterviewsADay;
+import static seedu.address.logic.parser.ParserUtil.parseTime;
+import static seedu.address.logic.parser.ParserUtil.parseUnavailability;
+import static seedu.address.logic.parser.ParserUtil.parseWeight;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.Collections;
-import java.util.GregorianCalendar;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -54,7 +57,7 @@ public class ParserUtilTest {
     private static final String INVALID_MAX_INTERVIEWS_NEGINTEGER = "-1";
 
     private static final String VALID_BLOCK_OUT_DATES = "01/01/2020 - 04/01/2020";
-    private static final List<Calendar> BLOCK_OUT_DATES = new ArrayList<>();
+    private static final List<LocalDate> BLOCK_OUT_DATES = new ArrayList<>();
     private static final String INVALID_BLOCK_OUTDATES = "00/01/2020 - 03/01/2020";
     private static final String VALID_DATE = "01/01/2020";
     private static final String VALID_DATE_31 = "31/01/2020";
@@ -244,6 +247,25 @@ public class ParserUtilTest {
         assertEquals(expectedTagSet, actualTagSet);
     }
 
+    @Test
+    public void parseWeight_validWeight_returnsWeight() throws Exception {
+        assertEquals(2f, parseWeight("2"), 0);
+        assertEquals(-0.5f, parseWeight("  -0.5  "), 0);
+    }
+
+    @Test
+    public void parseWeight_nonFiniteWeight_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        parseWeight(new String(new char[50]).replace('\0', '9'));
+    }
+
+    @Test
+    public void parseWeight_invalidWeight_throwsParseException() throws Exception {
+        Assert.assertThrows(ParseException.class, () -> parseWeight("NaN"));
+        Assert.assertThrows(ParseException.class, () -> parseWeight("1f"));
+        Assert.assertThrows(ParseException.class, () -> parseWeight(""));
+    }
+
     @Test
     public void parseMaxInterviewsADay_positiveMaxInterviews_returnsMaxInterviewsADay() throws Exception {
         int expected = POSITIVE_MAX_INTERVIEWS;
@@ -272,17 +294,40 @@ public class ParserUtilTest {
 
     @Test
     public void parseBlockOutDates_validBlockOutDates_returnsBlockOutDates() throws Exception {
-        List<Calendar> actual = parseBlockOutDates(VALID_BLOCK_OUT_DATES);
-        Calendar date = new GregorianCalendar(2020, 0, 1, 0, 0, 0);
-        date.set(Calendar.MILLISECOND, 0);
+        List<LocalDate> actual = parseBlockOutDates(VALID_BLOCK_OUT_DATES);
+        LocalDate date = LocalDate.of(2020, 1, 1);
         for (int i = 0; i < 4; i++) {
             BLOCK_OUT_DATES.add(date);
-            date = (Calendar) date.clone();
-            date.add(Calendar.DATE, 1);
+            date = date.plusDays(1);
         }
         assertEquals(BLOCK_OUT_DATES, actual);
     }
 
+    @Test
+    public void parseBlockOutDates_datesSeparatedByCommaAndSpace_returnsBlockOutDates() throws Exception {
+        List<LocalDate> expected = Arrays.asList(LocalDate.of(2020, 2, 28), LocalDate.of(2020, 2, 29),
+            LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 5));
+        assertEquals(expected, parseBlockOutDates("28/02/2020 - 01/03/2020, 05/03/2020"));
+    }
+
+    @Test
+    public void parseTime_validTime_returnsTime() throws Exception {
+        assertEquals(LocalTime.of(9, 5), parseTime(" 09:05 "));
+        assertEquals(LocalTime.of(23, 59), parseTime("23:59"));
+    }
+
+    @Test
+    public void parseTime_invalidTime_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        parseTime("9:05");
+    }
+
+    @Test
+    public void parseUnavailability_invalidEntry_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        parseUnavailability("01/04/2019 09:00-24:00");
+    }
+
     @Test
     public void parseBlockOutDates_invalidBlockOutDates_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.RankCommandParser.MESSAGE_INVALID_PROG_LANG_WEIGHT;
+import static seedu.address.logic.parser.RankCommandParser.MESSAGE_INVALID_TOP_K;
+import static seedu.address.model.job.JobListName.EMPTY;
+import static seedu.address.model.job.JobListName.KIV;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RankCommand.RankWeightsDescriptor;
+import seedu.address.model.job.RankWeights;
+
+public class RankCommandParserTest {
+
+    private RankCommandParser parser = new RankCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsDefaultRankCommand() {
+        assertParseSuccess(parser, "", new RankCommand(EMPTY, RankCommand.DEFAULT_TOP_K,
+            new RankWeightsDescriptor()));
+    }
+
+    @Test
+    public void parse_allArgs_returnsRankCommand() {
+        RankWeightsDescriptor descriptor = new RankWeightsDescriptor();
+        descriptor.setGradeWeight(2f);
+        descriptor.setInterviewWeight(1, 0.5f);
+        descriptor.setInterviewWeight(5, -1f);
+        Map<String, Float> progLangWeights = new HashMap<>();
+        progLangWeights.put("Java", 3f);
+        progLangWeights.put("C++", 1f);
+        progLangWeights.put("Visual Basic", -1f);
+        descriptor.setProgLangWeights(progLangWeights);
+
+        assertParseSuccess(parser, " k k/5 gr/2 is1/0.5 is5/-1 kpl/Java=3 kpl/C++=1 kpl/Visual Basic=-1",
+            new RankCommand(KIV, 5, descriptor));
+    }
+
+    @Test
+    public void parse_invalidTopK_failure() {
+        assertParseFailure(parser, " k/0", MESSAGE_INVALID_TOP_K);
+        assertParseFailure(parser, " k/three", MESSAGE_INVALID_TOP_K);
+    }
+
+    @Test
+    public void parse_invalidWeight_failure() {
+        assertParseFailure(parser, " gr/heavy", RankWeights.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " is3/", RankWeights.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " kpl/Java=much", RankWeights.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidProgLangWeight_failure() {
+        assertParseFailure(parser, " kpl/Java", MESSAGE_INVALID_PROG_LANG_WEIGHT);
+        assertParseFailure(parser, " kpl/=2", MESSAGE_INVALID_PROG_LANG_WEIGHT);
+        assertParseFailure(parser, " kpl/ =2", MESSAGE_INVALID_PROG_LANG_WEIGHT);
+        assertParseFailure(parser, " kpl/Java=2=3", MESSAGE_INVALID_PROG_LANG_WEIGHT);
+    }
+}
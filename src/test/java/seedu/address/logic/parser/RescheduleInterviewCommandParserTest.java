@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DATE;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.RescheduleInterviewCommand;
+import seedu.address.model.person.Nric;
+
+public class RescheduleInterviewCommandParserTest {
+
+    private RescheduleInterviewCommandParser parser = new RescheduleInterviewCommandParser();
+
+    @Test
+    public void parse_nricOnly_returnsCommand() {
+        assertParseSuccess(parser, " nric/S9123456A", new RescheduleInterviewCommand(new Nric("S9123456A")));
+    }
+
+    @Test
+    public void parse_dateAndNric_returnsCommand() {
+        assertParseSuccess(parser, " 08/04/2019 nric/S9123456A",
+            new RescheduleInterviewCommand(new Nric("S9123456A"), LocalDate.of(2019, 4, 8)));
+    }
+
+    @Test
+    public void parse_missingNric_failure() {
+        assertParseFailure(parser, " 08/04/2019",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RescheduleInterviewCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidDate_failure() {
+        assertParseFailure(parser, " 31/04/2019 nric/S9123456A", MESSAGE_INVALID_DATE);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SetBlockOutDatesCommand;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.person.Nric;
+
+public class SetBlockOutDatesCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetBlockOutDatesCommand.MESSAGE_USAGE);
+
+    private SetBlockOutDatesCommandParser parser = new SetBlockOutDatesCommandParser();
+
+    @Test
+    public void parse_blockOutDates_returnsCommand() {
+        assertParseSuccess(parser, " 01/04/2019 - 02/04/2019, 05/04/2019", new SetBlockOutDatesCommand(
+            Arrays.asList(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2), LocalDate.of(2019, 4, 5))));
+    }
+
+    @Test
+    public void parse_unavailability_returnsCommand() {
+        IntervalSet expected = new IntervalSet();
+        expected.add(IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 8), LocalTime.of(9, 0)),
+            IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 8), LocalTime.of(12, 30)));
+        expected.addDays(LocalDate.of(2019, 4, 10), LocalDate.of(2019, 4, 11));
+        assertParseSuccess(parser, " 08/04/2019 09:00-12:30, 10/04/2019 - 11/04/2019 nric/S9123456A",
+            new SetBlockOutDatesCommand(new Nric("S9123456A"), expected));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // time ranges are only allowed for a candidate
+        assertParseFailure(parser, " 08/04/2019 09:00-12:30", MESSAGE_INVALID_FORMAT);
+        // time range ending before it starts
+        assertParseFailure(parser, " 08/04/2019 12:00-09:00 nric/S9123456A", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 08/04/2019 nric/invalid", MESSAGE_INVALID_FORMAT);
+    }
+}
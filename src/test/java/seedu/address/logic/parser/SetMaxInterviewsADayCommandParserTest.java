@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_ROOMS;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_SLOT_LENGTH;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_TIME;
+
+import java.time.LocalTime;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SetMaxInterviewsADayCommand;
+import seedu.address.logic.commands.SetMaxInterviewsADayCommand.SlotSettingsDescriptor;
+
+public class SetMaxInterviewsADayCommandParserTest {
+
+    private SetMaxInterviewsADayCommandParser parser = new SetMaxInterviewsADayCommandParser();
+
+    @Test
+    public void parse_maxOnly_returnsCommand() {
+        assertParseSuccess(parser, " 3", new SetMaxInterviewsADayCommand(3));
+    }
+
+    @Test
+    public void parse_allArgs_returnsCommand() {
+        SlotSettingsDescriptor descriptor = new SlotSettingsDescriptor();
+        descriptor.setDayStart(LocalTime.of(9, 30));
+        descriptor.setDayEnd(LocalTime.of(13, 0));
+        descriptor.setSlotMinutes(30);
+        descriptor.setRooms(2);
+        assertParseSuccess(parser, " 8 start/09:30 end/13:00 len/30 rooms/2",
+            new SetMaxInterviewsADayCommand(8, descriptor));
+    }
+
+    @Test
+    public void parse_invalidMax_failure() {
+        assertParseFailure(parser, " start/09:00",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SetMaxInterviewsADayCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " 0", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            SetMaxInterviewsADayCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidSlotSettings_failure() {
+        assertParseFailure(parser, " 2 start/9am", MESSAGE_INVALID_TIME);
+        assertParseFailure(parser, " 2 end/24:00", MESSAGE_INVALID_TIME);
+        assertParseFailure(parser, " 2 len/0", MESSAGE_INVALID_SLOT_LENGTH);
+        assertParseFailure(parser, " 2 rooms/two", MESSAGE_INVALID_ROOMS);
+    }
+}
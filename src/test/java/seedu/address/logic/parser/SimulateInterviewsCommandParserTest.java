@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SimulateInterviewsCommand;
+import seedu.address.model.interviews.InterviewScenario;
+
+public class SimulateInterviewsCommandParserTest {
+
+    private SimulateInterviewsCommandParser parser = new SimulateInterviewsCommandParser();
+
+    @Test
+    public void parse_scenarios_returnsCommand() {
+        InterviewScenario twoADay = new InterviewScenario(2, Collections.emptyList());
+        InterviewScenario fourADayBlocked = new InterviewScenario(4, Arrays.asList(LocalDate.of(2019, 4, 8),
+            LocalDate.of(2019, 4, 9), LocalDate.of(2019, 4, 10), LocalDate.of(2019, 4, 12)));
+        assertParseSuccess(parser, " 2", new SimulateInterviewsCommand(Collections.singletonList(twoADay)));
+        assertParseSuccess(parser, " 2 ;  4 08/04/2019 - 10/04/2019, 12/04/2019",
+            new SimulateInterviewsCommand(Arrays.asList(twoADay, fourADayBlocked)));
+    }
+
+    @Test
+    public void parse_invalidScenario_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateInterviewsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " 2; ", expectedMessage);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " 2 12/4/2019", expectedMessage);
+    }
+}
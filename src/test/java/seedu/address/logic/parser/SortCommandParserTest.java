@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.SortCommandParser.MESSAGE_INVALID_SORT_FIELD;
+import static seedu.address.model.job.JobListName.EMPTY;
+import static seedu.address.model.job.JobListName.INTERVIEW;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonComparator;
+import seedu.address.model.person.SortField;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noFields_returnsUnsortCommand() {
+        assertParseSuccess(parser, "", new SortCommand(EMPTY, null));
+        assertParseSuccess(parser, " interview", new SortCommand(INTERVIEW, null));
+    }
+
+    @Test
+    public void parse_multipleFields_returnsSortCommand() {
+        PersonComparator comparator = new PersonComparator(
+            Arrays.asList(SortField.GRADE, SortField.NAME, SortField.SCHOOL), Arrays.asList(true, false, false));
+        assertParseSuccess(parser, " i by/grade desc by/Name by/school ASC", new SortCommand(INTERVIEW, comparator));
+    }
+
+    @Test
+    public void parse_invalidField_failure() {
+        assertParseFailure(parser, " by/age", MESSAGE_INVALID_SORT_FIELD);
+        assertParseFailure(parser, " by/grade down", MESSAGE_INVALID_SORT_FIELD);
+        assertParseFailure(parser, " by/grade desc name", MESSAGE_INVALID_SORT_FIELD);
+        assertParseFailure(parser, " by/", MESSAGE_INVALID_SORT_FIELD);
+    }
+}
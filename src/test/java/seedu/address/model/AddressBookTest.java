@@ -6,7 +6,9 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
 import static seedu.address.testutil.TypicalObjects.ENGINEER;
+import static seedu.address.testutil.TypicalObjects.HOON;
 import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -25,6 +27,8 @@ import javafx.collections.ObservableList;
 import seedu.address.model.interviews.Interviews;
 import seedu.address.model.job.Job;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticIndex;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -107,6 +111,34 @@ public class AddressBookTest {
         addressBook.getPersonList().remove(0);
     }
 
+    @Test
+    public void getTrigramIndex_personsChangedBeforeAndAfterFirstUse_indexesCurrentPersons() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.removePerson(ALICE);
+        TrigramIndex index = typicalAddressBook.getTrigramIndex();
+        assertFalse(index.contains(ALICE));
+        assertTrue(index.contains(BENSON));
+
+        typicalAddressBook.addPerson(HOON);
+        assertTrue(index.contains(HOON));
+        typicalAddressBook.resetData(new AddressBook());
+        assertFalse(index.contains(BENSON));
+    }
+
+    @Test
+    public void getPhoneticIndex_personsChangedBeforeAndAfterFirstUse_indexesCurrentPersons() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.removePerson(ALICE);
+        PhoneticIndex index = typicalAddressBook.getPhoneticIndex();
+        assertFalse(index.contains(ALICE));
+        assertTrue(index.contains(BENSON));
+
+        typicalAddressBook.addPerson(HOON);
+        assertTrue(index.contains(HOON));
+        typicalAddressBook.resetData(new AddressBook());
+        assertFalse(index.contains(BENSON));
+    }
+
     @Test
     public void addListener_withInvalidationListener_listenerAdded() {
         SimpleIntegerProperty counter = new SimpleIntegerProperty();
@@ -153,6 +185,16 @@ public class AddressBookTest {
             return jobs;
         }
 
+        @Override
+        public TrigramIndex getTrigramIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PhoneticIndex getPhoneticIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addListener(InvalidationListener listener) {
             throw new AssertionError("This method should not be called.");
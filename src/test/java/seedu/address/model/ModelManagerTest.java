@@ -2,24 +2,39 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalObjects.ALICE;
 import static seedu.address.testutil.TypicalObjects.BENSON;
 import static seedu.address.testutil.TypicalObjects.BOB;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.ELLE;
+import static seedu.address.testutil.TypicalObjects.FIONA;
+import static seedu.address.testutil.TypicalObjects.GEORGE;
+import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.job.JobListName;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonComparator;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.predicate.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
@@ -135,6 +150,50 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void sortPersonList_editedPerson_onlyEditedPersonMoves() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.sortPersonList(JobListName.EMPTY,
+            new PersonComparator(Arrays.asList(SortField.GRADE, SortField.NAME), Arrays.asList(true, false)));
+        assertEquals(Arrays.asList(DANIEL, FIONA, ELLE, ALICE, CARL, BENSON, GEORGE),
+            modelManager.getFilteredPersonList());
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        ListChangeListener<Person> listener = change -> {
+            while (change.next()) {
+                changes.add(change);
+                assertFalse(change.wasPermutated());
+            }
+        };
+        modelManager.getFilteredPersonList().addListener(listener);
+        Person editedBenson = new PersonBuilder(BENSON).withGrade("4.90").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(DANIEL, FIONA, editedBenson, ELLE, ALICE, CARL, GEORGE),
+            modelManager.getFilteredPersonList());
+        assertFalse(changes.isEmpty());
+        modelManager.getFilteredPersonList().removeListener(listener);
+
+        // null comparator restores the order persons were added in
+        modelManager.sortPersonList(JobListName.EMPTY, null);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL, DANIEL, ELLE, FIONA, GEORGE),
+            modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void generateAnalytics_unchangedList_returnsCachedResult() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AnalyticsResult allPersons = modelManager.generateAnalytics();
+        AnalyticsResult kiv = modelManager.generateAnalytics(JobListName.KIV);
+        modelManager.sortPersonList(JobListName.EMPTY,
+            new PersonComparator(Collections.singletonList(SortField.NAME), Collections.singletonList(true)));
+        assertSame(allPersons, modelManager.generateAnalytics());
+
+        // editing a person only discards the results of the lists they are in
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withGrade("4.90").build());
+        assertNotSame(allPersons, modelManager.generateAnalytics());
+        assertSame(kiv, modelManager.generateAnalytics(JobListName.KIV));
+    }
+
     @Test
     public void setSelectedPerson_personNotInFilteredPersonList_throwsPersonNotFoundException() {
         thrown.expect(PersonNotFoundException.class);
@@ -0,0 +1,161 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AnalyticsAggregatorTest {
+
+    @Test
+    public void constructor_observableList_aggregatesAllPersons() {
+        AnalyticsResult result =
+            new AnalyticsAggregator(FXCollections.observableArrayList(ALICE, BENSON, CARL)).toResult();
+        assertEquals(3, result.getNumPeople());
+        assertEquals((4.54f + 4.00f + 4.12f) / 3, result.getMeanGrade(), 1e-4);
+        assertEquals((10 + 10 + 1) / 3f, result.getMeanInterviewScore(1), 1e-4);
+        assertArrayEquals(new int[] {1, 2, 0}, result.getGenderCounts());
+        assertArrayEquals(new int[] {1, 0, 0, 2}, result.getRaceCounts());
+
+        HashMap<String, Integer> expectedPastJobs = new HashMap<>();
+        expectedPastJobs.put("Professor", 2);
+        expectedPastJobs.put("Lawyer", 1);
+        expectedPastJobs.put("SDE", 1);
+        assertEquals(expectedPastJobs, result.getPastJobCounts());
+        assertEquals(Collections.singletonMap("CS", 3), result.getMajorCounts());
+    }
+
+    @Test
+    public void noPersons_meansAreNaN() {
+        AnalyticsAggregator aggregator = new AnalyticsAggregator();
+        assertEquals(Float.NaN, aggregator.toResult().getMeanGrade(), 0);
+        Person noRecord = new PersonBuilder(ALICE).withInterviewScores(InterviewScores.NO_RECORD).build();
+        aggregator.add(noRecord);
+        assertEquals(Float.NaN, aggregator.toResult().getMeanInterviewScore(3), 0);
+    }
+
+    @Test
+    public void listChanges_matchAggregatesOfFinalList() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+        AnalyticsAggregator aggregator = new AnalyticsAggregator(persons);
+
+        // add, edit, delete and reorder
+        persons.add(new PersonBuilder().build());
+        persons.set(persons.indexOf(BENSON), new PersonBuilder(BENSON).withGender("Female").withRace("Malay")
+            .withSchool("NUS").withPastJobs("Pilot").withInterviewScores(InterviewScores.NO_RECORD).build());
+        persons.remove(CARL);
+        persons.removeAll(Arrays.asList(ALICE, DANIEL));
+        FXCollections.reverse(persons);
+
+        assertEquals(AnalyticsAggregator.analyze(persons), aggregator.toResult());
+        // categories are dropped once they have no one
+        assertFalse(aggregator.toResult().getPastJobCounts().containsKey("Lawyer"));
+    }
+
+    @Test
+    public void filteredList_followsPredicate() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+        FilteredList<Person> filteredPersons = new FilteredList<>(persons);
+        AnalyticsAggregator aggregator = new AnalyticsAggregator(filteredPersons);
+
+        filteredPersons.setPredicate(person -> person.getGender().value.equals("Male"));
+        assertEquals(AnalyticsAggregator.analyze(filteredPersons), aggregator.toResult());
+        assertArrayEquals(new int[] {0, filteredPersons.size(), 0}, aggregator.toResult().getGenderCounts());
+    }
+
+    @Test
+    public void toResult_doesNotFollowChanges() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+        AnalyticsResult snapshot = new AnalyticsAggregator(persons).toResult();
+        persons.add(BENSON);
+        assertEquals(1, snapshot.getNumPeople());
+    }
+
+    @Test
+    public void toResult_unchangedList_returnsCachedResult() {
+        AnalyticsAggregator aggregator = new AnalyticsAggregator(FXCollections.observableArrayList(ALICE, BENSON));
+        AnalyticsResult result = aggregator.toResult();
+        assertSame(result, aggregator.toResult());
+    }
+
+    @Test
+    public void toResult_listSorted_returnsCachedResult() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(BENSON, ALICE);
+        AnalyticsAggregator aggregator = new AnalyticsAggregator(persons);
+        AnalyticsResult result = aggregator.toResult();
+
+        // a permutation does not change the aggregates
+        FXCollections.sort(persons, Comparator.comparing(person -> person.getName().fullName));
+        assertSame(result, aggregator.toResult());
+    }
+
+    @Test
+    public void toResult_listChanged_discardsCachedResult() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+        AnalyticsAggregator aggregator = new AnalyticsAggregator(persons);
+        AnalyticsResult result = aggregator.toResult();
+
+        persons.remove(BENSON);
+        AnalyticsResult removed = aggregator.toResult();
+        assertNotSame(result, removed);
+        assertEquals(AnalyticsAggregator.analyze(persons), removed);
+
+        // reversing replaces the elements of the list, leaving the aggregates as they were
+        FXCollections.reverse(persons);
+        assertEquals(removed, aggregator.toResult());
+    }
+
+    @Test
+    public void merge_disjointPersons_matchesSinglePass() {
+        AnalyticsAggregator aggregator = new AnalyticsAggregator(FXCollections.observableArrayList(ALICE, BENSON));
+        aggregator.merge(new AnalyticsAggregator(FXCollections.observableArrayList(CARL, DANIEL)));
+        assertEquals(AnalyticsAggregator.analyze(Arrays.asList(ALICE, BENSON, CARL, DANIEL)), aggregator.toResult());
+    }
+
+    @Test
+    public void analyze_manyCategories_countsEachCategory() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            persons.add(new PersonBuilder(ALICE).withSchool("School" + i % 10).build());
+        }
+        Map<String, Integer> schoolCounts = AnalyticsAggregator.analyze(persons).getSchoolCounts();
+        assertEquals(10, schoolCounts.size());
+        assertEquals(Integer.valueOf(2), schoolCounts.get("School9"));
+    }
+
+    @Test
+    public void analyze_grades_sketchesDistribution() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            persons.add(new PersonBuilder(ALICE).withGrade(String.format("%.2f", i * 0.05)).build());
+        }
+        Distribution grades = AnalyticsAggregator.analyze(persons).getGradeDistribution();
+        assertEquals(2.5, grades.getP50(), 2.5 * 0.01);
+        assertEquals(4.5, grades.getP90(), 4.5 * 0.01);
+        // 0.05 to 0.45 in the first bin, 5.00 counted in the last
+        assertArrayEquals(new int[] {9, 10, 10, 10, 10, 10, 10, 10, 10, 11}, grades.getHistogram());
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.JobBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AnalyticsReportTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void newTask_jobs_analyzesEveryStageOfEveryJob() {
+        Job engineer = new JobBuilder().withName("Engineer").withPersonInList(ALICE).withPersonInList(BENSON).build();
+        engineer.move(ALICE, 0, 2);
+        Job teacher = new JobBuilder().withName("Teacher").withPersonInList(CARL).build();
+
+        AnalyticsReport report = pool.invoke(AnalyticsReport.newTask(Arrays.asList(engineer, teacher)));
+
+        AnalyticsResult empty = AnalyticsAggregator.analyze(Collections.emptyList());
+        assertEquals(Arrays.asList(AnalyticsAggregator.analyze(Arrays.asList(ALICE, BENSON)), empty,
+            AnalyticsAggregator.analyze(Collections.singletonList(ALICE)), empty),
+            report.getJobAnalytics().get(new JobName("Engineer")));
+        assertEquals(Arrays.asList(new JobName("Engineer"), new JobName("Teacher")),
+            new ArrayList<>(report.getJobAnalytics().keySet()));
+        assertEquals(1, report.getJobAnalytics().get(new JobName("Teacher")).get(0).getNumPeople());
+    }
+
+    @Test
+    public void newTask_longList_matchesSinglePass() {
+        Job job = new JobBuilder().withName("Engineer").build();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Person person = new PersonBuilder(ALICE).withNric(String.format("S%07dA", i))
+                .withSchool("School" + i % 7).withGrade(i % 2 == 0 ? "3.50" : "4.25").build();
+            persons.add(person);
+            job.add(person, 0);
+        }
+
+        AnalyticsReport report = pool.invoke(AnalyticsReport.newTask(Collections.singletonList(job)));
+
+        assertEquals(AnalyticsAggregator.analyze(persons), report.getJobAnalytics().get(job.getName()).get(0));
+    }
+
+    @Test
+    public void newTask_listsChangeBeforeInvoking_reportsListsWhenCreated() {
+        Job job = new JobBuilder().withName("Engineer").withPersonInList(ALICE).build();
+        RecursiveTask<AnalyticsReport> task = AnalyticsReport.newTask(Collections.singletonList(job));
+        job.add(BENSON, 0);
+
+        assertEquals(1, pool.invoke(task).getJobAnalytics().get(job.getName()).get(0).getNumPeople());
+    }
+
+    @Test
+    public void toReportText_containsStageCountsAndBreakdowns() {
+        Job job = new JobBuilder().withName("Engineer").withPersonInList(ALICE).withPersonInList(BENSON).build();
+        String text = pool.invoke(AnalyticsReport.newTask(Collections.singletonList(job))).toReportText();
+
+        assertTrue(text.startsWith("Analytics report of 1 jobs"));
+        assertTrue(text.contains("== Engineer =="));
+        assertTrue(text.contains("Applicants: 2 persons"));
+        assertTrue(text.contains("KIV: 0 persons\n  Mean grade: -"));
+        assertTrue(text.contains("Majors: " + ALICE.getMajor().value + " 2"));
+        assertTrue(text.contains(FunnelReport.of(Collections.singletonList(job)).toText()));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AnalyticsResultTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void analyze_emptyList_hasNoRecords() {
+        AnalyticsResult result = AnalyticsAggregator.analyze(Collections.emptyList());
+        assertEquals(0, result.getNumPeople());
+        assertEquals(Float.NaN, result.getMeanGrade(), 0);
+        assertEquals(Float.NaN, result.getMeanInterviewScore(1), 0);
+        assertArrayEquals(new int[AnalyticsResult.RACE_CATEGORIES.size()], result.getRaceCounts());
+        assertTrue(result.getJobApplicationCounts().isEmpty());
+        assertTrue(result.getPastJobCounts().isEmpty());
+    }
+
+    @Test
+    public void getters_returnCopies() {
+        AnalyticsResult result = AnalyticsAggregator.analyze(Arrays.asList(ALICE, BENSON));
+        result.getGenderCounts()[0] = 100;
+        assertArrayEquals(new int[] {1, 1, 0}, result.getGenderCounts());
+
+        thrown.expect(UnsupportedOperationException.class);
+        result.getSchoolCounts().clear();
+    }
+
+    @Test
+    public void equals() {
+        AnalyticsResult result = AnalyticsAggregator.analyze(getTypicalPersons());
+
+        // same values -> returns true
+        assertTrue(result.equals(AnalyticsAggregator.analyze(getTypicalPersons())));
+        assertEquals(result.hashCode(), AnalyticsAggregator.analyze(getTypicalPersons()).hashCode());
+
+        // same object -> returns true
+        assertTrue(result.equals(result));
+
+        // null -> returns false
+        assertFalse(result.equals(null));
+
+        // different persons -> returns false
+        assertFalse(result.equals(AnalyticsAggregator.analyze(Collections.singletonList(ALICE))));
+
+        // no persons -> equal despite NaN means
+        assertTrue(AnalyticsAggregator.analyze(Collections.emptyList())
+            .equals(AnalyticsAggregator.analyze(Collections.emptyList())));
+    }
+}
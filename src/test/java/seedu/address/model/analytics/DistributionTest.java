@@ -0,0 +1,48 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DistributionTest {
+
+    private final Distribution closed = new Distribution(1, 2, 3, 0.5f, false, new int[] {1, 2, 3});
+    private final Distribution open = new Distribution(10, 20, 30, 5, true, new int[] {1, 2, 3});
+
+    @Test
+    public void getBinLabel() {
+        assertEquals("0-0.5", closed.getBinLabel(0));
+        assertEquals("1-1.5", closed.getBinLabel(2));
+        assertEquals("5-10", open.getBinLabel(1));
+        assertEquals("10+", open.getBinLabel(2));
+    }
+
+    @Test
+    public void getHistogram_returnsCopy() {
+        closed.getHistogram()[0] = 100;
+        assertArrayEquals(new int[] {1, 2, 3}, closed.getHistogram());
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(closed.equals(new Distribution(1, 2, 3, 0.5f, false, new int[] {1, 2, 3})));
+        assertEquals(closed.hashCode(), new Distribution(1, 2, 3, 0.5f, false, new int[] {1, 2, 3}).hashCode());
+
+        // no values -> equal despite NaN percentiles
+        assertTrue(new Distribution(Float.NaN, Float.NaN, Float.NaN, 1, false, new int[1])
+            .equals(new Distribution(Float.NaN, Float.NaN, Float.NaN, 1, false, new int[1])));
+
+        // null -> returns false
+        assertFalse(closed.equals(null));
+
+        // different histogram -> returns false
+        assertFalse(closed.equals(new Distribution(1, 2, 3, 0.5f, false, new int[] {1, 2, 4})));
+
+        // different bins -> returns false
+        assertFalse(closed.equals(new Distribution(1, 2, 3, 0.5f, true, new int[] {1, 2, 3})));
+    }
+}
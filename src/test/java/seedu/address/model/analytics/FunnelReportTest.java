@@ -0,0 +1,60 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.testutil.JobBuilder;
+
+public class FunnelReportTest {
+
+    private final Job engineer = new JobBuilder().withName("Engineer").withPersonInList(ALICE)
+        .withPersonInList(BENSON).build();
+    private final Job teacher = new JobBuilder().withName("Teacher").withPersonInList(BENSON)
+        .withPersonInList(CARL).build();
+    private final Job pilot = new JobBuilder().withName("Pilot").withPersonInList(CARL).build();
+
+    @Test
+    public void of_jobs_computesFunnelsAndSharedCandidates() {
+        engineer.move(BENSON, 0, 3);
+        teacher.move(BENSON, 0, 1);
+
+        FunnelReport report = FunnelReport.of(Arrays.asList(engineer, teacher, pilot));
+
+        assertEquals(HiringFunnel.of(engineer), report.getJobFunnels().get(engineer.getName()));
+        assertEquals(3, report.getNumCandidates());
+        assertEquals(2, report.getNumCandidatesInManyJobs());
+        assertEquals(1, report.getSharedCandidateCount(engineer.getName(), teacher.getName()));
+        assertEquals(1, report.getSharedCandidateCount(pilot.getName(), teacher.getName()));
+        assertEquals(0, report.getSharedCandidateCount(engineer.getName(), pilot.getName()));
+
+        HiringFunnel globalFunnel = report.getGlobalFunnel();
+        assertEquals(3, globalFunnel.getStageCount(0));
+        assertEquals(1, globalFunnel.getStageCount(1));
+        assertEquals(1, globalFunnel.getStageCount(3));
+    }
+
+    @Test
+    public void of_noJobs_emptyReport() {
+        FunnelReport report = FunnelReport.of(Collections.emptyList());
+        assertEquals(HiringFunnel.EMPTY, report.getGlobalFunnel());
+        assertEquals(0, report.getNumCandidates());
+    }
+
+    @Test
+    public void toText_listsJobsAndSharedCandidates() {
+        String text = FunnelReport.of(Arrays.asList(engineer, teacher, pilot)).toText();
+        assertTrue(text.startsWith("Hiring funnel of all 3 jobs"));
+        assertTrue(text.contains("== Pilot =="));
+        assertTrue(text.contains("Engineer & Teacher: 1"));
+        assertTrue(text.contains("Candidates: 3, in more than one job: 2"));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.person.Nric;
+import seedu.address.testutil.JobBuilder;
+
+public class HiringFunnelTest {
+
+    @Test
+    public void of_job_countsEachStageAndConversion() {
+        Job job = new JobBuilder().withName("Engineer").withPersonInList(ALICE).withPersonInList(BENSON)
+            .withPersonInList(CARL).withPersonInList(DANIEL).build();
+        job.move(ALICE, 0, 1);
+        job.move(BENSON, 0, 1);
+        job.move(ALICE, 1, 2);
+        job.move(CARL, 0, 2);
+
+        HiringFunnel funnel = HiringFunnel.of(job);
+
+        assertEquals(4, funnel.getStageCount(0));
+        assertEquals(2, funnel.getStageCount(1));
+        assertEquals(2, funnel.getStageCount(2));
+        assertEquals(0, funnel.getStageCount(3));
+        assertEquals(0.5f, funnel.getConversionRate(1), 0);
+        // CARL skipped KIV, so only ALICE converted from KIV to interview
+        assertEquals(0.5f, funnel.getConversionRate(2), 0);
+        assertEquals(0f, funnel.getConversionRate(3), 0);
+    }
+
+    @Test
+    public void of_emptyStage_conversionRateIsNaN() {
+        assertEquals(Float.NaN, HiringFunnel.EMPTY.getConversionRate(1), 0);
+        assertTrue(HiringFunnel.EMPTY.toText().startsWith("Applicants"));
+        assertFalse(HiringFunnel.EMPTY.toText().contains("%"));
+    }
+
+    @Test
+    public void intersectionSize() {
+        Set<Nric> first = new HashSet<>(Arrays.asList(ALICE.getNric(), BENSON.getNric(), CARL.getNric()));
+        Set<Nric> second = new HashSet<>(Arrays.asList(BENSON.getNric(), DANIEL.getNric()));
+        assertEquals(1, HiringFunnel.intersectionSize(first, second));
+        assertEquals(1, HiringFunnel.intersectionSize(second, first));
+        assertEquals(0, HiringFunnel.intersectionSize(first, Collections.emptySet()));
+    }
+
+    @Test
+    public void equals() {
+        Job job = new JobBuilder().withName("Engineer").withPersonInList(ALICE).build();
+
+        assertTrue(HiringFunnel.of(job).equals(HiringFunnel.of(new JobBuilder().withPersonInList(BENSON).build())));
+        assertTrue(HiringFunnel.EMPTY.equals(HiringFunnel.of(new JobBuilder().build())));
+        assertFalse(HiringFunnel.of(job).equals(HiringFunnel.EMPTY));
+        assertFalse(HiringFunnel.EMPTY.equals(null));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PivotQueryTest {
+
+    // NUS, Math, 3.00, Java and C, no interview scores
+    private static final Person MATH_STUDENT = new PersonBuilder().withMajor("Math").withKnownProgLangs("Java", "C")
+        .withInterviewScores(InterviewScores.NO_RECORD).build();
+
+    private final List<Person> persons = Arrays.asList(ALICE, BENSON, MATH_STUDENT);
+
+    @Test
+    public void aggregate_countByTwoFields() {
+        PivotTable table = new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.COUNT).aggregate(persons);
+        assertEquals(Arrays.asList("NTU", "NUS"), table.getRowLabels());
+        assertEquals(Arrays.asList("CS", "Math"), table.getColumnLabels());
+        assertEquals(1, table.getCount(0, 0));
+        assertEquals(0, table.getCount(0, 1));
+        assertEquals(Double.NaN, table.getValue(0, 1), 0);
+        assertEquals(1.0, table.getValue(1, 1), 0);
+        assertEquals(1.0, table.getMaxValue(), 0);
+    }
+
+    @Test
+    public void aggregate_multiValuedFieldWithoutColumns_countsEachValue() {
+        PivotTable table = new PivotQuery(PivotField.PROG_LANG, null, PivotMeasure.GRADE).aggregate(persons);
+        assertEquals(Arrays.asList("C", "Java", "Python"), table.getRowLabels());
+        assertEquals(Collections.singletonList(PivotQuery.ALL_COLUMN), table.getColumnLabels());
+        assertEquals(3.0, table.getValue(0, 0), 1e-6);
+        assertEquals(2, table.getCount(2, 0));
+        assertEquals((4.54 + 4.00) / 2, table.getValue(2, 0), 1e-6);
+        assertEquals("4.27", table.formatValue(2, 0));
+    }
+
+    @Test
+    public void aggregate_score_skipsPersonsWithoutInterviewScores() {
+        PivotTable table = new PivotQuery(PivotField.MAJOR, PivotField.GENDER, PivotMeasure.SCORE).aggregate(persons);
+        assertEquals(Collections.singletonList("CS"), table.getRowLabels());
+        assertEquals(Arrays.asList("Female", "Male"), table.getColumnLabels());
+        assertEquals(ALICE.getInterviewScores().getTotalScore(), table.getValue(0, 0), 1e-6);
+    }
+
+    @Test
+    public void aggregate_manyCells_growsTable() {
+        List<Person> manyPersons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            manyPersons.add(new PersonBuilder(ALICE).withSchool("School" + i).withMajor("Major" + i % 3).build());
+        }
+        PivotTable table = new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.COUNT)
+            .aggregate(manyPersons);
+        assertEquals(200, table.getRowLabels().size());
+        assertEquals(3, table.getColumnLabels().size());
+        int total = 0;
+        for (int row = 0; row < 200; row++) {
+            for (int column = 0; column < 3; column++) {
+                total += table.getCount(row, column);
+            }
+        }
+        assertEquals(200, total);
+    }
+
+    @Test
+    public void aggregate_manyRowsAndColumns_keepsCellsWithPersonsOnly() {
+        List<Person> manyPersons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            manyPersons.add(new PersonBuilder(ALICE).withSchool(String.format("School%04d", i))
+                .withMajor(String.format("Major%04d", i)).build());
+        }
+        PivotTable table = new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.COUNT)
+            .aggregate(manyPersons);
+        assertEquals(1000, table.getRowLabels().size());
+        assertEquals(1000, table.getColumnLabels().size());
+        assertEquals(1000, table.getNumberOfCells());
+        for (int cell = 0; cell < table.getNumberOfCells(); cell++) {
+            // rows and columns are both sorted, so each person is on the diagonal
+            assertEquals(cell, table.getCellRow(cell));
+            assertEquals(cell, table.getCellColumn(cell));
+        }
+        assertEquals(1, table.getCount(999, 999));
+        assertEquals(0, table.getCount(999, 0));
+        assertEquals(Double.NaN, table.getValue(0, 999), 0);
+    }
+
+    @Test
+    public void aggregate_noPersons_emptyTable() {
+        PivotTable table = new PivotQuery(PivotField.RACE, null, PivotMeasure.COUNT)
+            .aggregate(Collections.emptyList());
+        assertTrue(table.getRowLabels().isEmpty());
+        assertEquals(Double.NaN, table.getMaxValue(), 0);
+        assertEquals("number of persons by race", table.toText());
+    }
+
+    @Test
+    public void toText() {
+        PivotTable table = new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.COUNT).aggregate(persons);
+        assertEquals("number of persons by school and major\tCS\tMath\nNTU\t1\t\nNUS\t1\t1", table.toText());
+    }
+
+    @Test
+    public void equals() {
+        PivotQuery query = new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.COUNT);
+
+        // same values -> returns true
+        assertTrue(query.equals(new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.COUNT)));
+        assertTrue(query.aggregate(persons).equals(query.aggregate(persons)));
+
+        // different column field -> returns false
+        assertFalse(query.equals(new PivotQuery(PivotField.SCHOOL, null, PivotMeasure.COUNT)));
+
+        // different measure -> returns false
+        assertFalse(query.equals(new PivotQuery(PivotField.SCHOOL, PivotField.MAJOR, PivotMeasure.GRADE)));
+
+        // different persons -> returns false
+        assertFalse(query.aggregate(persons).equals(query.aggregate(Collections.singletonList(ALICE))));
+    }
+}
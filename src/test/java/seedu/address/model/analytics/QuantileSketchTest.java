@@ -0,0 +1,95 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_invalidAccuracy_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new QuantileSketch(1);
+    }
+
+    @Test
+    public void getQuantile_empty_returnsNaN() {
+        assertEquals(Double.NaN, new QuantileSketch(ACCURACY).getQuantile(0.5), 0);
+    }
+
+    @Test
+    public void getQuantile_withinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        for (int value = 1; value <= 10000; value++) {
+            sketch.add(value);
+        }
+        assertEquals(10000, sketch.getCount());
+        assertQuantile(1, sketch.getQuantile(0));
+        assertQuantile(1000, sketch.getQuantile(0.1));
+        assertQuantile(5000, sketch.getQuantile(0.5));
+        assertQuantile(9000, sketch.getQuantile(0.9));
+        assertQuantile(10000, sketch.getQuantile(1));
+    }
+
+    @Test
+    public void getQuantile_zeros() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(100);
+        assertEquals(0, sketch.getQuantile(0.5), 0);
+        assertQuantile(100, sketch.getQuantile(1));
+    }
+
+    @Test
+    public void remove_restoresQuantiles() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        for (int value = 1; value <= 100; value++) {
+            sketch.add(value);
+        }
+        for (int value = 51; value <= 100; value++) {
+            sketch.remove(value);
+        }
+        assertEquals(50, sketch.getCount());
+        assertQuantile(50, sketch.getQuantile(1));
+        assertQuantile(25, sketch.getQuantile(0.5));
+    }
+
+    @Test
+    public void merge_matchesSingleSketch() {
+        QuantileSketch low = new QuantileSketch(ACCURACY);
+        QuantileSketch high = new QuantileSketch(ACCURACY);
+        QuantileSketch all = new QuantileSketch(ACCURACY);
+        for (int value = 1; value <= 1000; value++) {
+            QuantileSketch half = value <= 500 ? high : low;
+            half.add(value * 1000.0);
+            all.add(value * 1000.0);
+        }
+        // low holds the larger values so that merging grows the buckets of high upwards
+        high.merge(low);
+        assertEquals(all.getCount(), high.getCount());
+        for (double quantile = 0; quantile <= 1; quantile += 0.25) {
+            assertEquals(all.getQuantile(quantile), high.getQuantile(quantile), 0);
+        }
+    }
+
+    @Test
+    public void merge_differentAccuracy_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new QuantileSketch(ACCURACY).merge(new QuantileSketch(ACCURACY * 2));
+    }
+
+    /**
+     * Asserts that {@code actual} is within the relative accuracy of {@code expected}.
+     */
+    private static void assertQuantile(double expected, double actual) {
+        assertEquals(expected, actual, expected * ACCURACY);
+    }
+}
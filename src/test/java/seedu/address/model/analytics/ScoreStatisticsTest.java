@@ -0,0 +1,151 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.person.InterviewScores;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ScoreStatisticsTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void meanAndVariance_matchTwoPassComputation() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL);
+        ScoreStatistics statistics = AnalyticsAggregator.analyze(persons).getScoreStatistics();
+        assertEquals(3, statistics.getNumPeople());
+        for (int questionNum = 1; questionNum <= AnalyticsResult.NUMBER_OF_QUESTIONS; questionNum++) {
+            double mean = 0;
+            for (Person person : persons) {
+                mean += person.getInterviewScores().getInterviewScoreValue(questionNum) / 3.0;
+            }
+            double variance = 0;
+            for (Person person : persons) {
+                double deviation = person.getInterviewScores().getInterviewScoreValue(questionNum) - mean;
+                variance += deviation * deviation / 2;
+            }
+            assertEquals(mean, statistics.getMean(questionNum), DELTA);
+            assertEquals(variance, statistics.getVariance(questionNum), DELTA);
+        }
+        assertEquals((4.54 + 4.00 + 4.12) / 3, statistics.getMean(ScoreStatistics.GRADE), DELTA);
+    }
+
+    @Test
+    public void correlation_linearScores() {
+        List<Person> persons = new ArrayList<>();
+        for (int score = 0; score <= 10; score++) {
+            // q2 rises with q1, q3 falls with it and q4 never changes
+            persons.add(new PersonBuilder(ALICE).withGrade(String.format("%.2f", 2 + score * 0.3))
+                .withInterviewScores(score + "," + score + "," + (10 - score) + ",5," + score % 2).build());
+        }
+        ScoreStatistics statistics = AnalyticsAggregator.analyze(persons).getScoreStatistics();
+        assertEquals(1, statistics.getCorrelation(1, 1), DELTA);
+        assertEquals(1, statistics.getCorrelation(1, 2), DELTA);
+        assertEquals(-1, statistics.getCorrelation(1, 3), DELTA);
+        assertEquals(statistics.getCorrelation(3, 1), statistics.getCorrelation(1, 3), 0);
+        assertEquals(Double.NaN, statistics.getCorrelation(1, 4), 0);
+        assertEquals(1, statistics.getCorrelation(ScoreStatistics.GRADE, 1), DELTA);
+        assertTrue(statistics.getGradeTotalScoreCorrelation() > 0.9);
+    }
+
+    @Test
+    public void variance_largeEqualScores_exactlyZero() {
+        // the squared sum of these scores is too large for a double to hold exactly
+        Person person = new PersonBuilder(ALICE).withInterviewScores("99999999,1,1,1,1").build();
+        ScoreStatistics statistics = AnalyticsAggregator.analyze(Collections.nCopies(11, person))
+            .getScoreStatistics();
+        assertEquals(0, statistics.getVariance(1), 0);
+        assertEquals(0, statistics.getVariance(ScoreStatistics.GRADE), 0);
+    }
+
+    @Test
+    public void variance_sumsOverflowLong_staysExact() {
+        // the sum of the squared first scores of these persons does not fit in a long
+        Person person = new PersonBuilder(ALICE).withInterviewScores("99999999,99999999,1,1,1").build();
+        ScoreStatistics statistics = AnalyticsAggregator.analyze(Collections.nCopies(1000, person))
+            .getScoreStatistics();
+        assertEquals(1000, statistics.getNumPeople());
+        assertEquals(99999999, statistics.getMean(1), 0);
+        assertEquals(0, statistics.getVariance(1), 0);
+
+        // removing a person after the sums widened matches never adding them
+        ScoreMoments moments = new ScoreMoments();
+        ScoreMoments expected = new ScoreMoments();
+        for (int i = 0; i < 1000; i++) {
+            moments.update(person, 1);
+            expected.update(person, 1);
+        }
+        moments.update(BENSON, 1);
+        moments.update(BENSON, -1);
+        assertEquals(expected.toStatistics(), moments.toStatistics());
+
+        // merging narrow moments into wide ones
+        ScoreMoments merged = new ScoreMoments();
+        merged.merge(expected);
+        merged.merge(new ScoreMoments());
+        assertEquals(expected.toStatistics(), merged.toStatistics());
+    }
+
+    @Test
+    public void personsWithoutInterviewScores_areLeftOut() {
+        Person uninterviewed = new PersonBuilder(BENSON).withInterviewScores(InterviewScores.NO_RECORD).build();
+        ScoreStatistics statistics = AnalyticsAggregator.analyze(Arrays.asList(ALICE, uninterviewed))
+            .getScoreStatistics();
+        assertEquals(1, statistics.getNumPeople());
+        assertEquals(ALICE.getGrade().getNumericValue(), statistics.getMean(ScoreStatistics.GRADE), 1e-6);
+        // a single person has no variance
+        assertEquals(Double.NaN, statistics.getVariance(1), 0);
+        assertEquals(Double.NaN, statistics.getGradeTotalScoreCorrelation(), 0);
+    }
+
+    @Test
+    public void noPersons_statisticsAreNaN() {
+        ScoreStatistics statistics = AnalyticsAggregator.analyze(Collections.emptyList()).getScoreStatistics();
+        assertEquals(0, statistics.getNumPeople());
+        assertEquals(Double.NaN, statistics.getMean(1), 0);
+        assertEquals(Double.NaN, statistics.getCorrelation(1, 2), 0);
+    }
+
+    @Test
+    public void merge_matchesSinglePass() {
+        List<Person> persons = getTypicalPersons();
+        ScoreMoments first = new ScoreMoments();
+        ScoreMoments second = new ScoreMoments();
+        ScoreMoments all = new ScoreMoments();
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i).getInterviewScores().hasRecord()) {
+                ScoreMoments half = i % 2 == 0 ? first : second;
+                half.update(persons.get(i), 1);
+                all.update(persons.get(i), 1);
+            }
+        }
+        first.merge(second);
+        assertEquals(all.toStatistics(), first.toStatistics());
+    }
+
+    @Test
+    public void remove_matchesNeverAdded() {
+        ScoreMoments moments = new ScoreMoments();
+        moments.update(ALICE, 1);
+        moments.update(BENSON, 1);
+        moments.update(CARL, 1);
+        moments.update(BENSON, -1);
+        ScoreMoments expected = new ScoreMoments();
+        expected.update(ALICE, 1);
+        expected.update(CARL, 1);
+        assertEquals(expected.toStatistics(), moments.toStatistics());
+    }
+}
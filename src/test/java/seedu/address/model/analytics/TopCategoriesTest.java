@@ -0,0 +1,43 @@
+package seedu.address.model.analytics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class TopCategoriesTest {
+
+    @Test
+    public void of_fewerCategoriesThanN_sortsWithoutOther() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("NUS", 1);
+        counts.put("NTU", 3);
+        counts.put("SMU", 2);
+        assertEquals(new ArrayList<>(Arrays.asList("NTU", "SMU", "NUS")),
+            new ArrayList<>(TopCategories.of(counts, 3).keySet()));
+        assertEquals(Collections.emptyMap(), TopCategories.of(Collections.emptyMap(), 3));
+    }
+
+    @Test
+    public void of_moreCategoriesThanN_foldsRestIntoOther() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            counts.put("Job" + i, i % 10);
+        }
+        Map<String, Integer> top = TopCategories.of(counts, 3);
+
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        // ties keep their order in counts
+        expected.put("Job9", 9);
+        expected.put("Job19", 9);
+        expected.put("Job29", 9);
+        expected.put(String.format(TopCategories.OTHER_CATEGORY_FORMAT, 97), 450 - 27);
+        assertEquals(expected, top);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(top.keySet()));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.interviews;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.Test;
+
+public class IntervalSetTest {
+
+    @Test
+    public void add_overlappingAndTouchingIntervals_merged() {
+        IntervalSet intervals = new IntervalSet();
+        intervals.add(10, 20);
+        intervals.add(30, 40);
+        intervals.add(20, 25);
+        intervals.add(35, 50);
+        intervals.add(60, 60);
+
+        IntervalSet expected = new IntervalSet();
+        expected.add(30, 50);
+        expected.add(10, 25);
+        assertEquals(expected, intervals);
+
+        intervals.add(0, 100);
+        IntervalSet covering = new IntervalSet();
+        covering.add(0, 100);
+        assertEquals(covering, intervals);
+    }
+
+    @Test
+    public void overlaps() {
+        IntervalSet intervals = new IntervalSet();
+        intervals.add(10, 20);
+        assertFalse(intervals.overlaps(0, 10));
+        assertTrue(intervals.overlaps(5, 11));
+        assertTrue(intervals.overlaps(19, 30));
+        assertFalse(intervals.overlaps(20, 30));
+        assertFalse(new IntervalSet().overlaps(0, 100));
+    }
+
+    @Test
+    public void firstFreeFrom_skipsIntervalsTooCloseTogether() {
+        IntervalSet intervals = new IntervalSet();
+        intervals.add(10, 20);
+        intervals.add(25, 30);
+        intervals.add(50, 60);
+        assertEquals(0, intervals.firstFreeFrom(0, 10));
+        // the gap from 20 to 25 is too short for 10 minutes
+        assertEquals(30, intervals.firstFreeFrom(5, 10));
+        assertEquals(20, intervals.firstFreeFrom(15, 5));
+        assertEquals(60, intervals.firstFreeFrom(45, 10));
+    }
+
+    @Test
+    public void addDays_coversWholeDays() {
+        IntervalSet intervals = new IntervalSet();
+        intervals.addDays(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2));
+        assertTrue(intervals.overlaps(IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 2), LocalTime.of(23, 59)),
+            IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 3), LocalTime.of(0, 0))));
+        assertFalse(intervals.overlaps(IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 3), LocalTime.of(0, 0)),
+            IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 3), LocalTime.of(9, 0))));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.interviews;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.FIONA;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.job.RankWeights;
+import seedu.address.model.person.Person;
+
+public class InterviewOrderTest {
+
+    private static final RankWeights GRADE_ONLY = new RankWeights(1, new float[] {0, 0, 0, 0, 0},
+        Collections.emptyMap());
+
+    @Test
+    public void arrange_listed_keepsList() {
+        List<Person> persons = Arrays.asList(CARL, ALICE, DANIEL);
+        assertSame(persons, InterviewOrder.LISTED.arrange(persons, RankWeights.DEFAULT));
+    }
+
+    @Test
+    public void arrange_score_bestFirst() {
+        assertEquals(Arrays.asList(DANIEL, BENSON, ALICE, CARL),
+            InterviewOrder.SCORE.arrange(Arrays.asList(ALICE, BENSON, CARL, DANIEL), RankWeights.DEFAULT));
+        // DANIEL and FIONA both have a grade of 5.00
+        assertEquals(Arrays.asList(FIONA, DANIEL, ALICE),
+            InterviewOrder.SCORE.arrange(Arrays.asList(ALICE, FIONA, DANIEL), GRADE_ONLY));
+        assertEquals(Collections.emptyList(),
+            InterviewOrder.SCORE.arrange(Collections.emptyList(), RankWeights.DEFAULT));
+    }
+
+    @Test
+    public void arrange_score_givesEarliestSlotsToBestScoring() {
+        Interviews interviews = new Interviews();
+        interviews.generate(InterviewOrder.SCORE.arrange(Arrays.asList(CARL, ALICE, DANIEL), RankWeights.DEFAULT),
+            LocalDate.of(2019, 3, 29));
+        assertEquals(Arrays.asList(
+            new InterviewSlot(DANIEL, LocalDate.of(2019, 4, 1), LocalTime.of(9, 0), LocalTime.of(10, 0), 1),
+            new InterviewSlot(ALICE, LocalDate.of(2019, 4, 1), LocalTime.of(10, 0), LocalTime.of(11, 0), 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+    }
+}
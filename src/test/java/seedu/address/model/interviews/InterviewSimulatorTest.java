@@ -0,0 +1,88 @@
+package seedu.address.model.interviews;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.ELLE;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class InterviewSimulatorTest {
+
+    /** A Friday, so the first interview day is Monday 1/4/2019. */
+    private static final LocalDate TODAY = LocalDate.of(2019, 3, 29);
+    private static final List<Person> POOL = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE);
+
+    private static final InterviewScenario TWO_A_DAY = new InterviewScenario(2, Collections.emptyList());
+    private static final InterviewScenario FOUR_A_DAY = new InterviewScenario(4, Collections.emptyList());
+    private static final InterviewScenario TWO_A_DAY_BLOCKED = new InterviewScenario(2,
+        Arrays.asList(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2)));
+
+    @Test
+    public void simulate_scenarios_resultsInOrderGiven() {
+        List<SimulationResult> results = InterviewSimulator.simulate(new Interviews(), POOL,
+            Arrays.asList(TWO_A_DAY, FOUR_A_DAY, TWO_A_DAY_BLOCKED), TODAY);
+        assertEquals(Arrays.asList(
+            new SimulationResult(TWO_A_DAY, LocalDate.of(2019, 4, 3), 5, 0, 5.0 / 6),
+            new SimulationResult(FOUR_A_DAY, LocalDate.of(2019, 4, 2), 5, 0, 5.0 / 8),
+            new SimulationResult(TWO_A_DAY_BLOCKED, LocalDate.of(2019, 4, 5), 5, 0, 5.0 / 6)), results);
+        assertEquals("2 a day, 2 more date(s) blocked out: last interview on 5/4/2019, 5 interview(s), "
+            + "83% of capacity used", results.get(2).toString());
+    }
+
+    @Test
+    public void simulate_scheduledInterviews_leavesInterviewsUnchanged() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(1);
+        interviews.generate(Arrays.asList(ALICE, BENSON), TODAY);
+        Map<LocalDate, List<InterviewSlot>> schedule = new TreeMap<>(interviews.copySchedule());
+
+        List<SimulationResult> results = InterviewSimulator.simulate(interviews, POOL,
+            Arrays.asList(TWO_A_DAY_BLOCKED, FOUR_A_DAY), TODAY);
+        assertEquals(LocalDate.of(2019, 4, 5), results.get(0).getLastInterviewDate().get());
+        assertEquals(LocalDate.of(2019, 4, 2), results.get(1).getLastInterviewDate().get());
+        assertEquals(schedule, interviews.getSchedule());
+        assertEquals(1, interviews.getMaxInterviewsADay());
+        assertTrue(interviews.getBlockOutDates().isEmpty());
+    }
+
+    @Test
+    public void simulate_interviewers_maxIsSharedByInterviewers() {
+        Interviews interviews = new Interviews();
+        Interviewer interviewer = new Interviewer(new Name("Ken Lim"),
+            Collections.singleton(new KnownProgLang("Python")), 4);
+        interviews.addInterviewer(interviewer);
+        Person javaOnly = new PersonBuilder(ELLE).withKnownProgLangs("Java").build();
+        List<Person> pool = Arrays.asList(ALICE, BENSON, CARL, DANIEL, javaOnly);
+
+        List<SimulationResult> results = InterviewSimulator.simulate(interviews, pool,
+            Arrays.asList(TWO_A_DAY, FOUR_A_DAY), TODAY);
+        assertEquals(Arrays.asList(
+            new SimulationResult(TWO_A_DAY, LocalDate.of(2019, 4, 2), 4, 1, 1.0),
+            new SimulationResult(FOUR_A_DAY, LocalDate.of(2019, 4, 1), 4, 1, 1.0)), results);
+        assertEquals(Collections.singletonList(interviewer), interviews.getInterviewers());
+    }
+
+    @Test
+    public void simulate_noPersons_noInterviews() {
+        SimulationResult result = InterviewSimulator.simulate(new Interviews(), Collections.emptyList(),
+            Collections.singletonList(TWO_A_DAY), TODAY).get(0);
+        assertEquals(new SimulationResult(TWO_A_DAY, null, 0, 0, 0), result);
+        assertEquals("2 a day: no interviews", result.toString());
+    }
+}
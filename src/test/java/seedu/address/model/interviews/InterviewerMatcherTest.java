@@ -0,0 +1,130 @@
+package seedu.address.model.interviews;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.model.interviews.InterviewerMatcher.UNMATCHED;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class InterviewerMatcherTest {
+
+    private static final String[] LANGUAGES = {"Java", "Python", "C", "Go", "Rust"};
+
+    /**
+     * Returns an interviewer named {@code name} who knows {@code skills}.
+     */
+    private static Interviewer interviewer(String name, int dailyCapacity, String... skills) {
+        Set<KnownProgLang> skillSet = new HashSet<>();
+        for (String skill : skills) {
+            skillSet.add(new KnownProgLang(skill));
+        }
+        return new Interviewer(new Name(name), skillSet, dailyCapacity);
+    }
+
+    private static Person candidate(String... knownProgLangs) {
+        return new PersonBuilder().withKnownProgLangs(knownProgLangs).build();
+    }
+
+    /**
+     * Returns the number of candidates each interviewer gets when each candidate in turn is given to the eligible
+     * interviewer who would finish their interviews earliest.
+     */
+    private static int[] assignGreedily(List<Person> candidates, List<Interviewer> interviewers) {
+        int[] loads = new int[interviewers.size()];
+        for (Person candidate : candidates) {
+            int best = UNMATCHED;
+            for (int i = 0; i < interviewers.size(); i++) {
+                if (interviewers.get(i).canInterview(candidate) && (best == UNMATCHED
+                        || (double) (loads[i] + 1) / interviewers.get(i).getDailyCapacity()
+                        < (double) (loads[best] + 1) / interviewers.get(best).getDailyCapacity())) {
+                    best = i;
+                }
+            }
+            if (best != UNMATCHED) {
+                loads[best]++;
+            }
+        }
+        return loads;
+    }
+
+    /**
+     * Returns the number of days the busiest interviewer needs for their interviews.
+     */
+    private static int getDays(int[] loads, List<Interviewer> interviewers) {
+        int days = 0;
+        for (int i = 0; i < interviewers.size(); i++) {
+            int capacity = interviewers.get(i).getDailyCapacity();
+            days = Math.max(days, (loads[i] + capacity - 1) / capacity);
+        }
+        return days;
+    }
+
+    @Test
+    public void match_noInterviewerCanInterview_unmatched() {
+        List<Interviewer> interviewers = Arrays.asList(interviewer("Jane", 2, "Python"));
+        assertArrayEquals(new int[] {UNMATCHED, 0},
+            InterviewerMatcher.match(Arrays.asList(candidate("Java"), candidate("python")), interviewers));
+    }
+
+    @Test
+    public void match_noInterviewers_allUnmatched() {
+        assertArrayEquals(new int[] {UNMATCHED, UNMATCHED},
+            InterviewerMatcher.match(Arrays.asList(candidate("Java"), candidate("C")), Collections.emptyList()));
+    }
+
+    @Test
+    public void match_scarceSkills_leftToTheInterviewersWhoHaveThem() {
+        // giving the Python candidates to Jane, who knows both languages, would take three days instead of two
+        List<Interviewer> interviewers = Arrays.asList(interviewer("Jane", 1, "Java", "Python"),
+            interviewer("Ken", 1, "Python"));
+        List<Person> candidates = Arrays.asList(candidate("Python"), candidate("Java"), candidate("Python"),
+            candidate("Java"));
+        assertArrayEquals(new int[] {1, 0, 1, 0}, InterviewerMatcher.match(candidates, interviewers));
+    }
+
+    @Test
+    public void match_manyCandidates_coversEveryoneWithinFewestDays() {
+        Random random = new Random(43);
+        List<Interviewer> interviewers = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            List<String> skills = new ArrayList<>(Arrays.asList(LANGUAGES));
+            Collections.shuffle(skills, random);
+            interviewers.add(interviewer("Interviewer " + (char) ('a' + i % 26) + (char) ('a' + i / 26),
+                1 + random.nextInt(4), skills.subList(0, 2 + random.nextInt(3)).toArray(new String[0])));
+        }
+        List<Person> candidates = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            candidates.add(candidate(LANGUAGES[random.nextInt(LANGUAGES.length)],
+                LANGUAGES[random.nextInt(LANGUAGES.length)]));
+        }
+
+        int[] assignment = InterviewerMatcher.match(candidates, interviewers);
+        int[] loads = new int[interviewers.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            Person candidate = candidates.get(i);
+            if (interviewers.stream().noneMatch(interviewer -> interviewer.canInterview(candidate))) {
+                assertEquals(UNMATCHED, assignment[i]);
+                continue;
+            }
+            assertTrue(interviewers.get(assignment[i]).canInterview(candidate));
+            loads[assignment[i]]++;
+        }
+
+        // no worse than giving each candidate to the eligible interviewer who would finish earliest
+        assertTrue(getDays(loads, interviewers) <= getDays(assignGreedily(candidates, interviewers), interviewers));
+    }
+}
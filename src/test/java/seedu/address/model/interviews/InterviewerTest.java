@@ -0,0 +1,48 @@
+package seedu.address.model.interviews;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class InterviewerTest {
+
+    private static final Interviewer JANE = new Interviewer(new Name("Jane Tan"),
+        new HashSet<>(Arrays.asList(new KnownProgLang("Java"), new KnownProgLang("Python"))), 3);
+
+    @Test
+    public void constructor_invalidDailyCapacity_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new Interviewer(new Name("Jane Tan"), Collections.emptySet(), 0));
+    }
+
+    @Test
+    public void canInterview() {
+        assertTrue(JANE.canInterview(new PersonBuilder().withKnownProgLangs("java").build()));
+        assertTrue(JANE.canInterview(new PersonBuilder().withKnownProgLangs("Java", "Python").build()));
+        assertTrue(JANE.canInterview(new PersonBuilder().withKnownProgLangs().build()));
+        assertFalse(JANE.canInterview(new PersonBuilder().withKnownProgLangs("Java", "C").build()));
+    }
+
+    @Test
+    public void isSameInterviewer() {
+        assertTrue(JANE.isSameInterviewer(new Interviewer(new Name("Jane Tan"), Collections.emptySet(), 1)));
+        assertFalse(JANE.isSameInterviewer(new Interviewer(new Name("Ken Lim"), JANE.getSkills(), 3)));
+        assertFalse(JANE.isSameInterviewer(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("Jane Tan (Java, Python), 3 a day", JANE.toString());
+    }
+}
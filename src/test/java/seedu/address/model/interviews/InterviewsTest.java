@@ -1,66 +1,576 @@
 package seedu.address.model.interviews;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.ELLE;
 import static seedu.address.testutil.TypicalObjects.getTypicalPersons;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Calendar;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 
 import org.junit.Test;
 
+import seedu.address.model.job.JobName;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
 public class InterviewsTest {
 
+    /** A Friday. */
+    private static final LocalDate TODAY = LocalDate.of(2019, 3, 29);
+
+    /**
+     * Returns the interview of {@code person} from {@code start} to {@code end} on the given day of 2019.
+     */
+    private static InterviewSlot slot(Person person, int month, int day, String start, String end, int room) {
+        return new InterviewSlot(person, LocalDate.of(2019, month, day), LocalTime.parse(start), LocalTime.parse(end),
+            room);
+    }
+
+    /**
+     * Returns the interview of {@code person} for the job {@code job} from {@code start} to {@code end} on the given
+     * day of 2019.
+     */
+    private static InterviewSlot slot(Person person, int month, int day, String start, String end, int room,
+                                      String job) {
+        return new InterviewSlot(person, LocalDate.of(2019, month, day), LocalTime.parse(start), LocalTime.parse(end),
+            room, null, new JobName(job));
+    }
+
+    /**
+     * Returns the interview lists of two jobs, Teacher and Cook, with Alice in both.
+     */
+    private static Map<JobName, List<Person>> getTwoJobs() {
+        Map<JobName, List<Person>> personsByJob = new LinkedHashMap<>();
+        personsByJob.put(new JobName("Teacher"), Arrays.asList(ALICE, BENSON));
+        personsByJob.put(new JobName("Cook"), Arrays.asList(ALICE, CARL));
+        return personsByJob;
+    }
+
+    /**
+     * Asserts that no two of {@code slots}, all on the same day, are in the same room at the same time.
+     */
+    private static void assertUsesRoomsOnce(List<InterviewSlot> slots) {
+        Set<String> roomTimes = new HashSet<>();
+        for (InterviewSlot slot : slots) {
+            assertTrue(roomTimes.add(slot.getStart() + " " + slot.getRoom()));
+        }
+    }
+
     @Test
     public void generate_generateNoWeekdays() {
         Interviews interviews = new Interviews();
         interviews.generate(getTypicalPersons());
-        Set<Calendar> calendars = interviews.getInterviewsHashMap().keySet();
-        for (Calendar calendar : calendars) {
-            assertFalse(calendar.get(Calendar.DAY_OF_WEEK) == Calendar.SATURDAY
-                    || calendar.get(Calendar.DAY_OF_WEEK) == Calendar.SUNDAY);
+        Set<LocalDate> dates = interviews.getInterviewsMap().keySet();
+        for (LocalDate date : dates) {
+            assertFalse(date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY);
         }
     }
 
     @Test
     public void generate_generateExcludeBlockOutOneDay() {
         Interviews interviews = new Interviews();
-        List<Calendar> dates = new ArrayList<>();
-        Calendar date = Calendar.getInstance();
-        date.add(Calendar.DATE, 2);
+        List<LocalDate> dates = new ArrayList<>();
+        dates.add(LocalDate.now().plusDays(2));
         interviews.setBlockOutDates(dates);
         interviews.generate(getTypicalPersons());
-        Set<Calendar> calendars = interviews.getInterviewsHashMap().keySet();
-        for (Calendar calendar : calendars) {
-            assertFalse(Interviews.containsDate(dates, calendar));
+        Set<LocalDate> generatedDates = interviews.getInterviewsMap().keySet();
+        for (LocalDate date : generatedDates) {
+            assertFalse(dates.contains(date));
         }
     }
 
     @Test
     public void generate_generateExcludeBlockOutDates() {
         Interviews interviews = new Interviews();
-        List<Calendar> dates = new ArrayList<>();
-        Calendar date = Calendar.getInstance();
-        for (int i = 0; i < 3; i++) {
-            date.add(Calendar.DATE, 1);
-            dates.add(date);
-            date = (Calendar) date.clone();
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            dates.add(LocalDate.now().plusDays(i));
         }
         interviews.setBlockOutDates(dates);
         interviews.generate(getTypicalPersons());
-        Set<Calendar> calendars = interviews.getInterviewsHashMap().keySet();
-        for (Calendar calendar : calendars) {
-            assertFalse(Interviews.containsDate(dates, calendar));
+        Set<LocalDate> generatedDates = interviews.getInterviewsMap().keySet();
+        for (LocalDate date : generatedDates) {
+            assertFalse(dates.contains(date));
         }
     }
 
+    @Test
+    public void generate_fromFriday_skipsWeekendAndBlockOutDates() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(1);
+        interviews.setBlockOutDates(Arrays.asList(LocalDate.of(2019, 4, 2)));
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        List<LocalDate> expectedDates = Arrays.asList(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 3),
+            LocalDate.of(2019, 4, 4));
+        assertEquals(expectedDates, new ArrayList<>(interviews.getInterviewsMap().keySet()));
+        assertEquals("1/4/2019:\n09:00-10:00 " + ALICE.getName() + "\n\n3/4/2019:\n09:00-10:00 " + BENSON.getName()
+            + "\n\n4/4/2019:\n09:00-10:00 " + CARL.getName(), interviews.toString());
+    }
+
+    @Test
+    public void formatDay_eachDay_matchesToString() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(1);
+        interviews.generate(Arrays.asList(ALICE, BENSON), TODAY);
+        List<String> days = new ArrayList<>();
+        interviews.getSchedule().forEach((date, slotList) -> days.add(Interviews.formatDay(date, slotList)));
+        assertEquals(Arrays.asList("1/4/2019:\n09:00-10:00 " + ALICE.getName(),
+            "2/4/2019:\n09:00-10:00 " + BENSON.getName()), days);
+        assertEquals(String.join("\n\n", days), interviews.toString());
+    }
+
+    @Test
+    public void copySchedule_scheduleChanged_copyUnchanged() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        NavigableMap<LocalDate, List<InterviewSlot>> copy = interviews.copySchedule();
+        assertEquals(interviews.getSchedule(), copy);
+
+        interviews.removePerson(ALICE);
+        interviews.append(Arrays.asList(DANIEL), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1), slot(BENSON, 4, 1, "10:00", "11:00", 1)),
+            copy.get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2)),
+            new ArrayList<>(copy.keySet()));
+    }
+
+    @Test
+    public void generate_fillsEachDayUpToMax() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1), slot(BENSON, 4, 1, "10:00", "11:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(CARL, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+    }
+
+    @Test
+    public void generate_slotsAndRooms_fillsRoomsOfEachSlotFirst() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(3);
+        interviews.setSlotSettings(new SlotSettings(LocalTime.of(13, 0), LocalTime.of(15, 0), 45, 2));
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "13:00", "13:45", 1), slot(BENSON, 4, 1, "13:00", "13:45", 2),
+            slot(CARL, 4, 1, "13:45", "14:30", 1)), interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(DANIEL, 4, 2, "13:00", "13:45", 1), slot(ELLE, 4, 2, "13:00", "13:45", 2)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+        assertTrue(interviews.toString().startsWith("1/4/2019:\n13:00-13:45 Room 1 " + ALICE.getName()));
+    }
+
+    @Test
+    public void generate_manyRooms_fillsLowestRoomsFirst() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(3);
+        interviews.setSlotSettings(new SlotSettings(LocalTime.of(9, 0), LocalTime.of(17, 0), 60, Integer.MAX_VALUE));
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL, DANIEL), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1), slot(BENSON, 4, 1, "09:00", "10:00", 2),
+            slot(CARL, 4, 1, "09:00", "10:00", 3)), interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(DANIEL, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+    }
+
+    @Test
+    public void generate_slotsLimitDayCapacity() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(10);
+        interviews.setSlotSettings(new SlotSettings(LocalTime.of(9, 0), LocalTime.of(10, 0), 60, 1));
+        interviews.generate(Arrays.asList(ALICE, BENSON), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(BENSON, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+    }
+
+    @Test
+    public void generate_unavailablePerson_skipsUnavailableTimesOnly() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(4);
+        IntervalSet aliceUnavailability = new IntervalSet();
+        aliceUnavailability.add(IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 1), LocalTime.of(8, 0)),
+            IntervalSet.toEpochMinute(LocalDate.of(2019, 4, 1), LocalTime.of(10, 30)));
+        interviews.addUnavailability(ALICE.getNric(), aliceUnavailability);
+        IntervalSet bensonUnavailability = new IntervalSet();
+        bensonUnavailability.addDays(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2));
+        interviews.addUnavailability(BENSON.getNric(), bensonUnavailability);
+
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        // Alice's slot starts after she becomes available and Carl takes the earliest slot she left free
+        assertEquals(Arrays.asList(slot(CARL, 4, 1, "09:00", "10:00", 1), slot(ALICE, 4, 1, "11:00", "12:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(BENSON, 4, 3, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 3)));
+        assertEquals(Arrays.asList(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 3)),
+            new ArrayList<>(interviews.getInterviewsMap().keySet()));
+    }
+
+    @Test
+    public void generate_unavailableForYears_notBooked() {
+        Interviews interviews = new Interviews();
+        IntervalSet aliceUnavailability = new IntervalSet();
+        aliceUnavailability.addDays(LocalDate.of(2019, 1, 1), LocalDate.of(9999, 12, 31));
+        interviews.addUnavailability(ALICE.getNric(), aliceUnavailability);
+        assertEquals(Arrays.asList(ALICE), interviews.generate(Arrays.asList(ALICE, BENSON), TODAY));
+        assertEquals(Arrays.asList(slot(BENSON, 4, 1, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(1, interviews.getInterviewsMap().size());
+    }
+
+    @Test
+    public void reschedule_beyondHorizon_keepsInterview() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1)),
+            interviews.reschedule(ALICE.getNric(), LocalDate.of(9999, 1, 1), TODAY));
+        // the slot is still held
+        interviews.append(Arrays.asList(BENSON), TODAY);
+        assertEquals(Arrays.asList(slot(BENSON, 4, 1, "10:00", "11:00", 1)),
+            interviews.getInterviewsOf(BENSON.getNric()));
+    }
+
+    @Test
+    public void generate_withInterviewers_matchesSkillsAndSharesRooms() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(3);
+        interviews.setSlotSettings(new SlotSettings(LocalTime.of(9, 0), LocalTime.of(17, 0), 60, 2));
+        interviews.addInterviewer(new Interviewer(new Name("Jane Tan"),
+            new HashSet<>(Arrays.asList(new KnownProgLang("Python"))), 1));
+        interviews.addInterviewer(new Interviewer(new Name("Ken Lim"),
+            new HashSet<>(Arrays.asList(new KnownProgLang("Python"))), 2));
+        Person javaProgrammer = new PersonBuilder().withName("Zed Java").withKnownProgLangs("Java").build();
+
+        List<Person> unmatched = interviews.generate(Arrays.asList(ALICE, javaProgrammer, BENSON, CARL), TODAY);
+        assertEquals(Arrays.asList(javaProgrammer), unmatched);
+        // three candidates fit in a single day between Jane and Ken
+        assertEquals(Arrays.asList(LocalDate.of(2019, 4, 1)), new ArrayList<>(interviews.getInterviewsMap().keySet()));
+        List<InterviewSlot> slots = interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1));
+        assertEquals(3, slots.size());
+        assertEquals(1, slots.stream().filter(slot -> slot.getInterviewer().get().fullName.equals("Jane Tan")).count());
+        assertUsesRoomsOnce(slots);
+        assertTrue(interviews.toString().contains(" with Ken Lim"));
+    }
+
+    @Test
+    public void generate_withInterviewers_keepsToRoomsAndMaxInterviewsADay() {
+        Interviews interviews = new Interviews();
+        interviews.addInterviewer(new Interviewer(new Name("Jane Tan"),
+            new HashSet<>(Arrays.asList(new KnownProgLang("Python"))), 2));
+        interviews.addInterviewer(new Interviewer(new Name("Ken Lim"),
+            new HashSet<>(Arrays.asList(new KnownProgLang("Python"))), 2));
+
+        // one room and two interviews a day, however many the interviewers could take between them
+        assertEquals(Collections.emptyList(), interviews.generate(Arrays.asList(ALICE, BENSON, CARL, DANIEL), TODAY));
+        assertEquals(Arrays.asList(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2)),
+            new ArrayList<>(interviews.getInterviewsMap().keySet()));
+        for (List<InterviewSlot> slots : interviews.getInterviewsMap().values()) {
+            assertEquals(2, slots.size());
+            assertUsesRoomsOnce(slots);
+        }
+
+        // a removed interview frees its room for the next person
+        interviews.removePerson(ALICE);
+        interviews.append(Arrays.asList(ALICE), TODAY);
+        assertEquals(LocalDate.of(2019, 4, 1), interviews.getInterviewsOf(ALICE.getNric()).get(0).getDate());
+        assertUsesRoomsOnce(interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+    }
+
+    @Test
+    public void generate_manyJobs_interleavesJobsAndSharesRooms() {
+        Interviews interviews = new Interviews();
+        interviews.generate(getTwoJobs(), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1, "Teacher"),
+            slot(ALICE, 4, 1, "10:00", "11:00", 1, "Cook")),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(BENSON, 4, 2, "09:00", "10:00", 1, "Teacher"),
+            slot(CARL, 4, 2, "10:00", "11:00", 1, "Cook")),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+        assertEquals(2, interviews.getInterviewsOf(ALICE.getNric()).size());
+    }
+
+    @Test
+    public void generate_manyJobsAndRooms_interviewsOfAPersonNeverOverlap() {
+        Interviews interviews = new Interviews();
+        interviews.setSlotSettings(new SlotSettings(LocalTime.of(9, 0), LocalTime.of(17, 0), 60, 2));
+        interviews.setMaxInterviewsADay(4);
+        interviews.generate(getTwoJobs(), TODAY);
+        // Alice would take the free second room at 09:00 for Cook if it did not overlap her Teacher interview
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1, "Teacher"),
+            slot(BENSON, 4, 1, "09:00", "10:00", 2, "Teacher"),
+            slot(ALICE, 4, 1, "10:00", "11:00", 1, "Cook"),
+            slot(CARL, 4, 1, "10:00", "11:00", 2, "Cook")),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+    }
+
+    @Test
+    public void append_manyJobs_skipsPersonsInterviewedForTheJob() {
+        Interviews interviews = new Interviews();
+        Map<JobName, List<Person>> teacher = new LinkedHashMap<>();
+        teacher.put(new JobName("Teacher"), Arrays.asList(ALICE, BENSON));
+        interviews.generate(teacher, TODAY);
+        interviews.append(getTwoJobs(), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1, "Teacher"),
+            slot(BENSON, 4, 1, "10:00", "11:00", 1, "Teacher")),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(ALICE, 4, 2, "09:00", "10:00", 1, "Cook"),
+            slot(CARL, 4, 2, "10:00", "11:00", 1, "Cook")),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+
+        // persons with an interview for any job are not given one for no job
+        interviews.append(Arrays.asList(ALICE, DANIEL), TODAY);
+        assertEquals(Arrays.asList(slot(DANIEL, 4, 3, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 3)));
+    }
+
+    @Test
+    public void reschedule_manyJobs_movesEveryInterviewWithoutOverlap() {
+        Interviews interviews = new Interviews();
+        interviews.generate(getTwoJobs(), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 3, "09:00", "10:00", 1, "Teacher"),
+            slot(ALICE, 4, 3, "10:00", "11:00", 1, "Cook")),
+            interviews.reschedule(ALICE.getNric(), LocalDate.of(2019, 4, 3), TODAY));
+        assertFalse(interviews.getInterviewsMap().containsKey(LocalDate.of(2019, 4, 1)));
+
+        assertTrue(interviews.removePerson(ALICE));
+        assertTrue(interviews.getInterviewsOf(ALICE.getNric()).isEmpty());
+        assertEquals("2/4/2019:\n09:00-10:00 " + BENSON.getName() + " for Teacher\n10:00-11:00 " + CARL.getName()
+            + " for Cook", interviews.toString());
+    }
+
+    @Test
+    public void addInterviewer_sameName_replaces() {
+        Interviews interviews = new Interviews();
+        interviews.addInterviewer(new Interviewer(new Name("Jane Tan"), Collections.emptySet(), 1));
+        Interviewer replacement = new Interviewer(new Name("Jane Tan"), Collections.emptySet(), 3);
+        interviews.addInterviewer(replacement);
+        assertEquals(Arrays.asList(replacement), interviews.getInterviewers());
+        assertTrue(interviews.removeInterviewer(new Name("Jane Tan")));
+        assertFalse(interviews.removeInterviewer(new Name("Jane Tan")));
+    }
+
+    @Test
+    public void append_keepsExistingInterviewsAndFillsFreedSlots() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        interviews.removePerson(ALICE);
+        assertEquals(Collections.emptyList(), interviews.append(Arrays.asList(BENSON, DANIEL, ELLE), TODAY));
+        assertEquals(Arrays.asList(slot(DANIEL, 4, 1, "09:00", "10:00", 1), slot(BENSON, 4, 1, "10:00", "11:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(CARL, 4, 2, "09:00", "10:00", 1), slot(ELLE, 4, 2, "10:00", "11:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+    }
+
+    @Test
+    public void append_afterSettingsChange_keepsExistingInterviews() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON), TODAY);
+        interviews.setMaxInterviewsADay(3);
+        interviews.append(Arrays.asList(CARL), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1), slot(BENSON, 4, 1, "10:00", "11:00", 1),
+            slot(CARL, 4, 1, "11:00", "12:00", 1)), interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+    }
+
+    @Test
+    public void append_afterSlotSettingsChange_neverOverlapsExistingInterviews() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE), TODAY);
+        interviews.setSlotSettings(new SlotSettings(LocalTime.of(9, 0), LocalTime.of(17, 0), 30, 1));
+        interviews.append(Arrays.asList(BENSON), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1), slot(BENSON, 4, 1, "10:00", "10:30", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+    }
+
+    @Test
+    public void removePerson_dayOverLoweredMax_dayStaysFull() {
+        Interviews interviews = new Interviews();
+        interviews.setMaxInterviewsADay(3);
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        interviews.setMaxInterviewsADay(1);
+        interviews.append(Arrays.asList(DANIEL), TODAY);
+        assertEquals(Arrays.asList(slot(DANIEL, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+
+        interviews.removePerson(ALICE);
+        interviews.append(Arrays.asList(ELLE), TODAY);
+        assertEquals(2, interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)).size());
+        assertEquals(Arrays.asList(slot(ELLE, 4, 3, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 3)));
+    }
+
+    @Test
+    public void compact_fillsGapsWithLatestInterviews() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), TODAY);
+        interviews.removePerson(ALICE);
+        interviews.removePerson(CARL);
+        // Elle moves from the last day into the gap Alice left, then Daniel into the one Carl left
+        assertEquals(2, interviews.compact(TODAY));
+        assertEquals(Arrays.asList(slot(ELLE, 4, 1, "09:00", "10:00", 1), slot(BENSON, 4, 1, "10:00", "11:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(DANIEL, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+        assertEquals(Arrays.asList(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 2)),
+            new ArrayList<>(interviews.getInterviewsMap().keySet()));
+        assertEquals(0, interviews.compact(TODAY));
+    }
+
+    @Test
+    public void compact_unavailablePerson_staysWhereTheyAre() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        IntervalSet carlUnavailability = new IntervalSet();
+        carlUnavailability.addDays(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 1));
+        interviews.addUnavailability(CARL.getNric(), carlUnavailability);
+        interviews.removePerson(ALICE);
+        // Benson moves into the slot Alice left but Carl cannot take the one Benson left
+        assertEquals(1, interviews.compact(TODAY));
+        assertEquals(Arrays.asList(slot(BENSON, 4, 1, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(CARL, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+    }
+
+    @Test
+    public void reschedule_movesOnlyThatPerson() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        assertEquals(Arrays.asList(slot(ALICE, 4, 3, "09:00", "10:00", 1)),
+            interviews.reschedule(ALICE.getNric(), LocalDate.of(2019, 4, 3), TODAY));
+        assertEquals(Arrays.asList(slot(BENSON, 4, 1, "10:00", "11:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 1)));
+        assertEquals(Arrays.asList(slot(CARL, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsMap().get(LocalDate.of(2019, 4, 2)));
+
+        // moving back takes the earliest free slot again
+        assertEquals(Arrays.asList(slot(ALICE, 4, 1, "09:00", "10:00", 1)),
+            interviews.reschedule(ALICE.getNric(), LocalDate.MIN, TODAY));
+        assertFalse(interviews.getInterviewsMap().containsKey(LocalDate.of(2019, 4, 3)));
+        assertTrue(interviews.reschedule(DANIEL.getNric(), LocalDate.MIN, TODAY).isEmpty());
+    }
+
+    @Test
+    public void reschedule_withInterviewers_keepsInterviewer() {
+        Interviews interviews = new Interviews();
+        interviews.addInterviewer(new Interviewer(new Name("Jane Tan"),
+            new HashSet<>(Arrays.asList(new KnownProgLang("Python"))), 1));
+        interviews.generate(Arrays.asList(ALICE, BENSON), TODAY);
+        assertEquals(Arrays.asList(new InterviewSlot(ALICE, LocalDate.of(2019, 4, 4), LocalTime.of(9, 0),
+            LocalTime.of(10, 0), 1, new Name("Jane Tan"))),
+            interviews.reschedule(ALICE.getNric(), LocalDate.of(2019, 4, 4), TODAY));
+    }
+
+    @Test
+    public void removePerson() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        assertTrue(interviews.removePerson(BENSON));
+        assertFalse(interviews.removePerson(BENSON));
+        assertEquals("1/4/2019:\n09:00-10:00 " + ALICE.getName() + "\n\n2/4/2019:\n09:00-10:00 " + CARL.getName(),
+            interviews.toString());
+    }
+
+    @Test
+    public void removePerson_forgetsUnavailability() {
+        Interviews interviews = new Interviews();
+        IntervalSet unavailable = new IntervalSet();
+        unavailable.addDays(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 1));
+        interviews.addUnavailability(ALICE.getNric(), unavailable);
+        interviews.removePerson(ALICE);
+        assertTrue(interviews.getUnavailability().isEmpty());
+    }
+
+    @Test
+    public void getInterviewsOf() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON, CARL), TODAY);
+        assertEquals(Arrays.asList(slot(CARL, 4, 2, "09:00", "10:00", 1)), interviews.getInterviewsOf(CARL.getNric()));
+        interviews.removePerson(CARL);
+        assertTrue(interviews.getInterviewsOf(CARL.getNric()).isEmpty());
+        assertTrue(interviews.getInterviewsOf(DANIEL.getNric()).isEmpty());
+    }
+
+    @Test
+    public void setPerson_keepsSlot() {
+        Interviews interviews = new Interviews();
+        interviews.generate(Arrays.asList(ALICE, BENSON), TODAY);
+        Person editedAlice = new PersonBuilder(ALICE).withNric("S1234567D").build();
+        interviews.setPerson(ALICE, editedAlice);
+        assertTrue(interviews.getInterviewsOf(ALICE.getNric()).isEmpty());
+        assertEquals(Arrays.asList(slot(editedAlice, 4, 1, "09:00", "10:00", 1)),
+            interviews.getInterviewsOf(editedAlice.getNric()));
+        assertTrue(interviews.removePerson(editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedNric_movesUnavailability() {
+        Interviews interviews = new Interviews();
+        IntervalSet unavailable = new IntervalSet();
+        unavailable.addDays(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 1));
+        interviews.addUnavailability(ALICE.getNric(), unavailable);
+        Person editedAlice = new PersonBuilder(ALICE).withNric("S1234567D").build();
+        interviews.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonMap(editedAlice.getNric(), unavailable), interviews.getUnavailability());
+
+        interviews.generate(Arrays.asList(editedAlice), TODAY);
+        assertEquals(Arrays.asList(slot(editedAlice, 4, 2, "09:00", "10:00", 1)),
+            interviews.getInterviewsOf(editedAlice.getNric()));
+    }
+
+    @Test
+    public void isBlockedOut() {
+        Interviews interviews = new Interviews();
+        interviews.setBlockOutDates(Arrays.asList(LocalDate.of(2019, 4, 2)));
+        assertTrue(interviews.isBlockedOut(LocalDate.of(2019, 4, 2)));
+        assertFalse(interviews.isBlockedOut(LocalDate.of(2019, 4, 3)));
+        // dates before 1970 are never blocked out
+        interviews.setBlockOutDates(Arrays.asList(LocalDate.of(1969, 12, 31)));
+        assertFalse(interviews.isBlockedOut(LocalDate.of(1969, 12, 31)));
+    }
+
+    @Test
+    public void setInterviews_copiesBlockOutDates() {
+        Interviews interviews = new Interviews();
+        interviews.setBlockOutDates(Arrays.asList(LocalDate.of(2019, 4, 2)));
+        Interviews copy = new Interviews();
+        copy.setInterviews(interviews);
+        assertTrue(copy.isBlockedOut(LocalDate.of(2019, 4, 2)));
+    }
+
+    @Test
+    public void setInterviews_copiesSlotSettingsAndUnavailability() {
+        Interviews interviews = new Interviews();
+        interviews.setSlotSettings(new SlotSettings(LocalTime.of(10, 0), LocalTime.of(12, 0), 30, 2));
+        IntervalSet unavailability = new IntervalSet();
+        unavailability.addDays(LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 1));
+        interviews.addUnavailability(ALICE.getNric(), unavailability);
+        Interviews copy = new Interviews();
+        copy.setInterviews(interviews);
+        assertEquals(interviews.getSlotSettings(), copy.getSlotSettings());
+        copy.generate(Arrays.asList(ALICE), TODAY);
+        assertEquals(Arrays.asList(LocalDate.of(2019, 4, 2)), new ArrayList<>(copy.getInterviewsMap().keySet()));
+    }
+
     @Test
     public void clear() {
         Interviews interviews = new Interviews();
         interviews.generate(getTypicalPersons());
         interviews.clear();
-        assertTrue(interviews.getInterviewsHashMap().isEmpty());
+        assertTrue(interviews.getInterviewsMap().isEmpty());
     }
 }
@@ -0,0 +1,59 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.ELLE;
+import static seedu.address.testutil.TypicalObjects.FIONA;
+import static seedu.address.testutil.TypicalObjects.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.job.CandidateRanker.RankedPerson;
+import seedu.address.model.person.Person;
+
+public class CandidateRankerTest {
+
+    private static final RankWeights GRADE_ONLY = new RankWeights(1, new float[] {0, 0, 0, 0, 0},
+        Collections.emptyMap());
+
+    @Test
+    public void rankTopK_bestFirst() {
+        List<RankedPerson> ranked = CandidateRanker.rankTopK(getTypicalPersons(), RankWeights.DEFAULT, 3);
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA), getPersons(ranked));
+        assertEquals(55f, ranked.get(0).getScore(), 1e-4f);
+    }
+
+    @Test
+    public void rankTopK_equalScores_keepListOrder() {
+        // DANIEL and FIONA both have a grade of 5.00
+        assertEquals(Arrays.asList(DANIEL, FIONA, ELLE),
+            getPersons(CandidateRanker.rankTopK(getTypicalPersons(), GRADE_ONLY, 3)));
+        assertEquals(Arrays.asList(DANIEL),
+            getPersons(CandidateRanker.rankTopK(Arrays.asList(DANIEL, FIONA), GRADE_ONLY, 1)));
+        assertEquals(Arrays.asList(FIONA),
+            getPersons(CandidateRanker.rankTopK(Arrays.asList(FIONA, DANIEL), GRADE_ONLY, 1)));
+    }
+
+    @Test
+    public void rankTopK_kLargerThanList_returnsAllSorted() {
+        assertEquals(Arrays.asList(DANIEL, ALICE, CARL),
+            getPersons(CandidateRanker.rankTopK(Arrays.asList(CARL, ALICE, DANIEL), GRADE_ONLY, 10)));
+        assertEquals(Collections.emptyList(),
+            CandidateRanker.rankTopK(Collections.emptyList(), GRADE_ONLY, 10));
+    }
+
+    private static List<Person> getPersons(List<RankedPerson> ranked) {
+        List<Person> persons = new ArrayList<>();
+        for (RankedPerson rankedPerson : ranked) {
+            persons.add(rankedPerson.getPerson());
+        }
+        return persons;
+    }
+}
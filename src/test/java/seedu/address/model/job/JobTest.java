@@ -64,6 +64,20 @@ public class JobTest {
         assertEquals(0, nrics.size());
     }
 
+    @Test
+    public void testRemoveFromList() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Job teacher = new JobBuilder(TEACHER).withName(VALID_JOB_NAME_TEACHER).build();
+
+        teacher.add(alice, 0);
+        teacher.move(alice, 0, 1);
+        teacher.removeFromList(alice, 1);
+
+        assertTrue(teacher.contains(alice));
+        assertEquals(0, teacher.getPersonsNric(1).size());
+        assertEquals(1, teacher.getPersonsNric(0).size());
+    }
+
     @Test
     public void isSameJob() {
         // same object -> returns true
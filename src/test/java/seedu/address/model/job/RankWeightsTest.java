@@ -0,0 +1,84 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class RankWeightsTest {
+
+    private static final float DELTA = 1e-4f;
+
+    @Test
+    public void constructor_invalidWeights_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new RankWeights(Float.NaN, new float[] {1, 1, 1, 1, 1}, Collections.emptyMap()));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new RankWeights(1, new float[] {1, 1, Float.POSITIVE_INFINITY, 1, 1}, Collections.emptyMap()));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new RankWeights(1, new float[] {1, 1, 1, 1}, Collections.emptyMap()));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new RankWeights(1, new float[] {1, 1, 1, 1, 1}, Collections.singletonMap("java", Float.NaN)));
+    }
+
+    @Test
+    public void isValidWeight() {
+        assertTrue(RankWeights.isValidWeight(0));
+        assertTrue(RankWeights.isValidWeight(-2.5f));
+        assertFalse(RankWeights.isValidWeight(Float.NaN));
+        assertFalse(RankWeights.isValidWeight(Float.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void score() {
+        // grade and interview scores
+        assertEquals(4.54f + 10 + 8 + 5 + 10 + 1, RankWeights.DEFAULT.score(ALICE), DELTA);
+        RankWeights weights = new RankWeights(2, new float[] {0, 0, 0, 0, 0.5f}, Collections.emptyMap());
+        assertEquals(2 * 5.00f + 0.5f * 10, weights.score(DANIEL), DELTA);
+
+        // programming languages are matched ignoring case
+        Map<String, Float> progLangWeights = new HashMap<>();
+        progLangWeights.put("PYTHON", 3f);
+        progLangWeights.put("Java", 2f);
+        weights = new RankWeights(0, new float[] {0, 0, 0, 0, 0}, progLangWeights);
+        assertEquals(3f, weights.score(ALICE), DELTA);
+        assertEquals(5f, weights.score(new PersonBuilder(ALICE).withKnownProgLangs("python", "JAVA").build()), DELTA);
+
+        // languages of more than one word are matched as a whole
+        weights = new RankWeights(0, new float[] {0, 0, 0, 0, 0}, Collections.singletonMap("Visual Basic", 4f));
+        assertEquals(4f, weights.score(new PersonBuilder(ALICE).withKnownProgLangs("visual basic").build()), DELTA);
+        assertEquals(0f, weights.score(new PersonBuilder(ALICE).withKnownProgLangs("Visual", "Basic").build()), DELTA);
+    }
+
+    @Test
+    public void getProgLangWeights_lowerCased() {
+        RankWeights weights = new RankWeights(1, new float[] {1, 1, 1, 1, 1}, Collections.singletonMap("Java", 2f));
+        assertEquals(Collections.singletonMap("java", 2f), weights.getProgLangWeights());
+    }
+
+    @Test
+    public void equals() {
+        RankWeights weights = new RankWeights(1, new float[] {1, 1, 1, 1, 1}, Collections.singletonMap("Java", 2f));
+
+        // same values -> returns true
+        assertEquals(weights, new RankWeights(1, new float[] {1, 1, 1, 1, 1}, Collections.singletonMap("JAVA", 2f)));
+        assertEquals(weights.hashCode(),
+            new RankWeights(1, new float[] {1, 1, 1, 1, 1}, Collections.singletonMap("JAVA", 2f)).hashCode());
+
+        // different values -> returns false
+        assertNotEquals(weights, RankWeights.DEFAULT);
+        assertNotEquals(weights, new RankWeights(1, new float[] {1, 1, 1, 1, 2}, Collections.singletonMap("Java", 2f)));
+        assertNotEquals(weights, null);
+    }
+}
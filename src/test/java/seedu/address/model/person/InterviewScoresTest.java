@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -18,6 +19,7 @@ public class InterviewScoresTest {
     public void constructor_invalidInterviewScores_throwsIllegalArgumentException() {
         String invalidInterviewScores = "";
         Assert.assertThrows(IllegalArgumentException.class, () -> new InterviewScores(invalidInterviewScores));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new InterviewScores("99999999999,1,1,1,1"));
     }
 
     @Test
@@ -32,8 +34,18 @@ public class InterviewScoresTest {
         assertFalse(InterviewScores.isValidInterviewScores("9011p041")); // alphabets within digits
         assertFalse(InterviewScores.isValidInterviewScores("9312 1534")); // spaces within digits
         assertFalse(InterviewScores.isValidInterviewScores("5,3,10,3")); // incorrect number of sets of numbers
+        assertFalse(InterviewScores.isValidInterviewScores("99999999999,1,1,1,1")); // too many digits for a score
+        assertFalse(InterviewScores.isValidInterviewScores("1,1,1,1,123456789")); // more than 8 digits
 
         // valid interview score
         assertTrue(InterviewScores.isValidInterviewScores("4,1,2,2,1")); // exact format
+        assertTrue(InterviewScores.isValidInterviewScores("99999999,0,0,0,1")); // 8 digits
+    }
+
+    @Test
+    public void getTotalScore() {
+        assertEquals(10, new InterviewScores("4,1,2,2,1").getTotalScore());
+        assertEquals(0, new InterviewScores("0,0,0,0,0").getTotalScore());
+        assertEquals(499999995, new InterviewScores("99999999,99999999,99999999,99999999,99999999").getTotalScore());
     }
 }
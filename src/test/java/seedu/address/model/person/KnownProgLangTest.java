@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -34,4 +35,11 @@ public class KnownProgLangTest {
         assertTrue(KnownProgLang.isValidKnownProgLang("-")); // one character
         assertTrue(KnownProgLang.isValidKnownProgLang("CPP")); // short job title
     }
+
+    @Test
+    public void getLowerCaseValue() {
+        KnownProgLang progLang = new KnownProgLang("Visual BASIC");
+        assertEquals("visual basic", progLang.getLowerCaseValue());
+        assertEquals("Visual BASIC", progLang.value);
+    }
 }
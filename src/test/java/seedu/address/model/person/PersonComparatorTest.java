@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.DANIEL;
+import static seedu.address.testutil.TypicalObjects.FIONA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonComparatorTest {
+
+    @Test
+    public void constructor_mismatchedDirections_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new PersonComparator(Arrays.asList(SortField.NAME), Arrays.asList(true, false)));
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+            new PersonComparator(Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void compare_name_ignoresCase() {
+        PersonComparator comparator = new PersonComparator(Arrays.asList(SortField.NAME), Arrays.asList(false));
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName("alice pauline").build();
+        assertEquals(0, comparator.compare(ALICE, lowerCaseAlice));
+        assertTrue(comparator.compare(lowerCaseAlice, BENSON) < 0);
+    }
+
+    @Test
+    public void compare_multipleFields_laterFieldsBreakTies() {
+        // DANIEL and FIONA both have a grade of 5.00
+        PersonComparator comparator = new PersonComparator(Arrays.asList(SortField.GRADE, SortField.SCHOOL),
+            Arrays.asList(true, true));
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, DANIEL, BENSON, FIONA));
+        persons.sort(comparator);
+        assertEquals(Arrays.asList(FIONA, DANIEL, ALICE, BENSON), persons);
+    }
+
+    @Test
+    public void compare_score_noRecordPlacedLast() {
+        Person noRecord = new PersonBuilder(ALICE).withInterviewScores(InterviewScores.NO_RECORD).build();
+        for (boolean isDescending : new boolean[] {false, true}) {
+            PersonComparator comparator = new PersonComparator(Arrays.asList(SortField.SCORE),
+                Arrays.asList(isDescending));
+            List<Person> persons = new ArrayList<>(Arrays.asList(noRecord, DANIEL, BENSON));
+            persons.sort(comparator);
+            assertEquals(isDescending ? Arrays.asList(DANIEL, BENSON, noRecord)
+                : Arrays.asList(BENSON, DANIEL, noRecord), persons);
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersonComparator comparator = new PersonComparator(Arrays.asList(SortField.GRADE, SortField.NAME),
+            Arrays.asList(true, false));
+        assertEquals(comparator, new PersonComparator(Arrays.asList(SortField.GRADE, SortField.NAME),
+            Arrays.asList(true, false)));
+        assertNotEquals(comparator, new PersonComparator(Arrays.asList(SortField.GRADE, SortField.NAME),
+            Arrays.asList(false, false)));
+        assertNotEquals(comparator, new PersonComparator(Arrays.asList(SortField.GRADE), Arrays.asList(true)));
+        assertEquals("grade (descending), name (ascending)", comparator.toString());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -28,6 +30,16 @@ public class PersonTest {
         person.getTags().remove(0);
     }
 
+    @Test
+    public void getSearchWords() {
+        Person person = new PersonBuilder().withName("Alice  PAULINE").build();
+        String[] nameWords = person.getSearchWords(SearchField.NAME);
+        assertArrayEquals(new String[] {"alice", "pauline"}, nameWords);
+
+        // words are computed once and reused
+        assertSame(nameWords, person.getSearchWords(SearchField.NAME));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
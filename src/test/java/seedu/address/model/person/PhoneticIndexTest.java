@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+import static seedu.address.testutil.TypicalObjects.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneticIndexTest {
+
+    private final PhoneticIndex index = new PhoneticIndex();
+
+    @Test
+    public void getSoundsLike_differentSpelling_personsFound() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL, ELLE));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON.getNric(), ELLE.getNric())), index.getSoundsLike("Maier"));
+        assertEquals(Collections.singleton(CARL.getNric()), index.getSoundsLike("karl"));
+        assertTrue(index.getSoundsLike("Tan").isEmpty());
+        assertTrue(index.getSoundsLike("123").isEmpty());
+    }
+
+    @Test
+    public void setPerson_editedName_indexUpdated() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withName("Tang Wei Meng").build();
+        index.setPerson(ALICE, editedAlice);
+        assertTrue(index.getSoundsLike("Pauline").isEmpty());
+        assertEquals(Collections.singleton(ALICE.getNric()), index.getSoundsLike("Ming"));
+    }
+
+    @Test
+    public void remove_indexedPerson_personNotFound() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        index.remove(BENSON);
+        assertTrue(index.getSoundsLike("Benson").isEmpty());
+    }
+}
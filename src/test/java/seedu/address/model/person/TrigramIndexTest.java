@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+import static seedu.address.testutil.TypicalObjects.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        index.add(null);
+    }
+
+    @Test
+    public void getCandidates_shortSubstring_returnsNull() {
+        index.add(ALICE);
+        assertNull(index.getCandidates(SearchField.NAME, "al"));
+    }
+
+    @Test
+    public void getCandidates_validSubstring_returnsMatchingPersons() {
+        index.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        // partial word, different case
+        assertEquals(Collections.singleton(ALICE.getNric()), index.getCandidates(SearchField.NAME, "PAUL"));
+
+        // shared by several persons
+        assertEquals(new HashSet<>(Arrays.asList(ALICE.getNric(), BENSON.getNric(), CARL.getNric())),
+            index.getCandidates(SearchField.EMAIL, "@example"));
+
+        // only matches within the requested field
+        assertEquals(Collections.singleton(CARL.getNric()), index.getCandidates(SearchField.ADDRESS, "wall st"));
+        assertTrue(index.getCandidates(SearchField.NAME, "wall").isEmpty());
+
+        // unknown trigram
+        assertTrue(index.getCandidates(SearchField.PHONE, "000").isEmpty());
+    }
+
+    @Test
+    public void setPerson_editedPerson_indexUpdated() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        long version = index.getVersion();
+        index.setPerson(ALICE, editedAlice);
+
+        assertNotEquals(version, index.getVersion());
+        assertTrue(index.getCandidates(SearchField.NAME, "pauline").isEmpty());
+        assertEquals(Collections.singleton(ALICE.getNric()), index.getCandidates(SearchField.NAME, "tan"));
+
+        // only the exact edited person counts as indexed
+        assertFalse(index.contains(ALICE));
+        assertTrue(index.contains(editedAlice));
+    }
+
+    @Test
+    public void remove_indexedPerson_postingsRemoved() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        index.remove(ALICE);
+        assertFalse(index.contains(ALICE));
+        assertTrue(index.getCandidates(SearchField.NAME, "alice").isEmpty());
+        assertEquals(Collections.singleton(BENSON.getNric()), index.getCandidates(SearchField.NAME, "meier"));
+    }
+}
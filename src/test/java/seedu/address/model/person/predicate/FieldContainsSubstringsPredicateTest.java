@@ -0,0 +1,88 @@
+package seedu.address.model.person.predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.TrigramIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldContainsSubstringsPredicateTest {
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    @Test
+    public void equals() {
+        FieldContainsSubstringsPredicate firstPredicate =
+            new FieldContainsSubstringsPredicate(SearchField.NAME, Collections.singletonList("first"), index);
+        FieldContainsSubstringsPredicate secondPredicate =
+            new FieldContainsSubstringsPredicate(SearchField.EMAIL, Collections.singletonList("first"), index);
+
+        // same object -> returns true
+        assertEquals(firstPredicate, firstPredicate);
+
+        // same values -> returns true
+        assertEquals(firstPredicate,
+            new FieldContainsSubstringsPredicate(SearchField.NAME, Collections.singletonList("first"), index));
+
+        // different types -> returns false
+        assertNotEquals(firstPredicate, 1);
+
+        // different field -> returns false
+        assertNotEquals(firstPredicate, secondPredicate);
+    }
+
+    @Test
+    public void test_fieldContainsSubstrings_returnsTrue() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+
+        // partial word
+        FieldContainsSubstringsPredicate predicate =
+            new FieldContainsSubstringsPredicate(SearchField.NAME, Collections.singletonList("pau"), index);
+        assertTrue(predicate.test(ALICE));
+
+        // substring too short to use the index
+        predicate = new FieldContainsSubstringsPredicate(SearchField.NAME, Collections.singletonList("ei"), index);
+        assertTrue(predicate.test(BENSON));
+
+        // only one matching substring, mixed case
+        predicate = new FieldContainsSubstringsPredicate(SearchField.EMAIL, Arrays.asList("zzz", "@EXAMPLE"), index);
+        assertTrue(predicate.test(ALICE));
+    }
+
+    @Test
+    public void test_fieldDoesNotContainSubstrings_returnsFalse() {
+        index.setPersons(Arrays.asList(ALICE, BENSON));
+        FieldContainsSubstringsPredicate predicate =
+            new FieldContainsSubstringsPredicate(SearchField.NAME, Collections.singletonList("pau"), index);
+        assertFalse(predicate.test(BENSON));
+
+        // matches another field only
+        predicate = new FieldContainsSubstringsPredicate(SearchField.NAME, Collections.singletonList("jurong"), index);
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void test_personNotYetIndexed_verifiedDirectly() {
+        index.setPersons(Collections.singletonList(ALICE));
+        FieldContainsSubstringsPredicate predicate =
+            new FieldContainsSubstringsPredicate(SearchField.NAME, Collections.singletonList("tan"), index);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        assertTrue(predicate.test(editedAlice));
+
+        // candidates are refreshed once the index changes
+        index.setPerson(ALICE, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+        assertFalse(predicate.test(ALICE));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.person.InterviewScores;
 import seedu.address.testutil.PersonBuilder;
 
 public class InterviewScoreContainsKeywordsPredicateTest {
@@ -61,5 +62,8 @@ public class InterviewScoreContainsKeywordsPredicateTest {
         predicate = new InterviewScoreContainsKeywordsPredicate(1, Collections.singletonList("3-4"));
         assertFalse(predicate.test(new PersonBuilder().withInterviewScores("5,5,5,5,5").build()));
 
+        // No interview scores recorded
+        predicate = new InterviewScoreContainsKeywordsPredicate(1, Collections.singletonList("1-10"));
+        assertFalse(predicate.test(new PersonBuilder().withInterviewScores(InterviewScores.NO_RECORD).build()));
     }
 }
@@ -0,0 +1,77 @@
+package seedu.address.model.person.predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneticIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSoundsLikeKeywordsPredicateTest {
+
+    private final PhoneticIndex index = new PhoneticIndex();
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        NameSoundsLikeKeywordsPredicate firstPredicate =
+            new NameSoundsLikeKeywordsPredicate(firstPredicateKeywordList, index);
+        NameSoundsLikeKeywordsPredicate secondPredicate =
+            new NameSoundsLikeKeywordsPredicate(secondPredicateKeywordList, index);
+
+        // same object -> returns true
+        assertEquals(firstPredicate, firstPredicate);
+
+        // same values -> returns true
+        assertEquals(firstPredicate, new NameSoundsLikeKeywordsPredicate(firstPredicateKeywordList, index));
+
+        // different types -> returns false
+        assertNotEquals(firstPredicate, 1);
+
+        // different keywords -> returns false
+        assertNotEquals(firstPredicate, secondPredicate);
+    }
+
+    @Test
+    public void test_nameSoundsLikeKeywords_returnsTrue() {
+        Person tang = new PersonBuilder().withName("Tang Wei Meng").build();
+
+        // person not indexed, compared directly
+        NameSoundsLikeKeywordsPredicate predicate =
+            new NameSoundsLikeKeywordsPredicate(Arrays.asList("Tan", "Ming"), index);
+        assertTrue(predicate.test(tang));
+
+        // person indexed
+        index.add(tang);
+        assertTrue(predicate.test(tang));
+
+        // only one matching keyword
+        predicate = new NameSoundsLikeKeywordsPredicate(Arrays.asList("Lim", "Way"), index);
+        assertTrue(predicate.test(tang));
+    }
+
+    @Test
+    public void test_nameDoesNotSoundLikeKeywords_returnsFalse() {
+        Person tang = new PersonBuilder().withName("Tang Wei Meng").build();
+        NameSoundsLikeKeywordsPredicate predicate =
+            new NameSoundsLikeKeywordsPredicate(Arrays.asList("Lim", "Kumar"), index);
+        assertFalse(predicate.test(tang));
+
+        index.add(tang);
+        assertFalse(predicate.test(tang));
+
+        // keywords without letters
+        predicate = new NameSoundsLikeKeywordsPredicate(Collections.singletonList("123"), index);
+        assertFalse(predicate.test(tang));
+    }
+}
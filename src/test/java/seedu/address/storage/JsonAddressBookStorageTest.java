@@ -2,14 +2,21 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalObjects.ALICE;
+import static seedu.address.testutil.TypicalObjects.BENSON;
 import static seedu.address.testutil.TypicalObjects.HOON;
 import static seedu.address.testutil.TypicalObjects.IDA;
 import static seedu.address.testutil.TypicalObjects.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -17,8 +24,17 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.interviews.IntervalSet;
+import seedu.address.model.interviews.InterviewOrder;
+import seedu.address.model.interviews.Interviewer;
+import seedu.address.model.interviews.Interviews;
+import seedu.address.model.interviews.SlotSettings;
+import seedu.address.model.person.KnownProgLang;
+import seedu.address.model.person.Name;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -98,6 +114,148 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_withInterviews_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.setMaxInterviewsADay(3);
+        original.setSlotSettings(new SlotSettings(LocalTime.of(10, 0), LocalTime.of(16, 0), 30, 2));
+        original.setBlockOutDates(Arrays.asList(LocalDate.now().plusDays(2), LocalDate.now().plusDays(5)));
+        IntervalSet unavailable = new IntervalSet();
+        unavailable.addDays(LocalDate.now().plusDays(1), LocalDate.now().plusDays(3));
+        original.addUnavailability(BENSON.getNric(), unavailable);
+        original.addInterviewer(new Interviewer(new Name("Teacher"),
+            Collections.singleton(new KnownProgLang("Java")), 4));
+        original.generateInterviews(InterviewOrder.LISTED);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        Interviews readBack = jsonAddressBookStorage.readAddressBook(filePath).get().getInterviews();
+        Interviews expected = original.getInterviews();
+        assertEquals(expected.getMaxInterviewsADay(), readBack.getMaxInterviewsADay());
+        assertEquals(expected.getSlotSettings(), readBack.getSlotSettings());
+        assertEquals(expected.getBlockOutDates(), readBack.getBlockOutDates());
+        assertEquals(expected.getUnavailability().get(BENSON.getNric()).getIntervals(),
+            readBack.getUnavailability().get(BENSON.getNric()).getIntervals());
+        assertEquals(expected.getInterviewers(), readBack.getInterviewers());
+        assertEquals(expected.getSchedule(), readBack.getSchedule());
+    }
+
+    @Test
+    public void saveAddressBook_interviewsChanged_appendsChangedDaysOnly() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        Path journalFilePath = InterviewDayJournal.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.generateInterviews(InterviewOrder.LISTED);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        int days = original.getInterviews().getSchedule().size();
+        assertEquals(days, Files.readAllLines(journalFilePath).size());
+
+        // saving again with nothing changed writes nothing
+        String marker = FileUtil.readFromFile(filePath) + "\n";
+        FileUtil.writeToFile(filePath, marker);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        assertEquals(days, Files.readAllLines(journalFilePath).size());
+        assertEquals(marker, FileUtil.readFromFile(filePath));
+
+        // moving interviews into the gap of a removed person appends the days changed
+        original.getInterviews().removePerson(ALICE);
+        original.compactInterviews();
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        int records = Files.readAllLines(journalFilePath).size();
+        assertTrue(records > days && records <= 2 * days);
+        assertEquals(marker, FileUtil.readFromFile(filePath));
+
+        // the last record of each day counts
+        Interviews readBack = jsonAddressBookStorage.readAddressBook(filePath).get().getInterviews();
+        assertEquals(original.getInterviews().getSchedule(), readBack.getSchedule());
+    }
+
+    @Test
+    public void readAddressBook_journalWithUnknownPerson_leavesOutTheirInterviews() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        Path journalFilePath = InterviewDayJournal.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.generateInterviews(InterviewOrder.LISTED);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original, filePath);
+        int days = original.getInterviews().getSchedule().size();
+
+        // Alice is removed from the address book file by hand, leaving her interview in the journal
+        original.removePerson(ALICE);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(Collections.emptyList(), readBack.getInterviews().getInterviewsOf(ALICE.getNric()));
+        assertEquals(original.getInterviews().getSchedule(), readBack.getInterviews().getSchedule());
+
+        // the next save writes the journal out again without her interview
+        jsonAddressBookStorage.saveAddressBook(readBack, filePath);
+        assertEquals(days, Files.readAllLines(journalFilePath).size());
+        assertFalse(FileUtil.readFromFile(journalFilePath).contains(ALICE.getNric().value));
+    }
+
+    @Test
+    public void readAddressBook_journalWithTruncatedLastRecord_skipsItAndRewritesJournal() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        Path journalFilePath = InterviewDayJournal.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.generateInterviews(InterviewOrder.LISTED);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original, filePath);
+        int days = original.getInterviews().getSchedule().size();
+
+        // a record of a later change is cut short, as if the application stopped while appending it
+        String journal = FileUtil.readFromFile(journalFilePath);
+        String lastRecord = journal.substring(journal.lastIndexOf('\n', journal.length() - 2) + 1);
+        FileUtil.writeToFile(journalFilePath, journal + lastRecord.substring(0, lastRecord.length() / 2));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(jsonAddressBookStorage.readAddressBook(filePath).get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getInterviews().getSchedule(), readBack.getInterviews().getSchedule());
+
+        // the next save writes the journal out again without the cut record
+        jsonAddressBookStorage.saveAddressBook(readBack, filePath);
+        assertEquals(journal, FileUtil.readFromFile(journalFilePath));
+        assertEquals(days, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void readAddressBook_journalWithUnreadableRecordBeforeLast_throwDataConversionException()
+            throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        Path journalFilePath = InterviewDayJournal.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.generateInterviews(InterviewOrder.LISTED);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original, filePath);
+        FileUtil.writeToFile(journalFilePath, "{\"date\":\n" + FileUtil.readFromFile(journalFilePath));
+
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_journalRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.json");
+        Path journalFilePath = InterviewDayJournal.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        for (int i = 0; i < 50; i++) {
+            original.clearInterviews();
+            original.generateInterviews(InterviewOrder.LISTED);
+            jsonAddressBookStorage.saveAddressBook(original, filePath);
+            original.clearInterviews();
+            jsonAddressBookStorage.saveAddressBook(original, filePath);
+        }
+        original.generateInterviews(InterviewOrder.LISTED);
+        jsonAddressBookStorage.saveAddressBook(original, filePath);
+        int days = original.getInterviews().getSchedule().size();
+        assertTrue(Files.readAllLines(journalFilePath).size() <= 2 * days + 64);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original.getInterviews().getSchedule(), readBack.getInterviews().getSchedule());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -12,6 +12,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.interviews.SlotSettings;
 import seedu.address.testutil.TypicalObjects;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +21,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path INVALID_INTERVIEWS_FILE = TEST_DATA_FOLDER.resolve("invalidInterviewsAddressBook.json");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -50,4 +52,13 @@ public class JsonSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_invalidInterviewsFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_INTERVIEWS_FILE,
+                JsonSerializableAddressBook.class).get();
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(SlotSettings.MESSAGE_CONSTRAINTS);
+        dataFromFile.toModelType();
+    }
+
 }
@@ -0,0 +1,125 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalObjects.ALICE;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import javafx.scene.chart.PieChart;
+import javafx.scene.chart.XYChart;
+import seedu.address.model.analytics.AnalyticsAggregator;
+import seedu.address.model.analytics.AnalyticsResult;
+import seedu.address.model.analytics.HiringFunnel;
+import seedu.address.model.analytics.TopCategories;
+
+public class AnalyticsWindowTest {
+
+    private final AnalyticsResult emptyAnalytics = AnalyticsAggregator.analyze(Collections.emptyList());
+    private final AnalyticsResult aliceAnalytics = AnalyticsAggregator.analyze(Collections.singletonList(ALICE));
+
+    @Test
+    public void formatMeanGrade() {
+        assertEquals("No Record", AnalyticsWindow.formatMeanGrade(emptyAnalytics.getMeanGrade()));
+        assertEquals(ALICE.getGrade().value, AnalyticsWindow.formatMeanGrade(aliceAnalytics.getMeanGrade()));
+    }
+
+    @Test
+    public void toInterviewScoresData() {
+        List<XYChart.Series<String, Float>> emptyData = AnalyticsWindow.toInterviewScoresData(emptyAnalytics);
+        List<XYChart.Series<String, Float>> aliceData = AnalyticsWindow.toInterviewScoresData(aliceAnalytics);
+        for (int i = 0; i < AnalyticsResult.NUMBER_OF_QUESTIONS; i++) {
+            // 0 total score divided by 0 people
+            assertEquals(Float.NaN, emptyData.get(i).getData().get(0).getYValue(), 0);
+            assertEquals(ALICE.getInterviewScores().getInterviewScoreValue(i + 1),
+                aliceData.get(i).getData().get(0).getYValue(), 0);
+        }
+    }
+
+    @Test
+    public void toPieChartData() {
+        List<PieChart.Data> emptyData =
+            AnalyticsWindow.toPieChartData(AnalyticsResult.RACE_CATEGORIES, emptyAnalytics.getRaceCounts());
+        assertEquals(AnalyticsResult.RACE_CATEGORIES.size(), emptyData.size());
+        emptyData.forEach(slice -> assertEquals(0.0, slice.getPieValue(), 0));
+
+        List<PieChart.Data> aliceData =
+            AnalyticsWindow.toPieChartData(AnalyticsResult.GENDER_CATEGORIES, aliceAnalytics.getGenderCounts());
+        for (PieChart.Data slice : aliceData) {
+            assertEquals(slice.getName().equals(ALICE.getGender().value) ? 1.0 : 0.0, slice.getPieValue(), 0);
+        }
+    }
+
+    @Test
+    public void toHistogramData() {
+        List<XYChart.Series<String, Integer>> data =
+            AnalyticsWindow.toHistogramData(aliceAnalytics.getGradeDistribution());
+        assertEquals(1, data.size());
+        List<XYChart.Data<String, Integer>> bins = data.get(0).getData();
+        assertEquals(10, bins.size());
+        assertEquals("0-0.5", bins.get(0).getXValue());
+        assertEquals(Integer.valueOf(0), bins.get(0).getYValue());
+        // grade 4.54
+        assertEquals("4.5-5", bins.get(9).getXValue());
+        assertEquals(Integer.valueOf(1), bins.get(9).getYValue());
+    }
+
+    @Test
+    public void toDistributionText() {
+        assertEquals("Grade: No Record\nTotal Interview Score: No Record\n"
+            + "Distinct Schools: 0, Majors: 0, Past Jobs: 0", AnalyticsWindow.toDistributionText(emptyAnalytics));
+        assertTrue(AnalyticsWindow.toDistributionText(aliceAnalytics).endsWith(
+            "Distinct Schools: 1, Majors: 1, Past Jobs: " + ALICE.getPastJobs().size()));
+    }
+
+    @Test
+    public void toFunnelData() {
+        List<XYChart.Series<String, Integer>> data = AnalyticsWindow.toFunnelData(HiringFunnel.EMPTY);
+        assertEquals(HiringFunnel.STAGES.size(), data.size());
+        assertEquals(HiringFunnel.STAGES.get(0), data.get(0).getName());
+        assertEquals(Integer.valueOf(0), data.get(0).getData().get(0).getYValue());
+    }
+
+    @Test
+    public void toBarChartData() {
+        assertEquals(Collections.emptyList(), AnalyticsWindow.toBarChartData(emptyAnalytics.getSchoolCounts(), 1));
+
+        List<XYChart.Series<String, Integer>> aliceData =
+            AnalyticsWindow.toBarChartData(aliceAnalytics.getSchoolCounts(), 1);
+        assertEquals(1, aliceData.size());
+        assertEquals(ALICE.getSchool().value, aliceData.get(0).getName());
+        assertEquals(Integer.valueOf(1), aliceData.get(0).getData().get(0).getYValue());
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            counts.put("Job" + i, 1);
+        }
+        List<XYChart.Series<String, Integer>> data = AnalyticsWindow.toBarChartData(counts, 5);
+        assertEquals(6, data.size());
+        assertEquals(String.format(TopCategories.OTHER_CATEGORY_FORMAT, 995), data.get(5).getName());
+        assertEquals(Integer.valueOf(995), data.get(5).getData().get(0).getYValue());
+    }
+
+    @Test
+    public void toHeatmapStyle() {
+        assertEquals("", AnalyticsWindow.toHeatmapStyle(Double.NaN, 4));
+        assertEquals("", AnalyticsWindow.toHeatmapStyle(0, 0));
+        assertEquals("-fx-background-color: rgba(33, 150, 243, 0.50);", AnalyticsWindow.toHeatmapStyle(2, 4));
+        assertEquals("-fx-background-color: rgba(33, 150, 243, 1.00);", AnalyticsWindow.toHeatmapStyle(4, 4));
+    }
+
+    @Test
+    public void toScoreStatisticsText() {
+        String emptyText = AnalyticsWindow.toScoreStatisticsText(emptyAnalytics.getScoreStatistics());
+        assertTrue(emptyText.startsWith("Persons with Interview Scores: 0\nGrade: Mean No Record, Variance No Record"));
+        assertTrue(emptyText.endsWith("Correlation of Grade and Total Interview Score: No Record"));
+
+        String aliceText = AnalyticsWindow.toScoreStatisticsText(aliceAnalytics.getScoreStatistics());
+        assertTrue(aliceText.contains("Q1: Mean 10.00, Variance No Record"));
+    }
+}